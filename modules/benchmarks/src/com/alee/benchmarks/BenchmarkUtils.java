@@ -0,0 +1,57 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.UtilityException;
+
+/**
+ * Utility class for benchmarks that require WebLaF to be installed.
+ *
+ * @author Mikle Garin
+ */
+public final class BenchmarkUtils
+{
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private BenchmarkUtils ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Installs {@link WebLookAndFeel} unless it is already installed.
+     * Installation is performed on the Event Dispatch Thread as usual.
+     */
+    public static void installLookAndFeel ()
+    {
+        if ( !WebLookAndFeel.isInstalled () )
+        {
+            CoreSwingUtils.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    WebLookAndFeel.install ();
+                }
+            } );
+        }
+    }
+}
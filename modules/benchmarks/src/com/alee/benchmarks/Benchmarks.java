@@ -0,0 +1,84 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.utils.UtilityException;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for WebLaF benchmarks.
+ * Accepts all standard JMH command line options, but unless specified otherwise it:
+ * - runs forks in {@code java.awt.headless} mode, so benchmarks can be run on any plain Linux box
+ * - writes results in JSON format into {@code weblaf-benchmarks-[version].json} file, so they can be compared between releases
+ * Informational options like {@code -h}, {@code -l} or {@code -lp} are simply handled by JMH {@link Main}.
+ *
+ * Usage example: {@code java -jar benchmarks-jar-with-dependencies.jar Clone -f 1}
+ *
+ * @author Mikle Garin
+ */
+public final class Benchmarks
+{
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private Benchmarks ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Runs benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws Exception if benchmarks cannot be run
+     */
+    public static void main ( @NotNull final String[] args ) throws Exception
+    {
+        final CommandLineOptions commandLine = new CommandLineOptions ( args );
+        if ( commandLine.shouldHelp () || commandLine.shouldList () || commandLine.shouldListWithParams () ||
+                commandLine.shouldListProfilers () || commandLine.shouldListResultFormats () )
+        {
+            // Nothing is run, so default settings are not needed
+            Main.main ( args );
+        }
+        else
+        {
+            final ChainedOptionsBuilder options = new OptionsBuilder ().parent ( commandLine );
+            if ( !commandLine.getJvmArgsAppend ().hasValue () )
+            {
+                options.jvmArgsAppend ( "-Djava.awt.headless=true" );
+            }
+            if ( !commandLine.getResultFormat ().hasValue () )
+            {
+                options.resultFormat ( ResultFormatType.JSON );
+            }
+            if ( !commandLine.getResult ().hasValue () )
+            {
+                final String version = Benchmarks.class.getPackage ().getImplementationVersion ();
+                options.result ( "weblaf-benchmarks" + ( version != null ? "-" + version : "" ) + ".json" );
+            }
+            new Runner ( options.build () ).run ();
+        }
+    }
+}
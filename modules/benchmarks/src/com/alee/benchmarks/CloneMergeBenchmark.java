@@ -0,0 +1,167 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.api.clone.Clone;
+import com.alee.api.merge.Merge;
+import com.alee.api.merge.Mergeable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Clone} and {@link Merge} benchmarks.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.MICROSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class CloneMergeBenchmark
+{
+    /**
+     * {@link Clone} instance.
+     */
+    private Clone clone;
+
+    /**
+     * {@link Merge} instance.
+     */
+    private Merge merge;
+
+    /**
+     * Base object.
+     */
+    private SampleObject base;
+
+    /**
+     * Merged object.
+     */
+    private SampleObject merged;
+
+    /**
+     * Prepares benchmark state.
+     */
+    @Setup
+    public void setup ()
+    {
+        clone = Clone.deep ();
+        merge = Merge.deep ();
+        base = createSample ( 1 );
+        merged = createSample ( 2 );
+    }
+
+    /**
+     * Deep clone of a sample object.
+     *
+     * @return cloned object
+     */
+    @Benchmark
+    public SampleObject deepClone ()
+    {
+        return clone.clone ( base );
+    }
+
+    /**
+     * Deep merge of two sample objects.
+     *
+     * @return merge result
+     */
+    @Benchmark
+    public SampleObject deepMerge ()
+    {
+        return merge.merge ( base, merged );
+    }
+
+    /**
+     * Returns new sample object.
+     *
+     * @param seed data seed
+     * @return new sample object
+     */
+    private static SampleObject createSample ( final int seed )
+    {
+        final List<String> list = new ArrayList<String> ( 10 );
+        final Map<String, Integer> map = new HashMap<String, Integer> ( 10 );
+        for ( int i = 0; i < 10; i++ )
+        {
+            list.add ( "item" + i * seed );
+            map.put ( "key" + i, i * seed );
+        }
+        final SampleObject child = new SampleObject ( "child" + seed, seed, new ArrayList<String> ( list ),
+                new HashMap<String, Integer> ( map ), null );
+        return new SampleObject ( "object" + seed, seed, list, map, child );
+    }
+
+    /**
+     * Sample object for cloning and merging.
+     */
+    public static class SampleObject implements Cloneable, Mergeable
+    {
+        /**
+         * Sample {@link String} data.
+         */
+        private final String text;
+
+        /**
+         * Sample {@code int} data.
+         */
+        private final int number;
+
+        /**
+         * Sample {@link List} data.
+         */
+        private final List<String> list;
+
+        /**
+         * Sample {@link Map} data.
+         */
+        private final Map<String, Integer> map;
+
+        /**
+         * Sample nested object.
+         */
+        private final SampleObject child;
+
+        /**
+         * Constructs new {@link SampleObject}.
+         *
+         * @param text   sample {@link String} data
+         * @param number sample {@code int} data
+         * @param list   sample {@link List} data
+         * @param map    sample {@link Map} data
+         * @param child  sample nested object
+         */
+        public SampleObject ( final String text, final int number, final List<String> list, final Map<String, Integer> map,
+                              final SampleObject child )
+        {
+            this.text = text;
+            this.number = number;
+            this.list = list;
+            this.map = map;
+            this.child = child;
+        }
+    }
+}
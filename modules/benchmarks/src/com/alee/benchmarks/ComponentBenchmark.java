@@ -0,0 +1,107 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.managers.style.StyleManager;
+import com.alee.managers.style.data.ComponentStyle;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Component creation benchmarks.
+ * Measures UI installation and styling costs of basic Swing components with {@link WebLookAndFeel} installed.
+ * Components are created on the benchmark thread since {@link WebLookAndFeel#isForceSingleEventsThread()} is disabled by default.
+ * {@link LegacyComponentStyle} benchmark provides a baseline of style application used before property appliers were cached.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.MICROSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class ComponentBenchmark
+{
+    /**
+     * Styled components.
+     */
+    private JComponent[] components;
+
+    /**
+     * Styles of {@link #components}.
+     */
+    private ComponentStyle[] styles;
+
+    /**
+     * Prepares benchmark state.
+     */
+    @Setup
+    public void setup ()
+    {
+        BenchmarkUtils.installLookAndFeel ();
+        components = new JComponent[]{ new JButton ( "Button" ), new JLabel ( "Label" ), new JTextField (), new JCheckBox ( "Check box" ) };
+        styles = new ComponentStyle[ components.length ];
+        for ( int i = 0; i < components.length; i++ )
+        {
+            styles[ i ] = StyleManager.getSkin ().getStyle ( components[ i ] );
+        }
+    }
+
+    /**
+     * Creation of a few basic components.
+     *
+     * @param blackhole {@link Blackhole} consuming created components
+     */
+    @Benchmark
+    public void createComponents ( final Blackhole blackhole )
+    {
+        blackhole.consume ( new JButton ( "Button" ) );
+        blackhole.consume ( new JLabel ( "Label" ) );
+        blackhole.consume ( new JTextField () );
+        blackhole.consume ( new JCheckBox ( "Check box" ) );
+    }
+
+    /**
+     * Application of styles to a few basic components.
+     */
+    @Benchmark
+    public void applyStyles ()
+    {
+        for ( int i = 0; i < components.length; i++ )
+        {
+            styles[ i ].apply ( components[ i ] );
+        }
+    }
+
+    /**
+     * Application of styles to a few basic components using legacy style application, baseline for {@link #applyStyles()}.
+     */
+    @Benchmark
+    public void applyStylesLegacy ()
+    {
+        for ( int i = 0; i < components.length; i++ )
+        {
+            LegacyComponentStyle.apply ( styles[ i ], components[ i ] );
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.managers.language.data.Dictionary;
+import com.alee.managers.language.data.Record;
+import com.alee.managers.language.data.Text;
+import com.alee.managers.language.data.Value;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Dictionary#getRecord(String, Locale)} benchmarks.
+ * Uses nested {@link Dictionary} structure similar to the one WebLaF uses for its own translations.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class DictionaryBenchmark
+{
+    /**
+     * Amount of records in each sub-{@link Dictionary}.
+     */
+    private static final int RECORDS = 500;
+
+    /**
+     * Root {@link Dictionary}.
+     */
+    private Dictionary dictionary;
+
+    /**
+     * Index of the requested record.
+     */
+    private int index;
+
+    /**
+     * Prepares benchmark state.
+     */
+    @Setup
+    public void setup ()
+    {
+        dictionary = new Dictionary ();
+        final Dictionary weblaf = new Dictionary ( "weblaf" );
+        for ( final String prefix : new String[]{ "ui", "ex", "demo" } )
+        {
+            final Dictionary sub = new Dictionary ( prefix );
+            for ( int i = 0; i < RECORDS; i++ )
+            {
+                final String key = "key" + i;
+                sub.addRecord ( new Record ( key,
+                        new Value ( Locale.ENGLISH, new Text ( "Text " + i ) ),
+                        new Value ( Locale.US, new Text ( "US text " + i ) ),
+                        new Value ( Locale.GERMAN, new Text ( "Text DE " + i ) ) ) );
+            }
+            weblaf.addDictionary ( sub );
+        }
+        dictionary.addDictionary ( weblaf );
+    }
+
+    /**
+     * Existing record lookup.
+     *
+     * @return record
+     */
+    @Benchmark
+    public Record getRecord ()
+    {
+        index = ( index + 1 ) % RECORDS;
+        return dictionary.getRecord ( "weblaf.ex.key" + index, Locale.US );
+    }
+
+    /**
+     * Missing record lookup.
+     *
+     * @return record or {@code null} if it cannot be found
+     */
+    @Benchmark
+    public Record getMissingRecord ()
+    {
+        index = ( index + 1 ) % RECORDS;
+        return dictionary.getRecord ( "weblaf.ex.missing" + index, Locale.US );
+    }
+}
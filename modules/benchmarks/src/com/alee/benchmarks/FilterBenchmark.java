@@ -0,0 +1,105 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.graphics.filters.GaussianFilter;
+import com.alee.graphics.filters.ShadowFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ShadowFilter} and {@link GaussianFilter} benchmarks.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.MICROSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class FilterBenchmark
+{
+    /**
+     * Filter radius.
+     */
+    @Param ( { "3", "10" } )
+    private int radius;
+
+    /**
+     * Source image.
+     */
+    private BufferedImage source;
+
+    /**
+     * Destination image.
+     */
+    private BufferedImage destination;
+
+    /**
+     * {@link ShadowFilter} instance.
+     */
+    private ShadowFilter shadowFilter;
+
+    /**
+     * {@link GaussianFilter} instance.
+     */
+    private GaussianFilter gaussianFilter;
+
+    /**
+     * Prepares benchmark state.
+     */
+    @Setup
+    public void setup ()
+    {
+        source = new BufferedImage ( 200, 100, BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D g2d = source.createGraphics ();
+        g2d.setRenderingHint ( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+        g2d.setPaint ( Color.BLACK );
+        g2d.fillRoundRect ( 20, 20, 160, 60, 10, 10 );
+        g2d.dispose ();
+        destination = new BufferedImage ( 200, 100, BufferedImage.TYPE_INT_ARGB );
+        shadowFilter = new ShadowFilter ( radius, 0, 0, 0.5f );
+        gaussianFilter = new GaussianFilter ( radius );
+    }
+
+    /**
+     * Shadow rendering.
+     *
+     * @return shadow image
+     */
+    @Benchmark
+    public BufferedImage shadow ()
+    {
+        return shadowFilter.filter ( source, destination );
+    }
+
+    /**
+     * Gaussian blur.
+     *
+     * @return blurred image
+     */
+    @Benchmark
+    public BufferedImage gaussian ()
+    {
+        return gaussianFilter.filter ( source, destination );
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.benchmarks;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.clone.Clone;
+import com.alee.extended.layout.AbstractLayoutManager;
+import com.alee.managers.style.StyleException;
+import com.alee.managers.style.StyleManager;
+import com.alee.managers.style.data.ComponentStyle;
+import com.alee.managers.style.data.ComponentStyleConverter;
+import com.alee.managers.style.data.IgnoredValue;
+import com.alee.managers.style.data.PainterStyle;
+import com.alee.painter.Painter;
+import com.alee.painter.PainterSupport;
+import com.alee.utils.LafUtils;
+import com.alee.utils.ReflectUtils;
+import com.alee.utils.UtilityException;
+import com.alee.utils.swing.InsetsUIResource;
+
+import javax.swing.*;
+import javax.swing.plaf.ComponentUI;
+import javax.swing.plaf.UIResource;
+import java.awt.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+
+/**
+ * Copy of {@link ComponentStyle#apply(JComponent)} as it was before property appliers and painter constructors were cached.
+ * Every property is applied through setter method lookup falling back to field lookup and every painter is created by class name.
+ * It is only used as a baseline for {@link ComponentBenchmark} and must not be changed.
+ *
+ * @author Mikle Garin
+ * @see ComponentBenchmark
+ */
+final class LegacyComponentStyle
+{
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private LegacyComponentStyle ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Applies specified {@link ComponentStyle} to the specified {@link JComponent}.
+     *
+     * @param style     {@link ComponentStyle} to apply
+     * @param component {@link JComponent} to apply {@link ComponentStyle} to
+     */
+    public static void apply ( @NotNull final ComponentStyle style, @NotNull final JComponent component )
+    {
+        try
+        {
+            final ComponentUI ui = LafUtils.getUI ( component );
+
+            // Applying component properties
+            applyProperties ( style, component, appendEmptyComponentProperties ( style.getComponentProperties () ) );
+
+            // Applying UI properties
+            applyProperties ( style, ui, style.getUIProperties () );
+
+            // Installing painter
+            final Painter customPainter = StyleManager.getCustomPainter ( component );
+            final Painter painter = customPainter != null ? customPainter : createPainter ( style, style.getPainterStyle () );
+            PainterSupport.setPainter ( component, ui, painter );
+        }
+        catch ( final Exception e )
+        {
+            final String msg = "Unable to apply style '%s' to component: %s";
+            throw new StyleException ( String.format ( msg, style.getCompleteId (), component ), e );
+        }
+    }
+
+    /**
+     * Returns new {@link Painter} instance for the specified {@link PainterStyle}.
+     *
+     * @param style        {@link ComponentStyle} painter belongs to
+     * @param painterStyle {@link PainterStyle}
+     * @return new {@link Painter} instance for the specified {@link PainterStyle}
+     * @throws InvocationTargetException if painter setter method invocation failed
+     * @throws IllegalAccessException    if painter setter method is not accessible
+     */
+    @NotNull
+    private static Painter createPainter ( @NotNull final ComponentStyle style, @NotNull final PainterStyle painterStyle )
+            throws InvocationTargetException, IllegalAccessException
+    {
+        final String painterClass = painterStyle.getPainterClass ();
+        final Painter painter = ReflectUtils.createInstanceSafely ( painterClass );
+        if ( painter == null )
+        {
+            final String msg = "Unable to create painter '%s' in style '%s'";
+            throw new StyleException ( String.format ( msg, painterClass, style.getId () ) );
+        }
+        applyProperties ( style, painter, painterStyle.getProperties () );
+        return painter;
+    }
+
+    /**
+     * Applies properties to specified object fields.
+     *
+     * @param style          {@link ComponentStyle} properties belong to
+     * @param object         object instance
+     * @param skinProperties skin properties to apply, these properties come from the skin
+     * @throws InvocationTargetException if painter setter method invocation failed
+     * @throws IllegalAccessException    if painter setter method is not accessible
+     */
+    private static void applyProperties ( @NotNull final ComponentStyle style, @NotNull final Object object,
+                                          @Nullable final Map<String, Object> skinProperties )
+            throws InvocationTargetException, IllegalAccessException
+    {
+        if ( skinProperties != null && skinProperties.size () > 0 )
+        {
+            for ( final Map.Entry<String, Object> entry : skinProperties.entrySet () )
+            {
+                final Object value = entry.getValue ();
+                if ( value instanceof PainterStyle )
+                {
+                    final Painter painter = createPainter ( style, ( PainterStyle ) value );
+                    setFieldValue ( object, entry.getKey (), painter );
+                }
+                else if ( entry.getKey ().equals ( "layout" ) && object instanceof Container )
+                {
+                    if ( value == null || value instanceof LayoutManager )
+                    {
+                        final Container container = ( Container ) object;
+                        final LayoutManager oldLayout = container.getLayout ();
+                        if ( isReplaceableLayout ( container, oldLayout ) || !( value instanceof UIResource ) )
+                        {
+                            final LayoutManager newLayout = Clone.deep ().clone ( ( LayoutManager ) value );
+                            if ( newLayout != null && newLayout instanceof AbstractLayoutManager )
+                            {
+                                ( ( AbstractLayoutManager ) newLayout ).migrate ( container, oldLayout );
+                            }
+                            container.setLayout ( newLayout );
+                        }
+                    }
+                    else
+                    {
+                        throw new StyleException ( "Value provided for Container `layout` property is not LayoutManager" );
+                    }
+                }
+                else if ( entry.getKey ().equalsIgnoreCase ( ComponentStyleConverter.MARGIN_ATTRIBUTE ) && object instanceof JComponent )
+                {
+                    PainterSupport.setMargin ( ( JComponent ) object, ( Insets ) entry.getValue () );
+                }
+                else if ( entry.getKey ().equalsIgnoreCase ( ComponentStyleConverter.PADDING_ATTRIBUTE ) && object instanceof JComponent )
+                {
+                    PainterSupport.setPadding ( ( JComponent ) object, ( Insets ) entry.getValue () );
+                }
+                else
+                {
+                    setFieldValue ( object, entry.getKey (), value );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether or not {@link LayoutManager} of the specified {@link Container} is replaceable.
+     *
+     * @param container {@link Container}
+     * @param oldLayout {@link LayoutManager}
+     * @return {@code true} if  {@link LayoutManager} of the specified {@link Container} is replaceable, {@code false} otherwise
+     */
+    private static boolean isReplaceableLayout ( @NotNull final Container container, @Nullable final LayoutManager oldLayout )
+    {
+        return oldLayout == null || oldLayout instanceof UIResource || container instanceof JViewport &&
+                oldLayout == ReflectUtils.getStaticFieldValueSafely ( ViewportLayout.class, "SHARED_INSTANCE" );
+    }
+
+    /**
+     * Appends empty property values if required.
+     *
+     * @param properties property values
+     * @return modified property values
+     */
+    @NotNull
+    private static Map<String, Object> appendEmptyComponentProperties ( @NotNull final Map<String, Object> properties )
+    {
+        if ( !properties.containsKey ( ComponentStyleConverter.MARGIN_ATTRIBUTE ) )
+        {
+            properties.put ( ComponentStyleConverter.MARGIN_ATTRIBUTE, new InsetsUIResource ( 0, 0, 0, 0 ) );
+        }
+        if ( !properties.containsKey ( ComponentStyleConverter.PADDING_ATTRIBUTE ) )
+        {
+            properties.put ( ComponentStyleConverter.PADDING_ATTRIBUTE, new InsetsUIResource ( 0, 0, 0, 0 ) );
+        }
+        return properties;
+    }
+
+    /**
+     * Applies specified value to object field using setter method lookup first and then field lookup.
+     *
+     * @param object object instance
+     * @param field  object field
+     * @param value  field value
+     * @throws InvocationTargetException if method throws an exception
+     * @throws IllegalAccessException    if method is inaccessible
+     */
+    private static void setFieldValue ( @NotNull final Object object, @NotNull final String field, @Nullable final Object value )
+            throws InvocationTargetException, IllegalAccessException
+    {
+        if ( value != IgnoredValue.VALUE )
+        {
+            final Object usable;
+            if ( value instanceof Painter )
+            {
+                usable = value;
+            }
+            else
+            {
+                try
+                {
+                    usable = Clone.deep ().clone ( value );
+                }
+                catch ( final Exception e )
+                {
+                    final String msg = "Unable to clone value: %s";
+                    throw new StyleException ( String.format ( msg, value ), e );
+                }
+            }
+            try
+            {
+                final String setterMethod = ReflectUtils.getSetterMethodName ( field );
+                ReflectUtils.callMethod ( object, setterMethod, usable );
+            }
+            catch ( final NoSuchMethodException e )
+            {
+                try
+                {
+                    ReflectUtils.setFieldValue ( object, field, usable );
+                }
+                catch ( final Exception fe )
+                {
+                    final String msg = "Unable to set `%s` object `%s` field value to: %s";
+                    throw new StyleException ( String.format ( msg, object, field, usable ), fe );
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.benchmarks;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.extended.label.StyleRange;
+import com.alee.extended.label.StyleRanges;
+import com.alee.extended.label.StyleSettings;
+import com.alee.extended.label.TextRange;
+import com.alee.utils.TextUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Copy of {@link StyleRanges} parsing as it was before single-pass parsing and shared parsing results were introduced.
+ * It is only used as a baseline for {@link StyleRangesBenchmark} and must not be changed.
+ *
+ * @author Mikle Garin
+ * @see StyleRangesBenchmark
+ */
+final class LegacyStyleRanges
+{
+    /**
+     * Text containing style syntax.
+     */
+    @Nullable
+    private final String styledText;
+
+    /**
+     * Plain text extracted from {@link #styledText}.
+     */
+    @Nullable
+    private String plainText;
+
+    /**
+     * Style ranges extracted from {@link #styledText}.
+     */
+    @Nullable
+    private List<StyleRange> styleRanges;
+
+    /**
+     * Constructs new {@link LegacyStyleRanges}.
+     *
+     * @param styledText text containing style syntax
+     */
+    public LegacyStyleRanges ( @Nullable final String styledText )
+    {
+        this.styledText = styledText;
+    }
+
+    /**
+     * Returns plain text extracted from styled text.
+     *
+     * @return plain text extracted from styled text
+     */
+    @Nullable
+    public String getPlainText ()
+    {
+        parseStyledText ();
+        return plainText;
+    }
+
+    /**
+     * Returns style ranges extracted from styled text.
+     *
+     * @return style ranges extracted from styled text
+     */
+    @NotNull
+    public List<StyleRange> getStyleRanges ()
+    {
+        parseStyledText ();
+        return styleRanges;
+    }
+
+    /**
+     * Parses text containing style syntax.
+     */
+    private void parseStyledText ()
+    {
+        if ( styleRanges == null )
+        {
+            styleRanges = new ArrayList<StyleRange> ();
+            if ( TextUtils.notEmpty ( styledText ) )
+            {
+                int begin = styledText.indexOf ( "{" );
+                if ( begin != -1 )
+                {
+                    plainText = "";
+                    String trimmedText = styledText;
+                    while ( begin != -1 )
+                    {
+                        final int end = trimmedText.indexOf ( "}", begin + 1 );
+                        if ( end != -1 )
+                        {
+                            final String statement = trimmedText.substring ( begin + 1, end );
+                            if ( statement.equals ( "br" ) )
+                            {
+                                plainText += trimmedText.substring ( 0, begin ) + "\n";
+                            }
+                            else
+                            {
+                                final TextRange range = parseStatement ( plainText.length () + begin, statement );
+                                if ( range != null && range.getStyleRange () != null )
+                                {
+                                    plainText += trimmedText.substring ( 0, begin ) + range.getText ();
+                                    styleRanges.add ( range.getStyleRange () );
+                                }
+                                else
+                                {
+                                    plainText += trimmedText.substring ( 0, end + 1 );
+                                }
+                            }
+                            trimmedText = trimmedText.substring ( end + 1 );
+                            begin = trimmedText.indexOf ( "{" );
+                        }
+                        else
+                        {
+                            break;
+                        }
+                    }
+                    plainText += trimmedText;
+                }
+                else
+                {
+                    plainText = styledText;
+                }
+            }
+            else
+            {
+                plainText = null;
+            }
+        }
+    }
+
+    /**
+     * Returns {@link TextRange} parsed from statement.
+     *
+     * @param startIndex {@link StyleRange} start index
+     * @param statement  {@link String} statement
+     * @return {@link TextRange} parsed from statement
+     */
+    @Nullable
+    private TextRange parseStatement ( final int startIndex, @NotNull final String statement )
+    {
+        TextRange textRange = null;
+        try
+        {
+            final int sep = statement.lastIndexOf ( ":" );
+            if ( sep != -1 )
+            {
+                final String text = statement.substring ( 0, sep );
+                final String settings = statement.substring ( sep + 1 );
+                final StyleRange styleRange = new StyleSettings ( startIndex, text.length (), settings ).getStyleRange ();
+                if ( styleRange != null )
+                {
+                    textRange = new TextRange ( text, styleRange );
+                }
+            }
+        }
+        catch ( final Exception ignored )
+        {
+            // Ignoring any exceptions in style parsing
+        }
+        return textRange;
+    }
+}
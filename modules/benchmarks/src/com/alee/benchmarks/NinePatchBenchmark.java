@@ -0,0 +1,93 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.api.resource.ClassResource;
+import com.alee.utils.ninepatch.NinePatchIcon;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NinePatchIcon#paintIcon(Graphics2D, int, int, int, int)} benchmarks.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.MICROSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class NinePatchBenchmark
+{
+    /**
+     * Painted icon size.
+     */
+    @Param ( { "32", "300" } )
+    private int size;
+
+    /**
+     * {@link NinePatchIcon} instance.
+     */
+    private NinePatchIcon icon;
+
+    /**
+     * Target image.
+     */
+    private BufferedImage image;
+
+    /**
+     * Target image graphics.
+     */
+    private Graphics2D g2d;
+
+    /**
+     * Prepares benchmark state.
+     */
+    @Setup
+    public void setup ()
+    {
+        icon = new NinePatchIcon ( new ClassResource ( NinePatchIcon.class, "/com/alee/utils/icons/selection/full.9.png" ) );
+        image = new BufferedImage ( size, size, BufferedImage.TYPE_INT_ARGB );
+        g2d = image.createGraphics ();
+    }
+
+    /**
+     * Releases benchmark resources.
+     */
+    @TearDown
+    public void tearDown ()
+    {
+        g2d.dispose ();
+    }
+
+    /**
+     * Icon painting.
+     *
+     * @return target image
+     */
+    @Benchmark
+    public BufferedImage paintIcon ()
+    {
+        icon.paintIcon ( g2d, 0, 0, size, size );
+        return image;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.laf.button.WebButton;
+import com.alee.laf.checkbox.WebCheckBox;
+import com.alee.laf.label.WebLabel;
+import com.alee.laf.progressbar.WebProgressBar;
+import com.alee.laf.text.WebTextField;
+import com.alee.managers.style.StyleId;
+import com.alee.painter.PainterSupport;
+import com.alee.utils.CoreSwingUtils;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import javax.swing.plaf.ComponentUI;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless {@link PainterSupport#paint(Graphics, JComponent, ComponentUI)} benchmarks for representative {@link StyleId}s.
+ * Components are created and styled on the Event Dispatch Thread and then painted into {@link BufferedImage}.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.MICROSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class PaintBenchmark
+{
+    /**
+     * Painted {@link StyleId}.
+     */
+    @Param ( { "button", "checkbox", "label", "textfield", "progressbar" } )
+    private String styleId;
+
+    /**
+     * Painted component.
+     */
+    private JComponent component;
+
+    /**
+     * Painted component UI.
+     */
+    private ComponentUI ui;
+
+    /**
+     * Target image.
+     */
+    private BufferedImage image;
+
+    /**
+     * Target image graphics.
+     */
+    private Graphics2D g2d;
+
+    /**
+     * Prepares benchmark state.
+     */
+    @Setup
+    public void setup ()
+    {
+        BenchmarkUtils.installLookAndFeel ();
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                if ( styleId.equals ( StyleId.button.getCompleteId () ) )
+                {
+                    final WebButton button = new WebButton ( StyleId.button, "Button" );
+                    ui = button.getUI ();
+                    component = button;
+                }
+                else if ( styleId.equals ( StyleId.checkbox.getCompleteId () ) )
+                {
+                    final WebCheckBox checkBox = new WebCheckBox ( StyleId.checkbox, "Check box", true );
+                    ui = checkBox.getUI ();
+                    component = checkBox;
+                }
+                else if ( styleId.equals ( StyleId.label.getCompleteId () ) )
+                {
+                    final WebLabel label = new WebLabel ( StyleId.label, "Label" );
+                    ui = label.getUI ();
+                    component = label;
+                }
+                else if ( styleId.equals ( StyleId.textfield.getCompleteId () ) )
+                {
+                    final WebTextField textField = new WebTextField ( StyleId.textfield, "Text field" );
+                    ui = textField.getUI ();
+                    component = textField;
+                }
+                else if ( styleId.equals ( StyleId.progressbar.getCompleteId () ) )
+                {
+                    final WebProgressBar progressBar = new WebProgressBar ( StyleId.progressbar, 0, 100 );
+                    progressBar.setValue ( 40 );
+                    ui = progressBar.getUI ();
+                    component = progressBar;
+                }
+                else
+                {
+                    throw new IllegalArgumentException ( "Unsupported style identifier: " + styleId );
+                }
+                final Dimension size = component.getPreferredSize ();
+                component.setSize ( Math.max ( size.width, 120 ), size.height );
+            }
+        } );
+        image = new BufferedImage ( component.getWidth (), component.getHeight (), BufferedImage.TYPE_INT_ARGB );
+        g2d = image.createGraphics ();
+    }
+
+    /**
+     * Releases benchmark resources.
+     */
+    @TearDown
+    public void tearDown ()
+    {
+        g2d.dispose ();
+    }
+
+    /**
+     * Component painting.
+     *
+     * @return target image
+     */
+    @Benchmark
+    public BufferedImage paint ()
+    {
+        PainterSupport.paint ( g2d, component, ui );
+        return image;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.utils.ReflectUtils;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReflectUtils} lookup benchmarks.
+ * All lookups are repeated for the same classes, so these benchmarks mostly measure cached lookups performance.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class ReflectBenchmark
+{
+    /**
+     * Field list lookup.
+     *
+     * @return fields
+     */
+    @Benchmark
+    public List<Field> getFields ()
+    {
+        return ReflectUtils.getFields ( JButton.class );
+    }
+
+    /**
+     * Existing field lookup.
+     *
+     * @return field
+     * @throws NoSuchFieldException if field cannot be found
+     */
+    @Benchmark
+    public Field getField () throws NoSuchFieldException
+    {
+        return ReflectUtils.getField ( JButton.class, "ui" );
+    }
+
+    /**
+     * Existing method lookup.
+     *
+     * @return method
+     * @throws NoSuchMethodException if method cannot be found
+     */
+    @Benchmark
+    public Method getMethod () throws NoSuchMethodException
+    {
+        return ReflectUtils.getMethod ( JButton.class, "setText", "text" );
+    }
+
+    /**
+     * Missing method lookup.
+     *
+     * @return method or {@code null} if it cannot be found
+     */
+    @Benchmark
+    public Method getMissingMethod ()
+    {
+        Method method;
+        try
+        {
+            method = ReflectUtils.getMethod ( JButton.class, "setMissing", "text" );
+        }
+        catch ( final NoSuchMethodException e )
+        {
+            method = null;
+        }
+        return method;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.extended.label.StyleRange;
+import com.alee.extended.label.StyleRanges;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StyleRanges} parsing benchmarks.
+ * {@link LegacyStyleRanges} benchmark provides a baseline of the parsing used before single-pass parser was introduced.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class StyleRangesBenchmark
+{
+    /**
+     * Sample styled text.
+     */
+    private static final String STYLED_TEXT = "{Bold:b} and {italic:i} text with {custom colors:c(red);bg(40,40,40)}, " +
+            "{underlined:u} and {struck-through:s} {mixed:b;i;u;c(blue)} parts and {sup:sup}/{sub:sub} text";
+
+    /**
+     * Parsing of styled text that was already parsed before, which is the common case for reused texts.
+     *
+     * @return style ranges
+     */
+    @Benchmark
+    public List<StyleRange> parseShared ()
+    {
+        return new StyleRanges ( STYLED_TEXT ).getStyleRanges ();
+    }
+
+    /**
+     * Full parsing of styled text.
+     *
+     * @return style ranges
+     */
+    @Benchmark
+    public List<StyleRange> parseUncached ()
+    {
+        StyleRanges.clearCache ();
+        return new StyleRanges ( STYLED_TEXT ).getStyleRanges ();
+    }
+
+    /**
+     * Full parsing of styled text using legacy parser, baseline for {@link #parseUncached()}.
+     *
+     * @return style ranges
+     */
+    @Benchmark
+    public List<StyleRange> parseLegacy ()
+    {
+        return new LegacyStyleRanges ( STYLED_TEXT ).getStyleRanges ();
+    }
+}
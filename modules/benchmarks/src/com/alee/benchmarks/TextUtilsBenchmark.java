@@ -0,0 +1,56 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.benchmarks;
+
+import com.alee.utils.TextUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TextUtils} benchmarks.
+ *
+ * @author Mikle Garin
+ */
+@State ( Scope.Benchmark )
+@BenchmarkMode ( Mode.AverageTime )
+@OutputTimeUnit ( TimeUnit.NANOSECONDS )
+@Warmup ( iterations = 5, time = 1 )
+@Measurement ( iterations = 5, time = 1 )
+@Fork ( 2 )
+public class TextUtilsBenchmark
+{
+    /**
+     * Sample shape settings.
+     */
+    private final Object[] settings = new Object[]{
+            new Rectangle ( 0, 0, 120, 26 ), new Insets ( 2, 2, 2, 2 ), 3, 4, 5, 6, Color.GRAY, new int[]{ 1, 2, 3, 4 }, true, 0.5f
+    };
+
+    /**
+     * Settings key creation, commonly used to cache painted shapes.
+     *
+     * @return settings key
+     */
+    @Benchmark
+    public String getSettingsKey ()
+    {
+        return TextUtils.getSettingsKey ( settings );
+    }
+}
@@ -77,6 +77,14 @@ public final class Clone implements Serializable
     @NotNull
     private final List<GlobalCloneBehavior> behaviors;
 
+    /**
+     * Whether or not immutable objects are always returned as is by this clone algorithm.
+     * It is {@code true} when {@link BasicCloneBehavior} is the first behavior, so such objects can skip behavior checks.
+     *
+     * @see BasicCloneBehavior#isImmutable(Object)
+     */
+    private final boolean immutablesRetained;
+
     /**
      * Constructs new {@link Clone} algorithm.
      *
@@ -98,6 +106,7 @@ public final class Clone implements Serializable
     {
         this.unknownResolver = unknownResolver;
         this.behaviors = behaviors instanceof ImmutableList ? behaviors : new ImmutableList<GlobalCloneBehavior> ( behaviors );
+        this.immutablesRetained = behaviors.size () > 0 && behaviors.get ( 0 ).getClass () == BasicCloneBehavior.class;
     }
 
     /**
@@ -146,7 +155,12 @@ public final class Clone implements Serializable
         public <T> T clone ( @Nullable final T object, final int depth )
         {
             final T result;
-            if ( object != null )
+            if ( object != null && immutablesRetained && BasicCloneBehavior.isImmutable ( object ) )
+            {
+                // Immutable objects are never copied
+                result = object;
+            }
+            else if ( object != null )
             {
                 // Checking cached copy references
                 final Object cached = retrieve ( object );
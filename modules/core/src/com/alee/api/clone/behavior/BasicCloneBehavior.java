@@ -161,6 +161,18 @@ public class BasicCloneBehavior implements GlobalCloneBehavior<Object>
         return ReflectUtils.isPrimitive ( object ) || isSimpleImmutable ( object ) || isSimpleMutable ( object );
     }
 
+    /**
+     * Returns whether or not specified object is immutable and is always returned as is by this behavior.
+     * Such objects can be safely used instead of their clones without running through {@link Clone} algorithm.
+     *
+     * @param object object to check
+     * @return {@code true} if specified object is immutable and is always returned as is by this behavior, {@code false} otherwise
+     */
+    public static boolean isImmutable ( @NotNull final Object object )
+    {
+        return ReflectUtils.isPrimitive ( object ) || isSimpleImmutable ( object );
+    }
+
     /**
      * Returns whether or not specified object has simple immutable type.
      * todo Add "java.nio.file.Path" as one of the options
@@ -168,7 +180,7 @@ public class BasicCloneBehavior implements GlobalCloneBehavior<Object>
      * @param object object to check
      * @return {@code true} if specified object has simple immutable type, {@code false} otherwise
      */
-    private boolean isSimpleImmutable ( @NotNull final Object object )
+    private static boolean isSimpleImmutable ( @NotNull final Object object )
     {
         final Class<?> clazz = object.getClass ();
         return clazz.isEnum () ||
@@ -18,16 +18,19 @@
 package com.alee.api.clone.behavior;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.Clone;
 import com.alee.api.clone.CloneException;
 import com.alee.api.clone.GlobalCloneBehavior;
 import com.alee.api.clone.RecursiveClone;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.ReflectUtils;
+import com.alee.utils.reflection.ClassCache;
 import com.alee.utils.reflection.ModifierType;
 import com.alee.utils.reflection.Unsafe;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -52,6 +55,13 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
     @NotNull
     private final List<ModifierType> ignoredModifiers;
 
+    /**
+     * {@link ClonePlan}s for cloned object classes.
+     * Lazily created in {@link #getPlans()}, in rare cases it might be created more than once which is harmless.
+     */
+    @Nullable
+    private transient volatile ClassCache<ClonePlan> plans;
+
     /**
      * Constructs new {@link ReflectionCloneBehavior} ignoring fields with specified modifiers.
      *
@@ -83,59 +93,52 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
 
         /**
          * Cloning field values.
+         * {@link ClonePlan} is only built once for each object class.
          */
-        final List<Field> fields = ReflectUtils.getFields ( object );
-        if ( !fields.isEmpty () )
+        final ClonePlan plan = getPlans ().get ( object.getClass () );
+        if ( plan.fields.length > 0 )
         {
             // Storing object copy
             clone.store ( object, copy );
 
-            // Cloning all field values excluding ones with ignored modifiers or annotated with OmitFieldClone
-            for ( final Field field : fields )
+            // Cloning all planned field values
+            for ( int i = 0; i < plan.fields.length; i++ )
             {
-                if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+                final Field field = plan.fields[ i ];
+                if ( plan.retained[ i ] )
                 {
-                    final boolean preserve = field.getAnnotation ( PreserveOnClone.class ) != null;
-                    final boolean omit = field.getAnnotation ( OmitOnClone.class ) != null;
-                    if ( preserve && omit )
+                    try
                     {
-                        // Ensure annotations are used properly and objective is clear
-                        throw new CloneException ( "Mutually exclusive annotations are used for field: " + field );
+                        // Retrieving original object field value
+                        final Object value = field.get ( object );
+
+                        // Updating field
+                        // Static fields are never planned, so accessible field can be updated directly even if it is final
+                        field.set ( copy, value );
                     }
-                    else if ( preserve )
+                    catch ( final Exception e )
                     {
-                        try
-                        {
-                            // Retrieving original object field value
-                            final Object value = field.get ( object );
-
-                            // Updating field
-                            ReflectUtils.setFieldValue ( copy, field, value );
-                        }
-                        catch ( final Exception e )
-                        {
-                            // Something went totally wrong
-                            throw new CloneException ( "Unable to preserve object field: " + field, e );
-                        }
+                        // Something went totally wrong
+                        throw new CloneException ( "Unable to preserve object field: " + field, e );
                     }
-                    else if ( !omit )
+                }
+                else
+                {
+                    try
+                    {
+                        // Retrieving original object field value
+                        final Object value = field.get ( object );
+
+                        // Creating value clone if possible
+                        final Object valueCopy = clone.clone ( value, depth + 1 );
+
+                        // Updating field
+                        field.set ( copy, valueCopy );
+                    }
+                    catch ( final Exception e )
                     {
-                        try
-                        {
-                            // Retrieving original object field value
-                            final Object value = field.get ( object );
-
-                            // Creating value clone if possible
-                            final Object valueCopy = clone.clone ( value, depth + 1 );
-
-                            // Updating field
-                            ReflectUtils.setFieldValue ( copy, field, valueCopy );
-                        }
-                        catch ( final Exception e )
-                        {
-                            // Something went totally wrong
-                            throw new CloneException ( "Unable to clone object field: " + field, e );
-                        }
+                        // Something went totally wrong
+                        throw new CloneException ( "Unable to clone object field: " + field, e );
                     }
                 }
             }
@@ -144,6 +147,32 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
         return copy;
     }
 
+    /**
+     * Returns {@link ClonePlan}s cache.
+     * It is created lazily since it is not serialized along with this behavior.
+     *
+     * @return {@link ClonePlan}s cache
+     */
+    @NotNull
+    private ClassCache<ClonePlan> getPlans ()
+    {
+        ClassCache<ClonePlan> plans = this.plans;
+        if ( plans == null )
+        {
+            plans = new ClassCache<ClonePlan> ()
+            {
+                @NotNull
+                @Override
+                protected ClonePlan computeValue ( @NotNull final Class type )
+                {
+                    return new ClonePlan ( type, ignoredModifiers );
+                }
+            };
+            this.plans = plans;
+        }
+        return plans;
+    }
+
     @Override
     public boolean isStorable ()
     {
@@ -165,4 +194,61 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
          */
         all
     }
-}
\ No newline at end of file
+
+    /**
+     * Precompiled clone plan for single object class.
+     * It contains all fields that have to be cloned in their order and the way each of them has to be cloned.
+     */
+    private static final class ClonePlan
+    {
+        /**
+         * Cloned fields.
+         */
+        @NotNull
+        private final Field[] fields;
+
+        /**
+         * Whether or not each field value has to be retained as is instead of being cloned.
+         * That is the case for fields annotated with {@link PreserveOnClone} and fields of primitive types.
+         */
+        @NotNull
+        private final boolean[] retained;
+
+        /**
+         * Constructs new {@link ClonePlan}.
+         *
+         * @param type             cloned object class
+         * @param ignoredModifiers modifiers of fields to ignore
+         */
+        public ClonePlan ( @NotNull final Class type, @NotNull final List<ModifierType> ignoredModifiers )
+        {
+            final List<Field> planned = new ArrayList<Field> ();
+            final List<Boolean> preserved = new ArrayList<Boolean> ();
+            for ( final Field field : ReflectUtils.getFields ( type, ModifierType.STATIC ) )
+            {
+                // Excluding fields with ignored modifiers or annotated with OmitOnClone
+                if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+                {
+                    final boolean preserve = ReflectUtils.hasAnnotation ( field, PreserveOnClone.class );
+                    final boolean omit = ReflectUtils.hasAnnotation ( field, OmitOnClone.class );
+                    if ( preserve && omit )
+                    {
+                        // Ensure annotations are used properly and objective is clear
+                        throw new CloneException ( "Mutually exclusive annotations are used for field: " + field );
+                    }
+                    else if ( !omit )
+                    {
+                        planned.add ( field );
+                        preserved.add ( preserve );
+                    }
+                }
+            }
+            fields = planned.toArray ( new Field[ planned.size () ] );
+            retained = new boolean[ fields.length ];
+            for ( int i = 0; i < fields.length; i++ )
+            {
+                retained[ i ] = preserved.get ( i ) || fields[ i ].getType ().isPrimitive ();
+            }
+        }
+    }
+}
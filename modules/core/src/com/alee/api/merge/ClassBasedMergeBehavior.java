@@ -0,0 +1,38 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.api.merge;
+
+/**
+ * {@link GlobalMergeBehavior} which {@link #supports(RecursiveMerge, Class, Object, Object)} result only depends on expected resulting
+ * object {@link Class} type and {@link Class}es of base and merged objects, but never on their state.
+ * {@link Merge} caches chosen behavior for each combination of these {@link Class}es if all of its behaviors are class-based.
+ * Any implementation overriding {@link #supports(RecursiveMerge, Class, Object, Object)} must preserve that contract.
+ *
+ * @param <O> base object type
+ * @param <M> merged object type
+ * @param <R> resulting object type
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-Merge">How to use Merge</a>
+ * @see Merge
+ */
+public interface ClassBasedMergeBehavior<O, M, R> extends GlobalMergeBehavior<O, M, R>
+{
+    /**
+     * This is a marker interface, it doesn't have any additional methods to implement.
+     */
+}
@@ -30,6 +30,7 @@ import com.alee.api.merge.unknownresolver.ExceptionUnknownResolver;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.TextUtils;
 import com.alee.utils.collection.ImmutableList;
+import com.alee.utils.reflection.ClassCache;
 import com.alee.utils.reflection.ModifierType;
 
 import java.io.Serializable;
@@ -100,6 +101,20 @@ public final class Merge implements Serializable
     @NotNull
     private final List<GlobalMergeBehavior> behaviors;
 
+    /**
+     * Whether or not all {@link #behaviors} are {@link ClassBasedMergeBehavior}s.
+     * Only in that case behavior chosen for merged objects can be cached by their {@link Class}es.
+     */
+    private final boolean classBased;
+
+    /**
+     * Indices of behaviors chosen for merged objects, {@code -1} if none of the behaviors supports them.
+     * It is only used when {@link #classBased} is {@code true} and is created lazily since it is not serialized.
+     * Entry: [ base object class -> [ expected type and merged object class -> behavior index ] ]
+     */
+    @Nullable
+    private transient volatile ClassCache<Map<DispatchKey, Integer>> dispatch;
+
     /**
      * Constructs new {@link Merge} algorithm.
      *
@@ -161,6 +176,12 @@ public final class Merge implements Serializable
         this.nullResolver = nullResolver;
         this.unknownResolver = unknownResolver;
         this.behaviors = behaviors instanceof ImmutableList ? behaviors : new ImmutableList<GlobalMergeBehavior> ( behaviors );
+        boolean classBased = true;
+        for ( final GlobalMergeBehavior behavior : this.behaviors )
+        {
+            classBased &= behavior instanceof ClassBasedMergeBehavior;
+        }
+        this.classBased = classBased;
     }
 
     /**
@@ -328,6 +349,97 @@ public final class Merge implements Serializable
         return mergedClonePolicy.clone ( merged );
     }
 
+    /**
+     * Returns behavior supporting specified objects merge or {@code null} if none of the behaviors support it.
+     * If all behaviors are {@link ClassBasedMergeBehavior}s chosen behavior is cached and reused for the same {@link Class}es.
+     *
+     * @param merge  {@link RecursiveMerge} algorithm
+     * @param type   expected resulting object {@link Class} type
+     * @param base   base object
+     * @param merged object to merge
+     * @return behavior supporting specified objects merge or {@code null} if none of the behaviors support it
+     */
+    @Nullable
+    private GlobalMergeBehavior findBehavior ( @NotNull final RecursiveMerge merge, @NotNull final Class type,
+                                               @NotNull final Object base, @NotNull final Object merged )
+    {
+        final int index;
+        if ( classBased )
+        {
+            // Checking cache
+            final Map<DispatchKey, Integer> baseDispatch = getDispatch ().get ( base.getClass () );
+            final DispatchKey key = new DispatchKey ( type, merged.getClass () );
+            final Integer cached = baseDispatch.get ( key );
+
+            // Updating cache
+            if ( cached == null )
+            {
+                index = findBehaviorIndex ( merge, type, base, merged );
+                baseDispatch.put ( key, index );
+            }
+            else
+            {
+                index = cached;
+            }
+        }
+        else
+        {
+            index = findBehaviorIndex ( merge, type, base, merged );
+        }
+        return index != -1 ? behaviors.get ( index ) : null;
+    }
+
+    /**
+     * Returns index of behavior supporting specified objects merge or {@code -1} if none of the behaviors support it.
+     *
+     * @param merge  {@link RecursiveMerge} algorithm
+     * @param type   expected resulting object {@link Class} type
+     * @param base   base object
+     * @param merged object to merge
+     * @return index of behavior supporting specified objects merge or {@code -1} if none of the behaviors support it
+     */
+    private int findBehaviorIndex ( @NotNull final RecursiveMerge merge, @NotNull final Class type,
+                                    @NotNull final Object base, @NotNull final Object merged )
+    {
+        int index = -1;
+        for ( int i = 0; i < behaviors.size (); i++ )
+        {
+            // Checking that behavior supports objects
+            if ( behaviors.get ( i ).supports ( merge, type, base, merged ) )
+            {
+                index = i;
+                break;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns cache of behaviors chosen for merged objects.
+     * It is created lazily, in rare cases it might be created more than once which is harmless.
+     *
+     * @return cache of behaviors chosen for merged objects
+     */
+    @NotNull
+    private ClassCache<Map<DispatchKey, Integer>> getDispatch ()
+    {
+        ClassCache<Map<DispatchKey, Integer>> dispatch = this.dispatch;
+        if ( dispatch == null )
+        {
+            dispatch = new ClassCache<Map<DispatchKey, Integer>> ()
+            {
+                @NotNull
+                @Override
+                protected Map<DispatchKey, Integer> computeValue ( @NotNull final Class type )
+                {
+                    return new ConcurrentHashMap<DispatchKey, Integer> ( 4, 0.75f, 2 );
+                }
+            };
+            this.dispatch = dispatch;
+        }
+        return dispatch;
+    }
+
     /**
      * {@link RecursiveMerge} implementation providing access to different {@link Merge} methods.
      * It is used to process recursive merge calls differently from how public {@link Merge} methods process them.
@@ -346,15 +458,11 @@ public final class Merge implements Serializable
                 {
                     // Trying to find fitting merge behavior
                     Object mergeResult = null;
-                    for ( final GlobalMergeBehavior behavior : behaviors )
+                    final GlobalMergeBehavior behavior = findBehavior ( this, type, base, merged );
+                    if ( behavior != null )
                     {
-                        // Checking that behavior supports objects
-                        if ( behavior.supports ( this, type, base, merged ) )
-                        {
-                            // Executing merge behavior
-                            mergeResult = behavior.merge ( this, type, base, merged, depth );
-                            break;
-                        }
+                        // Executing merge behavior
+                        mergeResult = behavior.merge ( this, type, base, merged, depth );
                     }
 
                     // Resolving result object
@@ -551,4 +659,47 @@ public final class Merge implements Serializable
         }
         return commons;
     }
-}
\ No newline at end of file
+
+    /**
+     * Key for behaviors chosen for merged objects.
+     */
+    private static final class DispatchKey
+    {
+        /**
+         * Expected resulting object {@link Class} type.
+         */
+        @NotNull
+        private final Class type;
+
+        /**
+         * Merged object {@link Class}.
+         */
+        @NotNull
+        private final Class mergedClass;
+
+        /**
+         * Constructs new {@link DispatchKey}.
+         *
+         * @param type        expected resulting object {@link Class} type
+         * @param mergedClass merged object {@link Class}
+         */
+        public DispatchKey ( @NotNull final Class type, @NotNull final Class mergedClass )
+        {
+            this.type = type;
+            this.mergedClass = mergedClass;
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            return object instanceof DispatchKey && type == ( ( DispatchKey ) object ).type &&
+                    mergedClass == ( ( DispatchKey ) object ).mergedClass;
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return type.hashCode () * 31 + mergedClass.hashCode ();
+        }
+    }
+}
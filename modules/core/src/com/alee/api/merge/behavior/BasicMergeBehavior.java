@@ -18,7 +18,7 @@
 package com.alee.api.merge.behavior;
 
 import com.alee.api.annotations.NotNull;
-import com.alee.api.merge.GlobalMergeBehavior;
+import com.alee.api.merge.ClassBasedMergeBehavior;
 import com.alee.api.merge.Merge;
 import com.alee.api.merge.MergeException;
 import com.alee.api.merge.RecursiveMerge;
@@ -41,7 +41,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-Merge">How to use Merge</a>
  * @see Merge
  */
-public class BasicMergeBehavior implements GlobalMergeBehavior<Object, Object, Object>
+public class BasicMergeBehavior implements ClassBasedMergeBehavior<Object, Object, Object>
 {
     @Override
     public boolean supports ( @NotNull final RecursiveMerge merge, @NotNull final Class<Object> type, @NotNull final Object base,
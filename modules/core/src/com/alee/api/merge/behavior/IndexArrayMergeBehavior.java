@@ -18,7 +18,7 @@
 package com.alee.api.merge.behavior;
 
 import com.alee.api.annotations.NotNull;
-import com.alee.api.merge.GlobalMergeBehavior;
+import com.alee.api.merge.ClassBasedMergeBehavior;
 import com.alee.api.merge.Merge;
 import com.alee.api.merge.RecursiveMerge;
 import com.alee.utils.ReflectUtils;
@@ -35,7 +35,7 @@ import java.lang.reflect.Array;
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-Merge">How to use Merge</a>
  * @see Merge
  */
-public class IndexArrayMergeBehavior implements GlobalMergeBehavior<Object, Object, Object>
+public class IndexArrayMergeBehavior implements ClassBasedMergeBehavior<Object, Object, Object>
 {
     /**
      * todo 1. Provide a different merge behavior similar to {@link ListMergeBehavior}
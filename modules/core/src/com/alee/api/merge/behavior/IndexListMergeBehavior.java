@@ -18,7 +18,7 @@
 package com.alee.api.merge.behavior;
 
 import com.alee.api.annotations.NotNull;
-import com.alee.api.merge.GlobalMergeBehavior;
+import com.alee.api.merge.ClassBasedMergeBehavior;
 import com.alee.api.merge.Merge;
 import com.alee.api.merge.MergeException;
 import com.alee.api.merge.RecursiveMerge;
@@ -39,7 +39,7 @@ import java.util.List;
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-Merge">How to use Merge</a>
  * @see Merge
  */
-public class IndexListMergeBehavior<T extends List> implements GlobalMergeBehavior<T, T, T>
+public class IndexListMergeBehavior<T extends List> implements ClassBasedMergeBehavior<T, T, T>
 {
     @Override
     public boolean supports ( @NotNull final RecursiveMerge merge, @NotNull final Class<T> type, @NotNull final Object base,
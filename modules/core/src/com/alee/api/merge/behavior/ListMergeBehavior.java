@@ -21,7 +21,7 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.duplicate.DuplicateResolver;
 import com.alee.api.duplicate.RejectDuplicates;
 import com.alee.api.matcher.Matcher;
-import com.alee.api.merge.GlobalMergeBehavior;
+import com.alee.api.merge.ClassBasedMergeBehavior;
 import com.alee.api.merge.Merge;
 import com.alee.api.merge.MergeException;
 import com.alee.api.merge.RecursiveMerge;
@@ -39,7 +39,7 @@ import java.util.List;
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-Merge">How to use Merge</a>
  * @see Merge
  */
-public class ListMergeBehavior<T extends List> implements GlobalMergeBehavior<T, T, T>
+public class ListMergeBehavior<T extends List> implements ClassBasedMergeBehavior<T, T, T>
 {
     /**
      * todo 1. Merging two lists of Identifiable elements gives unexpected results (https://github.com/mgarin/weblaf/issues/448)
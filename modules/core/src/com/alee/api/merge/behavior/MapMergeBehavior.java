@@ -18,7 +18,7 @@
 package com.alee.api.merge.behavior;
 
 import com.alee.api.annotations.NotNull;
-import com.alee.api.merge.GlobalMergeBehavior;
+import com.alee.api.merge.ClassBasedMergeBehavior;
 import com.alee.api.merge.Merge;
 import com.alee.api.merge.RecursiveMerge;
 
@@ -34,7 +34,7 @@ import java.util.Map;
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-Merge">How to use Merge</a>
  * @see Merge
  */
-public class MapMergeBehavior<T extends Map> implements GlobalMergeBehavior<T, T, T>
+public class MapMergeBehavior<T extends Map> implements ClassBasedMergeBehavior<T, T, T>
 {
     /**
      * todo 1. Provide a different merge behavior similar to {@link ListMergeBehavior} for {@link java.util.LinkedHashMap}
@@ -18,7 +18,7 @@
 package com.alee.api.merge.behavior;
 
 import com.alee.api.annotations.NotNull;
-import com.alee.api.merge.GlobalMergeBehavior;
+import com.alee.api.merge.ClassBasedMergeBehavior;
 import com.alee.api.merge.Merge;
 import com.alee.api.merge.MergeBehavior;
 import com.alee.api.merge.RecursiveMerge;
@@ -32,7 +32,7 @@ import com.alee.api.merge.RecursiveMerge;
  * @see Merge
  * @see MergeBehavior
  */
-public class MergeableMergeBehavior<T extends MergeBehavior<T>> implements GlobalMergeBehavior<T, T, T>
+public class MergeableMergeBehavior<T extends MergeBehavior<T>> implements ClassBasedMergeBehavior<T, T, T>
 {
     @Override
     public boolean supports ( @NotNull final RecursiveMerge merge, @NotNull final Class<T> type, @NotNull final Object base,
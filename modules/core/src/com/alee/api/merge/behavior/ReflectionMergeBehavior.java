@@ -18,13 +18,16 @@
 package com.alee.api.merge.behavior;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.merge.*;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.ReflectUtils;
+import com.alee.utils.reflection.ClassCache;
 import com.alee.utils.reflection.ClassRelationType;
 import com.alee.utils.reflection.ModifierType;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,7 +38,7 @@ import java.util.List;
  * @see Merge
  * @see ClassRelationType#isRelated()
  */
-public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Object, Object>
+public class ReflectionMergeBehavior implements ClassBasedMergeBehavior<Object, Object, Object>
 {
     /**
      * todo 1. Make result of merging objects with related (but not equal) classes configurable?
@@ -53,6 +56,13 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
     @NotNull
     private final List<ModifierType> ignoredModifiers;
 
+    /**
+     * {@link MergePlan}s for merged object classes.
+     * Lazily created in {@link #getPlans()}, in rare cases it might be created more than once which is harmless.
+     */
+    @Nullable
+    private transient volatile ClassCache<MergePlan> plans;
+
     /**
      * Constructs new {@link ReflectionMergeBehavior} ignoring fields with specified modifiers.
      *
@@ -86,78 +96,61 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
         if ( relation.isSame () || relation.isAncestor () )
         {
             // Using fields from merged object as it is either an instance of the same or parent class
-            final List<Field> fields = ReflectUtils.getFields ( merged.getClass () );
+            // MergePlan is only built once for each merged object class
+            final MergePlan plan = getPlans ().get ( merged.getClass () );
 
-            // Continue only if there are any fields to merge
-            if ( CollectionUtils.notEmpty ( fields ) )
+            // Performing merge for each separate field
+            for ( int i = 0; i < plan.fields.length; i++ )
             {
-                // Performing merge for each separate field
-                for ( final Field field : fields )
+                final Field field = plan.fields[ i ];
+                if ( plan.actions[ i ] == MergePlan.OMIT )
+                {
+                    try
+                    {
+                        // Nullifying field value
+                        // Static fields are never planned, so accessible field can be updated directly even if it is final
+                        field.set ( base, plan.defaults[ i ] );
+                    }
+                    catch ( final Exception e )
+                    {
+                        // Throwing merge exception
+                        final String message = "Unable to omit field {%s} value";
+                        throw new MergeException ( String.format ( message, field ), e );
+                    }
+                }
+                else
                 {
-                    // Ensure that this field should not be ignored
-                    if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+                    try
                     {
-                        final Class<?> fieldType = field.getType ();
-                        if ( field.getAnnotation ( OmitOnMerge.class ) != null )
+                        // Resolving merge result
+                        final Object mergeResult;
+                        final Object baseValue = field.get ( base );
+                        final Object mergedValue = field.get ( merged );
+                        if ( plan.actions[ i ] == MergePlan.MERGE )
                         {
-                            try
-                            {
-                                // Retrieving default value
-                                final Object value;
-                                if ( fieldType.isPrimitive () )
-                                {
-                                    value = ReflectUtils.getDefaultPrimitiveValue ( fieldType );
-                                }
-                                else
-                                {
-                                    value = null;
-                                }
-
-                                // Nullifying field value
-                                ReflectUtils.setFieldValue ( base, field, value );
-                            }
-                            catch ( final Exception e )
-                            {
-                                // Throwing merge exception
-                                final String message = "Unable to omit field {%s} value";
-                                throw new MergeException ( String.format ( message, field ), e );
-                            }
+                            /**
+                             * Allowing {@link Merge} to merge field values.
+                             * It is important to delegate this task to {@link Merge} as soon as possible to preserve its behavior.
+                             */
+                            mergeResult = merge.merge ( field.getType (), baseValue, mergedValue, depth + 1 );
                         }
-                        else if ( field.getAnnotation ( PreserveOnMerge.class ) == null )
+                        else
                         {
-                            try
-                            {
-                                // Resolving merge result
-                                final Object mergeResult;
-                                final Object baseValue = field.get ( base );
-                                final Object mergedValue = field.get ( merged );
-                                if ( field.getAnnotation ( OverwriteOnMerge.class ) == null )
-                                {
-                                    /**
-                                     * Allowing {@link Merge} to merge field values.
-                                     * It is important to delegate this task to {@link Merge} as soon as possible to preserve its behavior.
-                                     */
-                                    mergeResult = merge.merge ( fieldType, baseValue, mergedValue, depth + 1 );
-                                }
-                                else
-                                {
-                                    /**
-                                     * Allowing {@link Merge} to overwrite field value.
-                                     * We have to rely on {@link Merge} due to merged object possibly being {@code null}.
-                                     */
-                                    mergeResult = merge.overwrite ( baseValue, mergedValue );
-                                }
-
-                                // Saving merged value
-                                ReflectUtils.setFieldValue ( base, field, mergeResult );
-                            }
-                            catch ( final Exception e )
-                            {
-                                // Throwing merge exception
-                                final String message = "Unable to merge field {%s} values for objects {%s} and {%s}";
-                                throw new MergeException ( String.format ( message, field, base, merged ), e );
-                            }
+                            /**
+                             * Allowing {@link Merge} to overwrite field value.
+                             * We have to rely on {@link Merge} due to merged object possibly being {@code null}.
+                             */
+                            mergeResult = merge.overwrite ( baseValue, mergedValue );
                         }
+
+                        // Saving merged value
+                        field.set ( base, mergeResult );
+                    }
+                    catch ( final Exception e )
+                    {
+                        // Throwing merge exception
+                        final String message = "Unable to merge field {%s} values for objects {%s} and {%s}";
+                        throw new MergeException ( String.format ( message, field, base, merged ), e );
                     }
                 }
             }
@@ -174,6 +167,32 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
         return result;
     }
 
+    /**
+     * Returns {@link MergePlan}s cache.
+     * It is created lazily since it is not serialized along with this behavior.
+     *
+     * @return {@link MergePlan}s cache
+     */
+    @NotNull
+    private ClassCache<MergePlan> getPlans ()
+    {
+        ClassCache<MergePlan> plans = this.plans;
+        if ( plans == null )
+        {
+            plans = new ClassCache<MergePlan> ()
+            {
+                @NotNull
+                @Override
+                protected MergePlan computeValue ( @NotNull final Class type )
+                {
+                    return new MergePlan ( type, ignoredModifiers );
+                }
+            };
+            this.plans = plans;
+        }
+        return plans;
+    }
+
     /**
      * Behavior policy.
      */
@@ -189,4 +208,85 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
          */
         all
     }
-}
\ No newline at end of file
+
+    /**
+     * Precompiled merge plan for single merged object class.
+     * It contains all fields that have to be merged in their order and the way each of them has to be merged.
+     */
+    private static final class MergePlan
+    {
+        /**
+         * Field value is merged.
+         */
+        private static final byte MERGE = 0;
+
+        /**
+         * Field value is overwritten, see {@link OverwriteOnMerge}.
+         */
+        private static final byte OVERWRITE = 1;
+
+        /**
+         * Field value is reset to default one, see {@link OmitOnMerge}.
+         */
+        private static final byte OMIT = 2;
+
+        /**
+         * Merged fields.
+         */
+        @NotNull
+        private final Field[] fields;
+
+        /**
+         * Merge action for each field.
+         */
+        @NotNull
+        private final byte[] actions;
+
+        /**
+         * Default value for each field, only used for {@link #OMIT} action.
+         */
+        @NotNull
+        private final Object[] defaults;
+
+        /**
+         * Constructs new {@link MergePlan}.
+         *
+         * @param type             merged object class
+         * @param ignoredModifiers modifiers of fields to ignore
+         */
+        public MergePlan ( @NotNull final Class type, @NotNull final List<ModifierType> ignoredModifiers )
+        {
+            final List<Field> planned = new ArrayList<Field> ();
+            final List<Byte> plannedActions = new ArrayList<Byte> ();
+            for ( final Field field : ReflectUtils.getFields ( type, ModifierType.STATIC ) )
+            {
+                // Excluding fields with ignored modifiers or annotated with PreserveOnMerge
+                if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+                {
+                    if ( ReflectUtils.hasAnnotation ( field, OmitOnMerge.class ) )
+                    {
+                        planned.add ( field );
+                        plannedActions.add ( OMIT );
+                    }
+                    else if ( !ReflectUtils.hasAnnotation ( field, PreserveOnMerge.class ) )
+                    {
+                        planned.add ( field );
+                        plannedActions.add ( ReflectUtils.hasAnnotation ( field, OverwriteOnMerge.class ) ? OVERWRITE : MERGE );
+                    }
+                }
+            }
+            fields = planned.toArray ( new Field[ planned.size () ] );
+            actions = new byte[ fields.length ];
+            defaults = new Object[ fields.length ];
+            for ( int i = 0; i < fields.length; i++ )
+            {
+                actions[ i ] = plannedActions.get ( i );
+                final Class<?> fieldType = fields[ i ].getType ();
+                if ( actions[ i ] == OMIT && fieldType.isPrimitive () )
+                {
+                    defaults[ i ] = ReflectUtils.getDefaultPrimitiveValue ( fieldType );
+                }
+            }
+        }
+    }
+}
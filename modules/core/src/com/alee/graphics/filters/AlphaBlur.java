@@ -0,0 +1,467 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.utils.UtilityException;
+import com.alee.utils.concurrent.DaemonThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Blur engine working only with alpha channel values.
+ * It is used for shadows generation since shadows only need their alpha channel to be blurred.
+ *
+ * Two blur algorithms are available:
+ * 1. {@link #gaussian(int[], int, int, float)} - separable Gaussian blur, same result as {@link GaussianFilter} gives for alpha channel
+ * 2. {@link #approximate(int[], int, int, float)} - three-pass box blur approximating Gaussian blur, its cost doesn't depend on radius
+ *
+ * Both algorithms use cached kernels and reuse per-thread scratch buffers.
+ * Large images can also be processed in parallel, see {@link #setParallel(boolean)}.
+ *
+ * @author Mikle Garin
+ * @see ShadowFilter
+ * @see GaussianFilter
+ */
+public final class AlphaBlur
+{
+    /**
+     * Amount of passes used for Gaussian blur approximation.
+     */
+    private static final int PASSES = 3;
+
+    /**
+     * Maximum amount of pixels in scratch buffer kept for reuse.
+     */
+    private static final int MAX_SCRATCH_SIZE = 1024 * 1024;
+
+    /**
+     * Minimum amount of pixels in image to process it in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 256 * 256;
+
+    /**
+     * Cached Gaussian kernels.
+     * Entry: [ radius -> Gaussian kernel ]
+     */
+    @NotNull
+    private static final Map<Float, float[]> kernels = new ConcurrentHashMap<Float, float[]> ( 16 );
+
+    /**
+     * Cached box radiuses approximating Gaussian blur.
+     * Entry: [ radius -> box radiuses ]
+     */
+    @NotNull
+    private static final Map<Float, int[]> boxes = new ConcurrentHashMap<Float, int[]> ( 16 );
+
+    /**
+     * Per-thread scratch buffers.
+     */
+    @NotNull
+    private static final ThreadLocal<int[]> scratch = new ThreadLocal<int[]> ();
+
+    /**
+     * Whether or not large images should be processed in parallel.
+     */
+    private static volatile boolean parallel = false;
+
+    /**
+     * {@link ExecutorService} for parallel processing.
+     */
+    private static ExecutorService executor;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private AlphaBlur ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns whether or not large images are processed in parallel.
+     *
+     * @return {@code true} if large images are processed in parallel, {@code false} otherwise
+     */
+    public static boolean isParallel ()
+    {
+        return parallel;
+    }
+
+    /**
+     * Sets whether or not large images should be processed in parallel.
+     * Rows and columns of large images will be split between multiple threads when this option is enabled.
+     *
+     * @param parallel whether or not large images should be processed in parallel
+     */
+    public static void setParallel ( final boolean parallel )
+    {
+        AlphaBlur.parallel = parallel;
+    }
+
+    /**
+     * Returns scratch buffer of at least the specified size for current thread.
+     * Returned buffer should not be used after any other {@link AlphaBlur} method call within the same thread.
+     *
+     * @param size minimum buffer size
+     * @return scratch buffer of at least the specified size for current thread
+     */
+    @NotNull
+    public static int[] getScratch ( final int size )
+    {
+        int[] buffer = scratch.get ();
+        if ( buffer == null || buffer.length < size )
+        {
+            buffer = new int[ size ];
+            if ( size <= MAX_SCRATCH_SIZE )
+            {
+                scratch.set ( buffer );
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Performs Gaussian blur of the alpha values.
+     *
+     * @param alpha  alpha values, each within [0-255] range
+     * @param width  image width
+     * @param height image height
+     * @param radius blur radius
+     */
+    public static void gaussian ( @NotNull final int[] alpha, final int width, final int height, final float radius )
+    {
+        if ( radius > 0 && width > 0 && height > 0 )
+        {
+            final float[] kernel = getKernel ( radius );
+            final int[] temp = getScratch ( width * height );
+            run ( new Pass ( width, height )
+            {
+                @Override
+                public void rows ( final int from, final int to )
+                {
+                    convolve ( alpha, temp, kernel, from * width, width, 1, width, to - from );
+                }
+
+                @Override
+                public void columns ( final int from, final int to )
+                {
+                    convolve ( temp, alpha, kernel, from, 1, width, height, to - from );
+                }
+            } );
+        }
+    }
+
+    /**
+     * Performs three-pass box blur of the alpha values approximating Gaussian blur.
+     *
+     * @param alpha  alpha values, each within [0-255] range
+     * @param width  image width
+     * @param height image height
+     * @param radius blur radius
+     */
+    public static void approximate ( @NotNull final int[] alpha, final int width, final int height, final float radius )
+    {
+        if ( radius > 0 && width > 0 && height > 0 )
+        {
+            final int[] radiuses = getBoxes ( radius );
+            final int[] temp = getScratch ( width * height );
+            for ( final int r : radiuses )
+            {
+                if ( r > 0 )
+                {
+                    run ( new Pass ( width, height )
+                    {
+                        @Override
+                        public void rows ( final int from, final int to )
+                        {
+                            box ( alpha, temp, r, from * width, width, 1, width, to - from );
+                        }
+
+                        @Override
+                        public void columns ( final int from, final int to )
+                        {
+                            box ( temp, alpha, r, from, 1, width, height, to - from );
+                        }
+                    } );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns cached Gaussian kernel for the specified radius.
+     *
+     * @param radius blur radius
+     * @return cached Gaussian kernel for the specified radius
+     */
+    @NotNull
+    public static float[] getKernel ( final float radius )
+    {
+        float[] kernel = kernels.get ( radius );
+        if ( kernel == null )
+        {
+            kernel = GaussianFilter.makeKernel ( radius ).getKernelData ( null );
+            kernels.put ( radius, kernel );
+        }
+        return kernel;
+    }
+
+    /**
+     * Returns cached box radiuses approximating Gaussian blur with the specified radius.
+     * Gaussian sigma is {@code radius / 3}, same as the one used in {@link GaussianFilter#makeKernel(float)}.
+     *
+     * @param radius blur radius
+     * @return cached box radiuses approximating Gaussian blur with the specified radius
+     */
+    @NotNull
+    private static int[] getBoxes ( final float radius )
+    {
+        int[] radiuses = boxes.get ( radius );
+        if ( radiuses == null )
+        {
+            final float sigma = radius / 3;
+            final double ideal = Math.sqrt ( 12 * sigma * sigma / PASSES + 1 );
+            int lower = ( int ) Math.floor ( ideal );
+            if ( lower % 2 == 0 )
+            {
+                lower--;
+            }
+            final int upper = lower + 2;
+            final double m = ( 12 * sigma * sigma - PASSES * lower * lower - 4 * PASSES * lower - 3 * PASSES ) / ( -4.0 * lower - 4 );
+            final long lowerPasses = Math.round ( m );
+            radiuses = new int[ PASSES ];
+            for ( int i = 0; i < PASSES; i++ )
+            {
+                radiuses[ i ] = ( ( i < lowerPasses ? lower : upper ) - 1 ) / 2;
+            }
+            boxes.put ( radius, radiuses );
+        }
+        return radiuses;
+    }
+
+    /**
+     * Performs single box blur pass over multiple lines with clamped edges.
+     *
+     * @param src       source values
+     * @param dst       destination values
+     * @param radius    box radius
+     * @param offset    first line offset
+     * @param lineStep  step between lines
+     * @param pixelStep step between pixels within line
+     * @param length    line length
+     * @param lines     amount of lines
+     */
+    private static void box ( @NotNull final int[] src, @NotNull final int[] dst, final int radius, final int offset, final int lineStep,
+                              final int pixelStep, final int length, final int lines )
+    {
+        final int size = radius * 2 + 1;
+        final int half = size / 2;
+        final int last = ( length - 1 ) * pixelStep;
+        for ( int line = 0; line < lines; line++ )
+        {
+            final int start = offset + line * lineStep;
+            int sum = radius * src[ start ];
+            for ( int i = 0; i < radius; i++ )
+            {
+                sum += src[ start + Math.min ( i * pixelStep, last ) ];
+            }
+            for ( int i = 0; i < length; i++ )
+            {
+                sum += src[ start + Math.min ( ( i + radius ) * pixelStep, last ) ];
+                dst[ start + i * pixelStep ] = ( sum + half ) / size;
+                sum -= src[ start + Math.max ( i - radius, 0 ) * pixelStep ];
+            }
+        }
+    }
+
+    /**
+     * Performs single convolution pass over multiple lines with clamped edges.
+     *
+     * @param src       source values
+     * @param dst       destination values
+     * @param kernel    convolution kernel
+     * @param offset    first line offset
+     * @param lineStep  step between lines
+     * @param pixelStep step between pixels within line
+     * @param length    line length
+     * @param lines     amount of lines
+     */
+    private static void convolve ( @NotNull final int[] src, @NotNull final int[] dst, @NotNull final float[] kernel, final int offset,
+                                   final int lineStep, final int pixelStep, final int length, final int lines )
+    {
+        final int radius = kernel.length / 2;
+        for ( int line = 0; line < lines; line++ )
+        {
+            final int start = offset + line * lineStep;
+            for ( int i = 0; i < length; i++ )
+            {
+                float sum = 0;
+                for ( int k = -radius; k <= radius; k++ )
+                {
+                    final float f = kernel[ radius + k ];
+                    if ( f != 0 )
+                    {
+                        sum += f * src[ start + Math.min ( Math.max ( i + k, 0 ), length - 1 ) * pixelStep ];
+                    }
+                }
+                dst[ start + i * pixelStep ] = PixelUtils.clamp ( ( int ) ( sum + 0.5f ) );
+            }
+        }
+    }
+
+    /**
+     * Runs the specified {@link Pass}.
+     * Large images are split between multiple threads if parallel processing is enabled.
+     *
+     * @param pass {@link Pass} to run
+     */
+    private static void run ( @NotNull final Pass pass )
+    {
+        final int threads = Runtime.getRuntime ().availableProcessors ();
+        if ( parallel && threads > 1 && pass.width * pass.height >= PARALLEL_THRESHOLD )
+        {
+            final ExecutorService executor = getExecutor ();
+            split ( executor, threads, pass.height, pass, true );
+            split ( executor, threads, pass.width, pass, false );
+        }
+        else
+        {
+            pass.rows ( 0, pass.height );
+            pass.columns ( 0, pass.width );
+        }
+    }
+
+    /**
+     * Splits rows or columns processing between multiple threads and waits for it to finish.
+     *
+     * @param executor {@link ExecutorService}
+     * @param threads  amount of threads
+     * @param lines    amount of rows or columns
+     * @param pass     {@link Pass} to run
+     * @param rows     whether rows or columns should be processed
+     */
+    private static void split ( @NotNull final ExecutorService executor, final int threads, final int lines, @NotNull final Pass pass,
+                                final boolean rows )
+    {
+        final int chunk = ( lines + threads - 1 ) / threads;
+        final int chunks = ( lines + chunk - 1 ) / chunk;
+        final CountDownLatch latch = new CountDownLatch ( chunks );
+        for ( int i = 0; i < chunks; i++ )
+        {
+            final int from = i * chunk;
+            final int to = Math.min ( from + chunk, lines );
+            executor.execute ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    try
+                    {
+                        if ( rows )
+                        {
+                            pass.rows ( from, to );
+                        }
+                        else
+                        {
+                            pass.columns ( from, to );
+                        }
+                    }
+                    finally
+                    {
+                        latch.countDown ();
+                    }
+                }
+            } );
+        }
+        try
+        {
+            latch.await ();
+        }
+        catch ( final InterruptedException e )
+        {
+            Thread.currentThread ().interrupt ();
+            throw new RuntimeException ( "Interrupted while waiting for blur to finish", e );
+        }
+    }
+
+    /**
+     * Returns {@link ExecutorService} for parallel processing.
+     *
+     * @return {@link ExecutorService} for parallel processing
+     */
+    @NotNull
+    private static synchronized ExecutorService getExecutor ()
+    {
+        if ( executor == null )
+        {
+            final int threads = Runtime.getRuntime ().availableProcessors ();
+            executor = Executors.newFixedThreadPool ( threads, new DaemonThreadFactory ( "AlphaBlur" ) );
+        }
+        return executor;
+    }
+
+    /**
+     * Single separable blur pass consisting of horizontal and vertical parts.
+     * Horizontal part writes into scratch buffer, vertical part writes back into alpha values.
+     */
+    private abstract static class Pass
+    {
+        /**
+         * Image width.
+         */
+        protected final int width;
+
+        /**
+         * Image height.
+         */
+        protected final int height;
+
+        /**
+         * Constructs new {@link Pass}.
+         *
+         * @param width  image width
+         * @param height image height
+         */
+        public Pass ( final int width, final int height )
+        {
+            this.width = width;
+            this.height = height;
+        }
+
+        /**
+         * Processes the specified rows.
+         *
+         * @param from first row, inclusive
+         * @param to   last row, exclusive
+         */
+        public abstract void rows ( int from, int to );
+
+        /**
+         * Processes the specified columns.
+         *
+         * @param from first column, inclusive
+         * @param to   last column, exclusive
+         */
+        public abstract void columns ( int from, int to );
+    }
+}
@@ -18,6 +18,8 @@ package com.alee.graphics.filters;
 
 import java.awt.image.BufferedImage;
 import java.awt.image.Kernel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A filter which applies Gaussian blur to an image.
@@ -27,6 +29,12 @@ import java.awt.image.Kernel;
  */
 public class GaussianFilter extends ConvolveFilter
 {
+    /**
+     * Cached Gaussian kernels.
+     * Entry: [ radius -> Gaussian kernel ]
+     */
+    private static final Map<Float, Kernel> kernels = new ConcurrentHashMap<Float, Kernel> ( 16 );
+
     protected float radius;
     protected Kernel kernel;
 
@@ -81,7 +89,7 @@ public class GaussianFilter extends ConvolveFilter
         }
 
         final int[] inPixels = new int[ width * height ];
-        final int[] outPixels = new int[ width * height ];
+        final int[] outPixels = AlphaBlur.getScratch ( width * height );
         src.getRGB ( 0, 0, width, height, inPixels, 0, width );
 
         convolveAndTranspose ( kernel, inPixels, outPixels, width, height, alpha, CLAMP_EDGES );
@@ -152,9 +160,30 @@ public class GaussianFilter extends ConvolveFilter
     }
 
     /**
-     * Make a Gaussian blur kernel.
+     * Returns cached Gaussian blur kernel.
+     * Kernels are never modified, so they can be safely shared between filters.
+     *
+     * @param radius blur radius in pixels
+     * @return cached Gaussian blur kernel
      */
     public static Kernel makeKernel ( final float radius )
+    {
+        Kernel kernel = kernels.get ( radius );
+        if ( kernel == null )
+        {
+            kernel = createKernel ( radius );
+            kernels.put ( radius, kernel );
+        }
+        return kernel;
+    }
+
+    /**
+     * Make a Gaussian blur kernel.
+     *
+     * @param radius blur radius in pixels
+     * @return new Gaussian blur kernel
+     */
+    protected static Kernel createKernel ( final float radius )
     {
         final int r = ( int ) Math.ceil ( radius );
         final int rows = r * 2 + 1;
@@ -18,9 +18,9 @@ package com.alee.graphics.filters;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
-import java.awt.image.BandCombineOp;
 import java.awt.image.BufferedImage;
 import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
 
 /**
  * A filter which draws a drop shadow based on the alpha channel of the image.
@@ -36,6 +36,7 @@ public class ShadowFilter extends AbstractBufferedImageOp
     private boolean addMargins = false;
     private boolean shadowOnly = true;
     private int shadowColor = 0xff000000;
+    private boolean approximate = false;
 
     public ShadowFilter ()
     {
@@ -131,6 +132,27 @@ public class ShadowFilter extends AbstractBufferedImageOp
         return shadowOnly;
     }
 
+    /**
+     * Sets whether or not Gaussian blur should be approximated with three-pass box blur.
+     * Approximated blur is visually almost identical, but its cost doesn't depend on the radius.
+     *
+     * @param approximate whether or not Gaussian blur should be approximated with three-pass box blur
+     */
+    public void setApproximate ( final boolean approximate )
+    {
+        this.approximate = approximate;
+    }
+
+    /**
+     * Returns whether or not Gaussian blur is approximated with three-pass box blur.
+     *
+     * @return {@code true} if Gaussian blur is approximated with three-pass box blur, {@code false} otherwise
+     */
+    public boolean isApproximate ()
+    {
+        return approximate;
+    }
+
     protected void transformSpace ( final Rectangle r )
     {
         if ( addMargins )
@@ -162,15 +184,33 @@ public class ShadowFilter extends AbstractBufferedImageOp
             }
         }
 
-        final float shadowR = ( ( shadowColor >> 16 ) & 0xff ) / 255f;
-        final float shadowG = ( ( shadowColor >> 8 ) & 0xff ) / 255f;
-        final float shadowB = ( shadowColor & 0xff ) / 255f;
-
-        // Make a black mask from the image's alpha channel
-        final float[][] extractAlpha = { { 0, 0, 0, shadowR }, { 0, 0, 0, shadowG }, { 0, 0, 0, shadowB }, { 0, 0, 0, opacity } };
-        BufferedImage shadow = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
-        new BandCombineOp ( extractAlpha, null ).filter ( src.getRaster (), shadow.getRaster () );
-        shadow = new GaussianFilter ( radius ).filter ( shadow, null );
+        // Make a shadow mask from the image's alpha channel
+        // Only alpha channel is blurred since shadow color is the same for all shadow pixels
+        final BufferedImage shadow = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
+        final int[] pixels = ( ( DataBufferInt ) shadow.getRaster ().getDataBuffer () ).getData ();
+        src.getRGB ( 0, 0, width, height, pixels, 0, width );
+        for ( int i = 0; i < pixels.length; i++ )
+        {
+            pixels[ i ] = pixels[ i ] >>> 24;
+        }
+        if ( approximate )
+        {
+            AlphaBlur.approximate ( pixels, width, height, radius );
+        }
+        else
+        {
+            AlphaBlur.gaussian ( pixels, width, height, radius );
+        }
+        // Shadow image is not premultiplied, so its color channels are not scaled by alpha
+        final int rgb = shadowColor & 0xffffff;
+        for ( int i = 0; i < pixels.length; i++ )
+        {
+            final int a = pixels[ i ];
+            if ( a != 0 )
+            {
+                pixels[ i ] = PixelUtils.clamp ( ( int ) ( a * opacity + 0.5f ) ) << 24 | rgb;
+            }
+        }
 
         final float xOffset = distance * ( float ) Math.cos ( angle );
         final float yOffset = -distance * ( float ) Math.sin ( angle );
@@ -311,6 +311,12 @@ public final class LanguageManager
         // Must be initialized
         mustBeInitialized ();
 
+        // Loading values for used locale if dictionary is loaded lazily
+        if ( language != null )
+        {
+            dictionary.loadLocale ( language.getLocale () );
+        }
+
         getDictionaries ().addDictionary ( dictionary );
         fireDictionaryAdded ( dictionary );
     }
@@ -422,6 +428,9 @@ public final class LanguageManager
                     language = new Language ( new Locale ( "en", "GB" ) );
                 }
             }
+
+            // Loading values for initial locale into lazily loaded dictionaries
+            getDictionaries ().loadLocale ( language.getLocale () );
         }
         return language;
     }
@@ -457,6 +466,9 @@ public final class LanguageManager
             // Saving previous language
             final Language oldLanguage = getLanguage ();
 
+            // Loading values for new locale into lazily loaded dictionaries
+            getDictionaries ().loadLocale ( language.getLocale () );
+
             // Changing language
             LanguageManager.language = language;
 
@@ -23,12 +23,10 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Objects;
 import com.alee.api.merge.Mergeable;
 import com.alee.api.resource.Resource;
-import com.alee.managers.language.LanguageUtils;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.TextUtils;
 import com.alee.utils.XmlUtils;
 import com.alee.utils.collection.ImmutableList;
-import com.alee.utils.collection.ImmutableSet;
 import com.alee.utils.compare.Filter;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -37,6 +35,7 @@ import com.thoughtworks.xstream.annotations.XStreamImplicit;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * {@link Dictionary} can store multiple language {@link Record}s and {@link Dictionary}s.
@@ -122,23 +121,55 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
     private transient List<Locale> supportedLocales;
 
     /**
-     * {@link Map} containing {@link Record}s cached by their key.
+     * Atomic updater for {@link #revision}.
+     */
+    @NotNull
+    private static final AtomicReferenceFieldUpdater<Dictionary, DictionaryRevision> revisionUpdater =
+            AtomicReferenceFieldUpdater.newUpdater ( Dictionary.class, DictionaryRevision.class, "revision" );
+
+    /**
+     * Current revision of this {@link Dictionary} and all of its sub-{@link Dictionary}s.
+     * It is replaced on any change within this {@link Dictionary} tree to invalidate {@link DictionaryIndex}es built for it.
+     * It is {@code null} until first change.
      */
     @Nullable
-    private transient Map<String, Record> recordsCache;
+    private transient volatile DictionaryRevision revision;
 
     /**
-     * {@link Map} containing {@link Dictionary}s cached by {@link Record} keys.
+     * Immutable {@link List} of {@link Dictionary}s this {@link Dictionary} belongs to.
+     * Changes are propagated to these {@link Dictionary}s, so their {@link DictionaryIndex}es are updated as well.
+     * It is replaced as a whole whenever changed, so it can be safely read without locking.
      */
     @Nullable
-    private transient Map<String, Dictionary> dictionariesCache;
+    private transient volatile List<Dictionary> parents;
+
+    /**
+     * Immutable {@link Map} of {@link DictionaryIndex}es built for this {@link Dictionary}.
+     * It is replaced as a whole whenever new {@link DictionaryIndex} is built, so it can be safely read without locking.
+     * Entry: [ {@link Locale} -> {@link DictionaryIndex} ]
+     */
+    @Nullable
+    private transient volatile Map<Locale, DictionaryIndex> indices;
+
+    /**
+     * {@link Resource} this {@link Dictionary} was lazily loaded from.
+     * It is {@code null} for {@link Dictionary}s that were loaded fully or created in runtime.
+     */
+    @Nullable
+    private transient Resource resource;
+
+    /**
+     * Language codes of {@link Value}s loaded from {@link #resource}.
+     */
+    @Nullable
+    private transient Set<String> loadedLanguages;
 
     /**
      * Constructs new {@link Dictionary}.
      */
     public Dictionary ()
     {
-        this ( null, null );
+        this ( ( String ) null, null );
     }
 
     /**
@@ -174,6 +205,24 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
         this ( resource.getInputStream () );
     }
 
+    /**
+     * Lazily loads {@link Dictionary} from the specified {@link Resource}.
+     * Only {@link Value}s for the language of the specified {@link Locale} are loaded, {@link Value}s for other languages are only
+     * registered with their {@link Locale}s and will be loaded from the same {@link Resource} upon {@link #loadLocale(Locale)} call.
+     * {@link com.alee.managers.language.LanguageManager} does that automatically whenever used {@link Locale} changes.
+     *
+     * @param resource {@link Resource} to load {@link Dictionary} from
+     * @param locale   {@link Locale} to load {@link Value}s for
+     */
+    public Dictionary ( @NotNull final Resource resource, @NotNull final Locale locale )
+    {
+        this.id = TextUtils.generateId ( ID_PREFIX );
+        this.resource = resource;
+        this.loadedLanguages = new HashSet<String> ( 2 );
+        this.loadedLanguages.add ( locale.getLanguage () );
+        load ( this, resource, locale.getLanguage () );
+    }
+
     /**
      * Loads {@link Dictionary} from the specified {@link InputStream}.
      *
@@ -232,6 +281,7 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
     public synchronized void setPrefix ( @Nullable final String prefix )
     {
         this.prefix = prefix;
+        destroyCaches ();
     }
 
     /**
@@ -282,122 +332,183 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
     public synchronized void setRecords ( @Nullable final List<Record> records )
     {
         this.records = records;
+        destroyCaches ();
     }
 
     /**
      * Returns {@link Record} for the specified language key.
      * Search will be perfomed in this {@link Dictionary} and all sub-{@link Dictionary}s.
+     * Lookup itself doesn't require any locking as it is performed using {@link DictionaryIndex} built for the {@link Locale}.
      *
      * @param key    {@link Record} language key
      * @param locale {@link Locale}
      * @return {@link Record} for the specified language key
      */
     @Nullable
-    public synchronized Record getRecord ( @NotNull final String key, @NotNull final Locale locale )
+    public Record getRecord ( @NotNull final String key, @NotNull final Locale locale )
     {
-        final Record result;
-        final String cacheKey = key + "." + LanguageUtils.toString ( locale );
-        if ( recordsCache != null && recordsCache.containsKey ( cacheKey ) )
-        {
-            // Cached record in this dictionary
-            result = recordsCache.get ( cacheKey );
-        }
-        else
+        return getIndex ( locale ).get ( key );
+    }
+
+    /**
+     * Returns up-to-date {@link DictionaryIndex} for the specified {@link Locale}.
+     *
+     * @param locale {@link Locale}
+     * @return up-to-date {@link DictionaryIndex} for the specified {@link Locale}
+     */
+    @NotNull
+    private DictionaryIndex getIndex ( @NotNull final Locale locale )
+    {
+        Map<Locale, DictionaryIndex> indices = this.indices;
+        DictionaryIndex index = indices != null ? indices.get ( locale ) : null;
+        if ( index == null || index.getRevision () != revision )
         {
-            final String dicPrefix = usablePrefix ();
-            final String subKey = key.startsWith ( dicPrefix ) ? key.substring ( dicPrefix.length () ) : null;
-            if ( subKey != null )
+            synchronized ( this )
             {
-                if ( dictionariesCache != null && dictionariesCache.containsKey ( cacheKey ) )
-                {
-                    // Cached dictionary that contains record
-                    result = dictionariesCache.get ( cacheKey ).getRecord ( subKey, locale );
-                }
-                else
+                final DictionaryRevision current = revision;
+                indices = this.indices;
+                index = indices != null ? indices.get ( locale ) : null;
+                if ( index == null || index.getRevision () != current )
                 {
-                    Record record = null;
-                    Dictionary source = this;
-
-                    final Comparator<Record> comparator = new RecordCountryComparator ( locale );
-
-                    // Resolving most fitting record within this dictionary
-                    if ( CollectionUtils.notEmpty ( records ) )
-                    {
-                        // Collecting records for the key
-                        final List<Record> fitting = collectLocalRecords ( subKey, new ArrayList<Record> ( 3 ) );
-
-                        // Resolving most fitting one
-                        record = CollectionUtils.max ( fitting, comparator );
-                    }
-
-                    // Resolving most fitting record within this dictionary and all sub-dictionaries
-                    if ( CollectionUtils.notEmpty ( dictionaries ) )
+                    final RecordCountryComparator comparator = new RecordCountryComparator ( locale );
+                    final Set<String> changedKeys = index != null && current != null ?
+                            current.getChangedKeys ( index.getRevision () ) : null;
+                    if ( changedKeys != null )
                     {
-                        for ( final Dictionary dictionary : dictionaries )
+                        // Updating only changed keys
+                        final Map<String, Record> changes = new HashMap<String, Record> ( changedKeys.size () );
+                        for ( final String key : changedKeys )
                         {
-                            // Resolving most fitting one from sub-dictionary
-                            final Record subRecord = dictionary.getRecord ( subKey, locale );
-
-                            // Resolving most fitting one
-                            if ( subRecord != null && ( record == null || comparator.compare ( record, subRecord ) > 0 ) )
-                            {
-                                record = subRecord;
-                                source = dictionary;
-                            }
+                            changes.put ( key, resolveRecord ( key, comparator ) );
                         }
+                        index = index.update ( current, changes );
+                    }
+                    else
+                    {
+                        // Building new index
+                        index = new DictionaryIndex ( current, resolveRecords ( comparator ) );
                     }
-                    result = record;
 
-                    // Caching result
-                    if ( source == this )
+                    // Replacing indices
+                    final Map<Locale, DictionaryIndex> updated = new HashMap<Locale, DictionaryIndex> ( 4 );
+                    if ( indices != null )
                     {
-                        if ( recordsCache == null )
-                        {
-                            recordsCache = new HashMap<String, Record> ( recordsCount () );
-                        }
-                        recordsCache.put ( cacheKey, result );
+                        updated.putAll ( indices );
                     }
-                    else
+                    updated.put ( locale, index );
+                    this.indices = updated;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns most fitting {@link Record}s from this {@link Dictionary} and all sub-{@link Dictionary}s.
+     * When there are multiple {@link Record}s for the same language key within single {@link Dictionary} - most fitting one is used.
+     * {@link Record}s from sub-{@link Dictionary}s are then compared against the ones found in this {@link Dictionary}.
+     *
+     * @param comparator {@link RecordCountryComparator} for the {@link Locale}
+     * @return most fitting {@link Record}s from this {@link Dictionary} and all sub-{@link Dictionary}s
+     */
+    @NotNull
+    private synchronized Map<String, Record> resolveRecords ( @NotNull final RecordCountryComparator comparator )
+    {
+        final Map<String, Record> resolved = new HashMap<String, Record> ( totalRecordsCount () );
+
+        // Resolving most fitting records within this dictionary
+        if ( CollectionUtils.notEmpty ( records ) )
+        {
+            for ( final Record record : records )
+            {
+                final Record existing = resolved.get ( record.getKey () );
+                if ( existing == null || comparator.compare ( record, existing ) > 0 )
+                {
+                    resolved.put ( record.getKey (), record );
+                }
+            }
+        }
+
+        // Resolving most fitting records within this dictionary and all sub-dictionaries
+        if ( CollectionUtils.notEmpty ( dictionaries ) )
+        {
+            for ( final Dictionary dictionary : dictionaries )
+            {
+                // Ensuring changes in sub-dictionary will be propagated here
+                dictionary.addParent ( this );
+
+                for ( final Map.Entry<String, Record> entry : dictionary.resolveRecords ( comparator ).entrySet () )
+                {
+                    final Record record = resolved.get ( entry.getKey () );
+                    if ( record == null || comparator.compare ( record, entry.getValue () ) > 0 )
                     {
-                        if ( dictionariesCache == null )
-                        {
-                            dictionariesCache = new HashMap<String, Dictionary> ( dictionariesCount () * 5 );
-                        }
-                        dictionariesCache.put ( cacheKey, source );
+                        resolved.put ( entry.getKey (), entry.getValue () );
                     }
                 }
             }
-            else
+        }
+
+        // Adding dictionary prefix to keys
+        final String dicPrefix = usablePrefix ();
+        final Map<String, Record> result;
+        if ( dicPrefix.length () > 0 )
+        {
+            result = new HashMap<String, Record> ( resolved.size () );
+            for ( final Map.Entry<String, Record> entry : resolved.entrySet () )
             {
-                // Key doesn't start with dictionary prefix
-                result = null;
+                result.put ( dicPrefix + entry.getKey (), entry.getValue () );
             }
         }
+        else
+        {
+            result = resolved;
+        }
         return result;
     }
 
     /**
-     * Returns {@link List} of {@link Record}s from this {@link Dictionary} only for the specified language key.
-     * This method doesn't ask for {@link Locale}, so multiple {@link Record}s can be returned as a result.
+     * Returns most fitting {@link Record} for the specified complete language key from this {@link Dictionary} and all
+     * sub-{@link Dictionary}s. It resolves single language key exactly the same way {@link #resolveRecords(RecordCountryComparator)} does.
      *
-     * @param key     {@link Record} language key
-     * @param results {@link List} to collect {@link Record}s into
-     * @return {@link List} of {@link Record}s from this {@link Dictionary} only for the specified language key
+     * @param key        complete language key
+     * @param comparator {@link RecordCountryComparator} for the {@link Locale}
+     * @return most fitting {@link Record} for the specified complete language key, {@code null} if there is none
      */
-    @NotNull
-    private synchronized List<Record> collectLocalRecords ( @NotNull final String key, @NotNull final List<Record> results )
+    @Nullable
+    private synchronized Record resolveRecord ( @NotNull final String key, @NotNull final RecordCountryComparator comparator )
     {
-        if ( CollectionUtils.notEmpty ( records ) )
+        Record resolved = null;
+        final String dicPrefix = usablePrefix ();
+        if ( key.startsWith ( dicPrefix ) )
         {
-            for ( final Record record : records )
+            final String recordKey = key.substring ( dicPrefix.length () );
+
+            // Resolving most fitting record within this dictionary
+            if ( CollectionUtils.notEmpty ( records ) )
+            {
+                for ( final Record record : records )
+                {
+                    if ( record.getKey ().equals ( recordKey ) && ( resolved == null || comparator.compare ( record, resolved ) > 0 ) )
+                    {
+                        resolved = record;
+                    }
+                }
+            }
+
+            // Resolving most fitting record within this dictionary and all sub-dictionaries
+            if ( CollectionUtils.notEmpty ( dictionaries ) )
             {
-                if ( Objects.equals ( record.getKey (), key ) )
+                for ( final Dictionary dictionary : dictionaries )
                 {
-                    results.add ( record );
+                    final Record record = dictionary.resolveRecord ( recordKey, comparator );
+                    if ( record != null && ( resolved == null || comparator.compare ( resolved, record ) > 0 ) )
+                    {
+                        resolved = record;
+                    }
                 }
             }
         }
-        return results;
+        return resolved;
     }
 
     /**
@@ -416,7 +527,7 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
         records.add ( record );
 
         // Destroying caches
-        destroyRecordCaches ( record );
+        destroyCaches ( record );
     }
 
     /**
@@ -429,10 +540,11 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
         if ( records != null )
         {
             // Removing record
-            records.remove ( record );
-
-            // Destroying caches
-            destroyRecordCaches ( record );
+            if ( records.remove ( record ) )
+            {
+                // Destroying caches
+                destroyCaches ( record );
+            }
         }
     }
 
@@ -455,7 +567,7 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
                     iterator.remove ();
 
                     // Destroying caches
-                    destroyRecordCaches ( record );
+                    destroyCaches ( record );
 
                     break;
                 }
@@ -463,29 +575,6 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
         }
     }
 
-    /**
-     * Destroys caches for the specified {@link Dictionary}.
-     *
-     * @param record {@link Dictionary} to destroy caches for
-     */
-    private void destroyRecordCaches ( @NotNull final Record record )
-    {
-        // Clearing
-        clearLocaleCaches ();
-        if ( recordsCache != null || dictionariesCache != null )
-        {
-            final Set<String> keys = new ImmutableSet<String> ( record.getKey () );
-            if ( recordsCache != null )
-            {
-                destroyKeys ( recordsCache.keySet ().iterator (), keys );
-            }
-            if ( dictionariesCache != null )
-            {
-                destroyKeys ( dictionariesCache.keySet ().iterator (), keys );
-            }
-        }
-    }
-
     /**
      * Removes all {@link Record}s from this {@link Dictionary}.
      */
@@ -498,20 +587,7 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
             records = null;
 
             // Destroying caches
-            destroyRecordCaches ();
-        }
-    }
-
-    /**
-     * Destroys caches all {@link Record} caches.
-     */
-    private void destroyRecordCaches ()
-    {
-        clearLocaleCaches ();
-        if ( recordsCache != null )
-        {
-            recordsCache.clear ();
-            recordsCache = null;
+            destroyCaches ();
         }
     }
 
@@ -597,7 +673,22 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
      */
     public synchronized void setDictionaries ( @Nullable final List<Dictionary> dictionaries )
     {
+        if ( this.dictionaries != null )
+        {
+            for ( final Dictionary dictionary : this.dictionaries )
+            {
+                dictionary.removeParent ( this );
+            }
+        }
         this.dictionaries = dictionaries;
+        if ( dictionaries != null )
+        {
+            for ( final Dictionary dictionary : dictionaries )
+            {
+                dictionary.addParent ( this );
+            }
+        }
+        destroyCaches ();
     }
 
     /**
@@ -615,9 +706,10 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
 
         // Adding dictionary
         dictionaries.add ( dictionary );
+        dictionary.addParent ( this );
 
         // Destroying caches
-        destroyDictionaryCaches ( dictionary );
+        destroyCaches ();
     }
 
     /**
@@ -631,98 +723,283 @@ public final class Dictionary implements Identifiable, Mergeable, Cloneable, Ser
         {
             // Removing dictionary
             dictionaries.remove ( dictionary );
+            if ( !containsInstance ( dictionaries, dictionary ) )
+            {
+                dictionary.removeParent ( this );
+            }
 
             // Destroying caches
-            destroyDictionaryCaches ( dictionary );
+            destroyCaches ();
         }
     }
 
     /**
-     * Destroys caches for the specified {@link Dictionary}.
+     * Loads {@link Value}s for the specified {@link Locale} language into this and all sub-{@link Dictionary}s if they were skipped
+     * during lazy loading. Does nothing for {@link Dictionary}s that were loaded fully or created in runtime.
      *
-     * @param dictionary {@link Dictionary} to destroy caches for
+     * @param locale {@link Locale} to load {@link Value}s for
      */
-    private void destroyDictionaryCaches ( @NotNull final Dictionary dictionary )
+    public synchronized void loadLocale ( @NotNull final Locale locale )
     {
-        clearLocaleCaches ();
-        if ( recordsCache != null || dictionariesCache != null )
+        final String language = locale.getLanguage ();
+        if ( resource != null && loadedLanguages != null && !loadedLanguages.contains ( language ) )
+        {
+            // Loading values for the language into separate dictionary
+            final Dictionary loaded = new Dictionary ();
+            load ( loaded, resource, language );
+
+            // Moving loaded values into this dictionary
+            loadValues ( loaded, language );
+            loadedLanguages.add ( language );
+
+            // Destroying caches
+            destroyCaches ();
+        }
+        if ( CollectionUtils.notEmpty ( dictionaries ) )
+        {
+            for ( final Dictionary dictionary : dictionaries )
+            {
+                dictionary.loadLocale ( locale );
+            }
+        }
+    }
+
+    /**
+     * Moves {@link Value}s for the specified language code from lazily loaded {@link Dictionary} into this one.
+     * Both {@link Dictionary}s are expected to be loaded from the same {@link Resource}, so {@link Record}s are matched by their keys
+     * and order while sub-{@link Dictionary}s are matched by their position and prefix.
+     *
+     * @param loaded   lazily loaded {@link Dictionary} to take {@link Value}s from
+     * @param language language code to load {@link Value}s for
+     */
+    private void loadValues ( @NotNull final Dictionary loaded, @NotNull final String language )
+    {
+        if ( CollectionUtils.notEmpty ( records ) && CollectionUtils.notEmpty ( loaded.records ) )
         {
-            final Set<String> keys = dictionary.getKeys ( usablePrefix () );
-            if ( recordsCache != null )
+            // Records with the same key are matched in order of their appearance
+            final Map<String, LinkedList<Record>> loadedRecords = new HashMap<String, LinkedList<Record>> ( loaded.records.size () );
+            for ( final Record record : loaded.records )
             {
-                destroyKeys ( recordsCache.keySet ().iterator (), keys );
+                LinkedList<Record> sameKeyRecords = loadedRecords.get ( record.getKey () );
+                if ( sameKeyRecords == null )
+                {
+                    sameKeyRecords = new LinkedList<Record> ();
+                    loadedRecords.put ( record.getKey (), sameKeyRecords );
+                }
+                sameKeyRecords.add ( record );
             }
-            if ( dictionariesCache != null )
+            for ( final Record record : records )
             {
-                destroyKeys ( dictionariesCache.keySet ().iterator (), keys );
+                final LinkedList<Record> sameKeyRecords = loadedRecords.get ( record.getKey () );
+                if ( sameKeyRecords != null && !sameKeyRecords.isEmpty () )
+                {
+                    record.loadValues ( sameKeyRecords.removeFirst (), language );
+                }
+            }
+        }
+        if ( CollectionUtils.notEmpty ( dictionaries ) && CollectionUtils.notEmpty ( loaded.dictionaries ) )
+        {
+            final int count = Math.min ( dictionaries.size (), loaded.dictionaries.size () );
+            for ( int i = 0; i < count; i++ )
+            {
+                final Dictionary dictionary = dictionaries.get ( i );
+                final Dictionary loadedDictionary = loaded.dictionaries.get ( i );
+                if ( Objects.equals ( dictionary.prefix, loadedDictionary.prefix ) )
+                {
+                    synchronized ( dictionary )
+                    {
+                        dictionary.loadValues ( loadedDictionary, language );
+                        dictionary.destroyCaches ();
+                    }
+                }
             }
         }
     }
 
     /**
-     * Clears all locale caches.
+     * Loads {@link Dictionary} from the specified {@link Resource} skipping {@link Value}s for all languages except specified one.
+     *
+     * @param dictionary {@link Dictionary} to load
+     * @param resource   {@link Resource} to load {@link Dictionary} from
+     * @param language   language code to load {@link Value}s for
      */
-    private void clearLocaleCaches ()
+    private static void load ( @NotNull final Dictionary dictionary, @NotNull final Resource resource, @NotNull final String language )
     {
-        if ( allLocales != null )
+        ValueConverter.setLoadedLanguage ( language );
+        try
         {
-            allLocales.clear ();
-            allLocales = null;
+            XmlUtils.fromXML ( resource, dictionary );
         }
-        if ( supportedLocales != null )
+        finally
         {
-            supportedLocales.clear ();
-            supportedLocales = null;
+            ValueConverter.setLoadedLanguage ( null );
         }
+        dictionary.unloadSkippedValues ();
     }
 
     /**
-     * Destroys caches for the specified keys.
+     * Replaces {@link Value}s skipped during lazy loading with their {@link Locale}s in this and all sub-{@link Dictionary}s.
+     */
+    private void unloadSkippedValues ()
+    {
+        if ( CollectionUtils.notEmpty ( records ) )
+        {
+            for ( final Record record : records )
+            {
+                record.unloadSkippedValues ();
+            }
+        }
+        if ( CollectionUtils.notEmpty ( dictionaries ) )
+        {
+            for ( final Dictionary dictionary : dictionaries )
+            {
+                dictionary.unloadSkippedValues ();
+            }
+        }
+    }
+
+    /**
+     * Destroys all caches affected by {@link Record}s or sub-{@link Dictionary}s changes.
+     */
+    private void destroyCaches ()
+    {
+        clearLocaleCaches ();
+        invalidate ( null );
+    }
+
+    /**
+     * Destroys all caches affected by addition or removal of the specified {@link Record}.
+     * Only language key of that {@link Record} is resolved again within {@link DictionaryIndex}es.
      *
-     * @param cachedKeys cached keys
-     * @param keys       keys to remove from cache
+     * @param record added or removed {@link Record}
      */
-    private void destroyKeys ( @NotNull final Iterator<String> cachedKeys, @NotNull final Set<String> keys )
+    private void destroyCaches ( @NotNull final Record record )
     {
-        while ( cachedKeys.hasNext () )
+        clearLocaleCaches ();
+        invalidate ( usablePrefix () + record.getKey () );
+    }
+
+    /**
+     * Replaces revision of this {@link Dictionary} and all {@link Dictionary}s it belongs to.
+     * This method doesn't require any locking, so it can be safely called while holding lock of any sub-{@link Dictionary}.
+     *
+     * @param key changed complete language key, {@code null} if whole {@link Dictionary} might have changed
+     */
+    private void invalidate ( @Nullable final String key )
+    {
+        DictionaryRevision current;
+        do
+        {
+            current = revision;
+        }
+        while ( !revisionUpdater.compareAndSet ( this, current, new DictionaryRevision ( key, current ) ) );
+        final List<Dictionary> parents = this.parents;
+        if ( parents != null )
         {
-            final String cachedKey = cachedKeys.next ();
-            for ( final String key : keys )
+            for ( final Dictionary parent : parents )
             {
-                if ( cachedKey.startsWith ( key ) )
+                parent.invalidate ( key != null ? parent.usablePrefix () + key : null );
+            }
+        }
+    }
+
+    /**
+     * Registers {@link Dictionary} this {@link Dictionary} belongs to.
+     *
+     * @param parent {@link Dictionary} this {@link Dictionary} belongs to
+     */
+    private synchronized void addParent ( @NotNull final Dictionary parent )
+    {
+        final List<Dictionary> parents = this.parents;
+        if ( parents == null || !containsInstance ( parents, parent ) )
+        {
+            final List<Dictionary> updated = new ArrayList<Dictionary> ( parents != null ? parents.size () + 1 : 1 );
+            if ( parents != null )
+            {
+                updated.addAll ( parents );
+            }
+            updated.add ( parent );
+            this.parents = updated;
+        }
+    }
+
+    /**
+     * Unregisters {@link Dictionary} this {@link Dictionary} no longer belongs to.
+     *
+     * @param parent {@link Dictionary} this {@link Dictionary} no longer belongs to
+     */
+    private synchronized void removeParent ( @NotNull final Dictionary parent )
+    {
+        final List<Dictionary> parents = this.parents;
+        if ( parents != null )
+        {
+            final List<Dictionary> updated = new ArrayList<Dictionary> ( parents.size () );
+            for ( final Dictionary dictionary : parents )
+            {
+                if ( dictionary != parent )
                 {
-                    cachedKeys.remove ();
-                    break;
+                    updated.add ( dictionary );
                 }
             }
+            this.parents = updated.isEmpty () ? null : updated;
         }
     }
 
     /**
-     * Removes all child {@link Dictionary}s.
+     * Returns whether or not specified {@link List} contains exactly the specified {@link Dictionary} instance.
+     *
+     * @param dictionaries {@link List} of {@link Dictionary}s
+     * @param dictionary   {@link Dictionary} to look for
+     * @return {@code true} if specified {@link List} contains exactly the specified {@link Dictionary} instance, {@code false} otherwise
      */
-    public synchronized void clearDictionaries ()
+    private static boolean containsInstance ( @NotNull final List<Dictionary> dictionaries, @NotNull final Dictionary dictionary )
     {
-        if ( dictionaries != null )
+        boolean contains = false;
+        for ( final Dictionary element : dictionaries )
         {
-            // Removing all dictionaries
-            dictionaries.clear ();
-            dictionaries = null;
+            if ( element == dictionary )
+            {
+                contains = true;
+                break;
+            }
+        }
+        return contains;
+    }
 
-            // Destroying caches
-            destroyDictionaryCaches ();
+    /**
+     * Clears all locale caches.
+     */
+    private void clearLocaleCaches ()
+    {
+        if ( allLocales != null )
+        {
+            allLocales.clear ();
+            allLocales = null;
+        }
+        if ( supportedLocales != null )
+        {
+            supportedLocales.clear ();
+            supportedLocales = null;
         }
     }
 
     /**
-     * Destroys caches all {@link Dictionary} caches.
+     * Removes all child {@link Dictionary}s.
      */
-    private void destroyDictionaryCaches ()
+    public synchronized void clearDictionaries ()
     {
-        if ( dictionariesCache != null )
+        if ( dictionaries != null )
         {
-            dictionariesCache.clear ();
-            dictionariesCache = null;
+            // Removing all dictionaries
+            for ( final Dictionary dictionary : dictionaries )
+            {
+                dictionary.removeParent ( this );
+            }
+            dictionaries.clear ();
+            dictionaries = null;
+
+            // Destroying caches
+            destroyCaches ();
         }
     }
 
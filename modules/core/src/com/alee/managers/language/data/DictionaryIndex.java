@@ -0,0 +1,251 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.language.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable index of {@link Record}s resolved for single {@link Locale} within {@link Dictionary} tree.
+ * It maps complete language keys to {@link Record}s that {@link Dictionary#getRecord(String, Locale)} returns for them.
+ *
+ * Index is a flat open-addressing hash table, so lookups can be performed from any thread without locking or allocations.
+ * It is never modified, {@link Dictionary} builds an updated copy whenever any {@link Dictionary} within its tree changes.
+ *
+ * @author Mikle Garin
+ * @see Dictionary
+ */
+final class DictionaryIndex
+{
+    /**
+     * {@link Dictionary} revision this index was built for.
+     */
+    @Nullable
+    private final DictionaryRevision revision;
+
+    /**
+     * Language keys.
+     */
+    @NotNull
+    private final String[] keys;
+
+    /**
+     * {@link Record}s placed at the same positions as their language keys.
+     */
+    @NotNull
+    private final Record[] records;
+
+    /**
+     * Mask for positions within this index.
+     */
+    private final int mask;
+
+    /**
+     * Amount of language keys within this index.
+     */
+    private final int size;
+
+    /**
+     * Constructs new {@link DictionaryIndex}.
+     *
+     * @param revision {@link Dictionary} revision this index is built for
+     * @param records  {@link Record}s resolved for language keys
+     */
+    public DictionaryIndex ( @Nullable final DictionaryRevision revision, @NotNull final Map<String, Record> records )
+    {
+        this.revision = revision;
+        this.size = records.size ();
+
+        // Keeping table at most half full to keep probe sequences short
+        int capacity = 4;
+        while ( capacity < records.size () * 2 )
+        {
+            capacity <<= 1;
+        }
+        this.keys = new String[ capacity ];
+        this.records = new Record[ capacity ];
+        this.mask = capacity - 1;
+
+        // Filling in the table
+        for ( final Map.Entry<String, Record> entry : records.entrySet () )
+        {
+            int index = index ( entry.getKey () );
+            while ( keys[ index ] != null )
+            {
+                index = index + 1 & mask;
+            }
+            keys[ index ] = entry.getKey ();
+            this.records[ index ] = entry.getValue ();
+        }
+    }
+
+    /**
+     * Constructs new {@link DictionaryIndex}.
+     *
+     * @param revision {@link Dictionary} revision this index is built for
+     * @param keys     language keys
+     * @param records  {@link Record}s placed at the same positions as their language keys
+     * @param size     amount of language keys
+     */
+    private DictionaryIndex ( @Nullable final DictionaryRevision revision, @NotNull final String[] keys,
+                              @NotNull final Record[] records, final int size )
+    {
+        this.revision = revision;
+        this.keys = keys;
+        this.records = records;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    /**
+     * Returns {@link Dictionary} revision this index was built for.
+     *
+     * @return {@link Dictionary} revision this index was built for
+     */
+    @Nullable
+    public DictionaryRevision getRevision ()
+    {
+        return revision;
+    }
+
+    /**
+     * Returns copy of this index with the specified changes applied.
+     * Only positions of the changed language keys are updated, the rest of the table is simply copied.
+     * Index is built again with larger capacity instead if changes might not fit into the table while keeping it at most half full.
+     *
+     * @param revision {@link Dictionary} revision new index is built for
+     * @param changes  changed language keys and their {@link Record}s, {@code null} {@link Record} removes language key
+     * @return copy of this index with the specified changes applied
+     */
+    @NotNull
+    public DictionaryIndex update ( @Nullable final DictionaryRevision revision, @NotNull final Map<String, Record> changes )
+    {
+        final DictionaryIndex updated;
+        if ( ( size + changes.size () ) * 2 <= keys.length )
+        {
+            final String[] keys = this.keys.clone ();
+            final Record[] records = this.records.clone ();
+            int size = this.size;
+            for ( final Map.Entry<String, Record> change : changes.entrySet () )
+            {
+                final String key = change.getKey ();
+                int index = index ( key );
+                while ( keys[ index ] != null && !keys[ index ].equals ( key ) )
+                {
+                    index = index + 1 & mask;
+                }
+                if ( change.getValue () != null )
+                {
+                    if ( keys[ index ] == null )
+                    {
+                        keys[ index ] = key;
+                        size++;
+                    }
+                    records[ index ] = change.getValue ();
+                }
+                else if ( keys[ index ] != null )
+                {
+                    // Shifting following keys back, so that probe sequences stay unbroken
+                    keys[ index ] = null;
+                    records[ index ] = null;
+                    size--;
+                    int next = index + 1 & mask;
+                    while ( keys[ next ] != null )
+                    {
+                        final int initial = index ( keys[ next ] );
+                        if ( index <= next ? initial <= index || next < initial : initial <= index && next < initial )
+                        {
+                            keys[ index ] = keys[ next ];
+                            records[ index ] = records[ next ];
+                            keys[ next ] = null;
+                            records[ next ] = null;
+                            index = next;
+                        }
+                        next = next + 1 & mask;
+                    }
+                }
+            }
+            updated = new DictionaryIndex ( revision, keys, records, size );
+        }
+        else
+        {
+            // Changes might not fit, so index is simply built again with larger capacity
+            final Map<String, Record> all = new HashMap<String, Record> ( size + changes.size () );
+            for ( int i = 0; i < keys.length; i++ )
+            {
+                if ( keys[ i ] != null )
+                {
+                    all.put ( keys[ i ], records[ i ] );
+                }
+            }
+            for ( final Map.Entry<String, Record> change : changes.entrySet () )
+            {
+                if ( change.getValue () != null )
+                {
+                    all.put ( change.getKey (), change.getValue () );
+                }
+                else
+                {
+                    all.remove ( change.getKey () );
+                }
+            }
+            updated = new DictionaryIndex ( revision, all );
+        }
+        return updated;
+    }
+
+    /**
+     * Returns {@link Record} for the specified language key or {@code null} if there is none.
+     *
+     * @param key language key
+     * @return {@link Record} for the specified language key or {@code null} if there is none
+     */
+    @Nullable
+    public Record get ( @NotNull final String key )
+    {
+        Record record = null;
+        int index = index ( key );
+        String indexed;
+        while ( ( indexed = keys[ index ] ) != null )
+        {
+            if ( indexed.equals ( key ) )
+            {
+                record = records[ index ];
+                break;
+            }
+            index = index + 1 & mask;
+        }
+        return record;
+    }
+
+    /**
+     * Returns initial position for the specified language key.
+     *
+     * @param key language key
+     * @return initial position for the specified language key
+     */
+    private int index ( @NotNull final String key )
+    {
+        final int hash = key.hashCode ();
+        return ( hash ^ hash >>> 16 ) & mask;
+    }
+}
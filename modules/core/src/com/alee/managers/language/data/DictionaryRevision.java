@@ -0,0 +1,106 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.language.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable revision of {@link Dictionary} tree.
+ * Each revision knows which language key was changed in it and which revision it follows, so {@link DictionaryIndex} built for one of
+ * the recent revisions can be updated only for the changed language keys instead of being rebuilt completely.
+ *
+ * @author Mikle Garin
+ * @see Dictionary
+ * @see DictionaryIndex
+ */
+final class DictionaryRevision
+{
+    /**
+     * Maximum amount of revisions kept in a single chain.
+     * Older revisions are forgotten, so {@link DictionaryIndex}es built for them are simply rebuilt completely.
+     */
+    private static final int MAXIMUM_DEPTH = 32;
+
+    /**
+     * Complete language key changed in this revision, {@code null} if whole {@link Dictionary} tree might have changed.
+     */
+    @Nullable
+    private final String key;
+
+    /**
+     * Previous revision, {@code null} if it is unknown.
+     */
+    @Nullable
+    private final DictionaryRevision previous;
+
+    /**
+     * Amount of known previous revisions.
+     */
+    private final int depth;
+
+    /**
+     * Constructs new {@link DictionaryRevision}.
+     *
+     * @param key      complete language key changed in this revision, {@code null} if whole {@link Dictionary} tree might have changed
+     * @param previous previous revision, {@code null} if it is unknown
+     */
+    public DictionaryRevision ( @Nullable final String key, @Nullable final DictionaryRevision previous )
+    {
+        if ( previous == null || previous.depth < MAXIMUM_DEPTH )
+        {
+            this.key = key;
+            this.previous = previous;
+            this.depth = previous != null ? previous.depth + 1 : 0;
+        }
+        else
+        {
+            this.key = null;
+            this.previous = null;
+            this.depth = 0;
+        }
+    }
+
+    /**
+     * Returns language keys changed since the specified revision.
+     *
+     * @param since revision to collect changed language keys since, {@code null} for the initial {@link Dictionary} state
+     * @return language keys changed since the specified revision, {@code null} if whole {@link Dictionary} tree might have changed
+     */
+    @Nullable
+    public Set<String> getChangedKeys ( @Nullable final DictionaryRevision since )
+    {
+        Set<String> keys = new HashSet<String> ( depth + 1 );
+        DictionaryRevision revision = this;
+        while ( revision != since )
+        {
+            if ( revision == null || revision.key == null )
+            {
+                keys = null;
+                break;
+            }
+            keys.add ( revision.key );
+            revision = revision.previous;
+        }
+        return keys;
+    }
+}
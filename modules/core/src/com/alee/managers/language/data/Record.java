@@ -33,6 +33,9 @@ import java.util.*;
  * {@link Record} can store multiple {@link Value}s for different {@link Locale}s.
  * It can also provide single and multiple {@link Value}s for any specific {@link Locale} if such exist.
  *
+ * {@link Value}s can be safely read from any thread without locking. Modifications are synchronized and never change published
+ * {@link List} of {@link Value}s, updated {@link List} is built separately and then replaced as a whole instead.
+ *
  * @author Mikle Garin
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-LanguageManager">How to use LanguageManager</a>
  * @see com.alee.managers.language.LanguageManager
@@ -52,16 +55,32 @@ public final class Record implements Cloneable, Serializable
 
     /**
      * {@link Value}s of this {@link Record}.
+     * This {@link List} is never modified once published, it is replaced as a whole instead.
      */
     @NotNull
     @XStreamImplicit
-    private List<Value> values;
+    private volatile List<Value> values;
+
+    /**
+     * {@link Value}s cached by {@link Locale} keys for the current {@link #values}.
+     */
+    @Nullable
+    private transient volatile ValuesCache valuesCache;
 
     /**
-     * {@link Map} containing {@link Value}s cached by {@link Locale} keys.
+     * {@link Locale}s of {@link Value}s that were skipped while lazily loading this {@link Record}.
+     * They are still reported as available {@link Locale}s and will be loaded by {@link Dictionary} on demand.
+     * This {@link List} is never modified once published, it is replaced as a whole instead.
      */
     @Nullable
-    private transient Map<String, Value> valuesCache;
+    private transient volatile List<Locale> unloadedLocales;
+
+    /**
+     * {@link Locale}s of all {@link Value}s in the order they were originally loaded in.
+     * It is only available for lazily loaded {@link Record}s, since loaded {@link Value}s are appended at the end.
+     */
+    @Nullable
+    private transient volatile List<Locale> localesOrder;
 
     /**
      * Constructs new {@link Record}.
@@ -127,6 +146,7 @@ public final class Record implements Cloneable, Serializable
 
     /**
      * Returns {@link Value}s of this {@link Record}.
+     * Returned {@link List} must not be modified, use {@link #addValue(Value)} and other methods to modify {@link Value}s.
      *
      * @return {@link Value}s of this {@link Record}
      */
@@ -141,9 +161,9 @@ public final class Record implements Cloneable, Serializable
      *
      * @param values new {@link Value}s for this {@link Record}
      */
-    public void setValues ( @NotNull final List<Value> values )
+    public synchronized void setValues ( @NotNull final List<Value> values )
     {
-        this.values = values;
+        this.values = CollectionUtils.copy ( values );
     }
 
     /**
@@ -151,9 +171,12 @@ public final class Record implements Cloneable, Serializable
      *
      * @param value new {@link Value}
      */
-    public void addValue ( @NotNull final Value value )
+    public synchronized void addValue ( @NotNull final Value value )
     {
-        values.add ( value );
+        final List<Value> updated = new ArrayList<Value> ( values.size () + 1 );
+        updated.addAll ( values );
+        updated.add ( value );
+        values = updated;
     }
 
     /**
@@ -161,17 +184,21 @@ public final class Record implements Cloneable, Serializable
      *
      * @param value {@link Value} to remove
      */
-    public void removeValue ( @NotNull final Value value )
+    public synchronized void removeValue ( @NotNull final Value value )
     {
-        values.remove ( value );
+        final List<Value> updated = new ArrayList<Value> ( values );
+        if ( updated.remove ( value ) )
+        {
+            values = updated;
+        }
     }
 
     /**
      * Removes all {@link Value}s from this {@link Record}.
      */
-    public void clearValues ()
+    public synchronized void clearValues ()
     {
-        values.clear ();
+        values = new ArrayList<Value> ( 0 );
     }
 
     /**
@@ -184,6 +211,79 @@ public final class Record implements Cloneable, Serializable
         return values.size ();
     }
 
+    /**
+     * Replaces {@link Value}s skipped during lazy loading with their {@link Locale}s.
+     * Skipped {@link Value}s are the ones that have no {@link Text}s, {@link ValueConverter} never provides such {@link Value}s otherwise.
+     */
+    protected synchronized void unloadSkippedValues ()
+    {
+        final List<Value> values = this.values;
+        final List<Locale> order = new ArrayList<Locale> ( values.size () );
+        final List<Value> loaded = new ArrayList<Value> ( values.size () );
+        List<Locale> unloaded = null;
+        for ( final Value value : values )
+        {
+            final Locale locale = value.getLocale ();
+            order.add ( locale );
+            if ( value.textsCount () == 0 )
+            {
+                if ( unloaded == null )
+                {
+                    unloaded = new ArrayList<Locale> ( 2 );
+                }
+                if ( !unloaded.contains ( locale ) )
+                {
+                    unloaded.add ( locale );
+                }
+            }
+            else
+            {
+                loaded.add ( value );
+            }
+        }
+        if ( unloaded != null )
+        {
+            this.localesOrder = order;
+            this.unloadedLocales = unloaded;
+            this.values = loaded;
+        }
+    }
+
+    /**
+     * Adds {@link Value}s for the specified language code from lazily loaded {@link Record} with the same key.
+     *
+     * @param record   lazily loaded {@link Record} to take {@link Value}s from
+     * @param language language code to load {@link Value}s for
+     */
+    protected synchronized void loadValues ( @NotNull final Record record, @NotNull final String language )
+    {
+        final List<Locale> unloadedLocales = this.unloadedLocales;
+        if ( unloadedLocales != null )
+        {
+            // Building new lists separately so that readers always see consistent state
+            final List<Locale> unloaded = new ArrayList<Locale> ( unloadedLocales.size () );
+            for ( final Locale locale : unloadedLocales )
+            {
+                if ( !Objects.equals ( locale.getLanguage (), language ) )
+                {
+                    unloaded.add ( locale );
+                }
+            }
+            final List<Value> loaded = new ArrayList<Value> ( values );
+            for ( final Value value : record.values )
+            {
+                if ( value.textsCount () > 0 && Objects.equals ( value.getLocale ().getLanguage (), language ) )
+                {
+                    loaded.add ( value );
+                }
+            }
+
+            // Values are published before locales are removed from unloaded ones, so they are never missing for readers
+            this.values = loaded;
+            this.unloadedLocales = unloaded.isEmpty () ? null : unloaded;
+        }
+    }
+
     /**
      * Collects all {@link Locale}s from this {@link Record}.
      *
@@ -191,6 +291,19 @@ public final class Record implements Cloneable, Serializable
      */
     protected void collectAllLocales ( @NotNull final List<Locale> locales )
     {
+        final List<Locale> localesOrder = this.localesOrder;
+        if ( localesOrder != null )
+        {
+            final List<Locale> unloadedLocales = this.unloadedLocales;
+            for ( final Locale locale : localesOrder )
+            {
+                final boolean unloaded = unloadedLocales != null && unloadedLocales.contains ( locale );
+                if ( !locales.contains ( locale ) && ( unloaded || hasLocale ( locale ) ) )
+                {
+                    locales.add ( locale );
+                }
+            }
+        }
         for ( final Value value : values )
         {
             final Locale locale = value.getLocale ();
@@ -201,6 +314,26 @@ public final class Record implements Cloneable, Serializable
         }
     }
 
+    /**
+     * Returns whether or not this {@link Record} has {@link Value} with exactly the specified {@link Locale}.
+     *
+     * @param locale {@link Locale} to check
+     * @return {@code true} if this {@link Record} has {@link Value} with exactly the specified {@link Locale}, {@code false} otherwise
+     */
+    private boolean hasLocale ( @NotNull final Locale locale )
+    {
+        boolean hasLocale = false;
+        for ( final Value value : values )
+        {
+            if ( Objects.equals ( value.getLocale (), locale ) )
+            {
+                hasLocale = true;
+                break;
+            }
+        }
+        return hasLocale;
+    }
+
     /**
      * Collects all language codes from this {@link Record}.
      *
@@ -216,6 +349,18 @@ public final class Record implements Cloneable, Serializable
                 codes.add ( code );
             }
         }
+        final List<Locale> unloadedLocales = this.unloadedLocales;
+        if ( unloadedLocales != null )
+        {
+            for ( final Locale locale : unloadedLocales )
+            {
+                final String code = locale.getLanguage ();
+                if ( !codes.contains ( code ) )
+                {
+                    codes.add ( code );
+                }
+            }
+        }
     }
 
     /**
@@ -240,10 +385,12 @@ public final class Record implements Cloneable, Serializable
     {
         final Value value;
         final String key = locale.getLanguage () + "_" + locale.getCountry ();
-        if ( valuesCache != null && valuesCache.containsKey ( key ) )
+        final List<Value> values = this.values;
+        final ValuesCache cache = this.valuesCache;
+        if ( cache != null && cache.values == values && cache.cached.containsKey ( key ) )
         {
             // Resulting value is already cached
-            value = valuesCache.get ( key );
+            value = cache.cached.get ( key );
         }
         else
         {
@@ -251,9 +398,9 @@ public final class Record implements Cloneable, Serializable
             if ( CollectionUtils.notEmpty ( values ) )
             {
                 // Looking for most fittng value
-                final List<Value> values = getValues ( locale );
+                final List<Value> localeValues = getValues ( values, locale );
                 final Comparator<Value> comparator = new ValueCountryComparator ( locale );
-                value = CollectionUtils.max ( values, comparator );
+                value = CollectionUtils.max ( localeValues, comparator );
             }
             else
             {
@@ -262,11 +409,14 @@ public final class Record implements Cloneable, Serializable
             }
 
             // Caching result
-            if ( valuesCache == null )
+            // Cache is replaced as a whole and is only valid for the values it was built for
+            final Map<String, Value> cached = new HashMap<String, Value> ( values.size () + 1 );
+            if ( cache != null && cache.values == values )
             {
-                valuesCache = new HashMap<String, Value> ( values.size () );
+                cached.putAll ( cache.cached );
             }
-            valuesCache.put ( key, value );
+            cached.put ( key, value );
+            this.valuesCache = new ValuesCache ( values, cached );
         }
         return value;
     }
@@ -279,6 +429,19 @@ public final class Record implements Cloneable, Serializable
      */
     @NotNull
     public List<Value> getValues ( @NotNull final Locale locale )
+    {
+        return getValues ( values, locale );
+    }
+
+    /**
+     * Returns {@link List} of {@link Value}s for the specified {@link Locale}.
+     *
+     * @param values {@link Value}s to look through
+     * @param locale {@link Locale} to provide {@link Value}s for
+     * @return {@link List} of {@link Value} for the specified {@link Locale}
+     */
+    @NotNull
+    private static List<Value> getValues ( @NotNull final List<Value> values, @NotNull final Locale locale )
     {
         final List<Value> localeValues = new ArrayList<Value> ( 3 );
         for ( final Value value : values )
@@ -310,4 +473,34 @@ public final class Record implements Cloneable, Serializable
         return ( boldKey ? "{" : "" ) + key + ( boldKey ? ":b}" : "" ) +
                 ( "[ " + TextUtils.listToString ( values, "; " ) + " ]" );
     }
+
+    /**
+     * {@link Value}s cached by {@link Locale} keys for specific {@link List} of {@link Value}s.
+     */
+    private static final class ValuesCache
+    {
+        /**
+         * {@link List} of {@link Value}s this cache is valid for.
+         */
+        @NotNull
+        private final List<Value> values;
+
+        /**
+         * {@link Value}s cached by {@link Locale} keys.
+         */
+        @NotNull
+        private final Map<String, Value> cached;
+
+        /**
+         * Constructs new {@link ValuesCache}.
+         *
+         * @param values {@link List} of {@link Value}s this cache is valid for
+         * @param cached {@link Value}s cached by {@link Locale} keys
+         */
+        public ValuesCache ( @NotNull final List<Value> values, @NotNull final Map<String, Value> cached )
+        {
+            this.values = values;
+            this.cached = cached;
+        }
+    }
 }
\ No newline at end of file
@@ -17,6 +17,8 @@
 
 package com.alee.managers.language.data;
 
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.managers.language.LanguageUtils;
 import com.thoughtworks.xstream.converters.Converter;
 import com.thoughtworks.xstream.converters.MarshallingContext;
@@ -52,6 +54,14 @@ public final class ValueConverter implements Converter
      */
     private static final String MNEMONIC = "mnemonic";
 
+    /**
+     * Language code of {@link Value}s that are currently being loaded, {@code null} if all {@link Value}s are loaded.
+     * {@link Value}s for other languages are only unmarshalled with their {@link Locale} and without any {@link Text}s.
+     * It is set by {@link Dictionary} for the time of lazy loading.
+     */
+    @NotNull
+    private static final ThreadLocal<String> loadedLanguage = new ThreadLocal<String> ();
+
     @Override
     public boolean canConvert ( final Class type )
     {
@@ -105,9 +115,29 @@ public final class ValueConverter implements Converter
         final Value value = new Value ();
 
         // Reading language
-        final String locale = reader.getAttribute ( LANGUAGE );
-        value.setLocale ( LanguageUtils.fromString ( locale ) );
+        final Locale locale = LanguageUtils.fromString ( reader.getAttribute ( LANGUAGE ) );
+        value.setLocale ( locale );
+
+        // Skipping texts for languages that are not loaded
+        final String language = loadedLanguage.get ();
+        if ( language == null || language.equals ( locale.getLanguage () ) )
+        {
+            readTexts ( reader, context, value );
+        }
 
+        return value;
+    }
+
+    /**
+     * Reads {@link Text}s into the specified {@link Value}.
+     *
+     * @param reader  {@link HierarchicalStreamReader}
+     * @param context {@link UnmarshallingContext}
+     * @param value   {@link Value} to read {@link Text}s into
+     */
+    private void readTexts ( @NotNull final HierarchicalStreamReader reader, @NotNull final UnmarshallingContext context,
+                             @NotNull final Value value )
+    {
         // Reading possible single-value case attributes
         final String state = reader.getAttribute ( STATE );
         final String character = reader.getAttribute ( MNEMONIC );
@@ -134,7 +164,22 @@ public final class ValueConverter implements Converter
             // Saving multiple texts
             value.setTexts ( texts );
         }
+    }
 
-        return value;
+    /**
+     * Sets language code of {@link Value}s that should be loaded in current thread.
+     *
+     * @param language language code of {@link Value}s that should be loaded, {@code null} to load all {@link Value}s
+     */
+    static void setLoadedLanguage ( @Nullable final String language )
+    {
+        if ( language != null )
+        {
+            loadedLanguage.set ( language );
+        }
+        else
+        {
+            loadedLanguage.remove ();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,489 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.settings;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.FileUtils;
+import com.alee.utils.XmlUtils;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * {@link SettingsStorage} that stores {@link SettingsGroup} as XML snapshot and an append-only journal of changes made since then.
+ * Snapshot is exactly the same XML file {@link XmlSettingsStorage} uses, so it can be freely imported, exported or edited.
+ *
+ * Saves with known changed keys only append a single journal entry with the changed settings instead of rewriting whole snapshot.
+ * Once journal becomes larger than the snapshot or {@link #getCompactionThreshold()} it is compacted into a new snapshot.
+ *
+ * Each journal entry is protected by a checksum, so entries partially written by interrupted save are simply dropped on recovery.
+ * Journal also keeps length and checksum of the snapshot it was started for, so journal left by interrupted compaction is discarded
+ * instead of being applied on top of the newer snapshot.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-SettingsManager">How to use SettingsManager</a>
+ * @see SettingsStorage
+ * @see SettingsManager
+ */
+public class JournalSettingsStorage extends XmlSettingsStorage
+{
+    /**
+     * Journal files extension.
+     */
+    @NotNull
+    protected static final String JOURNAL_FILES_EXTENSION = ".journal";
+
+    /**
+     * Journal file header marker.
+     */
+    private static final int MAGIC = 0x574C534A;
+
+    /**
+     * Journal file format version.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Journal file header length.
+     */
+    private static final int HEADER_LENGTH = 24;
+
+    /**
+     * Minimum journal size in bytes that triggers compaction.
+     */
+    private final long compactionThreshold;
+
+    /**
+     * Constructs new {@link JournalSettingsStorage}.
+     */
+    public JournalSettingsStorage ()
+    {
+        this ( 64 * 1024 );
+    }
+
+    /**
+     * Constructs new {@link JournalSettingsStorage}.
+     *
+     * @param compactionThreshold minimum journal size in bytes that triggers compaction
+     */
+    public JournalSettingsStorage ( final long compactionThreshold )
+    {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns minimum journal size in bytes that triggers compaction.
+     *
+     * @return minimum journal size in bytes that triggers compaction
+     */
+    public long getCompactionThreshold ()
+    {
+        return compactionThreshold;
+    }
+
+    @Override
+    public synchronized boolean exists ( @NotNull final File dir, @NotNull final String group )
+    {
+        return super.exists ( dir, group ) || getJournalFile ( dir, group ).isFile ();
+    }
+
+    @Override
+    public synchronized boolean recover ( @NotNull final File dir, @NotNull final String group ) throws IOException
+    {
+        boolean recovered = super.recover ( dir, group );
+
+        // Removing journal header left by interrupted compaction
+        final File journalFile = getJournalFile ( dir, group );
+        final File temporaryFile = getTemporaryJournalFile ( journalFile );
+        if ( temporaryFile.isFile () )
+        {
+            FileUtils.deleteFile ( temporaryFile );
+        }
+
+        // Checking journal
+        if ( journalFile.isFile () )
+        {
+            final File file = getFile ( dir, group );
+            final RandomAccessFile journal = new RandomAccessFile ( journalFile, "rw" );
+            try
+            {
+                if ( file.isFile () && readHeader ( journal, file ) )
+                {
+                    // Dropping entries partially written by interrupted save
+                    long length = HEADER_LENGTH;
+                    while ( readEntry ( journal ) != null )
+                    {
+                        length = journal.getFilePointer ();
+                    }
+                    if ( length < journal.length () )
+                    {
+                        journal.setLength ( length );
+                        journal.getFD ().sync ();
+                        recovered = true;
+                    }
+                }
+                else
+                {
+                    // Journal doesn't belong to current snapshot and was already compacted into it
+                    journal.setLength ( 0 );
+                }
+            }
+            finally
+            {
+                journal.close ();
+            }
+            if ( journalFile.length () == 0 )
+            {
+                FileUtils.deleteFile ( journalFile );
+            }
+        }
+        return recovered;
+    }
+
+    @Nullable
+    @Override
+    public synchronized SettingsGroup load ( @NotNull final File dir, @NotNull final String group ) throws IOException
+    {
+        final SettingsGroup settingsGroup = super.load ( dir, group );
+        final File journalFile = getJournalFile ( dir, group );
+        if ( settingsGroup != null && journalFile.isFile () )
+        {
+            final RandomAccessFile journal = new RandomAccessFile ( journalFile, "r" );
+            try
+            {
+                if ( readHeader ( journal, getFile ( dir, group ) ) )
+                {
+                    byte[] entry;
+                    while ( ( entry = readEntry ( journal ) ) != null )
+                    {
+                        applyEntry ( settingsGroup, entry );
+                    }
+                }
+            }
+            finally
+            {
+                journal.close ();
+            }
+        }
+        return settingsGroup;
+    }
+
+    @Override
+    public synchronized long save ( @NotNull final File dir, @NotNull final SettingsGroup settingsGroup,
+                                    @Nullable final Collection<String> changedKeys ) throws IOException
+    {
+        long written = 0;
+        final File file = getFile ( dir, settingsGroup.getName () );
+        final File journalFile = getJournalFile ( dir, settingsGroup.getName () );
+        if ( changedKeys == null || !file.isFile () )
+        {
+            // Whole group has to be saved
+            written += compact ( dir, settingsGroup );
+        }
+        else if ( !changedKeys.isEmpty () )
+        {
+            // Starting new journal for existing snapshot
+            if ( !journalFile.isFile () )
+            {
+                writeHeader ( journalFile, file.length (), checksum ( file ) );
+                written += HEADER_LENGTH;
+            }
+
+            // Appending changes
+            written += appendEntry ( journalFile, createEntry ( settingsGroup, changedKeys ) );
+
+            // Compacting journal once it gets too large
+            if ( journalFile.length () > Math.max ( compactionThreshold, file.length () ) )
+            {
+                written += compact ( dir, settingsGroup );
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public synchronized void delete ( @NotNull final File dir, @NotNull final String group )
+    {
+        super.delete ( dir, group );
+        final File journalFile = getJournalFile ( dir, group );
+        FileUtils.deleteFiles ( journalFile, getTemporaryJournalFile ( journalFile ) );
+    }
+
+    /**
+     * Writes whole {@link SettingsGroup} into new snapshot and starts new empty journal for it.
+     *
+     * @param dir           settings directory
+     * @param settingsGroup {@link SettingsGroup} to write
+     * @return amount of bytes written
+     * @throws IOException if {@link SettingsGroup} cannot be written
+     */
+    protected long compact ( @NotNull final File dir, @NotNull final SettingsGroup settingsGroup ) throws IOException
+    {
+        final long checksum = write ( dir, settingsGroup );
+        final File file = getFile ( dir, settingsGroup.getName () );
+        writeHeader ( getJournalFile ( dir, settingsGroup.getName () ), file.length (), checksum );
+        return file.length () + HEADER_LENGTH;
+    }
+
+    /**
+     * Returns {@link SettingsGroup} journal file.
+     *
+     * @param dir   settings directory
+     * @param group {@link SettingsGroup} name
+     * @return {@link SettingsGroup} journal file
+     */
+    @NotNull
+    protected File getJournalFile ( @NotNull final File dir, @NotNull final String group )
+    {
+        return new File ( dir, group + SettingsManager.getSettingsFilesExtension () + JOURNAL_FILES_EXTENSION );
+    }
+
+    /**
+     * Returns temporary journal file used while starting new journal.
+     *
+     * @param journalFile journal file
+     * @return temporary journal file used while starting new journal
+     */
+    @NotNull
+    private File getTemporaryJournalFile ( @NotNull final File journalFile )
+    {
+        return new File ( journalFile.getPath () + TEMPORARY_FILES_EXTENSION );
+    }
+
+    /**
+     * Replaces journal file with a new one that only contains header for the specified snapshot.
+     *
+     * @param journalFile journal file
+     * @param length      snapshot length
+     * @param checksum    snapshot checksum
+     * @throws IOException if journal cannot be written
+     */
+    private void writeHeader ( @NotNull final File journalFile, final long length, final long checksum ) throws IOException
+    {
+        final File temporaryFile = getTemporaryJournalFile ( journalFile );
+        final FileOutputStream outputStream = new FileOutputStream ( temporaryFile );
+        try
+        {
+            final DataOutputStream data = new DataOutputStream ( new BufferedOutputStream ( outputStream, HEADER_LENGTH ) );
+            data.writeInt ( MAGIC );
+            data.writeInt ( VERSION );
+            data.writeLong ( length );
+            data.writeLong ( checksum );
+            data.flush ();
+            outputStream.getFD ().sync ();
+        }
+        finally
+        {
+            outputStream.close ();
+        }
+
+        // Previous journal can simply be removed as it doesn't match new snapshot anyway
+        if ( !temporaryFile.renameTo ( journalFile ) && ( !journalFile.delete () || !temporaryFile.renameTo ( journalFile ) ) )
+        {
+            throw new IOException ( "Unable to move " + temporaryFile.getAbsolutePath () + " to " + journalFile.getAbsolutePath () );
+        }
+    }
+
+    /**
+     * Returns whether or not journal header is valid and matches the specified snapshot.
+     * Journal is positioned right after the header once this method returns.
+     *
+     * @param journal journal
+     * @param file    snapshot file
+     * @return {@code true} if journal header is valid and matches the specified snapshot, {@code false} otherwise
+     * @throws IOException if journal or snapshot cannot be read
+     */
+    private boolean readHeader ( @NotNull final RandomAccessFile journal, @NotNull final File file ) throws IOException
+    {
+        journal.seek ( 0 );
+        return journal.length () >= HEADER_LENGTH &&
+                journal.readInt () == MAGIC &&
+                journal.readInt () == VERSION &&
+                journal.readLong () == file.length () &&
+                journal.readLong () == checksum ( file );
+    }
+
+    /**
+     * Appends entry to the journal.
+     * Entry is stored as its length, data and data checksum and written to the disk before this method returns.
+     *
+     * @param journalFile journal file
+     * @param entry       entry data
+     * @return amount of bytes written
+     * @throws IOException if entry cannot be written
+     */
+    private long appendEntry ( @NotNull final File journalFile, @NotNull final byte[] entry ) throws IOException
+    {
+        final CRC32 checksum = new CRC32 ();
+        checksum.update ( entry );
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream ( entry.length + 12 );
+        final DataOutputStream data = new DataOutputStream ( bytes );
+        data.writeInt ( entry.length );
+        data.write ( entry );
+        data.writeLong ( checksum.getValue () );
+        data.flush ();
+
+        final FileOutputStream outputStream = new FileOutputStream ( journalFile, true );
+        try
+        {
+            bytes.writeTo ( outputStream );
+            outputStream.getFD ().sync ();
+        }
+        finally
+        {
+            outputStream.close ();
+        }
+        return bytes.size ();
+    }
+
+    /**
+     * Returns next valid journal entry data or {@code null} if there are no more valid entries.
+     *
+     * @param journal journal
+     * @return next valid journal entry data or {@code null} if there are no more valid entries
+     * @throws IOException if journal cannot be read
+     */
+    @Nullable
+    private byte[] readEntry ( @NotNull final RandomAccessFile journal ) throws IOException
+    {
+        byte[] entry = null;
+        final long available = journal.length () - journal.getFilePointer ();
+        if ( available >= 12 )
+        {
+            final int length = journal.readInt ();
+            if ( length >= 0 && length <= available - 12 )
+            {
+                final byte[] data = new byte[ length ];
+                journal.readFully ( data );
+                final CRC32 checksum = new CRC32 ();
+                checksum.update ( data );
+                if ( journal.readLong () == checksum.getValue () )
+                {
+                    entry = data;
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Returns journal entry data for the specified changes.
+     * Entry contains keys of removed settings followed by XML of {@link SettingsGroup} with all other changed settings.
+     *
+     * @param settingsGroup {@link SettingsGroup}
+     * @param changedKeys   keys of changed settings
+     * @return journal entry data for the specified changes
+     * @throws IOException if entry cannot be created
+     */
+    @NotNull
+    private byte[] createEntry ( @NotNull final SettingsGroup settingsGroup, @NotNull final Collection<String> changedKeys )
+            throws IOException
+    {
+        final Map<String, Object> settings = settingsGroup.readOnlySettings ();
+        final List<String> removed = new ArrayList<String> ( 0 );
+        final HashMap<String, Object> changed = new HashMap<String, Object> ( changedKeys.size () );
+        for ( final String key : changedKeys )
+        {
+            if ( settings.containsKey ( key ) )
+            {
+                changed.put ( key, settings.get ( key ) );
+            }
+            else
+            {
+                removed.add ( key );
+            }
+        }
+        final SettingsGroup changes = new SettingsGroup ( settingsGroup.getId (), settingsGroup.getName () );
+        changes.setSettings ( changed );
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream ( 256 );
+        final DataOutputStream data = new DataOutputStream ( bytes );
+        data.writeInt ( removed.size () );
+        for ( final String key : removed )
+        {
+            data.writeUTF ( key );
+        }
+        final Writer writer = new OutputStreamWriter ( data, "UTF-8" );
+        XmlUtils.toXML ( changes, writer );
+        writer.flush ();
+        return bytes.toByteArray ();
+    }
+
+    /**
+     * Applies journal entry to the {@link SettingsGroup}.
+     *
+     * @param settingsGroup {@link SettingsGroup} to apply entry to
+     * @param entry         journal entry data
+     * @throws IOException if entry cannot be read
+     */
+    private void applyEntry ( @NotNull final SettingsGroup settingsGroup, @NotNull final byte[] entry ) throws IOException
+    {
+        final DataInputStream data = new DataInputStream ( new ByteArrayInputStream ( entry ) );
+        final int removed = data.readInt ();
+        for ( int i = 0; i < removed; i++ )
+        {
+            settingsGroup.remove ( data.readUTF () );
+        }
+        try
+        {
+            final SettingsGroup changes = XmlUtils.fromXML ( new InputStreamReader ( data, "UTF-8" ) );
+            settingsGroup.settings ().putAll ( changes.settings () );
+        }
+        catch ( final Exception e )
+        {
+            // Entry was written correctly but some of its settings cannot be read anymore
+            final String msg = "Unable to apply settings journal entry for group '%s'";
+            LoggerFactory.getLogger ( JournalSettingsStorage.class ).error ( String.format ( msg, settingsGroup.getName () ), e );
+        }
+    }
+
+    /**
+     * Returns {@link CRC32} checksum of the specified file.
+     *
+     * @param file file to compute checksum for
+     * @return {@link CRC32} checksum of the specified file
+     * @throws IOException if file cannot be read
+     */
+    private long checksum ( @NotNull final File file ) throws IOException
+    {
+        final CRC32 checksum = new CRC32 ();
+        final InputStream inputStream = new FileInputStream ( file );
+        try
+        {
+            final byte[] buffer = new byte[ 8192 ];
+            int read;
+            while ( ( read = inputStream.read ( buffer ) ) != -1 )
+            {
+                checksum.update ( buffer, 0, read );
+            }
+        }
+        finally
+        {
+            inputStream.close ();
+        }
+        return checksum.getValue ();
+    }
+}
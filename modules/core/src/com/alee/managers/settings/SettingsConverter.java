@@ -71,7 +71,7 @@ public class SettingsConverter extends ReflectionConverter
         writer.addAttribute ( "name", settingsGroup.getName () );
 
         // Converting settings
-        for ( final Map.Entry<String, Object> entry : settingsGroup.settings ().entrySet () )
+        for ( final Map.Entry<String, Object> entry : settingsGroup.readOnlySettings ().entrySet () )
         {
             // If key text is proper for node name it will be used, otherwise it will be separated
             final String key = entry.getKey ();
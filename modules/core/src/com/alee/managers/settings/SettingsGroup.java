@@ -22,11 +22,14 @@ import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamConverter;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Settings group data class.
+ * Settings map is copied on write once {@link #snapshot()} is taken, so snapshots can be saved in background without any locking.
+ * Settings values are never copied, so they must be treated as immutable - modified value should be put again as a new instance.
  *
  * @author Mikle Garin
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-SettingsManager">How to use SettingsManager</a>
@@ -56,6 +59,11 @@ public class SettingsGroup implements Serializable
      */
     private HashMap<String, Object> settings;
 
+    /**
+     * Whether or not settings map is shared with a snapshot and must be copied before any changes.
+     */
+    private transient boolean shared;
+
     /**
      * Constructs new {@link SettingsGroup}.
      */
@@ -134,23 +142,34 @@ public class SettingsGroup implements Serializable
      *
      * @return settings map
      */
-    public Map<String, Object> settings ()
+    public synchronized Map<String, Object> settings ()
     {
-        if ( settings == null )
-        {
-            settings = new HashMap<String, Object> ();
-        }
+        // Returned map might be modified, so it cannot be shared
+        copyOnWrite ();
         return settings;
     }
 
+    /**
+     * Returns read-only settings map.
+     * Unlike {@link #settings()} it never copies settings map shared with a snapshot, so it should be used to read snapshots.
+     * Returned map is only guaranteed to stay unchanged for snapshots, for other groups it reflects any further changes.
+     *
+     * @return read-only settings map
+     */
+    public synchronized Map<String, Object> readOnlySettings ()
+    {
+        return settings != null ? Collections.unmodifiableMap ( settings ) : Collections.<String, Object>emptyMap ();
+    }
+
     /**
      * Sets settings map.
      *
      * @param settings new settings map
      */
-    public void setSettings ( final HashMap<String, Object> settings )
+    public synchronized void setSettings ( final HashMap<String, Object> settings )
     {
         this.settings = settings;
+        this.shared = false;
     }
 
     /**
@@ -160,9 +179,9 @@ public class SettingsGroup implements Serializable
      * @param <T> value type
      * @return value for specified key
      */
-    public <T> T get ( final String key )
+    public synchronized <T> T get ( final String key )
     {
-        return ( T ) settings ().get ( key );
+        return settings != null ? ( T ) settings.get ( key ) : null;
     }
 
     /**
@@ -172,7 +191,7 @@ public class SettingsGroup implements Serializable
      * @param <T> value type
      * @return settings previously saved under the specified key
      */
-    public <T> T remove ( final String key )
+    public synchronized <T> T remove ( final String key )
     {
         return ( T ) settings ().remove ( key );
     }
@@ -185,8 +204,43 @@ public class SettingsGroup implements Serializable
      * @param <T>    value type
      * @return previous value for the specified key
      */
-    public <T> T put ( final String key, final T object )
+    public synchronized <T> T put ( final String key, final T object )
     {
         return ( T ) settings ().put ( key, object );
     }
+
+    /**
+     * Returns snapshot of this {@link SettingsGroup} that will not be affected by any further changes.
+     * Settings map is not copied right away, it is only copied on the next change made to this {@link SettingsGroup}.
+     * Settings values are not copied, so they must not be modified directly, otherwise snapshot will also be affected.
+     *
+     * @return snapshot of this {@link SettingsGroup} that will not be affected by any further changes
+     */
+    public synchronized SettingsGroup snapshot ()
+    {
+        final SettingsGroup snapshot = new SettingsGroup ( id, name );
+        if ( settings != null )
+        {
+            snapshot.settings = settings;
+            snapshot.shared = true;
+            shared = true;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Ensures that settings map exists and is not shared with any snapshot.
+     */
+    private void copyOnWrite ()
+    {
+        if ( settings == null )
+        {
+            settings = new HashMap<String, Object> ();
+        }
+        else if ( shared )
+        {
+            settings = new HashMap<String, Object> ( settings );
+            shared = false;
+        }
+    }
 }
\ No newline at end of file
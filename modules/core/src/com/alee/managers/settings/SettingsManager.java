@@ -23,17 +23,11 @@ import com.alee.api.resource.FileResource;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.FileUtils;
 import com.alee.utils.XmlUtils;
-import com.alee.utils.swing.WebTimer;
 import org.slf4j.LoggerFactory;
 
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.io.File;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * This manager allows you to quickly and easily save any serializable data into settings files using simple XML format.
@@ -104,6 +98,17 @@ public final class SettingsManager
      */
     private static final Map<String, SettingsGroup> groups = new HashMap<String, SettingsGroup> ();
 
+    /**
+     * Keys of settings changed since last save of their group.
+     * Entry: [ group name -> changed keys ]
+     */
+    private static final Map<String, Set<String>> changedKeys = new HashMap<String, Set<String>> ();
+
+    /**
+     * {@link SettingsStorage} used to load and save {@link SettingsGroup}s.
+     */
+    private static SettingsStorage storage = new XmlSettingsStorage ();
+
     /**
      * Cached files map.
      */
@@ -119,26 +124,18 @@ public final class SettingsManager
      */
     private static boolean saveDefaultValues = true;
 
-    /**
-     * Save-on-change scheduler lock object.
-     */
-    private static final Object saveOnChangeLock = new Object ();
-
     /**
      * Save-on-change save delay in milliseconds.
-     * If larger than 0 then settings will be accumulated and saved all at once as soon as no new changes came within the delay time.
+     * If larger than 0 then all changes made to the group within the delay time after first change will be saved all at once.
+     * Saves are always performed in background by {@link #writer}, even if delay is 0.
      */
     private static long saveOnChangeDelay = 500;
 
     /**
-     * Save-on-change scheduler timer.
-     */
-    private static WebTimer groupSaveScheduler = null;
-
-    /**
-     * Delayed settings groups to save.
+     * {@link SettingsWriter} performing save-on-change saves in background.
+     * It is also used as a lock for all {@link SettingsGroup} saves and deletions.
      */
-    private static final List<String> groupsToSaveOnChange = new ArrayList<String> ();
+    private static final SettingsWriter writer = new SettingsWriter ();
 
     /**
      * Whether or not settings save logging is enabled.
@@ -311,6 +308,7 @@ public final class SettingsManager
 
     /**
      * Sets value for the specified settings key.
+     * Value is saved as it is, so it must not be modified afterwards, set modified value as a new instance instead.
      *
      * @param key    settings key
      * @param object new value
@@ -324,6 +322,7 @@ public final class SettingsManager
 
     /**
      * Sets value for the specified settings group and key.
+     * Value is saved as it is, so it must not be modified afterwards, set modified value as a new instance instead.
      *
      * @param group  settings group
      * @param key    settings key
@@ -341,6 +340,7 @@ public final class SettingsManager
 
         // Put new value
         final T oldValue = settingsGroup.put ( key, object );
+        markChanged ( group, key );
 
         // Save group if needed
         if ( saveOnChange )
@@ -370,13 +370,19 @@ public final class SettingsManager
      */
     public static void resetGroup ( final String group )
     {
-        // Removing group file if it exists
-        final File dir = new File ( getGroupFilePath ( group ) );
-        if ( dir.exists () && dir.isDirectory () )
+        // Removing group data if it exists
+        synchronized ( writer )
         {
-            final File file = getGroupFile ( group, dir );
-            final File backupFile = getGroupBackupFile ( group, dir );
-            FileUtils.deleteFiles ( file, backupFile );
+            writer.cancel ( group );
+            final File dir = new File ( getGroupFilePath ( group ) );
+            if ( dir.exists () && dir.isDirectory () )
+            {
+                storage.delete ( dir, group );
+            }
+            synchronized ( changedKeys )
+            {
+                changedKeys.remove ( group );
+            }
         }
 
         // Resetting group if it was already loaded
@@ -415,12 +421,13 @@ public final class SettingsManager
         if ( settingsGroup != null )
         {
             oldValue = settingsGroup.remove ( key );
+            markChanged ( group, key );
         }
 
         // Forcing settings group save in case value was reset
         if ( oldValue != null )
         {
-            saveSettingsGroup ( group );
+            writer.schedule ( settingsGroup, 0 );
         }
 
         return oldValue;
@@ -455,76 +462,45 @@ public final class SettingsManager
     {
         SettingsGroup settingsGroup = null;
 
-        // Settings group file           
+        // Settings group data
         final File dir = new File ( getGroupFilePath ( group ) );
-        if ( dir.exists () && dir.isDirectory () )
+        if ( dir.exists () && dir.isDirectory () && storage.exists ( dir, group ) )
         {
-            final File file = getGroupFile ( group, dir );
-            final File backupFile = getGroupBackupFile ( group, dir );
-
-            // todo Modify read logic so that;
-            // todo 1. Backup reading occurs only if original file cannot be read
-            // todo 2. Do not delete the settings that cannot be read right away, just move them aside with ".failed" extension mark
-            if ( file.exists () && file.isFile () || backupFile.exists () && backupFile.isFile () )
+            // todo Do not delete the settings that cannot be read right away, just move them aside with ".failed" extension mark
+            try
             {
-                // Check if there is a group backup file and restore it
-                boolean readFromBackup = false;
-                if ( backupFile.exists () && backupFile.isFile () )
-                {
-                    // Replacing file with backup
-                    FileUtils.copyFile ( backupFile, file );
-
-                    // Removing backup file
-                    FileUtils.deleteFile ( backupFile );
-
-                    // Backup read mark
-                    readFromBackup = true;
-                }
+                // Recovering data left by interrupted save
+                final boolean restored = storage.recover ( dir, group );
 
-                // Try reading SettingsGroup
-                if ( file.exists () && file.isFile () )
-                {
-                    try
-                    {
-                        // Read single SettingsGroup
-                        settingsGroup = XmlUtils.fromXML ( new FileResource ( file ) );
-
-                        // Saving settings group read state
-                        groupState.put ( group, new SettingsGroupState ( readFromBackup ? ReadState.restored : ReadState.ok ) );
-
-                        final String state = readFromBackup ? "restored from backup" : "loaded";
-                        final String msg = "Settings group '%s' %s successfully";
-                        LoggerFactory.getLogger ( SettingsManager.class ).info ( String.format ( msg, group, state ) );
-                    }
-                    catch ( final Exception e )
-                    {
-                        // todo Probably provide different solution for different errors?
-                        // todo CannotResolveClassException -> Probably settings class changed and not available anymore
+                // Read single SettingsGroup
+                settingsGroup = storage.load ( dir, group );
 
-                        // Logging cause
-                        final String msg = "Unable to load settings group '%s' due to unexpected exception";
-                        LoggerFactory.getLogger ( SettingsManager.class ).error ( String.format ( msg, group ), e );
+                // Saving settings group read state
+                groupState.put ( group, new SettingsGroupState ( restored ? ReadState.restored : ReadState.ok ) );
 
-                        // Delete incorrect SettingsGroup file
-                        FileUtils.deleteFile ( file );
-
-                        // Saving settings group read state
-                        groupState.put ( group, new SettingsGroupState ( ReadState.failed, e ) );
-                    }
-                }
+                final String state = restored ? "restored from backup" : "loaded";
+                final String msg = "Settings group '%s' %s successfully";
+                LoggerFactory.getLogger ( SettingsManager.class ).info ( String.format ( msg, group, state ) );
             }
-            else
+            catch ( final Exception e )
             {
-                // No group settings file or backup exists, new SettingsGroup will be created
-                groupState.put ( group, new SettingsGroupState ( ReadState.created ) );
+                // todo Probably provide different solution for different errors?
+                // todo CannotResolveClassException -> Probably settings class changed and not available anymore
+
+                // Logging cause
+                final String msg = "Unable to load settings group '%s' due to unexpected exception";
+                LoggerFactory.getLogger ( SettingsManager.class ).error ( String.format ( msg, group ), e );
 
-                final String msg = "Settings group '%s' created successfully";
-                LoggerFactory.getLogger ( SettingsManager.class ).info ( String.format ( msg, group ) );
+                // Delete incorrect SettingsGroup data
+                storage.delete ( dir, group );
+
+                // Saving settings group read state
+                groupState.put ( group, new SettingsGroupState ( ReadState.failed, e ) );
             }
         }
         else
         {
-            // No group setting dir exists, new SettingsGroup will be created
+            // No group setting dir or data exists, new SettingsGroup will be created
             groupState.put ( group, new SettingsGroupState ( ReadState.created ) );
 
             final String msg = "Settings group '%s' created successfully";
@@ -575,136 +551,173 @@ public final class SettingsManager
      * @param settingsGroup {@link SettingsGroup} to save
      */
     public static void saveSettingsGroup ( final SettingsGroup settingsGroup )
+    {
+        saveSettingsGroup ( settingsGroup, false );
+    }
+
+    /**
+     * Saves specified {@link SettingsGroup}.
+     * Incremental save only provides keys of settings changed through {@link SettingsManager} to {@link SettingsStorage}, it is only
+     * used for saves caused by such changes since {@link SettingsGroup} might also be modified directly before explicit save request.
+     * {@link SettingsGroup} snapshot is saved, so it can be safely modified from other threads while save is in progress.
+     *
+     * @param settingsGroup {@link SettingsGroup} to save
+     * @param incremental   whether or not only settings changed through {@link SettingsManager} should be saved
+     */
+    static void saveSettingsGroup ( final SettingsGroup settingsGroup, final boolean incremental )
     {
         if ( allowSave )
         {
-            try
+            synchronized ( writer )
             {
                 // Used values
                 final String group = settingsGroup.getName ();
-                final File dir = new File ( getGroupFilePath ( group ) );
-
-                // Ensure group settings directory exists and perform save
-                if ( FileUtils.ensureDirectoryExists ( dir ) )
+                final Set<String> keys;
+                synchronized ( changedKeys )
                 {
-                    // Settings file
-                    final File file = getGroupFile ( group, dir );
-
-                    // Creating settings backup if there are old settings
-                    File backupFile = null;
-                    if ( file.exists () )
+                    keys = changedKeys.remove ( group );
+                }
+                final SettingsGroup snapshot = settingsGroup.snapshot ();
+                final long start = System.nanoTime ();
+                try
+                {
+                    // Ensure group settings directory exists and perform save
+                    final File dir = new File ( getGroupFilePath ( group ) );
+                    if ( FileUtils.ensureDirectoryExists ( dir ) )
                     {
-                        backupFile = getGroupBackupFile ( group, dir );
-                        FileUtils.copyFile ( file, backupFile );
-                    }
-
-                    // Saving settings
-                    XmlUtils.toXML ( settingsGroup, file );
+                        // Saving settings, only changed ones are provided for incremental save
+                        final Set<String> changed = keys != null ? keys : Collections.<String>emptySet ();
+                        final long bytes = storage.save ( dir, snapshot, incremental ? changed : null );
+                        writer.saved ( bytes, System.nanoTime () - start );
 
-                    // Removing backup file if save was successful
-                    if ( backupFile != null && backupFile.exists () )
-                    {
-                        FileUtils.deleteFile ( backupFile );
+                        if ( saveLoggingEnabled )
+                        {
+                            final String msg = "Settings group '%s' saved successfully";
+                            LoggerFactory.getLogger ( SettingsManager.class ).info ( String.format ( msg, group ) );
+                        }
                     }
-
-                    if ( saveLoggingEnabled )
+                    else
                     {
-                        final String msg = "Settings group '%s' saved successfully";
-                        LoggerFactory.getLogger ( SettingsManager.class ).info ( String.format ( msg, group ) );
+                        final String msg = "Cannot create settings directory: %s";
+                        throw new SettingsException ( String.format ( msg, dir.getAbsolutePath () ) );
                     }
                 }
-                else
+                catch ( final Exception e )
                 {
-                    final String msg = "Cannot create settings directory: %s";
-                    throw new SettingsException ( String.format ( msg, dir.getAbsolutePath () ) );
+                    writer.failed ( System.nanoTime () - start );
+
+                    // Keeping changed keys for the next save attempt
+                    if ( keys != null )
+                    {
+                        for ( final String key : keys )
+                        {
+                            markChanged ( group, key );
+                        }
+                    }
+
+                    final String msg = "Unable to save settings group '%s' due to unexpected exception";
+                    LoggerFactory.getLogger ( SettingsManager.class ).error ( String.format ( msg, group ), e );
                 }
             }
-            catch ( final Exception e )
+        }
+    }
+
+    /**
+     * Marks settings under the specified key as changed since last save of their {@link SettingsGroup}.
+     *
+     * @param group {@link SettingsGroup} name
+     * @param key   settings key
+     */
+    private static void markChanged ( final String group, final String key )
+    {
+        synchronized ( changedKeys )
+        {
+            Set<String> keys = changedKeys.get ( group );
+            if ( keys == null )
             {
-                final String msg = "Unable to save settings group '%s' due to unexpected exception";
-                LoggerFactory.getLogger ( SettingsManager.class ).error ( String.format ( msg, settingsGroup.getName () ), e );
+                keys = new HashSet<String> ( 4 );
+                changedKeys.put ( group, keys );
             }
+            keys.add ( key );
         }
     }
 
     /**
-     * Returns actual {@link SettingsGroup} file.
+     * Exports {@link SettingsGroup} with the specified name into XML file.
+     * Exported file has the same format {@link XmlSettingsStorage} uses and can be imported back with {@link #importSettingsGroup(File)}.
      *
-     * @param group {@link SettingsGroup} name
-     * @param dir   settings directory
-     * @return actual {@link SettingsGroup} file
+     * @param group name of the {@link SettingsGroup} to export
+     * @param file  XML file to export {@link SettingsGroup} into
      */
-    private static File getGroupFile ( final String group, final File dir )
+    public static void exportSettingsGroup ( final String group, final File file )
     {
-        return new File ( dir, group + settingsFilesExtension );
+        XmlUtils.toXML ( getSettingsGroup ( group ), file );
     }
 
     /**
-     * Returns backup {@link SettingsGroup} file.
+     * Imports {@link SettingsGroup} from XML file replacing loaded {@link SettingsGroup} with the same name and saves it.
      *
-     * @param group {@link SettingsGroup} name
-     * @param dir   settings directory
-     * @return backup {@link SettingsGroup} file
+     * @param file XML file to import {@link SettingsGroup} from
+     * @return imported {@link SettingsGroup}
      */
-    private static File getGroupBackupFile ( final String group, final File dir )
+    public static SettingsGroup importSettingsGroup ( final File file )
     {
-        return new File ( dir, group + settingsFilesExtension + backupFilesExtension );
+        // Checking manager initialization
+        initialize ();
+
+        // Replacing group
+        final SettingsGroup settingsGroup = XmlUtils.fromXML ( new FileResource ( file ) );
+        synchronized ( writer )
+        {
+            writer.cancel ( settingsGroup.getName () );
+            groups.put ( settingsGroup.getName (), settingsGroup );
+            groupState.put ( settingsGroup.getName (), new SettingsGroupState ( ReadState.ok ) );
+
+            // Saving whole group
+            saveSettingsGroup ( settingsGroup );
+        }
+
+        return settingsGroup;
     }
 
     /**
-     * Delays {@link SettingsGroup} save or performs it immediately according to {@link SettingsManager} configuration.
+     * Schedules {@link SettingsGroup} save in background according to {@link SettingsManager} configuration.
      *
      * @param group name of the {@link SettingsGroup} to save
      */
     private static void delayedSaveSettingsGroup ( final String group )
     {
-        // Determining when we should save changes into file system
-        if ( saveOnChangeDelay > 0 )
-        {
-            // Delaying save
-            synchronized ( saveOnChangeLock )
-            {
-                // Adding group for delayed save
-                if ( !groupsToSaveOnChange.contains ( group ) )
-                {
-                    groupsToSaveOnChange.add ( group );
-                }
+        writer.schedule ( getSettingsGroup ( group ), Math.max ( saveOnChangeDelay, 0 ) );
+    }
 
-                // Launching scheduler if it is not yet launched
-                if ( groupSaveScheduler == null || !groupSaveScheduler.isRunning () )
-                {
-                    if ( groupSaveScheduler == null )
-                    {
-                        groupSaveScheduler = new WebTimer ( "SettingsManager.groupSaveScheduler", saveOnChangeDelay, new ActionListener ()
-                        {
-                            @Override
-                            public void actionPerformed ( final ActionEvent e )
-                            {
-                                synchronized ( saveOnChangeLock )
-                                {
-                                    for ( final String group : groupsToSaveOnChange )
-                                    {
-                                        saveSettingsGroup ( group );
-                                    }
-                                    groupsToSaveOnChange.clear ();
-                                }
-                            }
-                        } );
-                        groupSaveScheduler.setRepeats ( false );
-                    }
-                    else
-                    {
-                        groupSaveScheduler.setDelay ( saveOnChangeDelay );
-                    }
-                    groupSaveScheduler.start ();
-                }
-            }
-        }
-        else
-        {
-            // Saving right away
-            saveSettingsGroup ( group );
-        }
+    /**
+     * Performs all scheduled {@link SettingsGroup} saves right away and waits for them to finish.
+     * This should be called before application exits if there is any chance that JVM will be halted without shutdown hooks.
+     */
+    public static void flush ()
+    {
+        writer.flush ( 0 );
+    }
+
+    /**
+     * Performs all scheduled {@link SettingsGroup} saves right away and waits for them to finish.
+     *
+     * @param timeout maximum time to wait in milliseconds
+     * @return {@code true} if all scheduled saves were finished, {@code false} if timeout elapsed or waiting was interrupted
+     */
+    public static boolean flush ( final long timeout )
+    {
+        return writer.flush ( timeout );
+    }
+
+    /**
+     * Returns {@link SettingsStatistics} of all {@link SettingsGroup} saves performed so far.
+     *
+     * @return {@link SettingsStatistics} of all {@link SettingsGroup} saves performed so far
+     */
+    public static SettingsStatistics getStatistics ()
+    {
+        return writer.getStatistics ();
     }
 
     /**
@@ -855,6 +868,27 @@ public final class SettingsManager
         return new File ( getDefaultSettingsDir (), fileName );
     }
 
+    /**
+     * Returns {@link SettingsStorage} used to load and save {@link SettingsGroup}s.
+     *
+     * @return {@link SettingsStorage} used to load and save {@link SettingsGroup}s
+     */
+    public static SettingsStorage getStorage ()
+    {
+        return storage;
+    }
+
+    /**
+     * Sets {@link SettingsStorage} used to load and save {@link SettingsGroup}s.
+     * It should be set before any {@link SettingsGroup} is loaded, preferably right at the application startup.
+     *
+     * @param storage {@link SettingsStorage} used to load and save {@link SettingsGroup}s
+     */
+    public static void setStorage ( final SettingsStorage storage )
+    {
+        SettingsManager.storage = storage;
+    }
+
     /**
      * Returns settings files extension.
      *
@@ -0,0 +1,145 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.settings;
+
+import com.alee.api.annotations.NotNull;
+
+import java.io.Serializable;
+
+/**
+ * Immutable statistics of {@link SettingsGroup} saves performed by {@link SettingsManager}.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-SettingsManager">How to use SettingsManager</a>
+ * @see SettingsManager#getStatistics()
+ */
+public final class SettingsStatistics implements Serializable
+{
+    /**
+     * Amount of performed saves.
+     */
+    private final long savesCount;
+
+    /**
+     * Amount of failed saves.
+     */
+    private final long failedSavesCount;
+
+    /**
+     * Total amount of bytes written.
+     */
+    private final long bytesWritten;
+
+    /**
+     * Total time spent on saves in nanoseconds.
+     */
+    private final long totalSaveTime;
+
+    /**
+     * Longest save time in nanoseconds.
+     */
+    private final long maxSaveTime;
+
+    /**
+     * Constructs new {@link SettingsStatistics}.
+     *
+     * @param savesCount       amount of performed saves
+     * @param failedSavesCount amount of failed saves
+     * @param bytesWritten     total amount of bytes written
+     * @param totalSaveTime    total time spent on saves in nanoseconds
+     * @param maxSaveTime      longest save time in nanoseconds
+     */
+    public SettingsStatistics ( final long savesCount, final long failedSavesCount, final long bytesWritten,
+                                final long totalSaveTime, final long maxSaveTime )
+    {
+        this.savesCount = savesCount;
+        this.failedSavesCount = failedSavesCount;
+        this.bytesWritten = bytesWritten;
+        this.totalSaveTime = totalSaveTime;
+        this.maxSaveTime = maxSaveTime;
+    }
+
+    /**
+     * Returns amount of performed saves.
+     *
+     * @return amount of performed saves
+     */
+    public long getSavesCount ()
+    {
+        return savesCount;
+    }
+
+    /**
+     * Returns amount of failed saves.
+     *
+     * @return amount of failed saves
+     */
+    public long getFailedSavesCount ()
+    {
+        return failedSavesCount;
+    }
+
+    /**
+     * Returns total amount of bytes written.
+     *
+     * @return total amount of bytes written
+     */
+    public long getBytesWritten ()
+    {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns total time spent on saves in nanoseconds.
+     *
+     * @return total time spent on saves in nanoseconds
+     */
+    public long getTotalSaveTime ()
+    {
+        return totalSaveTime;
+    }
+
+    /**
+     * Returns average save time in nanoseconds.
+     *
+     * @return average save time in nanoseconds
+     */
+    public long getAverageSaveTime ()
+    {
+        return savesCount > 0 ? totalSaveTime / savesCount : 0;
+    }
+
+    /**
+     * Returns longest save time in nanoseconds.
+     *
+     * @return longest save time in nanoseconds
+     */
+    public long getMaxSaveTime ()
+    {
+        return maxSaveTime;
+    }
+
+    @NotNull
+    @Override
+    public String toString ()
+    {
+        return String.format ( "saves: %d, failed: %d, bytes: %d, average: %.2fms, max: %.2fms",
+                savesCount, failedSavesCount, bytesWritten, getAverageSaveTime () / 1000000d, maxSaveTime / 1000000d );
+    }
+}
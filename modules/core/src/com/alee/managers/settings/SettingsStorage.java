@@ -0,0 +1,93 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.settings;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Storage backend used by {@link SettingsManager} to persist {@link SettingsGroup}s.
+ * Each {@link SettingsGroup} is stored within its own directory under its own name, but how exactly it is stored is up to implementation.
+ * Implementations are used from different threads, so they must be thread-safe.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-SettingsManager">How to use SettingsManager</a>
+ * @see SettingsManager
+ * @see XmlSettingsStorage
+ * @see JournalSettingsStorage
+ */
+public interface SettingsStorage
+{
+    /**
+     * Returns whether or not any data is stored for the specified {@link SettingsGroup}.
+     *
+     * @param dir   settings directory
+     * @param group {@link SettingsGroup} name
+     * @return {@code true} if any data is stored for the specified {@link SettingsGroup}, {@code false} otherwise
+     */
+    public boolean exists ( @NotNull File dir, @NotNull String group );
+
+    /**
+     * Recovers data of the specified {@link SettingsGroup} left in inconsistent state by interrupted save.
+     * It is always called right before {@link #load(File, String)}.
+     *
+     * @param dir   settings directory
+     * @param group {@link SettingsGroup} name
+     * @return {@code true} if any data had to be recovered, {@code false} otherwise
+     * @throws IOException if recovery failed
+     */
+    public boolean recover ( @NotNull File dir, @NotNull String group ) throws IOException;
+
+    /**
+     * Returns loaded {@link SettingsGroup} or {@code null} if there is no data stored for it.
+     *
+     * @param dir   settings directory
+     * @param group {@link SettingsGroup} name
+     * @return loaded {@link SettingsGroup} or {@code null} if there is no data stored for it
+     * @throws IOException if stored data cannot be read
+     */
+    @Nullable
+    public SettingsGroup load ( @NotNull File dir, @NotNull String group ) throws IOException;
+
+    /**
+     * Saves specified {@link SettingsGroup}.
+     * Keys of changed settings are provided when they are known, so that implementation can store only the changes.
+     * Changed keys that are missing in {@link SettingsGroup} were removed from it.
+     *
+     * @param dir           settings directory
+     * @param settingsGroup {@link SettingsGroup} to save
+     * @param changedKeys   keys of settings changed since last save, {@code null} if unknown and whole {@link SettingsGroup} must be saved
+     * @return amount of bytes written
+     * @throws IOException if {@link SettingsGroup} cannot be saved
+     */
+    public long save ( @NotNull File dir, @NotNull SettingsGroup settingsGroup, @Nullable Collection<String> changedKeys )
+            throws IOException;
+
+    /**
+     * Deletes all data stored for the specified {@link SettingsGroup}.
+     *
+     * @param dir   settings directory
+     * @param group {@link SettingsGroup} name
+     */
+    public void delete ( @NotNull File dir, @NotNull String group );
+}
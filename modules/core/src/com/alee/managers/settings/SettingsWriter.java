@@ -0,0 +1,309 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.settings;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.concurrent.DaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Background writer used by {@link SettingsManager} to save changed {@link SettingsGroup}s outside of the threads changing them.
+ * Saves are performed on a single daemon thread, so they never run concurrently and never block Event Dispatch Thread.
+ * All changes made to the same {@link SettingsGroup} before its scheduled save is performed are coalesced into that single save.
+ *
+ * Writer instance itself is used as a lock for all {@link SettingsGroup} saves and deletions, so they cannot interleave.
+ * Pending saves are flushed on JVM shutdown, but it is better to call {@link SettingsManager#flush()} explicitly when needed.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-SettingsManager">How to use SettingsManager</a>
+ * @see SettingsManager
+ */
+final class SettingsWriter
+{
+    /**
+     * Maximum time in milliseconds shutdown hook waits for pending saves.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 5000;
+
+    /**
+     * {@link SettingsGroup}s waiting to be saved.
+     * Entry: [ {@link SettingsGroup} name -> {@link SettingsGroup} ]
+     */
+    @NotNull
+    private final Map<String, SettingsGroup> pending;
+
+    /**
+     * {@link ScheduledExecutorService} performing saves, it is created on first save request.
+     */
+    @Nullable
+    private ScheduledExecutorService executor;
+
+    /**
+     * Statistics lock.
+     */
+    @NotNull
+    private final Object statisticsLock;
+
+    /**
+     * Amount of performed saves.
+     */
+    private long savesCount;
+
+    /**
+     * Amount of failed saves.
+     */
+    private long failedSavesCount;
+
+    /**
+     * Total amount of bytes written.
+     */
+    private long bytesWritten;
+
+    /**
+     * Total time spent on saves in nanoseconds.
+     */
+    private long totalSaveTime;
+
+    /**
+     * Longest save time in nanoseconds.
+     */
+    private long maxSaveTime;
+
+    /**
+     * Constructs new {@link SettingsWriter}.
+     */
+    public SettingsWriter ()
+    {
+        this.pending = new HashMap<String, SettingsGroup> ( 4 );
+        this.statisticsLock = new Object ();
+    }
+
+    /**
+     * Schedules save of the specified {@link SettingsGroup}.
+     * Request is ignored if save of the {@link SettingsGroup} with the same name is already scheduled.
+     *
+     * @param settingsGroup {@link SettingsGroup} to save
+     * @param delay         save delay in milliseconds
+     */
+    public void schedule ( @NotNull final SettingsGroup settingsGroup, final long delay )
+    {
+        synchronized ( pending )
+        {
+            final String group = settingsGroup.getName ();
+            if ( pending.put ( group, settingsGroup ) == null )
+            {
+                getExecutor ().schedule ( new Save ( group ), delay, TimeUnit.MILLISECONDS );
+            }
+        }
+    }
+
+    /**
+     * Cancels scheduled save of the {@link SettingsGroup} with the specified name.
+     * Save that is already in progress is not affected, but it is guaranteed to be finished by the time this method returns.
+     *
+     * @param group {@link SettingsGroup} name
+     */
+    public synchronized void cancel ( @NotNull final String group )
+    {
+        synchronized ( pending )
+        {
+            pending.remove ( group );
+        }
+    }
+
+    /**
+     * Performs all scheduled saves right away and waits for them to finish.
+     *
+     * @param timeout maximum time to wait in milliseconds, zero or negative value means waiting without time limit
+     * @return {@code true} if all scheduled saves were finished, {@code false} if timeout elapsed or waiting was interrupted
+     */
+    public boolean flush ( final long timeout )
+    {
+        final Future<?> marker;
+        synchronized ( pending )
+        {
+            if ( executor != null )
+            {
+                // Saves are performed in order they were submitted, so marker will only be reached once they are finished
+                for ( final String group : new ArrayList<String> ( pending.keySet () ) )
+                {
+                    executor.execute ( new Save ( group ) );
+                }
+                marker = executor.submit ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        /**
+                         * Only marks the end of flush.
+                         */
+                    }
+                } );
+            }
+            else
+            {
+                marker = null;
+            }
+        }
+        boolean flushed = true;
+        if ( marker != null )
+        {
+            try
+            {
+                if ( timeout > 0 )
+                {
+                    marker.get ( timeout, TimeUnit.MILLISECONDS );
+                }
+                else
+                {
+                    marker.get ();
+                }
+            }
+            catch ( final InterruptedException e )
+            {
+                Thread.currentThread ().interrupt ();
+                flushed = false;
+            }
+            catch ( final ExecutionException e )
+            {
+                flushed = false;
+            }
+            catch ( final TimeoutException e )
+            {
+                flushed = false;
+            }
+        }
+        return flushed;
+    }
+
+    /**
+     * Records successful save.
+     *
+     * @param bytes amount of bytes written
+     * @param time  save time in nanoseconds
+     */
+    public void saved ( final long bytes, final long time )
+    {
+        synchronized ( statisticsLock )
+        {
+            savesCount++;
+            bytesWritten += bytes;
+            totalSaveTime += time;
+            maxSaveTime = Math.max ( maxSaveTime, time );
+        }
+    }
+
+    /**
+     * Records failed save.
+     *
+     * @param time save time in nanoseconds
+     */
+    public void failed ( final long time )
+    {
+        synchronized ( statisticsLock )
+        {
+            failedSavesCount++;
+            totalSaveTime += time;
+            maxSaveTime = Math.max ( maxSaveTime, time );
+        }
+    }
+
+    /**
+     * Returns {@link SettingsStatistics} of all saves performed so far.
+     *
+     * @return {@link SettingsStatistics} of all saves performed so far
+     */
+    @NotNull
+    public SettingsStatistics getStatistics ()
+    {
+        synchronized ( statisticsLock )
+        {
+            return new SettingsStatistics ( savesCount, failedSavesCount, bytesWritten, totalSaveTime, maxSaveTime );
+        }
+    }
+
+    /**
+     * Returns {@link ScheduledExecutorService} performing saves.
+     * It is created on first call along with shutdown hook that flushes all scheduled saves.
+     *
+     * @return {@link ScheduledExecutorService} performing saves
+     */
+    @NotNull
+    private ScheduledExecutorService getExecutor ()
+    {
+        if ( executor == null )
+        {
+            executor = new ScheduledThreadPoolExecutor ( 1, new DaemonThreadFactory ( "SettingsManager.writer" ) );
+            Runtime.getRuntime ().addShutdownHook ( new Thread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    flush ( SHUTDOWN_TIMEOUT );
+                }
+            }, "SettingsManager.shutdown" ) );
+        }
+        return executor;
+    }
+
+    /**
+     * Task saving single {@link SettingsGroup} if its save is still pending.
+     */
+    private final class Save implements Runnable
+    {
+        /**
+         * {@link SettingsGroup} name.
+         */
+        @NotNull
+        private final String group;
+
+        /**
+         * Constructs new {@link Save}.
+         *
+         * @param group {@link SettingsGroup} name
+         */
+        public Save ( @NotNull final String group )
+        {
+            this.group = group;
+        }
+
+        @Override
+        public void run ()
+        {
+            synchronized ( SettingsWriter.this )
+            {
+                final SettingsGroup settingsGroup;
+                synchronized ( pending )
+                {
+                    settingsGroup = pending.remove ( group );
+                }
+                if ( settingsGroup != null )
+                {
+                    SettingsManager.saveSettingsGroup ( settingsGroup, true );
+                }
+            }
+        }
+    }
+}
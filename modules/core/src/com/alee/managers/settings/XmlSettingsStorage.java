@@ -0,0 +1,213 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.settings;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.FileUtils;
+import com.alee.utils.XmlUtils;
+
+import java.io.*;
+import java.util.Collection;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * {@link SettingsStorage} that stores each {@link SettingsGroup} as a single XML file.
+ * Whole {@link SettingsGroup} is written on each save into temporary file which is then renamed to replace the previous one,
+ * so settings file is never left half-written even if application is terminated in the middle of the save.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-SettingsManager">How to use SettingsManager</a>
+ * @see SettingsStorage
+ * @see SettingsManager
+ */
+public class XmlSettingsStorage implements SettingsStorage
+{
+    /**
+     * Temporary files extension.
+     */
+    @NotNull
+    protected static final String TEMPORARY_FILES_EXTENSION = ".tmp";
+
+    @Override
+    public synchronized boolean exists ( @NotNull final File dir, @NotNull final String group )
+    {
+        return getFile ( dir, group ).isFile () || getBackupFile ( dir, group ).isFile () || getTemporaryFile ( dir, group ).isFile ();
+    }
+
+    @Override
+    public synchronized boolean recover ( @NotNull final File dir, @NotNull final String group ) throws IOException
+    {
+        boolean recovered = false;
+        final File file = getFile ( dir, group );
+
+        // Restoring previous settings file moved aside by interrupted save
+        final File backupFile = getBackupFile ( dir, group );
+        if ( backupFile.isFile () )
+        {
+            if ( !backupFile.renameTo ( file ) && ( !file.delete () || !backupFile.renameTo ( file ) ) )
+            {
+                throw new IOException ( "Unable to restore settings backup: " + backupFile.getAbsolutePath () );
+            }
+            recovered = true;
+        }
+
+        // Removing temporary file left by interrupted save, it never replaced settings file
+        final File temporaryFile = getTemporaryFile ( dir, group );
+        if ( temporaryFile.isFile () )
+        {
+            FileUtils.deleteFile ( temporaryFile );
+            recovered = true;
+        }
+
+        return recovered;
+    }
+
+    @Nullable
+    @Override
+    public synchronized SettingsGroup load ( @NotNull final File dir, @NotNull final String group ) throws IOException
+    {
+        final File file = getFile ( dir, group );
+        final SettingsGroup settingsGroup;
+        if ( file.isFile () )
+        {
+            final InputStream inputStream = new BufferedInputStream ( new FileInputStream ( file ) );
+            try
+            {
+                settingsGroup = XmlUtils.fromXML ( inputStream );
+            }
+            finally
+            {
+                inputStream.close ();
+            }
+        }
+        else
+        {
+            settingsGroup = null;
+        }
+        return settingsGroup;
+    }
+
+    @Override
+    public synchronized long save ( @NotNull final File dir, @NotNull final SettingsGroup settingsGroup,
+                                    @Nullable final Collection<String> changedKeys ) throws IOException
+    {
+        write ( dir, settingsGroup );
+        return getFile ( dir, settingsGroup.getName () ).length ();
+    }
+
+    @Override
+    public synchronized void delete ( @NotNull final File dir, @NotNull final String group )
+    {
+        FileUtils.deleteFiles ( getFile ( dir, group ), getBackupFile ( dir, group ), getTemporaryFile ( dir, group ) );
+    }
+
+    /**
+     * Writes whole {@link SettingsGroup} into its XML file and returns checksum of the written data.
+     * Data is written into temporary file first and it only replaces settings file once it is fully written to the disk.
+     *
+     * @param dir           settings directory
+     * @param settingsGroup {@link SettingsGroup} to write
+     * @return {@link CRC32} checksum of the written data
+     * @throws IOException if {@link SettingsGroup} cannot be written
+     */
+    protected long write ( @NotNull final File dir, @NotNull final SettingsGroup settingsGroup ) throws IOException
+    {
+        final File temporaryFile = getTemporaryFile ( dir, settingsGroup.getName () );
+        final CRC32 checksum = new CRC32 ();
+        final FileOutputStream outputStream = new FileOutputStream ( temporaryFile );
+        try
+        {
+            final Writer writer = new OutputStreamWriter ( new BufferedOutputStream (
+                    new CheckedOutputStream ( outputStream, checksum ), 8192 ), "UTF-8" );
+            XmlUtils.toXML ( settingsGroup, writer );
+            writer.flush ();
+            outputStream.getFD ().sync ();
+        }
+        finally
+        {
+            outputStream.close ();
+        }
+        replace ( temporaryFile, getFile ( dir, settingsGroup.getName () ), getBackupFile ( dir, settingsGroup.getName () ) );
+        return checksum.getValue ();
+    }
+
+    /**
+     * Returns {@link SettingsGroup} XML file.
+     *
+     * @param dir   settings directory
+     * @param group {@link SettingsGroup} name
+     * @return {@link SettingsGroup} XML file
+     */
+    @NotNull
+    protected File getFile ( @NotNull final File dir, @NotNull final String group )
+    {
+        return new File ( dir, group + SettingsManager.getSettingsFilesExtension () );
+    }
+
+    /**
+     * Returns {@link SettingsGroup} backup file.
+     *
+     * @param dir   settings directory
+     * @param group {@link SettingsGroup} name
+     * @return {@link SettingsGroup} backup file
+     */
+    @NotNull
+    protected File getBackupFile ( @NotNull final File dir, @NotNull final String group )
+    {
+        return new File ( dir, group + SettingsManager.getSettingsFilesExtension () + SettingsManager.getBackupFilesExtension () );
+    }
+
+    /**
+     * Returns {@link SettingsGroup} temporary file.
+     *
+     * @param dir   settings directory
+     * @param group {@link SettingsGroup} name
+     * @return {@link SettingsGroup} temporary file
+     */
+    @NotNull
+    protected File getTemporaryFile ( @NotNull final File dir, @NotNull final String group )
+    {
+        return new File ( dir, group + SettingsManager.getSettingsFilesExtension () + TEMPORARY_FILES_EXTENSION );
+    }
+
+    /**
+     * Replaces target file with source file.
+     * Rename atomically replaces target file on most systems, otherwise target file is moved aside into backup file first.
+     * In the latter case backup file is left in place if operation is interrupted and will be restored by {@link #recover(File, String)}.
+     *
+     * @param source source file
+     * @param target target file
+     * @param backup backup file
+     * @throws IOException if source file cannot be moved
+     */
+    protected static void replace ( @NotNull final File source, @NotNull final File target, @NotNull final File backup )
+            throws IOException
+    {
+        if ( !source.renameTo ( target ) )
+        {
+            if ( target.exists () && !target.renameTo ( backup ) || !source.renameTo ( target ) )
+            {
+                throw new IOException ( "Unable to move " + source.getAbsolutePath () + " to " + target.getAbsolutePath () );
+            }
+            FileUtils.deleteFile ( backup );
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.reflection.ClassCache;
+import com.alee.utils.reflection.ModifierType;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reflection metadata cached for single {@link Class} by {@link ReflectUtils}.
+ * It contains found fields, methods and constructors as well as lookups that failed, so they are not repeated either.
+ *
+ * Metadata can be safely used from any thread. It is kept in {@link ClassCache}, so it never holds {@link Class} or its
+ * {@link ClassLoader} and is simply resolved again on next request if it gets collected.
+ *
+ * @author Mikle Garin
+ * @see ReflectUtils
+ */
+final class ClassMetadata
+{
+    /**
+     * Marker for failed lookups.
+     */
+    @NotNull
+    public static final Object MISSING = new Object ();
+
+    /**
+     * Cached metadata.
+     */
+    @NotNull
+    private static final ClassCache<ClassMetadata> metadata = new ClassCache<ClassMetadata> ()
+    {
+        @NotNull
+        @Override
+        protected ClassMetadata computeValue ( @NotNull final Class type )
+        {
+            return new ClassMetadata ();
+        }
+    };
+
+    /**
+     * Field lists.
+     * Entry: [ ignored modifiers -> fields ]
+     */
+    @NotNull
+    private final ConcurrentMap<Set<ModifierType>, List<Field>> fieldLists;
+
+    /**
+     * Field lookups.
+     * Entry: [ field name -> {@link Field} or {@link #MISSING} ]
+     */
+    @NotNull
+    private final ConcurrentMap<String, Object> fields;
+
+    /**
+     * Method lookups.
+     * Entry: [ method signature -> {@link Method} or {@link #MISSING} ]
+     */
+    @NotNull
+    private final ConcurrentMap<Signature, Object> methods;
+
+    /**
+     * Constructor lookups.
+     * Entry: [ constructor signature -> {@link Constructor} or {@link #MISSING} ]
+     */
+    @NotNull
+    private final ConcurrentMap<Signature, Object> constructors;
+
+    /**
+     * Annotations present on declared fields.
+     * Entry: [ field name -> annotation types ]
+     */
+    @NotNull
+    private final ConcurrentMap<String, Set<Class<? extends Annotation>>> fieldAnnotations;
+
+    /**
+     * Constructs new {@link ClassMetadata}.
+     */
+    private ClassMetadata ()
+    {
+        this.fieldLists = new ConcurrentHashMap<Set<ModifierType>, List<Field>> ( 2, 0.75f, 2 );
+        this.fields = new ConcurrentHashMap<String, Object> ( 4, 0.75f, 2 );
+        this.methods = new ConcurrentHashMap<Signature, Object> ( 4, 0.75f, 2 );
+        this.constructors = new ConcurrentHashMap<Signature, Object> ( 2, 0.75f, 2 );
+        this.fieldAnnotations = new ConcurrentHashMap<String, Set<Class<? extends Annotation>>> ( 4, 0.75f, 2 );
+    }
+
+    /**
+     * Returns field list or {@code null} if it wasn't cached yet.
+     *
+     * @param ignoredModifiers modifiers of ignored fields
+     * @return field list or {@code null} if it wasn't cached yet
+     */
+    @Nullable
+    public List<Field> getFieldList ( @NotNull final Set<ModifierType> ignoredModifiers )
+    {
+        return fieldLists.get ( ignoredModifiers );
+    }
+
+    /**
+     * Caches field list.
+     *
+     * @param ignoredModifiers modifiers of ignored fields
+     * @param fields           field list
+     */
+    public void putFieldList ( @NotNull final Set<ModifierType> ignoredModifiers, @NotNull final List<Field> fields )
+    {
+        fieldLists.put ( ignoredModifiers, fields );
+    }
+
+    /**
+     * Returns {@link Field}, {@link #MISSING} or {@code null} if field wasn't looked up yet.
+     *
+     * @param name field name
+     * @return {@link Field}, {@link #MISSING} or {@code null} if field wasn't looked up yet
+     */
+    @Nullable
+    public Object getField ( @NotNull final String name )
+    {
+        return fields.get ( name );
+    }
+
+    /**
+     * Caches field lookup result.
+     *
+     * @param name  field name
+     * @param field {@link Field} or {@link #MISSING}
+     */
+    public void putField ( @NotNull final String name, @NotNull final Object field )
+    {
+        fields.put ( name, field );
+    }
+
+    /**
+     * Returns {@link Method}, {@link #MISSING} or {@code null} if method wasn't looked up yet.
+     *
+     * @param name  method name
+     * @param types argument types
+     * @return {@link Method}, {@link #MISSING} or {@code null} if method wasn't looked up yet
+     */
+    @Nullable
+    public Object getMethod ( @NotNull final String name, @NotNull final Class[] types )
+    {
+        return methods.get ( new Signature ( name, types ) );
+    }
+
+    /**
+     * Caches method lookup result.
+     *
+     * @param name   method name
+     * @param types  argument types
+     * @param method {@link Method} or {@link #MISSING}
+     */
+    public void putMethod ( @NotNull final String name, @NotNull final Class[] types, @NotNull final Object method )
+    {
+        methods.put ( new Signature ( name, types ), method );
+    }
+
+    /**
+     * Returns {@link Constructor}, {@link #MISSING} or {@code null} if constructor wasn't looked up yet.
+     *
+     * @param types argument types
+     * @return {@link Constructor}, {@link #MISSING} or {@code null} if constructor wasn't looked up yet
+     */
+    @Nullable
+    public Object getConstructor ( @NotNull final Class[] types )
+    {
+        return constructors.get ( new Signature ( "<init>", types ) );
+    }
+
+    /**
+     * Caches constructor lookup result.
+     *
+     * @param types       argument types
+     * @param constructor {@link Constructor} or {@link #MISSING}
+     */
+    public void putConstructor ( @NotNull final Class[] types, @NotNull final Object constructor )
+    {
+        constructors.put ( new Signature ( "<init>", types ), constructor );
+    }
+
+    /**
+     * Returns types of annotations present on the specified declared field.
+     *
+     * @param field declared field
+     * @return types of annotations present on the specified declared field
+     */
+    @NotNull
+    public Set<Class<? extends Annotation>> getFieldAnnotations ( @NotNull final Field field )
+    {
+        Set<Class<? extends Annotation>> annotations = fieldAnnotations.get ( field.getName () );
+        if ( annotations == null )
+        {
+            final Annotation[] declared = field.getDeclaredAnnotations ();
+            if ( declared.length > 0 )
+            {
+                annotations = new HashSet<Class<? extends Annotation>> ( declared.length );
+                for ( final Annotation annotation : declared )
+                {
+                    annotations.add ( annotation.annotationType () );
+                }
+            }
+            else
+            {
+                annotations = Collections.emptySet ();
+            }
+            fieldAnnotations.put ( field.getName (), annotations );
+        }
+        return annotations;
+    }
+
+    /**
+     * Returns {@link ClassMetadata} for the specified {@link Class}.
+     *
+     * @param type {@link Class} to return {@link ClassMetadata} for
+     * @return {@link ClassMetadata} for the specified {@link Class}
+     */
+    @NotNull
+    public static ClassMetadata get ( @NotNull final Class type )
+    {
+        return metadata.get ( type );
+    }
+
+    /**
+     * Method or constructor signature.
+     */
+    private static final class Signature
+    {
+        /**
+         * Method name, {@code <init>} for constructors.
+         */
+        @NotNull
+        private final String name;
+
+        /**
+         * Argument types.
+         */
+        @NotNull
+        private final Class[] types;
+
+        /**
+         * Constructs new {@link Signature}.
+         *
+         * @param name  method name, {@code <init>} for constructors
+         * @param types argument types
+         */
+        public Signature ( @NotNull final String name, @NotNull final Class[] types )
+        {
+            this.name = name;
+            this.types = types;
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            return object instanceof Signature && name.equals ( ( ( Signature ) object ).name ) &&
+                    Arrays.equals ( types, ( ( Signature ) object ).types );
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return name.hashCode () * 31 + Arrays.hashCode ( types );
+        }
+    }
+}
@@ -121,11 +121,12 @@ public final class ImageUtils
     @NotNull
     public static BufferedImage createCompatibleImage ( final int width, final int height )
     {
-        return SystemUtils.getGraphicsConfiguration ().createCompatibleImage ( width, height );
+        return createCompatibleImage ( width, height, Transparency.OPAQUE );
     }
 
     /**
      * Returns new {@link BufferedImage} compatible with default screen {@link GraphicsConfiguration}.
+     * In headless environment there is no screen, so generic RGB or ARGB {@link BufferedImage} is returned instead.
      *
      * @param width        new {@link BufferedImage} width
      * @param height       new {@link BufferedImage} height
@@ -135,11 +136,22 @@ public final class ImageUtils
     @NotNull
     public static BufferedImage createCompatibleImage ( final int width, final int height, final int transparency )
     {
-        return SystemUtils.getGraphicsConfiguration ().createCompatibleImage ( width, height, transparency );
+        final BufferedImage image;
+        if ( SystemUtils.isHeadlessEnvironment () )
+        {
+            final int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+            image = new BufferedImage ( width, height, type );
+        }
+        else
+        {
+            image = SystemUtils.getGraphicsConfiguration ().createCompatibleImage ( width, height, transparency );
+        }
+        return image;
     }
 
     /**
      * Returns whether or not specified {@link BufferedImage} is compatible with default screen {@link GraphicsConfiguration}.
+     * In headless environment there is no screen, so any {@link BufferedImage} is considered to be compatible.
      *
      * @param bufferedImage {@link BufferedImage} to check
      * @return {@code true} if specified {@link BufferedImage} is compatible with default screen {@link GraphicsConfiguration},
@@ -147,7 +159,8 @@ public final class ImageUtils
      */
     public static boolean isCompatibleImage ( @NotNull final BufferedImage bufferedImage )
     {
-        return bufferedImage.getColorModel ().equals ( SystemUtils.getGraphicsConfiguration ().getColorModel () );
+        return SystemUtils.isHeadlessEnvironment () ||
+                bufferedImage.getColorModel ().equals ( SystemUtils.getGraphicsConfiguration ().getColorModel () );
     }
 
     /**
@@ -1037,6 +1050,7 @@ public final class ImageUtils
 
         // Creating shadow image
         final ShadowFilter sf = new ShadowFilter ( shadowWidth, 0, 0, opacity );
+        sf.setApproximate ( true );
         final BufferedImage shadow = sf.filter ( bi, null );
 
         // Clipping shadow image
@@ -1078,6 +1092,7 @@ public final class ImageUtils
 
         // Creating shadow image
         final ShadowFilter sf = new ShadowFilter ( shadowWidth, 0, 0, opacity );
+        sf.setApproximate ( true );
         final BufferedImage shadow = sf.filter ( bi, null );
 
         // Clipping shadow image
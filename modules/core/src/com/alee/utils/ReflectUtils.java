@@ -25,6 +25,7 @@ import com.alee.utils.reflection.ModifierType;
 import com.alee.utils.reflection.ReflectionException;
 import org.slf4j.LoggerFactory;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -50,16 +51,6 @@ public final class ReflectUtils
      */
     private static boolean safeMethodsLoggingEnabled = false;
 
-    /**
-     * Fields lookup cache.
-     */
-    private static final Map<Class, Map<String, Field>> fieldsLookupCache = new HashMap<Class, Map<String, Field>> ();
-
-    /**
-     * Methods lookup cache.
-     */
-    private static final Map<Class, Map<String, Method>> methodsLookupCache = new HashMap<Class, Map<String, Method>> ();
-
     /**
      * {@code jdk.internal.loader.BuiltinClassLoader} class available starting from Java 9.
      * It's {@code jdk.internal.loader.ClassLoaders.AppClassLoader} extension is used as default application {@link ClassLoader}.
@@ -282,6 +273,7 @@ public final class ReflectUtils
 
     /**
      * Returns all fields in the specified class and all of its superclasses.
+     * Returned list is immutable and cached, so it is only collected once for each class and set of ignored modifiers.
      *
      * @param clazz            class to find fields for
      * @param ignoredModifiers modifiers of fields to ignore
@@ -289,7 +281,21 @@ public final class ReflectUtils
      */
     public static List<Field> getFields ( final Class clazz, final ModifierType... ignoredModifiers )
     {
-        return getFields ( clazz, new HashSet<String> (), ignoredModifiers );
+        final Set<ModifierType> ignored = EnumSet.noneOf ( ModifierType.class );
+        Collections.addAll ( ignored, ignoredModifiers );
+
+        // Checking cache
+        final ClassMetadata metadata = ClassMetadata.get ( clazz );
+        List<Field> fields = metadata.getFieldList ( ignored );
+
+        // Updating cache
+        if ( fields == null )
+        {
+            fields = new ImmutableList<Field> ( getFields ( clazz, new HashSet<String> (), ignoredModifiers ) );
+            metadata.putFieldList ( ignored, fields );
+        }
+
+        return fields;
     }
 
     /**
@@ -333,6 +339,19 @@ public final class ReflectUtils
         return fields;
     }
 
+    /**
+     * Returns whether or not annotation of the specified type is present on the {@link Field}.
+     * Annotations present on each {@link Field} are only retrieved once and then cached.
+     *
+     * @param field      {@link Field} to check annotation presence for
+     * @param annotation annotation type
+     * @return {@code true} if annotation of the specified type is present on the {@link Field}, {@code false} otherwise
+     */
+    public static boolean hasAnnotation ( @NotNull final Field field, @NotNull final Class<? extends Annotation> annotation )
+    {
+        return ClassMetadata.get ( field.getDeclaringClass () ).getFieldAnnotations ( field ).contains ( annotation );
+    }
+
     /**
      * Returns whether or not {@link Class} has any of the specified modifiers.
      *
@@ -661,51 +680,43 @@ public final class ReflectUtils
     @NotNull
     public static Field getField ( @NotNull final Class<?> classType, @NotNull final String fieldName ) throws NoSuchFieldException
     {
-        // Field key
-        final String canonicalName = classType.getCanonicalName ();
-        final String key = canonicalName + "." + fieldName;
-
-        // Checking cache existence
-        Field field = null;
-        Map<String, Field> classFieldsCache = fieldsLookupCache.get ( classType );
-        if ( classFieldsCache != null )
-        {
-            field = classFieldsCache.get ( key );
-        }
-        else
-        {
-            classFieldsCache = new HashMap<String, Field> ( 1 );
-            fieldsLookupCache.put ( classType, classFieldsCache );
-        }
+        // Checking cache
+        final ClassMetadata metadata = ClassMetadata.get ( classType );
+        Object field = metadata.getField ( fieldName );
 
         // Updating cache
         if ( field == null )
         {
             // Trying to retrieve field from class or one of its superclasses
-            field = getFieldImpl ( classType, fieldName );
+            Field found = getFieldImpl ( classType, fieldName );
 
             // Trying to retrieve static field from interface
-            if ( field == null )
+            if ( found == null )
             {
-                field = getInterfaceFieldImpl ( classType, fieldName );
+                found = getInterfaceFieldImpl ( classType, fieldName );
             }
 
-            // Checking field existence
-            if ( field != null )
+            // Caching field or its absence
+            if ( found != null )
             {
-                field.setAccessible ( true );
+                found.setAccessible ( true );
+                field = found;
             }
             else
             {
-                final String msg = "Field '%s' not found in class: %s";
-                throw new NoSuchFieldException ( String.format ( msg, fieldName, canonicalName ) );
+                field = ClassMetadata.MISSING;
             }
+            metadata.putField ( fieldName, field );
+        }
 
-            // Caching field
-            classFieldsCache.put ( key, field );
+        // Checking field existence
+        if ( field == ClassMetadata.MISSING )
+        {
+            final String msg = "Field '%s' not found in class: %s";
+            throw new NoSuchFieldException ( String.format ( msg, fieldName, classType.getCanonicalName () ) );
         }
 
-        return field;
+        return ( Field ) field;
     }
 
     /**
@@ -1341,6 +1352,38 @@ public final class ReflectUtils
             }
         }
 
+        // Checking cache
+        final ClassMetadata metadata = ClassMetadata.get ( theClass );
+        Object constructor = metadata.getConstructor ( parameterTypes );
+
+        // Updating cache
+        if ( constructor == null )
+        {
+            final Constructor found = getConstructorImpl ( theClass, parameterTypes );
+            constructor = found != null ? found : ClassMetadata.MISSING;
+            metadata.putConstructor ( parameterTypes.clone (), constructor );
+        }
+
+        // Throwing proper exception that constructor was not found
+        if ( constructor == ClassMetadata.MISSING )
+        {
+            throw new NoSuchMethodException ( "Constructor was not found: " +
+                    theClass.getCanonicalName () + argumentTypesToString ( parameterTypes ) );
+        }
+
+        return ( Constructor ) constructor;
+    }
+
+    /**
+     * Returns class constructor for the specified argument types or {@code null} if it doesn't exist.
+     *
+     * @param theClass       class to process
+     * @param parameterTypes constructor argument types
+     * @return class constructor for the specified argument types or {@code null} if it doesn't exist
+     */
+    @Nullable
+    private static Constructor getConstructorImpl ( final Class theClass, final Class[] parameterTypes )
+    {
         // Constructors can be used only from the topmost class so we don't need to look for them in superclasses
         for ( final Constructor constructor : theClass.getDeclaredConstructors () )
         {
@@ -1376,10 +1419,7 @@ public final class ReflectUtils
                 return constructor;
             }
         }
-
-        // Throwing proper exception that constructor was not found
-        throw new NoSuchMethodException ( "Constructor was not found: " +
-                theClass.getCanonicalName () + argumentTypesToString ( parameterTypes ) );
+        return null;
     }
 
     /**
@@ -1827,31 +1867,33 @@ public final class ReflectUtils
     public static Method getMethod ( @NotNull final Class aClass, @NotNull final String methodName, @NotNull final Object... arguments )
             throws NoSuchMethodException
     {
-        // Method key
+        // Checking cache
         final Class[] classTypes = getClassTypes ( arguments );
-        final String key = aClass.getCanonicalName () + "." + methodName + argumentTypesToString ( classTypes );
+        final ClassMetadata metadata = ClassMetadata.get ( aClass );
+        Object method = metadata.getMethod ( methodName, classTypes );
 
-        // Checking cache
-        Method method = null;
-        Map<String, Method> classMethodsCache = methodsLookupCache.get ( aClass );
-        if ( classMethodsCache != null )
-        {
-            method = classMethodsCache.get ( key );
-        }
-        else
+        // Updating cache
+        if ( method == null )
         {
-            classMethodsCache = new HashMap<String, Method> ( 1 );
-            methodsLookupCache.put ( aClass, classMethodsCache );
+            try
+            {
+                method = getMethodImpl ( aClass, methodName, arguments );
+            }
+            catch ( final NoSuchMethodException e )
+            {
+                method = ClassMetadata.MISSING;
+            }
+            metadata.putMethod ( methodName, classTypes, method );
         }
 
-        // Updating cache
-        if ( method == null )
+        // Throwing proper method not found exception
+        if ( method == ClassMetadata.MISSING )
         {
-            method = getMethodImpl ( aClass, methodName, arguments );
-            classMethodsCache.put ( key, method );
+            throw new NoSuchMethodException ( "Method was not found: " +
+                    aClass.getCanonicalName () + "." + methodName + argumentTypesToString ( classTypes ) );
         }
 
-        return method;
+        return ( Method ) method;
     }
 
     /**
@@ -0,0 +1,554 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.concurrent;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.TimeUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Shared scheduler based on a hashed timing wheel.
+ * It allows scheduling any amount of delayed tasks without spawning a separate {@link Thread} for each of them.
+ *
+ * A few important notes:
+ * 1. Scheduling and cancelling tasks takes constant time regardless of the amount of scheduled tasks
+ * 2. Single wheel {@link Thread} tracks the timeline and sleeps until the closest non-empty wheel bucket
+ * 3. Expired tasks are performed on a cached pool of reusable {@link Thread}s, so long-running tasks do not delay other ones
+ * 4. Wheel {@link Thread} is started lazily and stops on its own after {@link #IDLE_TIMEOUT} without any scheduled tasks
+ * 5. Wheel and pool {@link Thread}s are always daemon ones, so idle {@link Thread}s never prevent JVM from exiting
+ * 6. Non-daemon scheduler keeps a separate user {@link Thread} alive only while it has scheduled or running tasks
+ *
+ * @author Mikle Garin
+ */
+public final class HashedWheelScheduler
+{
+    /**
+     * Default wheel tick duration in nanoseconds.
+     */
+    public static final long DEFAULT_TICK = TimeUtils.nsInMillisecond;
+
+    /**
+     * Default amount of wheel buckets.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * Time in milliseconds wheel {@link Thread} waits for new tasks before stopping.
+     */
+    private static final long IDLE_TIMEOUT = 5000L;
+
+    /**
+     * Scheduler name used for its {@link Thread}s.
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * Whether or not scheduler {@link Thread}s are daemon ones.
+     */
+    private final boolean daemon;
+
+    /**
+     * Wheel tick duration in nanoseconds.
+     */
+    private final long tickDuration;
+
+    /**
+     * Mask used to retrieve bucket index from tick number.
+     */
+    private final int mask;
+
+    /**
+     * Wheel buckets, each holds a linked list of {@link Timeout}s.
+     */
+    @NotNull
+    private final Timeout[] wheel;
+
+    /**
+     * Wheel start time in nanoseconds, ticks are counted from it.
+     */
+    private final long startTime;
+
+    /**
+     * {@link ExecutorService} performing expired tasks.
+     */
+    @NotNull
+    private final ExecutorService executor;
+
+    /**
+     * Lock for all wheel operations.
+     */
+    @NotNull
+    private final Object lock;
+
+    /**
+     * Last processed tick.
+     */
+    private long processedTick;
+
+    /**
+     * Amount of currently scheduled {@link Timeout}s.
+     */
+    private int pending;
+
+    /**
+     * Amount of currently running tasks, only counted for non-daemon scheduler.
+     */
+    private int running;
+
+    /**
+     * Wheel {@link Thread}, {@code null} if it is not running.
+     */
+    @Nullable
+    private Thread worker;
+
+    /**
+     * User {@link Thread} keeping JVM alive while non-daemon scheduler has tasks, {@code null} if it is not running.
+     */
+    @Nullable
+    private Thread holder;
+
+    /**
+     * Constructs new {@link HashedWheelScheduler}.
+     *
+     * @param name   scheduler name used for its {@link Thread}s
+     * @param daemon whether or not scheduler {@link Thread}s are daemon ones
+     */
+    public HashedWheelScheduler ( @NotNull final String name, final boolean daemon )
+    {
+        this ( name, daemon, DEFAULT_TICK, DEFAULT_WHEEL_SIZE );
+    }
+
+    /**
+     * Constructs new {@link HashedWheelScheduler}.
+     *
+     * @param name         scheduler name used for its {@link Thread}s
+     * @param daemon       whether or not scheduler {@link Thread}s are daemon ones
+     * @param tickDuration wheel tick duration in nanoseconds
+     * @param wheelSize    amount of wheel buckets, will be rounded up to the power of two
+     */
+    public HashedWheelScheduler ( @NotNull final String name, final boolean daemon, final long tickDuration, final int wheelSize )
+    {
+        if ( tickDuration <= 0 )
+        {
+            throw new IllegalArgumentException ( "Tick duration must be greater than zero: " + tickDuration );
+        }
+        if ( wheelSize <= 0 || wheelSize > 1 << 30 )
+        {
+            throw new IllegalArgumentException ( "Wheel size must be within (0, 2^30] range: " + wheelSize );
+        }
+        int size = 1;
+        while ( size < wheelSize )
+        {
+            size <<= 1;
+        }
+        this.name = name;
+        this.daemon = daemon;
+        this.tickDuration = tickDuration;
+        this.mask = size - 1;
+        this.wheel = new Timeout[ size ];
+        this.startTime = System.nanoTime ();
+        this.executor = Executors.newCachedThreadPool ( new DaemonThreadFactory ( name + "-Executor" ) );
+        this.lock = new Object ();
+        this.processedTick = 0;
+        this.pending = 0;
+        this.running = 0;
+    }
+
+    /**
+     * Returns scheduler name used for its {@link Thread}s.
+     *
+     * @return scheduler name used for its {@link Thread}s
+     */
+    @NotNull
+    public String getName ()
+    {
+        return name;
+    }
+
+    /**
+     * Returns whether or not scheduler {@link Thread}s are daemon ones.
+     *
+     * @return {@code true} if scheduler {@link Thread}s are daemon ones, {@code false} otherwise
+     */
+    public boolean isDaemon ()
+    {
+        return daemon;
+    }
+
+    /**
+     * Returns amount of currently scheduled tasks.
+     *
+     * @return amount of currently scheduled tasks
+     */
+    public int getPending ()
+    {
+        synchronized ( lock )
+        {
+            return pending;
+        }
+    }
+
+    /**
+     * Schedules specified task to be performed after the delay.
+     * Tasks with zero or negative delay are passed for execution right away.
+     *
+     * @param task  task to perform
+     * @param delay delay in milliseconds
+     * @return {@link Timeout} that can be used to cancel task
+     */
+    @NotNull
+    public Timeout schedule ( @NotNull final Runnable task, final long delay )
+    {
+        final Timeout timeout = new Timeout ( task );
+        if ( delay > 0 )
+        {
+            synchronized ( lock )
+            {
+                // Calculating deadline tick rounded up to the wheel tick
+                // Deadline cannot be within already processed ticks as their buckets won't be checked until next wheel round
+                final long deadline = System.nanoTime () - startTime + delay * TimeUtils.nsInMillisecond;
+                timeout.deadline = Math.max ( processedTick + 1, ( deadline + tickDuration - 1 ) / tickDuration );
+
+                // Adding timeout into its bucket
+                final int index = ( int ) ( timeout.deadline & mask );
+                timeout.next = wheel[ index ];
+                if ( timeout.next != null )
+                {
+                    timeout.next.previous = timeout;
+                }
+                wheel[ index ] = timeout;
+                timeout.scheduled = true;
+                pending++;
+                hold ();
+
+                // Starting wheel thread or asking it to update its sleep time
+                if ( worker == null )
+                {
+                    worker = new DaemonThreadFactory ( name ).newThread ( new Runnable ()
+                    {
+                        @Override
+                        public void run ()
+                        {
+                            runWheel ();
+                        }
+                    } );
+                    worker.start ();
+                }
+                else
+                {
+                    lock.notifyAll ();
+                }
+            }
+        }
+        else
+        {
+            execute ( task );
+        }
+        return timeout;
+    }
+
+    /**
+     * Wheel {@link Thread} loop.
+     */
+    private void runWheel ()
+    {
+        synchronized ( lock )
+        {
+            try
+            {
+                long idleSince = -1;
+                while ( true )
+                {
+                    // Processing all ticks passed since last time
+                    final long now = System.nanoTime () - startTime;
+                    final long currentTick = now / tickDuration;
+                    if ( currentTick > processedTick )
+                    {
+                        final long ticks = Math.min ( currentTick - processedTick, wheel.length );
+                        for ( long tick = currentTick - ticks + 1; tick <= currentTick; tick++ )
+                        {
+                            expire ( ( int ) ( tick & mask ), currentTick );
+                        }
+                        processedTick = currentTick;
+                    }
+
+                    if ( pending > 0 )
+                    {
+                        // Sleeping until the closest non-empty bucket
+                        // Its timeouts might be scheduled for later wheel rounds, in that case we will simply wait again
+                        idleSince = -1;
+                        long nextTick = currentTick + wheel.length;
+                        for ( long tick = currentTick + 1; tick < currentTick + wheel.length; tick++ )
+                        {
+                            if ( wheel[ ( int ) ( tick & mask ) ] != null )
+                            {
+                                nextTick = tick;
+                                break;
+                            }
+                        }
+                        final long sleep = nextTick * tickDuration - now;
+                        lock.wait ( sleep / TimeUtils.nsInMillisecond, ( int ) ( sleep % TimeUtils.nsInMillisecond ) );
+                    }
+                    else
+                    {
+                        // Stopping wheel thread if there were no tasks for a while
+                        final long time = System.currentTimeMillis ();
+                        if ( idleSince == -1 )
+                        {
+                            idleSince = time;
+                        }
+                        else if ( time - idleSince >= IDLE_TIMEOUT )
+                        {
+                            break;
+                        }
+                        lock.wait ( IDLE_TIMEOUT );
+                    }
+                }
+            }
+            catch ( final InterruptedException ignored )
+            {
+                // Wheel thread was interrupted
+            }
+            finally
+            {
+                worker = null;
+                if ( pending > 0 )
+                {
+                    // Restarting wheel thread if there are tasks left
+                    // This can only happen if wheel thread was interrupted from the outside
+                    worker = new DaemonThreadFactory ( name ).newThread ( new Runnable ()
+                    {
+                        @Override
+                        public void run ()
+                        {
+                            runWheel ();
+                        }
+                    } );
+                    worker.start ();
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes all expired {@link Timeout}s from the specified bucket for execution.
+     *
+     * @param index       bucket index
+     * @param currentTick current tick
+     */
+    private void expire ( final int index, final long currentTick )
+    {
+        Timeout timeout = wheel[ index ];
+        while ( timeout != null )
+        {
+            final Timeout next = timeout.next;
+            if ( timeout.deadline <= currentTick )
+            {
+                remove ( index, timeout );
+                execute ( timeout.task );
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Removes {@link Timeout} from the specified bucket.
+     *
+     * @param index   bucket index
+     * @param timeout {@link Timeout} to remove
+     */
+    private void remove ( final int index, @NotNull final Timeout timeout )
+    {
+        if ( timeout.previous != null )
+        {
+            timeout.previous.next = timeout.next;
+        }
+        else
+        {
+            wheel[ index ] = timeout.next;
+        }
+        if ( timeout.next != null )
+        {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.scheduled = false;
+        pending--;
+        release ();
+    }
+
+    /**
+     * Passes specified task to the pool for execution.
+     * Running tasks of non-daemon scheduler are counted to keep JVM alive until they are finished.
+     *
+     * @param task task to perform
+     */
+    private void execute ( @NotNull final Runnable task )
+    {
+        if ( daemon )
+        {
+            executor.execute ( task );
+        }
+        else
+        {
+            synchronized ( lock )
+            {
+                running++;
+                hold ();
+            }
+            executor.execute ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    try
+                    {
+                        task.run ();
+                    }
+                    finally
+                    {
+                        synchronized ( lock )
+                        {
+                            running--;
+                            release ();
+                        }
+                    }
+                }
+            } );
+        }
+    }
+
+    /**
+     * Starts user {@link Thread} keeping JVM alive if non-daemon scheduler has any scheduled or running tasks.
+     * Must be called within {@link #lock}.
+     */
+    private void hold ()
+    {
+        if ( !daemon && holder == null && pending + running > 0 )
+        {
+            holder = new Thread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    synchronized ( lock )
+                    {
+                        try
+                        {
+                            while ( pending + running > 0 )
+                            {
+                                lock.wait ();
+                            }
+                        }
+                        catch ( final InterruptedException ignored )
+                        {
+                            // Holder thread was interrupted
+                        }
+                        finally
+                        {
+                            holder = null;
+                            hold ();
+                        }
+                    }
+                }
+            }, name + "-Holder" );
+            holder.setDaemon ( false );
+            holder.start ();
+        }
+    }
+
+    /**
+     * Wakes up user {@link Thread} keeping JVM alive once non-daemon scheduler has no scheduled or running tasks left.
+     * Must be called within {@link #lock}.
+     */
+    private void release ()
+    {
+        if ( !daemon && pending + running == 0 )
+        {
+            lock.notifyAll ();
+        }
+    }
+
+    /**
+     * Handle for a task scheduled within {@link HashedWheelScheduler}.
+     */
+    public final class Timeout
+    {
+        /**
+         * Scheduled task.
+         */
+        @NotNull
+        private final Runnable task;
+
+        /**
+         * Deadline tick.
+         */
+        private long deadline;
+
+        /**
+         * Whether or not this timeout is currently scheduled within the wheel.
+         */
+        private boolean scheduled;
+
+        /**
+         * Previous {@link Timeout} in the bucket.
+         */
+        @Nullable
+        private Timeout previous;
+
+        /**
+         * Next {@link Timeout} in the bucket.
+         */
+        @Nullable
+        private Timeout next;
+
+        /**
+         * Constructs new {@link Timeout}.
+         *
+         * @param task scheduled task
+         */
+        private Timeout ( @NotNull final Runnable task )
+        {
+            this.task = task;
+        }
+
+        /**
+         * Cancels scheduled task.
+         * Returns whether or not task was cancelled before it was passed for execution.
+         *
+         * @return {@code true} if task was cancelled before it was passed for execution, {@code false} otherwise
+         */
+        public boolean cancel ()
+        {
+            synchronized ( lock )
+            {
+                final boolean cancelled = scheduled;
+                if ( scheduled )
+                {
+                    remove ( ( int ) ( deadline & mask ), this );
+                }
+                return cancelled;
+            }
+        }
+    }
+}
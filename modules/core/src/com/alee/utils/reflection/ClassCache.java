@@ -0,0 +1,199 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.reflection;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe cache of values computed for {@link Class}es.
+ * Values are computed lazily on first request using {@link #computeValue(Class)} and then simply reused.
+ * Cached values are returned without any locking, so this cache can be safely used on hot paths.
+ *
+ * {@link Class}es are referenced weakly and values are referenced softly since values usually contain reflection data referencing
+ * their {@link Class}, so neither {@link Class}es nor their {@link ClassLoader}s are ever held by this cache.
+ * Collected values are simply computed again on next request, entries of collected {@link Class}es are purged on modifications.
+ *
+ * @param <V> value type
+ * @author Mikle Garin
+ */
+public abstract class ClassCache<V>
+{
+    /**
+     * Computed values.
+     * Entry: [ class key -> value ]
+     */
+    @NotNull
+    private final ConcurrentMap<ClassKey, SoftReference<V>> values;
+
+    /**
+     * Queue of {@link ClassKey}s for collected {@link Class}es.
+     */
+    @NotNull
+    private final ReferenceQueue<Class> queue;
+
+    /**
+     * Constructs new {@link ClassCache}.
+     */
+    public ClassCache ()
+    {
+        this.values = new ConcurrentHashMap<ClassKey, SoftReference<V>> ( 64 );
+        this.queue = new ReferenceQueue<Class> ();
+    }
+
+    /**
+     * Returns value for the specified {@link Class}.
+     * Value is computed outside of the cache, so in rare cases it might be computed more than once for the same {@link Class},
+     * but only one computed value will ever be returned.
+     *
+     * @param type {@link Class} to return value for
+     * @return value for the specified {@link Class}
+     */
+    @NotNull
+    public V get ( @NotNull final Class type )
+    {
+        V value = getCached ( type );
+        if ( value == null )
+        {
+            purge ();
+            final V computed = computeValue ( type );
+            final ClassKey key = new ClassKey ( type, queue );
+            final SoftReference<V> reference = new SoftReference<V> ( computed );
+            while ( value == null )
+            {
+                final SoftReference<V> existing = values.putIfAbsent ( key, reference );
+                if ( existing == null )
+                {
+                    value = computed;
+                }
+                else
+                {
+                    value = existing.get ();
+                    if ( value == null && values.replace ( key, existing, reference ) )
+                    {
+                        value = computed;
+                    }
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Removes value cached for the specified {@link Class}.
+     * It will be computed again on next request.
+     *
+     * @param type {@link Class} to remove value for
+     */
+    public void remove ( @NotNull final Class type )
+    {
+        purge ();
+        values.remove ( new ClassKey ( type, null ) );
+    }
+
+    /**
+     * Returns value cached for the specified {@link Class} or {@code null} if there is none.
+     *
+     * @param type {@link Class} to return value for
+     * @return value cached for the specified {@link Class} or {@code null} if there is none
+     */
+    @Nullable
+    private V getCached ( @NotNull final Class type )
+    {
+        final SoftReference<V> reference = values.get ( new ClassKey ( type, null ) );
+        return reference != null ? reference.get () : null;
+    }
+
+    /**
+     * Removes entries of all collected {@link Class}es.
+     */
+    private void purge ()
+    {
+        Reference<? extends Class> key;
+        while ( ( key = queue.poll () ) != null )
+        {
+            values.remove ( key );
+        }
+    }
+
+    /**
+     * Returns newly computed value for the specified {@link Class}.
+     *
+     * @param type {@link Class} to compute value for
+     * @return newly computed value for the specified {@link Class}
+     */
+    @NotNull
+    protected abstract V computeValue ( @NotNull Class type );
+
+    /**
+     * Weak {@link Class} reference used as {@link #values} key.
+     * It keeps {@link Class} identity hash code, so it can still be found and removed once {@link Class} is collected.
+     */
+    private static final class ClassKey extends WeakReference<Class>
+    {
+        /**
+         * {@link Class} identity hash code.
+         */
+        private final int hashCode;
+
+        /**
+         * Constructs new {@link ClassKey}.
+         *
+         * @param type  {@link Class}
+         * @param queue queue to register key in, {@code null} for lookup keys
+         */
+        public ClassKey ( @NotNull final Class type, @Nullable final ReferenceQueue<Class> queue )
+        {
+            super ( type, queue );
+            this.hashCode = System.identityHashCode ( type );
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            final boolean equals;
+            if ( object == this )
+            {
+                equals = true;
+            }
+            else if ( object instanceof ClassKey )
+            {
+                final Class type = get ();
+                equals = type != null && type == ( ( ClassKey ) object ).get ();
+            }
+            else
+            {
+                equals = false;
+            }
+            return equals;
+        }
+    }
+}
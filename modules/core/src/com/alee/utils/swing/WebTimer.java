@@ -22,6 +22,7 @@ import com.alee.api.annotations.Nullable;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.CoreSwingUtils;
 import com.alee.utils.TimeUtils;
+import com.alee.utils.concurrent.HashedWheelScheduler;
 import com.alee.utils.parsing.DurationUnits;
 
 import javax.swing.event.EventListenerList;
@@ -33,9 +34,10 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * This timer is a small extension for standard javax.swing.Timer. Instead of running in a single queue it creates separate Threads for
- * each timer and does not affect event-dispatching thread, until events are dispatched. This basically means that you can use any number
- * of Timer instances and you can run them altogether without having any issues.
+ * This timer is a small extension for standard javax.swing.Timer. Instead of running in a single queue it schedules its cycles on a shared
+ * {@link HashedWheelScheduler} and does not affect event-dispatching thread, until events are dispatched. Cycles are performed on reusable
+ * scheduler threads, so a long-running cycle doesn't delay other timers. This basically means that you can use any number of Timer
+ * instances and you can run them altogether without having any issues.
  *
  * Also this Timer implementation offers a variety of additional features and improvements which standard timer doesn't have (for example
  * you can dispatch events in a separate non-EDT thread and as a result avoid using EDT at all where it is not necessary).
@@ -61,6 +63,18 @@ public class WebTimer implements Serializable
      */
     public static boolean useEdtByDefault = true;
 
+    /**
+     * Shared {@link HashedWheelScheduler} for timers using daemon threads.
+     */
+    @NotNull
+    protected static final HashedWheelScheduler daemonScheduler = new HashedWheelScheduler ( "WebTimer-Daemon", true );
+
+    /**
+     * Shared {@link HashedWheelScheduler} for timers using user threads.
+     */
+    @NotNull
+    protected static final HashedWheelScheduler userScheduler = new HashedWheelScheduler ( "WebTimer", false );
+
     /**
      * Delay between timer cycles in milliseconds.
      */
@@ -109,7 +123,7 @@ public class WebTimer implements Serializable
     protected String actionCommand;
 
     /**
-     * Internal timer thread name.
+     * Timer name.
      */
     @NotNull
     protected String name;
@@ -157,10 +171,10 @@ public class WebTimer implements Serializable
     protected transient int cycleCount;
 
     /**
-     * Last timer thread.
+     * Last timer execution.
      */
     @Nullable
-    protected transient Thread exec;
+    protected transient Execution exec;
 
     /**
      * Constructs timer with specified delay.
@@ -629,10 +643,6 @@ public class WebTimer implements Serializable
     public WebTimer setName ( @NotNull final String name )
     {
         this.name = name;
-        if ( exec != null )
-        {
-            exec.setName ( name );
-        }
         return this;
     }
 
@@ -803,113 +813,47 @@ public class WebTimer implements Serializable
     }
 
     /**
-     * Starts timer execution thread.
+     * Starts timer execution.
      */
     protected synchronized void startExec ()
     {
         // Ignore if timer is already running
         if ( !isRunning () )
         {
-            // Saving current thread unique id
+            // Saving current execution unique id
             lastId = id;
             id++;
 
-            // Starting new cycling thread
-            final int currentId = lastId;
-            exec = new Thread ( new Runnable ()
-            {
-                @Override
-                public void run ()
-                {
-                    // Adding a live thread into map
-                    setAlive ( currentId, true );
-
-                    try
-                    {
-                        // Initial delay
-                        final long actualInitialDelay = getInitialDelay () < 0 ? getDelay () : getInitialDelay ();
-                        if ( actualInitialDelay > 0 )
-                        {
-                            sleepStart = System.currentTimeMillis ();
-                            sleepTime = actualInitialDelay;
-                            Thread.sleep ( actualInitialDelay );
-                        }
-
-                        // Checking if we should stop execution
-                        if ( shouldContinue ( -1, currentId ) )
-                        {
-                            // Clearing cycles count
-                            cycleCount = 0;
-
-                            // Starting cycles execution
-                            if ( repeats )
-                            {
-                                // Repeated events
-                                while ( shouldContinue ( cycleCount, currentId ) )
-                                {
-                                    // Firing events
-                                    fireActionPerformed ( currentId );
-
-                                    // Incrementing cycles count
-                                    cycleCount++;
-
-                                    // Checking if we should stop execution due to changes through events
-                                    if ( !shouldContinue ( cycleCount, currentId ) )
-                                    {
-                                        break;
-                                    }
-
-                                    // Waiting for next execution
-                                    if ( getDelay () > 0 )
-                                    {
-                                        final long currentDelay = getDelay ();
-                                        sleepStart = System.currentTimeMillis ();
-                                        sleepTime = currentDelay;
-                                        Thread.sleep ( currentDelay );
-                                    }
-                                }
-                            }
-                            else
-                            {
-                                // Single event
-                                fireActionPerformed ( currentId );
-
-                                // Incrementing cycles count
-                                cycleCount++;
-                            }
-                        }
-                    }
-                    catch ( final InterruptedException ignored )
-                    {
-                        // Execution interrupted
-                    }
+            // Adding a live execution into map
+            setAlive ( lastId, true );
 
-                    // Removing finished thread from map
-                    cleanUp ( currentId );
-                }
-            }, name );
-            exec.setDaemon ( useDaemonThread );
-            exec.start ();
+            // Scheduling first cycle
+            final long actualInitialDelay = getInitialDelay () < 0 ? getDelay () : getInitialDelay ();
+            sleepStart = System.currentTimeMillis ();
+            sleepTime = Math.max ( 0, actualInitialDelay );
+            exec = new Execution ( lastId, useDaemonThread ? daemonScheduler : userScheduler );
+            exec.schedule ( actualInitialDelay );
         }
     }
 
     /**
-     * Returns whether thread with specified ID should continue execution or not.
+     * Returns whether execution with specified ID should continue or not.
      *
      * @param cycle cycle number
-     * @param id    execution thread ID
-     * @return true if thread with specified ID should continue execution, false otherwise
+     * @param id    execution ID
+     * @return true if execution with specified ID should continue, false otherwise
      */
     protected boolean shouldContinue ( final int cycle, final int id )
     {
-        return running.get ( id ) && !Thread.currentThread ().isInterrupted () && ( cyclesLimit <= 0 || cyclesLimit > cycle );
+        final Boolean alive = running.get ( id );
+        return alive != null && alive && !Thread.currentThread ().isInterrupted () && ( cyclesLimit <= 0 || cyclesLimit > cycle );
     }
 
     /**
-     * Sets whether thread under specified ID is alive or not.
+     * Sets whether execution under specified ID is alive or not.
      *
-     * @param id    thread ID
-     * @param alive whether thread is alive or not
+     * @param id    execution ID
+     * @param alive whether execution is alive or not
      */
     protected void setAlive ( final int id, final boolean alive )
     {
@@ -917,9 +861,9 @@ public class WebTimer implements Serializable
     }
 
     /**
-     * Cleans thread ID cache.
+     * Cleans execution ID cache.
      *
-     * @param id thread ID
+     * @param id execution ID
      */
     protected void cleanUp ( final int id )
     {
@@ -933,24 +877,16 @@ public class WebTimer implements Serializable
     {
         if ( exec != null && isRunning () )
         {
-            // Interrupt thread
-            exec.interrupt ();
-
             // Stop execution from inside
             setAlive ( lastId, false );
 
-            // Depending on behavior we might join current execution thread
+            // Cancel scheduled cycle or interrupt the one being performed
+            exec.abort ();
+
+            // Depending on behavior we might wait for current execution to stop
             if ( !nonBlockingStop )
             {
-                try
-                {
-                    // Wait for execution to stop
-                    exec.join ();
-                }
-                catch ( final InterruptedException ignored )
-                {
-                    // No need to log interruption
-                }
+                exec.await ();
             }
         }
     }
@@ -1608,4 +1544,241 @@ public class WebTimer implements Serializable
         repeat.start ();
         return repeat;
     }
+
+    /**
+     * Single timer execution from its start and until it is stopped or runs out of cycles.
+     * Each cycle is scheduled separately within {@link HashedWheelScheduler} and performed on one of its reusable threads.
+     */
+    protected final class Execution implements Runnable
+    {
+        /**
+         * Unique (within one timer instance) execution ID.
+         */
+        private final int id;
+
+        /**
+         * {@link HashedWheelScheduler} used for cycles.
+         */
+        @NotNull
+        private final HashedWheelScheduler scheduler;
+
+        /**
+         * Currently scheduled cycle.
+         */
+        @Nullable
+        private HashedWheelScheduler.Timeout timeout;
+
+        /**
+         * Thread performing current cycle, {@code null} if cycle is not being performed.
+         */
+        @Nullable
+        private Thread runner;
+
+        /**
+         * Whether or not next cycle will be the first one.
+         */
+        private boolean first;
+
+        /**
+         * Whether or not this execution is still alive.
+         */
+        private boolean alive;
+
+        /**
+         * Whether or not this execution was aborted.
+         */
+        private boolean aborted;
+
+        /**
+         * Constructs new {@link Execution}.
+         *
+         * @param id        unique (within one timer instance) execution ID
+         * @param scheduler {@link HashedWheelScheduler} used for cycles
+         */
+        public Execution ( final int id, @NotNull final HashedWheelScheduler scheduler )
+        {
+            this.id = id;
+            this.scheduler = scheduler;
+            this.first = true;
+            this.alive = true;
+            this.aborted = false;
+        }
+
+        /**
+         * Returns whether or not this execution is still alive.
+         *
+         * @return {@code true} if this execution is still alive, {@code false} otherwise
+         */
+        public synchronized boolean isAlive ()
+        {
+            return alive;
+        }
+
+        /**
+         * Schedules next cycle.
+         *
+         * @param delay delay before next cycle in milliseconds
+         */
+        protected synchronized void schedule ( final long delay )
+        {
+            if ( alive && !aborted )
+            {
+                timeout = scheduler.schedule ( this, delay );
+            }
+        }
+
+        /**
+         * Aborts this execution.
+         * Scheduled cycle is cancelled and cycle that is being performed is interrupted.
+         */
+        protected synchronized void abort ()
+        {
+            if ( alive )
+            {
+                aborted = true;
+                if ( timeout != null && timeout.cancel () )
+                {
+                    // Scheduled cycle was cancelled before it started
+                    finish ();
+                }
+                else if ( runner != null )
+                {
+                    // Interrupting cycle that is being performed
+                    // Interrupt mark is cleared under the same lock once cycle is done, so it never affects other tasks
+                    runner.interrupt ();
+                }
+            }
+        }
+
+        /**
+         * Waits until this execution is finished.
+         * It never waits if called from within the cycle itself as that would cause a deadlock.
+         */
+        protected synchronized void await ()
+        {
+            try
+            {
+                while ( alive && runner != Thread.currentThread () )
+                {
+                    wait ();
+                }
+            }
+            catch ( final InterruptedException ignored )
+            {
+                // No need to log interruption
+            }
+        }
+
+        /**
+         * Marks this execution as finished.
+         */
+        private synchronized void finish ()
+        {
+            if ( alive )
+            {
+                alive = false;
+                timeout = null;
+                cleanUp ( id );
+                notifyAll ();
+            }
+        }
+
+        @Override
+        public void run ()
+        {
+            synchronized ( this )
+            {
+                if ( !alive )
+                {
+                    return;
+                }
+                if ( aborted )
+                {
+                    // Execution was aborted right before this cycle started
+                    finish ();
+                    return;
+                }
+                timeout = null;
+                runner = Thread.currentThread ();
+            }
+            long nextDelay = -1;
+            try
+            {
+                nextDelay = cycle ();
+            }
+            finally
+            {
+                synchronized ( this )
+                {
+                    // Clearing possible interruption mark since thread is reused by scheduler
+                    runner = null;
+                    Thread.interrupted ();
+                    if ( nextDelay >= 0 && !aborted )
+                    {
+                        // Scheduling next cycle
+                        sleepStart = System.currentTimeMillis ();
+                        sleepTime = nextDelay;
+                        schedule ( nextDelay );
+                    }
+                    else
+                    {
+                        // Execution is finished
+                        finish ();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Performs single timer cycle.
+         * Returns delay until next cycle in milliseconds or {@code -1} if execution should be finished.
+         *
+         * @return delay until next cycle in milliseconds or {@code -1} if execution should be finished
+         */
+        private long cycle ()
+        {
+            // Checking if we should stop execution after initial delay
+            if ( first )
+            {
+                first = false;
+                if ( !shouldContinue ( -1, id ) )
+                {
+                    return -1;
+                }
+
+                // Clearing cycles count
+                cycleCount = 0;
+            }
+
+            // Starting cycles execution
+            if ( repeats )
+            {
+                // Repeated events
+                if ( shouldContinue ( cycleCount, id ) )
+                {
+                    // Firing events
+                    fireActionPerformed ( id );
+
+                    // Incrementing cycles count
+                    cycleCount++;
+
+                    // Checking if we should stop execution due to changes through events
+                    if ( shouldContinue ( cycleCount, id ) )
+                    {
+                        // Waiting for next execution
+                        return Math.max ( 0, getDelay () );
+                    }
+                }
+            }
+            else
+            {
+                // Single event
+                fireActionPerformed ( id );
+
+                // Incrementing cycles count
+                cycleCount++;
+            }
+            return -1;
+        }
+    }
 }
\ No newline at end of file
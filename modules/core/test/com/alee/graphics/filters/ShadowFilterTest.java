@@ -0,0 +1,156 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.graphics.filters;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.*;
+import java.awt.geom.Ellipse2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Set of JUnit tests for {@link ShadowFilter}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ShadowFilterTest
+{
+    /**
+     * Tested shadow color.
+     */
+    private static final int COLOR = 0xff3080e0;
+
+    /**
+     * Tested shadow opacity.
+     */
+    private static final float OPACITY = 0.6f;
+
+    /**
+     * Tested shadow radius.
+     */
+    private static final float RADIUS = 7;
+
+    /**
+     * Gaussian alpha blur test.
+     */
+    @Test
+    public void gaussian ()
+    {
+        assertShadow ( false, 2 );
+    }
+
+    /**
+     * Approximated alpha blur test.
+     */
+    @Test
+    public void approximate ()
+    {
+        assertShadow ( true, 8 );
+    }
+
+    /**
+     * Asserts that colored semi-transparent {@link ShadowFilter} shadow matches shadow blurred with {@link GaussianFilter}.
+     *
+     * @param approximate whether or not Gaussian blur should be approximated
+     * @param tolerance   maximum allowed alpha difference
+     */
+    private void assertShadow ( final boolean approximate, final int tolerance )
+    {
+        final BufferedImage source = createSource ();
+        final ShadowFilter filter = new ShadowFilter ( RADIUS, 0, 0, OPACITY );
+        filter.setShadowColor ( COLOR );
+        filter.setApproximate ( approximate );
+        final BufferedImage shadow = filter.filter ( source, null );
+        final BufferedImage expected = createExpected ( source );
+        for ( int y = 0; y < source.getHeight (); y++ )
+        {
+            for ( int x = 0; x < source.getWidth (); x++ )
+            {
+                final int actualPixel = shadow.getRGB ( x, y );
+                final int expectedPixel = expected.getRGB ( x, y );
+                final int alpha = expectedPixel >>> 24;
+                assert Math.abs ( ( actualPixel >>> 24 ) - alpha ) <= tolerance :
+                        "Unexpected alpha at " + x + "," + y + ": " + Integer.toHexString ( actualPixel ) + " instead of " +
+                                Integer.toHexString ( expectedPixel );
+
+                // Color of barely visible pixels is not precise since shadow is drawn into non-premultiplied image
+                if ( alpha >= 64 )
+                {
+                    for ( int shift = 0; shift < 24; shift += 8 )
+                    {
+                        final int actual = actualPixel >> shift & 0xff;
+                        final int exp = expectedPixel >> shift & 0xff;
+                        assert Math.abs ( actual - exp ) <= 4 :
+                                "Unexpected color at " + x + "," + y + ": " + Integer.toHexString ( actualPixel ) + " instead of " +
+                                        Integer.toHexString ( expectedPixel );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns source image with anti-aliased shape.
+     *
+     * @return source image with anti-aliased shape
+     */
+    private BufferedImage createSource ()
+    {
+        final BufferedImage source = new BufferedImage ( 64, 48, BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D g2d = source.createGraphics ();
+        g2d.setRenderingHint ( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON );
+        g2d.setPaint ( Color.BLACK );
+        g2d.fill ( new Ellipse2D.Float ( 12.5f, 10.3f, 39f, 27.4f ) );
+        g2d.dispose ();
+        return source;
+    }
+
+    /**
+     * Returns expected shadow image.
+     * It is created by blurring all channels of shadow-colored mask with {@link GaussianFilter}.
+     *
+     * @param source source image
+     * @return expected shadow image
+     */
+    private BufferedImage createExpected ( final BufferedImage source )
+    {
+        final int width = source.getWidth ();
+        final int height = source.getHeight ();
+        final BufferedImage mask = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
+        for ( int y = 0; y < height; y++ )
+        {
+            for ( int x = 0; x < width; x++ )
+            {
+                final int alpha = Math.round ( ( source.getRGB ( x, y ) >>> 24 ) * OPACITY );
+                mask.setRGB ( x, y, alpha << 24 | COLOR & 0xffffff );
+            }
+        }
+        final BufferedImage blurred = new GaussianFilter ( RADIUS ).filter ( mask, null );
+
+        final BufferedImage expected = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D g2d = expected.createGraphics ();
+        g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.SRC_OVER, OPACITY ) );
+        g2d.drawImage ( blurred, 0, 0, null );
+        g2d.dispose ();
+        return expected;
+    }
+}
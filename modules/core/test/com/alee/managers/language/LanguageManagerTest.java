@@ -29,6 +29,8 @@ import org.junit.runners.MethodSorters;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Set of JUnit tests for {@link LanguageManager}.
@@ -211,6 +213,141 @@ public final class LanguageManagerTest
         checkTranslationAbsense ( "ru", "", subdictionaryKey );
     }
 
+    /**
+     * Tests changes made in sub-{@link Dictionary} that is already registered within {@link LanguageManager}.
+     */
+    @Test
+    public void nestedDictionaryChanges ()
+    {
+        final String key = "weblaf.test.nested.title";
+        final String enText = "Nested test";
+        final String ruText = "Вложенный тест";
+
+        // Registering empty dictionaries
+        final Dictionary dictionary = new Dictionary ( "weblaf.test" );
+        final Dictionary subdictionary = new Dictionary ( "nested" );
+        dictionary.addDictionary ( subdictionary );
+        LanguageManager.addDictionary ( dictionary );
+        checkTranslationAbsense ( "en", "", key );
+        checkTranslationAbsense ( "ru", "", key );
+
+        // Adding records into already registered sub-dictionary
+        subdictionary.addRecord ( new Record ( "title", new Value ( localeFor ( "en", "" ), new Text ( enText ) ) ) );
+        subdictionary.addRecord ( new Record ( "title", new Value ( localeFor ( "ru", "" ), new Text ( ruText ) ) ) );
+        checkTranslationRetrieval ( "en", "", key, enText );
+        checkTranslationRetrieval ( "ru", "", key, ruText );
+
+        // Removing records from already registered sub-dictionary
+        subdictionary.removeRecord ( "title" );
+        subdictionary.removeRecord ( "title" );
+        checkTranslationAbsense ( "en", "", key );
+        checkTranslationAbsense ( "ru", "", key );
+
+        // Removing dictionary
+        LanguageManager.removeDictionary ( dictionary );
+    }
+
+    /**
+     * Tests lookups between subsequent changes made in sub-{@link Dictionary} that is already registered within {@link LanguageManager}.
+     * Each change only updates affected language key in already built indices, which is checked here.
+     */
+    @Test
+    public void nestedDictionaryIncrementalChanges ()
+    {
+        final String prefix = "weblaf.test.incremental.nested.";
+        final int count = 64;
+
+        // Registering empty dictionaries
+        final Dictionary dictionary = new Dictionary ( "weblaf.test.incremental" );
+        final Dictionary subdictionary = new Dictionary ( "nested" );
+        dictionary.addDictionary ( subdictionary );
+        LanguageManager.addDictionary ( dictionary );
+        checkTranslationAbsense ( "en", "", prefix + "title" );
+
+        // Adding records one by one with lookups in between
+        for ( int i = 0; i < count; i++ )
+        {
+            subdictionary.addRecord ( new Record ( "key" + i, new Value ( localeFor ( "en", "" ), new Text ( "Text " + i ) ) ) );
+            checkTranslationRetrieval ( "en", "", prefix + "key" + i, "Text " + i );
+        }
+
+        // Removing every other record with lookups in between
+        for ( int i = 0; i < count; i += 2 )
+        {
+            subdictionary.removeRecord ( "key" + i );
+            checkTranslationAbsense ( "en", "", prefix + "key" + i );
+        }
+        for ( int i = 0; i < count; i++ )
+        {
+            if ( i % 2 == 0 )
+            {
+                checkTranslationAbsense ( "en", "", prefix + "key" + i );
+            }
+            else
+            {
+                checkTranslationRetrieval ( "en", "", prefix + "key" + i, "Text " + i );
+            }
+        }
+
+        // Adding and removing record that fits better for specific country
+        subdictionary.addRecord ( new Record ( "title", new Value ( localeFor ( "en", "" ), new Text ( "Title" ) ) ) );
+        checkTranslationRetrieval ( "en", "US", prefix + "title", "Title" );
+        final Record usRecord = new Record ( "title", new Value ( localeFor ( "en", "US" ), new Text ( "US title" ) ) );
+        subdictionary.addRecord ( usRecord );
+        checkTranslationRetrieval ( "en", "US", prefix + "title", "US title" );
+        checkTranslationRetrieval ( "en", "", prefix + "title", "Title" );
+        subdictionary.removeRecord ( usRecord );
+        checkTranslationRetrieval ( "en", "US", prefix + "title", "Title" );
+
+        // Changes in unrelated dictionary do not affect lookups
+        final Dictionary unrelated = new Dictionary ( "weblaf.test.incremental" );
+        unrelated.addRecord ( new Record ( "nested.title", new Value ( localeFor ( "en", "" ), new Text ( "Unrelated" ) ) ) );
+        checkTranslationRetrieval ( "en", "", prefix + "title", "Title" );
+
+        // Removing dictionary
+        LanguageManager.removeDictionary ( dictionary );
+        checkTranslationAbsense ( "en", "", prefix + "title" );
+    }
+
+    /**
+     * Tests lookups in small stand-alone {@link Dictionary} between batches of changes that do not fit into its current index.
+     */
+    @Test ( timeout = 10000 )
+    public void standaloneDictionaryIndexGrowth ()
+    {
+        final Locale locale = localeFor ( "en", "" );
+        final Dictionary dictionary = new Dictionary ();
+        if ( dictionary.getRecord ( "k0", locale ) != null )
+        {
+            throw new LanguageException ( "Unexpected record in empty dictionary: k0" );
+        }
+
+        // Adding batches of records larger than free index space with lookups in between
+        int count = 0;
+        for ( int batch = 1; batch <= 64; batch *= 2 )
+        {
+            for ( int i = 0; i < batch + 4; i++ )
+            {
+                dictionary.addRecord ( new Record ( "k" + count, new Value ( locale, new Text ( "Text " + count ) ) ) );
+                count++;
+            }
+            for ( int i = 0; i < count; i++ )
+            {
+                checkRecord ( dictionary, locale, "k" + i, "Text " + i );
+            }
+        }
+
+        // Removing batches of records with lookups in between
+        for ( int i = 0; i < count; i += 2 )
+        {
+            dictionary.removeRecord ( "k" + i );
+        }
+        for ( int i = 0; i < count; i++ )
+        {
+            checkRecord ( dictionary, locale, "k" + i, i % 2 == 0 ? null : "Text " + i );
+        }
+    }
+
     /**
      * Tests XML {@link Dictionary} creation and usage.
      */
@@ -387,6 +524,119 @@ public final class LanguageManagerTest
         checkTranslationAbsense ( "ru", "", multiKey );
     }
 
+    /**
+     * Tests lazily loaded XML {@link Dictionary} usage.
+     */
+    @Test
+    public void lazyXmlDictionaryUsage ()
+    {
+        final String simpleKey = "weblaf.test.record";
+        final String countryKey = "weblaf.test.country.record";
+        final String multiKey = "weblaf.test.multi.record";
+        final String enText = "English";
+        final String enUsText = "US English";
+        final String ruText = "Русский";
+
+        // Loading XML dictionary lazily
+        LanguageManager.setLocale ( localeFor ( "en", "" ) );
+        final Dictionary dictionary = new Dictionary (
+                new ClassResource ( LanguageManagerTest.class, "Dictionary.xml" ),
+                localeFor ( "ru", "" )
+        );
+
+        // Checking that skipped values are still reported
+        final Dictionary fullDictionary = new Dictionary ( new ClassResource ( LanguageManagerTest.class, "Dictionary.xml" ) );
+        if ( !dictionary.getAllLocales ().equals ( fullDictionary.getAllLocales () ) )
+        {
+            throw new LanguageException ( "Lazy dictionary locales mismatch: " + dictionary.getAllLocales () );
+        }
+        if ( !dictionary.getSupportedLocales ().equals ( fullDictionary.getSupportedLocales () ) )
+        {
+            throw new LanguageException ( "Lazy dictionary supported locales mismatch: " + dictionary.getSupportedLocales () );
+        }
+
+        // Adding XML dictionary into LanguageManager loads values for current locale
+        LanguageManager.addDictionary ( dictionary );
+        checkTranslationRetrieval ( simpleKey, enText );
+        checkTranslationRetrieval ( countryKey, enText );
+        checkTranslationRetrieval ( multiKey, enText );
+
+        // Changing locale loads values for new locale
+        LanguageManager.setLocale ( localeFor ( "en", "US" ) );
+        checkTranslationRetrieval ( countryKey, enUsText );
+        checkTranslationRetrieval ( multiKey, enUsText );
+        LanguageManager.setLocale ( localeFor ( "ru", "" ) );
+        checkTranslationRetrieval ( simpleKey, ruText );
+        checkTranslationRetrieval ( countryKey, ruText );
+        checkTranslationRetrieval ( multiKey, ruText );
+
+        // Removing dictionary
+        LanguageManager.removeDictionary ( dictionary );
+        checkTranslationAbsense ( "en", "", simpleKey );
+        checkTranslationAbsense ( "ru", "", simpleKey );
+    }
+
+    /**
+     * Tests {@link Record}s retrieval while lazily loaded XML {@link Dictionary} loads another {@link Locale}.
+     *
+     * @throws InterruptedException if reading thread was interrupted
+     */
+    @Test
+    public void lazyXmlDictionaryConcurrentLoading () throws InterruptedException
+    {
+        final String multiKey = "weblaf.test.multi.record";
+        final String ruText = "Русский";
+        final Locale ru = localeFor ( "ru", "" );
+        final Locale en = localeFor ( "en", "" );
+
+        for ( int i = 0; i < 50; i++ )
+        {
+            final Dictionary dictionary = new Dictionary ( new ClassResource ( LanguageManagerTest.class, "Dictionary.xml" ), ru );
+            final AtomicBoolean loaded = new AtomicBoolean ( false );
+            final AtomicReference<Throwable> failure = new AtomicReference<Throwable> ();
+            final Thread reader = new Thread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    try
+                    {
+                        boolean last = false;
+                        while ( !last )
+                        {
+                            last = loaded.get ();
+                            final Record record = dictionary.getRecord ( multiKey, ru );
+                            final Value value = record != null ? record.getValue ( ru ) : null;
+                            final Text text = value != null ? value.getText () : null;
+                            if ( text == null || !ruText.equals ( text.getText () ) )
+                            {
+                                throw new LanguageException ( "Value is missing during concurrent loading: " + multiKey );
+                            }
+                            record.getValues ( en );
+                        }
+                    }
+                    catch ( final Throwable e )
+                    {
+                        failure.set ( e );
+                    }
+                }
+            } );
+            reader.start ();
+            dictionary.loadLocale ( en );
+            loaded.set ( true );
+            reader.join ();
+            if ( failure.get () != null )
+            {
+                throw new LanguageException ( "Concurrent record retrieval failed", failure.get () );
+            }
+            final Record record = dictionary.getRecord ( multiKey, en );
+            if ( record == null || record.getValues ( en ).isEmpty () )
+            {
+                throw new LanguageException ( "Lazily loaded values are missing: " + multiKey );
+            }
+        }
+    }
+
     /**
      * Tests {@link Record}s retrieval with different {@link Dictionary}s order.
      * todo Right now there is no fixed order for the translations retrieval [ #570 ]
@@ -441,6 +691,26 @@ public final class LanguageManagerTest
         checkTranslationAbsense ( "en", "", simpleKey );
     }*/
 
+    /**
+     * Asserts {@link Record} retrieved from the specified {@link Dictionary}.
+     *
+     * @param dictionary {@link Dictionary} to retrieve {@link Record} from
+     * @param locale     {@link Locale} to retrieve {@link Record} for
+     * @param key        language key
+     * @param expected   expected text or {@code null} if {@link Record} should be missing
+     */
+    private void checkRecord ( final Dictionary dictionary, final Locale locale, final String key, final String expected )
+    {
+        final Record record = dictionary.getRecord ( key, locale );
+        final Value value = record != null ? record.getValue ( locale ) : null;
+        final Text text = value != null ? value.getText () : null;
+        final String actual = text != null ? text.getText () : null;
+        if ( expected != null ? !expected.equals ( actual ) : record != null )
+        {
+            throw new LanguageException ( String.format ( "Unexpected record '%s' text: %s", key, actual ) );
+        }
+    }
+
     /**
      * Asserts translation existence.
      *
@@ -0,0 +1,230 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.settings;
+
+import com.alee.api.jdk.Objects;
+import com.alee.utils.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Set of JUnit tests for {@link SettingsManager} background saves.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class SettingsManagerTest
+{
+    /**
+     * Tested {@link SettingsGroup} name.
+     */
+    private static final String GROUP = "writer-test";
+
+    /**
+     * Temporary settings directory.
+     */
+    private File dir;
+
+    /**
+     * Previously used {@link SettingsStorage}.
+     */
+    private SettingsStorage previousStorage;
+
+    /**
+     * Previously used save-on-change delay.
+     */
+    private long previousDelay;
+
+    /**
+     * Names of {@link Thread}s that performed saves.
+     */
+    private List<String> saveThreads;
+
+    /**
+     * Exceptions thrown by saves.
+     */
+    private List<Throwable> saveFailures;
+
+    /**
+     * Initializes {@link SettingsManager}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        SettingsManager.initialize ();
+    }
+
+    /**
+     * Configures {@link SettingsManager} to save tested {@link SettingsGroup} into temporary settings directory.
+     *
+     * @throws IOException if directory cannot be created
+     */
+    @Before
+    public void configure () throws IOException
+    {
+        dir = File.createTempFile ( "weblaf-settings", "" );
+        final boolean deleted = dir.delete ();
+        assert deleted : "Unable to delete temporary file: " + dir;
+        final boolean created = dir.mkdir ();
+        assert created : "Unable to create settings directory: " + dir;
+        SettingsManager.setGroupFilePath ( GROUP, dir.getAbsolutePath () );
+
+        saveThreads = Collections.synchronizedList ( new ArrayList<String> () );
+        saveFailures = Collections.synchronizedList ( new ArrayList<Throwable> () );
+        previousStorage = SettingsManager.getStorage ();
+        SettingsManager.setStorage ( new JournalSettingsStorage ()
+        {
+            @Override
+            public synchronized long save ( final File dir, final SettingsGroup settingsGroup, final Collection<String> changedKeys )
+                    throws IOException
+            {
+                saveThreads.add ( Thread.currentThread ().getName () );
+                try
+                {
+                    return super.save ( dir, settingsGroup, changedKeys );
+                }
+                catch ( final RuntimeException e )
+                {
+                    saveFailures.add ( e );
+                    throw e;
+                }
+            }
+        } );
+        previousDelay = SettingsManager.getSaveOnChangeDelay ();
+    }
+
+    /**
+     * Restores {@link SettingsManager} configuration and removes temporary settings directory.
+     */
+    @After
+    public void restore ()
+    {
+        SettingsManager.resetGroup ( GROUP );
+        SettingsManager.setStorage ( previousStorage );
+        SettingsManager.setSaveOnChangeDelay ( previousDelay );
+        FileUtils.deleteFile ( dir );
+    }
+
+    /**
+     * Coalesced background saves test.
+     *
+     * @throws IOException if saved settings cannot be loaded
+     */
+    @Test
+    public void coalescedSaves () throws IOException
+    {
+        SettingsManager.setSaveOnChangeDelay ( 60000 );
+        final SettingsStatistics before = SettingsManager.getStatistics ();
+        for ( int i = 0; i < 100; i++ )
+        {
+            SettingsManager.set ( GROUP, "key" + i % 10, i );
+        }
+        assert saveThreads.isEmpty () : "Save should be delayed";
+
+        final boolean flushed = SettingsManager.flush ( 5000 );
+        assert flushed : "Scheduled saves were not flushed";
+        final SettingsStatistics after = SettingsManager.getStatistics ();
+        assert saveThreads.size () == 1 : "Changes should be saved at once: " + saveThreads;
+        assert saveThreads.get ( 0 ).startsWith ( "SettingsManager.writer" ) : "Unexpected save thread: " + saveThreads.get ( 0 );
+        assert after.getSavesCount () - before.getSavesCount () == 1 : "Unexpected saves count: " + after;
+        assert after.getBytesWritten () > before.getBytesWritten () : "Unexpected bytes written: " + after;
+        assertSaved ();
+    }
+
+    /**
+     * Immediate background saves test.
+     *
+     * @throws IOException if saved settings cannot be loaded
+     */
+    @Test
+    public void immediateSaves () throws IOException
+    {
+        SettingsManager.setSaveOnChangeDelay ( 0 );
+        SettingsManager.set ( GROUP, "text", "Text" );
+        SettingsManager.set ( GROUP, "number", 1 );
+        SettingsManager.resetValue ( GROUP, "number" );
+        SettingsManager.flush ();
+        assert !saveThreads.isEmpty () : "Changes should be saved";
+        assertSaved ();
+    }
+
+    /**
+     * Background saves performed while values are being modified test.
+     *
+     * @throws IOException if saved settings cannot be loaded
+     */
+    @Test
+    public void savesDuringModification () throws IOException
+    {
+        SettingsManager.setSaveOnChangeDelay ( 0 );
+        SettingsManager.set ( GROUP, "list", new ArrayList<Integer> () );
+
+        // Snapshot is not affected by values modified through SettingsManager
+        final SettingsGroup snapshot = SettingsManager.getSettingsGroup ( GROUP ).snapshot ();
+        final List<Integer> list = new ArrayList<Integer> ( 1 );
+        list.add ( -1 );
+        SettingsManager.set ( GROUP, "list", list );
+        SettingsManager.set ( GROUP, "text", "Text" );
+        final List<Integer> snapshotList = ( List<Integer> ) snapshot.readOnlySettings ().get ( "list" );
+        assert snapshotList.isEmpty () : "Snapshot value should not change: " + snapshotList;
+        assert !snapshot.readOnlySettings ().containsKey ( "text" ) : "Snapshot should not contain new settings";
+
+        // Values are replaced while scheduled saves are running
+        for ( int i = 0; i < 1000; i++ )
+        {
+            final List<Integer> value = new ArrayList<Integer> ( i + 1 );
+            for ( int j = 0; j <= i; j++ )
+            {
+                value.add ( j );
+            }
+            SettingsManager.set ( GROUP, "list", value );
+            SettingsManager.set ( GROUP, "key" + i % 10, i );
+        }
+        SettingsManager.flush ();
+        assert saveFailures.isEmpty () : "Saves failed: " + saveFailures;
+        assertSaved ();
+    }
+
+    /**
+     * Asserts that tested {@link SettingsGroup} is saved.
+     *
+     * @throws IOException if saved settings cannot be loaded
+     */
+    private void assertSaved () throws IOException
+    {
+        final SettingsStorage storage = SettingsManager.getStorage ();
+        final boolean recovered = storage.recover ( dir, GROUP );
+        assert !recovered : "Nothing should be recovered";
+        final SettingsGroup saved = storage.load ( dir, GROUP );
+        assert saved != null : "Settings group wasn't saved";
+        final SettingsGroup expected = SettingsManager.getSettingsGroup ( GROUP );
+        assert Objects.equals ( saved.settings (), expected.settings () ) : "Unexpected saved settings: " + saved.settings ();
+    }
+}
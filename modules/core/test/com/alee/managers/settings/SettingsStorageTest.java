@@ -0,0 +1,293 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.settings;
+
+import com.alee.api.jdk.Objects;
+import com.alee.utils.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Set of JUnit tests for {@link SettingsStorage} implementations.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class SettingsStorageTest
+{
+    /**
+     * Tested {@link SettingsGroup} name.
+     */
+    private static final String GROUP = "test";
+
+    /**
+     * Temporary settings directory.
+     */
+    private File dir;
+
+    /**
+     * Initializes {@link SettingsManager}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        SettingsManager.initialize ();
+    }
+
+    /**
+     * Creates temporary settings directory.
+     *
+     * @throws IOException if directory cannot be created
+     */
+    @Before
+    public void createDirectory () throws IOException
+    {
+        dir = File.createTempFile ( "weblaf-settings", "" );
+        final boolean deleted = dir.delete ();
+        assert deleted : "Unable to delete temporary file: " + dir;
+        final boolean created = dir.mkdir ();
+        assert created : "Unable to create settings directory: " + dir;
+    }
+
+    /**
+     * Removes temporary settings directory.
+     */
+    @After
+    public void removeDirectory ()
+    {
+        FileUtils.deleteFile ( dir );
+    }
+
+    /**
+     * {@link XmlSettingsStorage} save and load test.
+     *
+     * @throws IOException if settings cannot be saved or loaded
+     */
+    @Test
+    public void xmlStorage () throws IOException
+    {
+        final XmlSettingsStorage storage = new XmlSettingsStorage ();
+        final SettingsGroup group = createGroup ();
+        storage.save ( dir, group, null );
+        group.put ( "text", "Changed" );
+        storage.save ( dir, group, Collections.singleton ( "text" ) );
+
+        final boolean recovered = storage.recover ( dir, GROUP );
+        assert !recovered : "Nothing should be recovered";
+        assertLoaded ( storage, group );
+        assert dir.list ().length == 1 : "Only settings file should be left: " + Arrays.toString ( dir.list () );
+    }
+
+    /**
+     * {@link XmlSettingsStorage} recovery test.
+     *
+     * @throws IOException if settings cannot be saved or loaded
+     */
+    @Test
+    public void xmlStorageRecovery () throws IOException
+    {
+        final XmlSettingsStorage storage = new XmlSettingsStorage ();
+        final SettingsGroup group = createGroup ();
+        storage.save ( dir, group, null );
+
+        // Interrupted write of temporary file
+        write ( storage.getTemporaryFile ( dir, GROUP ), "<SettingsGroup id=\"" );
+        final boolean temporaryRecovered = storage.recover ( dir, GROUP );
+        assert temporaryRecovered : "Temporary file should be removed";
+        assertLoaded ( storage, group );
+
+        // Interrupted replace of settings file
+        final File file = storage.getFile ( dir, GROUP );
+        final boolean moved = file.renameTo ( storage.getBackupFile ( dir, GROUP ) );
+        assert moved : "Unable to move settings file";
+        write ( file, "<SettingsGroup id=\"" );
+        final boolean backupRecovered = storage.recover ( dir, GROUP );
+        assert backupRecovered : "Backup file should be restored";
+        assertLoaded ( storage, group );
+    }
+
+    /**
+     * {@link JournalSettingsStorage} save and load test.
+     *
+     * @throws IOException if settings cannot be saved or loaded
+     */
+    @Test
+    public void journalStorage () throws IOException
+    {
+        final JournalSettingsStorage storage = new JournalSettingsStorage ();
+        final SettingsGroup group = createGroup ();
+        storage.save ( dir, group, null );
+        final long snapshotLength = storage.getFile ( dir, GROUP ).length ();
+
+        // Changing, adding, nulling and removing settings
+        group.put ( "text", "Changed" );
+        group.put ( "added", 42 );
+        storage.save ( dir, group, Arrays.asList ( "text", "added" ) );
+        group.put ( "number", null );
+        group.remove ( "flag" );
+        storage.save ( dir, group, Arrays.asList ( "number", "flag" ) );
+
+        assert storage.getFile ( dir, GROUP ).length () == snapshotLength : "Snapshot should not be rewritten";
+        final boolean recovered = storage.recover ( dir, GROUP );
+        assert !recovered : "Nothing should be recovered";
+        assertLoaded ( storage, group );
+    }
+
+    /**
+     * {@link JournalSettingsStorage} compaction test.
+     *
+     * @throws IOException if settings cannot be saved or loaded
+     */
+    @Test
+    public void journalStorageCompaction () throws IOException
+    {
+        final JournalSettingsStorage storage = new JournalSettingsStorage ( 0 );
+        final SettingsGroup group = createGroup ();
+        storage.save ( dir, group, null );
+        for ( int i = 0; i < 10; i++ )
+        {
+            group.put ( "text", "Text " + i );
+            storage.save ( dir, group, Collections.singleton ( "text" ) );
+        }
+
+        assert storage.getJournalFile ( dir, GROUP ).length () < storage.getFile ( dir, GROUP ).length () :
+                "Journal should be compacted";
+        assertLoaded ( storage, group );
+        assert new XmlSettingsStorage ().load ( dir, GROUP ).get ( "text" ) != null : "Snapshot should stay readable as XML";
+    }
+
+    /**
+     * {@link JournalSettingsStorage} recovery test.
+     *
+     * @throws IOException if settings cannot be saved or loaded
+     */
+    @Test
+    public void journalStorageRecovery () throws IOException
+    {
+        final JournalSettingsStorage storage = new JournalSettingsStorage ();
+        final SettingsGroup group = createGroup ();
+        storage.save ( dir, group, null );
+        group.put ( "text", "Changed" );
+        storage.save ( dir, group, Collections.singleton ( "text" ) );
+
+        // Interrupted journal entry write
+        final File journal = storage.getJournalFile ( dir, GROUP );
+        final long journalLength = journal.length ();
+        final FileOutputStream outputStream = new FileOutputStream ( journal, true );
+        outputStream.write ( new byte[]{ 0, 0, 1, 0, 1, 2, 3 } );
+        outputStream.close ();
+        final boolean partialRecovered = storage.recover ( dir, GROUP );
+        assert partialRecovered : "Partial entry should be dropped";
+        assert journal.length () == journalLength : "Journal should be truncated";
+        assertLoaded ( storage, group );
+
+        // Journal left by interrupted compaction
+        final byte[] staleJournal = read ( journal );
+        group.put ( "text", "Compacted" );
+        storage.save ( dir, group, null );
+        write ( journal, staleJournal );
+        final boolean staleRecovered = storage.recover ( dir, GROUP );
+        assert !staleRecovered : "Stale journal should be discarded";
+        assert !journal.exists () : "Stale journal should be removed";
+        assertLoaded ( storage, group );
+    }
+
+    /**
+     * Returns new {@link SettingsGroup} for tests.
+     *
+     * @return new {@link SettingsGroup} for tests
+     */
+    private SettingsGroup createGroup ()
+    {
+        final SettingsGroup group = new SettingsGroup ( GROUP );
+        group.put ( "text", "Text" );
+        group.put ( "number", 1 );
+        group.put ( "flag", true );
+        group.put ( "complex key", Arrays.asList ( "a", "b" ) );
+        return group;
+    }
+
+    /**
+     * Asserts that {@link SettingsGroup} loaded from {@link SettingsStorage} is equal to the expected one.
+     *
+     * @param storage  {@link SettingsStorage}
+     * @param expected expected {@link SettingsGroup}
+     * @throws IOException if settings cannot be loaded
+     */
+    private void assertLoaded ( final SettingsStorage storage, final SettingsGroup expected ) throws IOException
+    {
+        final SettingsGroup loaded = storage.load ( dir, GROUP );
+        assert loaded != null : "Settings group wasn't loaded";
+        assert Objects.equals ( loaded.getName (), expected.getName () ) : "Unexpected settings group name: " + loaded.getName ();
+        assert Objects.equals ( loaded.settings (), expected.settings () ) : "Unexpected settings: " + loaded.settings ();
+    }
+
+    /**
+     * Returns data read from the specified file.
+     *
+     * @param file file to read
+     * @return data read from the specified file
+     * @throws IOException if file cannot be read
+     */
+    private byte[] read ( final File file ) throws IOException
+    {
+        final RandomAccessFile input = new RandomAccessFile ( file, "r" );
+        final byte[] data = new byte[ ( int ) input.length () ];
+        input.readFully ( data );
+        input.close ();
+        return data;
+    }
+
+    /**
+     * Writes specified text into file.
+     *
+     * @param file file to write into
+     * @param text text to write
+     * @throws IOException if file cannot be written
+     */
+    private void write ( final File file, final String text ) throws IOException
+    {
+        write ( file, text.getBytes ( "UTF-8" ) );
+    }
+
+    /**
+     * Writes specified data into file.
+     *
+     * @param file file to write into
+     * @param data data to write
+     * @throws IOException if file cannot be written
+     */
+    private void write ( final File file, final byte[] data ) throws IOException
+    {
+        final FileOutputStream outputStream = new FileOutputStream ( file );
+        outputStream.write ( data );
+        outputStream.close ();
+    }
+}
@@ -108,6 +108,30 @@ public final class ReflectionConstructorTest
         checkConstructionResult ( innerInstance.get (), ClassData.SUCCESS );
     }
 
+    /**
+     * Tests missing class constructor lookup.
+     * It is performed twice to ensure that cached lookup failure is reported the same way.
+     *
+     * @throws ClassNotFoundException when {@link Class} cannot be found
+     */
+    @Test
+    public void missingClassConstructor () throws ClassNotFoundException
+    {
+        final Class type = ReflectUtils.loadClass ( "com.alee.utils.classes.PublicClassConstructor" );
+        for ( int i = 0; i < 2; i++ )
+        {
+            try
+            {
+                ReflectUtils.getConstructor ( type, String.class );
+                throw new ReflectionException ( "Missing constructor lookup must fail: " + type );
+            }
+            catch ( final NoSuchMethodException e )
+            {
+                // Lookup failed as expected
+            }
+        }
+    }
+
     /**
      * Asserts construction result.
      *
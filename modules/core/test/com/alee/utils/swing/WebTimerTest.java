@@ -0,0 +1,191 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.swing;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of JUnit tests for {@link WebTimer}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class WebTimerTest
+{
+    /**
+     * Single delayed action test.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void delay () throws InterruptedException
+    {
+        final CountDownLatch latch = new CountDownLatch ( 1 );
+        final long start = System.currentTimeMillis ();
+        WebTimer.delay ( 50, false, new ActionListener ()
+        {
+            @Override
+            public void actionPerformed ( final ActionEvent e )
+            {
+                latch.countDown ();
+            }
+        } );
+        assert latch.await ( 5, TimeUnit.SECONDS ) : "Delayed action wasn't performed";
+        assert System.currentTimeMillis () - start >= 50 : "Delayed action was performed too early";
+    }
+
+    /**
+     * Cycles limit test.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void cyclesLimit () throws InterruptedException
+    {
+        final AtomicInteger counter = new AtomicInteger ( 0 );
+        final WebTimer timer = WebTimer.repeat ( 5, 5, false, new ActionListener ()
+        {
+            @Override
+            public void actionPerformed ( final ActionEvent e )
+            {
+                counter.incrementAndGet ();
+            }
+        } );
+        final long start = System.currentTimeMillis ();
+        while ( timer.isRunning () && System.currentTimeMillis () - start < 5000 )
+        {
+            Thread.sleep ( 10 );
+        }
+        assert !timer.isRunning () : "Timer didn't stop after reaching cycles limit";
+        assert counter.get () == 5 : "Unexpected amount of cycles: " + counter.get ();
+    }
+
+    /**
+     * Blocking stop test.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void stop () throws InterruptedException
+    {
+        final AtomicInteger counter = new AtomicInteger ( 0 );
+        final WebTimer timer = WebTimer.repeat ( 5, false, new ActionListener ()
+        {
+            @Override
+            public void actionPerformed ( final ActionEvent e )
+            {
+                counter.incrementAndGet ();
+            }
+        } );
+        Thread.sleep ( 50 );
+        timer.stop ();
+        assert !timer.isRunning () : "Timer is still running after blocking stop";
+        final int cycles = counter.get ();
+        Thread.sleep ( 50 );
+        assert cycles == counter.get () : "Timer performed cycles after blocking stop";
+    }
+
+    /**
+     * Restart test.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void restart () throws InterruptedException
+    {
+        final AtomicInteger counter = new AtomicInteger ( 0 );
+        final WebTimer timer = new WebTimer ( 10000, new ActionListener ()
+        {
+            @Override
+            public void actionPerformed ( final ActionEvent e )
+            {
+                counter.incrementAndGet ();
+            }
+        } );
+        timer.setUseEventDispatchThread ( false );
+        timer.setRepeats ( false );
+        timer.start ();
+        assert timer.isRunning () : "Timer didn't start";
+        timer.restart ( 10 );
+        final long start = System.currentTimeMillis ();
+        while ( timer.isRunning () && System.currentTimeMillis () - start < 5000 )
+        {
+            Thread.sleep ( 10 );
+        }
+        assert counter.get () == 1 : "Unexpected amount of cycles: " + counter.get ();
+    }
+
+    /**
+     * User {@link Thread}s test.
+     * Non-daemon timer should keep JVM alive only until its last cycle is performed.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void userThreads () throws InterruptedException
+    {
+        final CountDownLatch latch = new CountDownLatch ( 1 );
+        final WebTimer timer = new WebTimer ( 100, new ActionListener ()
+        {
+            @Override
+            public void actionPerformed ( final ActionEvent e )
+            {
+                latch.countDown ();
+            }
+        } );
+        timer.setUseEventDispatchThread ( false );
+        timer.setUseDaemonThread ( false );
+        timer.setRepeats ( false );
+        timer.start ();
+        assert countUserThreads () == 1 : "Scheduled non-daemon timer should keep JVM alive";
+        assert latch.await ( 5, TimeUnit.SECONDS ) : "Delayed action wasn't performed";
+
+        final long start = System.currentTimeMillis ();
+        while ( countUserThreads () > 0 && System.currentTimeMillis () - start < 1000 )
+        {
+            Thread.sleep ( 10 );
+        }
+        assert countUserThreads () == 0 : "Finished non-daemon timer should not keep JVM alive";
+    }
+
+    /**
+     * Returns amount of alive non-daemon {@link WebTimer} {@link Thread}s.
+     *
+     * @return amount of alive non-daemon {@link WebTimer} {@link Thread}s
+     */
+    private int countUserThreads ()
+    {
+        int count = 0;
+        for ( final Thread thread : Thread.getAllStackTraces ().keySet () )
+        {
+            if ( thread.isAlive () && !thread.isDaemon () && thread.getName ().startsWith ( "WebTimer" ) )
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+}
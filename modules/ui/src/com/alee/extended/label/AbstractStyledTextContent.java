@@ -33,6 +33,7 @@ import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.font.FontRenderContext;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -55,6 +56,12 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
      * todo 4. Paint shadow for all different accessories
      */
 
+    /**
+     * Maximum amount of cached text layouts.
+     * Usually there are only two different layouts in use - one for preferred size calculation and one for painting.
+     */
+    protected static final int MAXIMUM_CACHED_LAYOUTS = 4;
+
     /**
      * Whether or not should ignore style font color settings.
      */
@@ -113,6 +120,15 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
     @OmitOnMerge
     protected transient List<TextRange> textRanges;
 
+    /**
+     * Recently used text layouts, most recently used first.
+     * Layouts are reused between preferred size calculations and painting as long as all affecting settings are the same.
+     */
+    @Nullable
+    @OmitOnClone
+    @OmitOnMerge
+    protected transient List<StyledTextLayout> layouts;
+
     @Override
     public void activate ( @NotNull final C c, @NotNull final D d )
     {
@@ -126,8 +142,9 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
     @Override
     public void deactivate ( @NotNull final C c, @NotNull final D d )
     {
-        // Clearing text ranges
+        // Clearing text ranges and layouts
         textRanges = null;
+        layouts = null;
 
         // Performing default actions
         super.deactivate ( c, d );
@@ -262,6 +279,9 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
         }
 
         textRanges = new TextRanges ( plainText, styleRanges ).getTextRanges ();
+
+        // Clearing outdated layouts
+        layouts = null;
     }
 
     @Override
@@ -334,7 +354,9 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
     }
 
     /**
-     * Performs styled text layout.
+     * Returns styled text layout.
+     * Layout is cached and reused as long as available width, fonts, text ranges and all layout settings stay the same.
+     * Available height is also taken into account, but only within the range of heights that would give the same layout.
      *
      * @param c      painted component
      * @param d      painted decoration state
@@ -343,6 +365,66 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
      */
     @NotNull
     protected List<StyledTextRow> layout ( @NotNull final C c, @NotNull final D d, @NotNull final Rectangle bounds )
+    {
+        final Font font = c.getFont ();
+        final FontRenderContext frc = c.getFontMetrics ( font ).getFontRenderContext ();
+        final TextWrap wrap = getWrapType ( c, d );
+        final boolean preserveLineBreaks = isPreserveLineBreaks ( c, d );
+        final int maximumRows = getMaximumRows ( c, d );
+        final int rowGap = getRowGap ( c, d );
+        final float scriptFontRatio = getScriptFontRatio ( c, d );
+        final int mnemonicIndex = getMnemonicIndex ( c, d );
+
+        // Looking for cached layout
+        List<StyledTextLayout> layouts = this.layouts;
+        if ( layouts != null )
+        {
+            for ( int i = 0; i < layouts.size (); i++ )
+            {
+                final StyledTextLayout layout = layouts.get ( i );
+                if ( layout.isValid ( textRanges, bounds.width, bounds.height, font, frc, wrap, preserveLineBreaks, maximumRows, rowGap,
+                        scriptFontRatio, mnemonicIndex ) )
+                {
+                    if ( i > 0 )
+                    {
+                        layouts.remove ( i );
+                        layouts.add ( 0, layout );
+                    }
+                    return layout.getRows ();
+                }
+            }
+        }
+        else
+        {
+            layouts = new ArrayList<StyledTextLayout> ( MAXIMUM_CACHED_LAYOUTS );
+            this.layouts = layouts;
+        }
+
+        // Performing new layout
+        final int[] heights = { 0, Integer.MAX_VALUE };
+        final List<StyledTextRow> rows = createLayout ( c, d, bounds, heights );
+        if ( layouts.size () == MAXIMUM_CACHED_LAYOUTS )
+        {
+            layouts.remove ( layouts.size () - 1 );
+        }
+        layouts.add ( 0, new StyledTextLayout ( textRanges, bounds.width, heights[ 0 ], heights[ 1 ], font, frc, wrap,
+                preserveLineBreaks, maximumRows, rowGap, scriptFontRatio, mnemonicIndex, rows ) );
+        return rows;
+    }
+
+    /**
+     * Performs styled text layout.
+     * Range of available heights that would give the same layout is written into {@code heights} array.
+     *
+     * @param c       painted component
+     * @param d       painted decoration state
+     * @param bounds  painting bounds
+     * @param heights minimum and maximum available heights for which resulting layout is valid
+     * @return List of rows to paint
+     */
+    @NotNull
+    protected List<StyledTextRow> createLayout ( @NotNull final C c, @NotNull final D d, @NotNull final Rectangle bounds,
+                                                 @NotNull final int[] heights )
     {
         final int endY = bounds.y + bounds.height;
         final int endX = bounds.x + bounds.width;
@@ -412,7 +494,8 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
 
                 if ( wrapType != TextWrap.none && widthLeft < strWidth && widthLeft >= 0 )
                 {
-                    if ( ( maximumRows <= 0 || rowCount < maximumRows ) && y + maxRowHeight + Math.max ( 0, rowGap ) <= endY )
+                    if ( ( maximumRows <= 0 || rowCount < maximumRows ) &&
+                            fits ( y + maxRowHeight + Math.max ( 0, rowGap ), bounds.y, endY, heights ) )
                     {
                         int firstWordOffset = Math.max ( 0, TextUtils.findFirstWordFromIndex ( s, 0 ) );
 
@@ -558,7 +641,7 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
                 i--;
 
                 // Checking that row is last
-                if ( y > endY || maximumRows > 0 && rowCount >= maximumRows )
+                if ( !fits ( y, bounds.y, endY, heights ) || maximumRows > 0 && rowCount >= maximumRows )
                 {
                     break;
                 }
@@ -574,6 +657,30 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
         return rows;
     }
 
+    /**
+     * Returns whether or not specified Y coordinate fits into painting bounds.
+     * Range of available heights for which the result stays the same is narrowed accordingly.
+     *
+     * @param y       Y coordinate
+     * @param startY  painting bounds start Y coordinate
+     * @param endY    painting bounds end Y coordinate
+     * @param heights minimum and maximum available heights for which the result stays the same
+     * @return {@code true} if specified Y coordinate fits into painting bounds, {@code false} otherwise
+     */
+    private static boolean fits ( final int y, final int startY, final int endY, @NotNull final int[] heights )
+    {
+        final boolean fits = y <= endY;
+        if ( fits )
+        {
+            heights[ 0 ] = Math.max ( heights[ 0 ], y - startY );
+        }
+        else
+        {
+            heights[ 1 ] = Math.min ( heights[ 1 ], y - startY - 1 );
+        }
+        return fits;
+    }
+
     /**
      * Paints single styled text row.
      *
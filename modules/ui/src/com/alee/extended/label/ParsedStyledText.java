@@ -0,0 +1,88 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.label;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable result of text containing style syntax parsing.
+ * Since {@link StyleRange}s are immutable as well, single instance can be safely shared between any amount of components.
+ *
+ * @author Mikle Garin
+ * @see StyleRanges
+ */
+public final class ParsedStyledText implements IStyleRanges
+{
+    /**
+     * Text containing style syntax.
+     */
+    @Nullable
+    private final String styledText;
+
+    /**
+     * Plain text extracted from {@link #styledText}.
+     */
+    @Nullable
+    private final String plainText;
+
+    /**
+     * Unmodifiable list of style ranges extracted from {@link #styledText}.
+     */
+    @NotNull
+    private final List<StyleRange> styleRanges;
+
+    /**
+     * Constructs new {@link ParsedStyledText}.
+     *
+     * @param styledText  text containing style syntax
+     * @param plainText   plain text extracted from styled text
+     * @param styleRanges style ranges extracted from styled text
+     */
+    public ParsedStyledText ( @Nullable final String styledText, @Nullable final String plainText,
+                              @NotNull final List<StyleRange> styleRanges )
+    {
+        this.styledText = styledText;
+        this.plainText = plainText;
+        this.styleRanges = styleRanges.isEmpty () ? Collections.<StyleRange>emptyList () : Collections.unmodifiableList ( styleRanges );
+    }
+
+    @Nullable
+    @Override
+    public String getStyledText ()
+    {
+        return styledText;
+    }
+
+    @Nullable
+    @Override
+    public String getPlainText ()
+    {
+        return plainText;
+    }
+
+    @NotNull
+    @Override
+    public List<StyleRange> getStyleRanges ()
+    {
+        return styleRanges;
+    }
+}
@@ -22,13 +22,16 @@ import com.alee.api.annotations.Nullable;
 import com.alee.utils.TextUtils;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base implementation of style ranges.
  * It provides a convenient way of parsing text with custom style syntax.
  * Plain text is kept within {@link #styledText} field and styles list is kept within {@link #styleRanges} field.
  * Supported syntax settings depend on the {@link IStyleSettings} implementation used.
+ * Parsing results are immutable and are shared between {@link StyleRanges} with identical styled text, see {@link #isCacheable()}.
  *
  * @author Mikle Garin
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-WebStyledLabel">How to use WebStyledLabel</a>
@@ -40,6 +43,31 @@ public class StyleRanges implements IStyleRanges
      * todo 1. Add multi-level styling support (sub-styles)
      */
 
+    /**
+     * Maximum amount of parsing results shared between {@link StyleRanges} with identical {@link #styledText}.
+     */
+    public static final int MAXIMUM_CACHED_TEXTS = 512;
+
+    /**
+     * Maximum length of {@link #styledText} for which parsing result is shared.
+     * Larger texts are rarely repeated, so they are simply parsed each time instead of occupying cache.
+     */
+    public static final int MAXIMUM_CACHED_TEXT_LENGTH = 4096;
+
+    /**
+     * Parsing results shared between {@link StyleRanges} with identical {@link #styledText} in least recently used order.
+     * Entry: [ styled text -> parsing result ]
+     */
+    @NotNull
+    private static final LinkedHashMap<String, ParsedStyledText> cache = new LinkedHashMap<String, ParsedStyledText> ( 64, 0.75f, true )
+    {
+        @Override
+        protected boolean removeEldestEntry ( final Map.Entry<String, ParsedStyledText> eldest )
+        {
+            return size () > MAXIMUM_CACHED_TEXTS;
+        }
+    };
+
     /**
      * Text containing style syntax.
      */
@@ -54,6 +82,7 @@ public class StyleRanges implements IStyleRanges
 
     /**
      * Cached style ranges extracted from {@link #styledText}.
+     * This list is unmodifiable as it might be shared with other {@link StyleRanges}.
      */
     @Nullable
     protected List<StyleRange> styleRanges;
@@ -68,6 +97,17 @@ public class StyleRanges implements IStyleRanges
         this.styledText = styledText;
     }
 
+    /**
+     * Clears parsing results shared between {@link StyleRanges} with identical styled text.
+     */
+    public static void clearCache ()
+    {
+        synchronized ( cache )
+        {
+            cache.clear ();
+        }
+    }
+
     @Nullable
     @Override
     public String getStyledText ()
@@ -106,67 +146,118 @@ public class StyleRanges implements IStyleRanges
         // Parse only if it is needed and it wasn't already completed
         if ( styleRanges == null )
         {
-            styleRanges = new ArrayList<StyleRange> ();
-            if ( TextUtils.notEmpty ( styledText ) )
+            final ParsedStyledText parsed;
+            if ( isCacheable () && styledText != null && styledText.length () <= MAXIMUM_CACHED_TEXT_LENGTH )
+            {
+                // Looking for identical text parsed earlier
+                ParsedStyledText cached;
+                synchronized ( cache )
+                {
+                    cached = cache.get ( styledText );
+                }
+                if ( cached == null )
+                {
+                    cached = parse ();
+                    synchronized ( cache )
+                    {
+                        cache.put ( styledText, cached );
+                    }
+                }
+                parsed = cached;
+            }
+            else
+            {
+                parsed = parse ();
+            }
+            plainText = parsed.getPlainText ();
+            styleRanges = parsed.getStyleRanges ();
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether or not parsing result can be shared with other {@link StyleRanges} that have identical {@link #styledText}.
+     * Parsing result of this class only depends on {@link #styledText}, but it might not be the case for custom implementations,
+     * so by default results are only shared by instances of this exact class.
+     *
+     * @return {@code true} if parsing result can be shared with other {@link StyleRanges}, {@code false} otherwise
+     */
+    protected boolean isCacheable ()
+    {
+        return getClass () == StyleRanges.class;
+    }
+
+    /**
+     * Returns newly parsed {@link #styledText}.
+     * Text is parsed in a single pass, plain text is collected into single {@link StringBuilder}.
+     *
+     * @return newly parsed {@link #styledText}
+     */
+    @NotNull
+    protected ParsedStyledText parse ()
+    {
+        final String plainText;
+        final List<StyleRange> styleRanges = new ArrayList<StyleRange> ( 2 );
+        if ( TextUtils.notEmpty ( styledText ) )
+        {
+            int begin = nextUnescaped ( styledText, "{", 0 );
+            if ( begin != -1 )
             {
-                int begin = nextUnescaped ( styledText, "{", 0 );
-                if ( begin != -1 )
+                final int length = styledText.length ();
+                final StringBuilder plain = new StringBuilder ( length );
+                int position = 0;
+                while ( begin != -1 )
                 {
-                    plainText = "";
-                    String trimmedText = styledText;
-                    while ( begin != -1 )
+                    final int end = nextUnescaped ( styledText, "}", begin + 1 );
+                    if ( end != -1 )
                     {
-                        final int end = nextUnescaped ( trimmedText, "}", begin + 1 );
-                        if ( end != -1 )
+                        // Clipping statement
+                        final String statement = styledText.substring ( begin + 1, end );
+                        if ( statement.equals ( "br" ) )
                         {
-                            // Clipping statement
-                            final String statement = trimmedText.substring ( begin + 1, end );
-                            if ( statement.equals ( "br" ) )
+                            // Adding linebreak and proceeding
+                            plain.append ( styledText, position, begin ).append ( '\n' );
+                        }
+                        else
+                        {
+                            // Parsing possible style syntax
+                            final TextRange range = parseStatement ( plain.length () + begin - position, statement );
+                            if ( range != null && range.getStyleRange () != null )
                             {
-                                // Adding linebreak and proceeding
-                                plainText += trimmedText.substring ( 0, begin ) + "\n";
+                                // Adding text and style range
+                                plain.append ( styledText, position, begin ).append ( range.getText () );
+                                styleRanges.add ( range.getStyleRange () );
                             }
                             else
                             {
-                                // Parsing possible style syntax
-                                final TextRange range = parseStatement ( plainText.length () + begin, statement );
-                                if ( range != null && range.getStyleRange () != null )
-                                {
-                                    // Adding text and style range
-                                    plainText += trimmedText.substring ( 0, begin ) + range.getText ();
-                                    styleRanges.add ( range.getStyleRange () );
-                                }
-                                else
-                                {
-                                    // Adding plain text, including braces
-                                    plainText += trimmedText.substring ( 0, end + 1 );
-                                }
+                                // Adding plain text, including braces
+                                plain.append ( styledText, position, end + 1 );
                             }
-
-                            // Continue to next
-                            trimmedText = trimmedText.substring ( end + 1 );
-                            begin = nextUnescaped ( trimmedText, "{", 0 );
-                        }
-                        else
-                        {
-                            // Something wrong with the syntax or it's simply a plain text
-                            // Abort parsing and add the rest as plain text
-                            break;
                         }
+
+                        // Continue to next
+                        position = end + 1;
+                        begin = nextUnescaped ( styledText, "{", position );
+                    }
+                    else
+                    {
+                        // Something wrong with the syntax or it's simply a plain text
+                        // Abort parsing and add the rest as plain text
+                        break;
                     }
-                    plainText += trimmedText;
-                }
-                else
-                {
-                    plainText = styledText;
                 }
+                plainText = plain.append ( styledText, position, length ).toString ();
             }
             else
             {
-                plainText = null;
+                plainText = styledText;
             }
         }
-        return this;
+        else
+        {
+            plainText = null;
+        }
+        return new ParsedStyledText ( styledText, plainText, styleRanges );
     }
 
     /**
@@ -0,0 +1,180 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.label;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.util.List;
+
+/**
+ * Cached result of {@link AbstractStyledTextContent} text layout.
+ * It contains all settings that affect the layout and the range of available heights for which the layout stays the same.
+ * Layout doesn't depend on painting bounds location, so it is reused for preferred size calculations and painting.
+ *
+ * @author Mikle Garin
+ * @see AbstractStyledTextContent#layout(javax.swing.JComponent, com.alee.painter.decoration.IDecoration, Rectangle)
+ */
+public final class StyledTextLayout
+{
+    /**
+     * Text ranges used for the layout.
+     */
+    @NotNull
+    private final List<TextRange> textRanges;
+
+    /**
+     * Available width.
+     */
+    private final int width;
+
+    /**
+     * Minimum available height for which this layout is valid.
+     */
+    private final int minimumHeight;
+
+    /**
+     * Maximum available height for which this layout is valid.
+     */
+    private final int maximumHeight;
+
+    /**
+     * Base font.
+     */
+    @NotNull
+    private final Font font;
+
+    /**
+     * Base font render context.
+     */
+    @NotNull
+    private final FontRenderContext frc;
+
+    /**
+     * Text wrapping type.
+     */
+    @NotNull
+    private final TextWrap wrap;
+
+    /**
+     * Whether or not hard line breaks are preserved.
+     */
+    private final boolean preserveLineBreaks;
+
+    /**
+     * Maximum rows count.
+     */
+    private final int maximumRows;
+
+    /**
+     * Text rows gap.
+     */
+    private final int rowGap;
+
+    /**
+     * Script font ratio.
+     */
+    private final float scriptFontRatio;
+
+    /**
+     * Mnemonic index.
+     */
+    private final int mnemonicIndex;
+
+    /**
+     * Text rows.
+     */
+    @NotNull
+    private final List<StyledTextRow> rows;
+
+    /**
+     * Constructs new {@link StyledTextLayout}.
+     *
+     * @param textRanges         text ranges used for the layout
+     * @param width              available width
+     * @param minimumHeight      minimum available height for which this layout is valid
+     * @param maximumHeight      maximum available height for which this layout is valid
+     * @param font               base font
+     * @param frc                base font render context
+     * @param wrap               text wrapping type
+     * @param preserveLineBreaks whether or not hard line breaks are preserved
+     * @param maximumRows        maximum rows count
+     * @param rowGap             text rows gap
+     * @param scriptFontRatio    script font ratio
+     * @param mnemonicIndex      mnemonic index
+     * @param rows               text rows
+     */
+    public StyledTextLayout ( @NotNull final List<TextRange> textRanges, final int width, final int minimumHeight,
+                              final int maximumHeight, @NotNull final Font font, @NotNull final FontRenderContext frc,
+                              @NotNull final TextWrap wrap, final boolean preserveLineBreaks, final int maximumRows, final int rowGap,
+                              final float scriptFontRatio, final int mnemonicIndex, @NotNull final List<StyledTextRow> rows )
+    {
+        this.textRanges = textRanges;
+        this.width = width;
+        this.minimumHeight = minimumHeight;
+        this.maximumHeight = maximumHeight;
+        this.font = font;
+        this.frc = frc;
+        this.wrap = wrap;
+        this.preserveLineBreaks = preserveLineBreaks;
+        this.maximumRows = maximumRows;
+        this.rowGap = rowGap;
+        this.scriptFontRatio = scriptFontRatio;
+        this.mnemonicIndex = mnemonicIndex;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns text rows.
+     *
+     * @return text rows
+     */
+    @NotNull
+    public List<StyledTextRow> getRows ()
+    {
+        return rows;
+    }
+
+    /**
+     * Returns whether or not this layout is valid for the specified settings.
+     *
+     * @param textRanges         text ranges
+     * @param width              available width
+     * @param height             available height
+     * @param font               base font
+     * @param frc                base font render context
+     * @param wrap               text wrapping type
+     * @param preserveLineBreaks whether or not hard line breaks are preserved
+     * @param maximumRows        maximum rows count
+     * @param rowGap             text rows gap
+     * @param scriptFontRatio    script font ratio
+     * @param mnemonicIndex      mnemonic index
+     * @return {@code true} if this layout is valid for the specified settings, {@code false} otherwise
+     */
+    public boolean isValid ( @Nullable final List<TextRange> textRanges, final int width, final int height, @NotNull final Font font,
+                             @NotNull final FontRenderContext frc, @NotNull final TextWrap wrap, final boolean preserveLineBreaks,
+                             final int maximumRows, final int rowGap, final float scriptFontRatio, final int mnemonicIndex )
+    {
+        return this.textRanges == textRanges && this.width == width && minimumHeight <= height && height <= maximumHeight &&
+                this.wrap == wrap && this.preserveLineBreaks == preserveLineBreaks && this.maximumRows == maximumRows &&
+                this.rowGap == rowGap && Float.compare ( this.scriptFontRatio, scriptFontRatio ) == 0 &&
+                this.mnemonicIndex == mnemonicIndex && this.font.equals ( font ) && this.frc.equals ( frc );
+    }
+}
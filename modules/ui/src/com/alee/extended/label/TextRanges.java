@@ -91,7 +91,9 @@ public class TextRanges implements ITextRanges
             textRanges = new ArrayList<TextRange> ( ( int ) ( styleRanges.size () * 1.4 + 1 ) );
 
             // Sorting style ranges by their positions
-            Collections.sort ( styleRanges, styleRangeComparator );
+            // Provided list might be shared or unmodifiable, so sorted copy is used instead
+            final List<StyleRange> sortedRanges = CollectionUtils.copy ( styleRanges );
+            Collections.sort ( sortedRanges, styleRangeComparator );
 
             // Checking whether text is empty or not
             if ( plainText != null )
@@ -122,7 +124,7 @@ public class TextRanges implements ITextRanges
                                 }
                             }
                         }
-                        for ( final StyleRange style : styleRanges )
+                        for ( final StyleRange style : sortedRanges )
                         {
                             // Checking style range borders
                             final int styleStart = style.getStartIndex ();
@@ -141,7 +143,7 @@ public class TextRanges implements ITextRanges
                         StyleRange styleRange = null;
                         if ( !specialParts.contains ( part ) )
                         {
-                            for ( final StyleRange style : styleRanges )
+                            for ( final StyleRange style : sortedRanges )
                             {
                                 // Checking intersection of the style range with current text range
                                 final int styleStart = style.getStartIndex ();
@@ -19,6 +19,7 @@ package com.alee.managers.animation;
 
 import com.alee.managers.animation.event.EventDispatchThreadHandler;
 import com.alee.managers.animation.event.EventHandler;
+import com.alee.managers.animation.event.FrameCoalescingHandler;
 import com.alee.managers.animation.pipeline.AnimationPipelineFactory;
 import com.alee.managers.animation.pipeline.TimedAnimationPipelineFactory;
 import com.alee.managers.animation.transition.Transition;
@@ -130,6 +131,34 @@ public final class AnimationManager
         AnimationManager.eventHandler = eventHandler;
     }
 
+    /**
+     * Returns whether or not default {@link EventHandler} coalesces all events of a single animation frame into one event.
+     *
+     * @return {@code true} if default {@link EventHandler} coalesces all events of a single animation frame, {@code false} otherwise
+     */
+    public static boolean isFrameCoalescing ()
+    {
+        return eventHandler instanceof FrameCoalescingHandler;
+    }
+
+    /**
+     * Sets whether or not default {@link EventHandler} should coalesce all events of a single animation frame into one event.
+     * This will wrap current default {@link EventHandler} into {@link FrameCoalescingHandler} or unwrap it.
+     *
+     * @param coalescing whether or not default {@link EventHandler} should coalesce all events of a single animation frame
+     */
+    public static synchronized void setFrameCoalescing ( final boolean coalescing )
+    {
+        if ( coalescing && !isFrameCoalescing () )
+        {
+            eventHandler = new FrameCoalescingHandler ( eventHandler != null ? eventHandler : EventDispatchThreadHandler.get () );
+        }
+        else if ( !coalescing && isFrameCoalescing () )
+        {
+            eventHandler = ( ( FrameCoalescingHandler ) eventHandler ).getDelegate ();
+        }
+    }
+
     /**
      * Returns {@link com.alee.managers.animation.types.TransitionType} implementation for the specified value class.
      *
@@ -0,0 +1,189 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.animation.event;
+
+import com.alee.api.annotations.NotNull;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link EventHandler} that coalesces all events submitted within a single animation frame into one event for its delegate.
+ * Animation pipelines supporting this handler, like {@link com.alee.managers.animation.pipeline.TimedAnimationPipeline}, open a
+ * frame before proceeding transitions and close it once all transitions were processed for that frame.
+ *
+ * A few important notes:
+ * 1. Events submitted outside of a frame are passed to delegate {@link EventHandler} immediately
+ * 2. Events submitted from any thread while frame is open are queued, this keeps the original order of all events
+ * 3. Queued events are passed to delegate {@link EventHandler} as a single {@link Runnable} that performs them in submission order
+ * 4. Frames can be nested or opened by multiple pipelines at once, events are passed further once the last frame is closed
+ *
+ * Default delegate is {@link EventDispatchThreadHandler}, so instead of one {@link javax.swing.SwingUtilities#invokeLater(Runnable)}
+ * call per transition per frame there will be only one such call per frame.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-AnimationManager">How to use AnimationManager</a>
+ * @see com.alee.managers.animation.AnimationManager
+ */
+public final class FrameCoalescingHandler implements EventHandler
+{
+    /**
+     * Delegate {@link EventHandler} that will receive coalesced events.
+     */
+    @NotNull
+    private final EventHandler delegate;
+
+    /**
+     * Lock for frame state and queued events.
+     */
+    @NotNull
+    private final Object lock;
+
+    /**
+     * Amount of currently open frames.
+     */
+    private int frames;
+
+    /**
+     * Events queued within currently open frames.
+     */
+    @NotNull
+    private List<Runnable> events;
+
+    /**
+     * Constructs new {@link FrameCoalescingHandler} that passes events into Swing Event Dispatch Thread.
+     */
+    public FrameCoalescingHandler ()
+    {
+        this ( EventDispatchThreadHandler.get () );
+    }
+
+    /**
+     * Constructs new {@link FrameCoalescingHandler}.
+     *
+     * @param delegate delegate {@link EventHandler} that will receive coalesced events
+     */
+    public FrameCoalescingHandler ( @NotNull final EventHandler delegate )
+    {
+        this.delegate = delegate;
+        this.lock = new Object ();
+        this.frames = 0;
+        this.events = new ArrayList<Runnable> ();
+    }
+
+    /**
+     * Returns delegate {@link EventHandler} that receives coalesced events.
+     *
+     * @return delegate {@link EventHandler} that receives coalesced events
+     */
+    @NotNull
+    public EventHandler getDelegate ()
+    {
+        return delegate;
+    }
+
+    /**
+     * Opens new frame.
+     * All events submitted until frame is closed will be queued.
+     */
+    public void openFrame ()
+    {
+        synchronized ( lock )
+        {
+            frames++;
+        }
+    }
+
+    /**
+     * Closes previously opened frame.
+     * If it was the last open frame all queued events will be passed to delegate {@link EventHandler} as a single event.
+     */
+    public void closeFrame ()
+    {
+        synchronized ( lock )
+        {
+            if ( frames > 0 )
+            {
+                frames--;
+                if ( frames == 0 && events.size () > 0 )
+                {
+                    // Passing events while still holding the lock to preserve order with events submitted from other threads
+                    final List<Runnable> batch = events;
+                    events = new ArrayList<Runnable> ( batch.size () );
+                    delegate.handle ( new EventBatch ( batch ) );
+                }
+            }
+        }
+    }
+
+    @Override
+    public void handle ( @NotNull final Runnable event )
+    {
+        synchronized ( lock )
+        {
+            if ( frames > 0 )
+            {
+                events.add ( event );
+            }
+            else
+            {
+                delegate.handle ( event );
+            }
+        }
+    }
+
+    /**
+     * {@link Runnable} performing a batch of events in their submission order.
+     */
+    private static final class EventBatch implements Runnable
+    {
+        /**
+         * Events to perform.
+         */
+        @NotNull
+        private final List<Runnable> events;
+
+        /**
+         * Constructs new {@link EventBatch}.
+         *
+         * @param events events to perform
+         */
+        public EventBatch ( @NotNull final List<Runnable> events )
+        {
+            this.events = events;
+        }
+
+        @Override
+        public void run ()
+        {
+            for ( final Runnable event : events )
+            {
+                try
+                {
+                    event.run ();
+                }
+                catch ( final Exception e )
+                {
+                    // Each event must be performed regardless of exceptions in other events, just like separately submitted ones
+                    LoggerFactory.getLogger ( FrameCoalescingHandler.class ).error ( "Unable to perform transition event", e );
+                }
+            }
+        }
+    }
+}
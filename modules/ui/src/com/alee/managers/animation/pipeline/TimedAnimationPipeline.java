@@ -17,11 +17,16 @@
 
 package com.alee.managers.animation.pipeline;
 
+import com.alee.managers.animation.event.EventHandler;
+import com.alee.managers.animation.event.FrameCoalescingHandler;
+import com.alee.managers.animation.transition.AbstractTransition;
 import com.alee.managers.animation.transition.Transition;
 import com.alee.utils.ReflectUtils;
 import com.alee.utils.TimeUtils;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 
@@ -34,6 +39,7 @@ import java.util.concurrent.ConcurrentSkipListSet;
  * 2. This pipeline does not guarantee that each transition frame will be executed exactly in time, but it tries to do so
  * 3. This pipeline do guarantee that each transition frame will be executed sooner or later depending on queue load and other factors
  * 4. Nanoseconds are used as unit of measurement as a more precise way to determine frames position on the timeline
+ * 5. Events of transitions using {@link FrameCoalescingHandler} are delivered as a single event per animator tick
  *
  * @author Mikle Garin
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-AnimationManager">How to use AnimationManager</a>
@@ -51,6 +57,12 @@ public final class TimedAnimationPipeline extends AbstractAnimationPipeline impl
      */
     private final Thread animator;
 
+    /**
+     * {@link FrameCoalescingHandler}s opened within current animator tick.
+     * This list is only used from the {@link #animator} thread.
+     */
+    private final List<FrameCoalescingHandler> openHandlers;
+
     /**
      * Constructs new {@link TimedAnimationPipeline}.
      */
@@ -59,6 +71,9 @@ public final class TimedAnimationPipeline extends AbstractAnimationPipeline impl
         // Concurrent transitions set
         transitions = new ConcurrentSkipListSet<Transition> ();
 
+        // Coalescing handlers opened within animator tick
+        openHandlers = new ArrayList<FrameCoalescingHandler> ( 1 );
+
         // Active transitions animator
         animator = new Thread ( TimedAnimationPipeline.this );
         animator.setName ( ReflectUtils.getClassName ( TimedAnimationPipeline.this.getClass () ) );
@@ -92,25 +107,36 @@ public final class TimedAnimationPipeline extends AbstractAnimationPipeline impl
                     // First frame is always ignored
                     if ( previousFrame > 0 )
                     {
-                        // Calculating new list of transitions that should be processed next
-                        for ( final Transition transition : transitions )
+                        try
                         {
-                            // Performing next transition step
-                            // It is up to specific transition implementation to proceed
-                            final long untilNextFrame = transition.proceed ( previousFrame, currentFrame );
-
-                            // Checking time until next transition frame
-                            if ( untilNextFrame <= 0 )
-                            {
-                                // Removing finished or aborted transition from pipeline
-                                transitions.remove ( transition );
-                            }
-                            else if ( delay <= 0 || untilNextFrame < delay )
+                            // Calculating new list of transitions that should be processed next
+                            for ( final Transition transition : transitions )
                             {
-                                // Updating next delay based on current transition if it is still running
-                                delay = untilNextFrame;
+                                // Opening frame for coalescing event handler used by transition
+                                openFrame ( transition );
+
+                                // Performing next transition step
+                                // It is up to specific transition implementation to proceed
+                                final long untilNextFrame = transition.proceed ( previousFrame, currentFrame );
+
+                                // Checking time until next transition frame
+                                if ( untilNextFrame <= 0 )
+                                {
+                                    // Removing finished or aborted transition from pipeline
+                                    transitions.remove ( transition );
+                                }
+                                else if ( delay <= 0 || untilNextFrame < delay )
+                                {
+                                    // Updating next delay based on current transition if it is still running
+                                    delay = untilNextFrame;
+                                }
                             }
                         }
+                        finally
+                        {
+                            // Delivering all events coalesced within this tick
+                            closeFrames ();
+                        }
                     }
 
                     // Updating previous time with current cycle start time
@@ -205,6 +231,37 @@ public final class TimedAnimationPipeline extends AbstractAnimationPipeline impl
         }
     }
 
+    /**
+     * Opens frame for the {@link FrameCoalescingHandler} used by specified {@link Transition}, if it wasn't opened in this tick yet.
+     *
+     * @param transition {@link Transition} to open frame for
+     */
+    private void openFrame ( final Transition transition )
+    {
+        if ( transition instanceof AbstractTransition )
+        {
+            final EventHandler handler = ( ( AbstractTransition ) transition ).getEventHandler ();
+            if ( handler instanceof FrameCoalescingHandler && !openHandlers.contains ( handler ) )
+            {
+                final FrameCoalescingHandler coalescingHandler = ( FrameCoalescingHandler ) handler;
+                coalescingHandler.openFrame ();
+                openHandlers.add ( coalescingHandler );
+            }
+        }
+    }
+
+    /**
+     * Closes frames for all {@link FrameCoalescingHandler}s opened within this tick.
+     */
+    private void closeFrames ()
+    {
+        for ( final FrameCoalescingHandler handler : openHandlers )
+        {
+            handler.closeFrame ();
+        }
+        openHandlers.clear ();
+    }
+
     /**
      * Resets animator thread.
      * This will update next tick time and also reset transitions which were supposed to be procesed next.
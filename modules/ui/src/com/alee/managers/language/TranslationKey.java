@@ -43,6 +43,11 @@ public final class TranslationKey
     @Nullable
     private Object[] data;
 
+    /**
+     * Whether or not component translation is outdated and awaits update.
+     */
+    private boolean outdated;
+
     /**
      * Constructs new {@link TranslationKey}.
      *
@@ -53,6 +58,7 @@ public final class TranslationKey
     {
         this.key = key;
         this.data = data;
+        this.outdated = false;
     }
 
     /**
@@ -86,4 +92,24 @@ public final class TranslationKey
     {
         this.data = data;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns whether or not component translation is outdated and awaits update.
+     *
+     * @return {@code true} if component translation is outdated and awaits update, {@code false} otherwise
+     */
+    public boolean isOutdated ()
+    {
+        return outdated;
+    }
+
+    /**
+     * Sets whether or not component translation is outdated and awaits update.
+     *
+     * @param outdated whether or not component translation is outdated and awaits update
+     */
+    public void setOutdated ( final boolean outdated )
+    {
+        this.outdated = outdated;
+    }
+}
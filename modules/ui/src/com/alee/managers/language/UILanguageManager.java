@@ -38,11 +38,15 @@ import com.alee.laf.tooltip.SwingToolTipLanguage;
 import com.alee.managers.language.data.Dictionary;
 import com.alee.managers.tooltip.CustomToolTipLanguage;
 import com.alee.utils.ArrayUtils;
+import com.alee.utils.collection.WeakHashSet;
 import com.alee.utils.swing.WeakComponentData;
 import com.alee.utils.swing.WeakComponentDataOrderedSet;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.util.List;
 import java.util.*;
@@ -108,6 +112,64 @@ public final class UILanguageManager
     private static final WeakComponentData<JComponent, TranslationKey> components =
             new WeakComponentData<JComponent, TranslationKey> ( "WebLanguageManager.TranslationKey", 100 );
 
+    /**
+     * Registered components indexed by their language keys.
+     * It allows updating only components affected by partial {@link Dictionary} changes instead of checking all registered components.
+     * Components are referenced weakly, so they are removed from this index automatically once garbage-collected.
+     * Keys are sorted to allow updating all components with keys starting with specific prefix.
+     * Entry: [ language key -> registered components ]
+     *
+     * @see #updateComponents(Set)
+     * @see #updateComponentsWithPrefix(String)
+     */
+    @NotNull
+    private static final NavigableMap<String, Set<JComponent>> componentsByKey = new TreeMap<String, Set<JComponent>> ();
+
+    /**
+     * Amount of {@link #componentsByKey} index modifications since language keys left without components were last purged.
+     * Guarded by {@link #componentsByKey} lock.
+     *
+     * @see #purgeIndexedComponents()
+     */
+    private static int indexModifications = 0;
+
+    /**
+     * Maximum time in milliseconds single slice of components language update is allowed to take on the Event Dispatch Thread.
+     * Zero or negative value means that all registered components are updated at once.
+     */
+    private static long componentsUpdateSliceTime = 0;
+
+    /**
+     * Whether or not components that are not showing should only be updated once they are displayed.
+     */
+    private static boolean lazyHiddenComponentsUpdate = false;
+
+    /**
+     * {@link HierarchyListener} that updates outdated components language once they are displayed.
+     * It is only installed into components that were not showing at the time language update was requested.
+     */
+    @NotNull
+    private static final HierarchyListener outdatedComponentsListener = new HierarchyListener ()
+    {
+        @Override
+        public void hierarchyChanged ( @NotNull final HierarchyEvent e )
+        {
+            if ( ( e.getChangeFlags () & HierarchyEvent.SHOWING_CHANGED ) != 0 && e.getComponent ().isShowing () )
+            {
+                final JComponent component = ( JComponent ) e.getComponent ();
+                final TranslationKey translationKey = components.get ( component );
+                if ( translationKey != null && translationKey.isOutdated () )
+                {
+                    updateComponent ( component );
+                }
+                else
+                {
+                    component.removeHierarchyListener ( this );
+                }
+            }
+        }
+    };
+
     /**
      * Special comparator for sorting LanguageUpdaters list.
      */
@@ -309,6 +371,52 @@ public final class UILanguageManager
         checkComponentsTextForTranslations = check;
     }
 
+    /**
+     * Returns maximum time in milliseconds single slice of components language update is allowed to take on the Event Dispatch Thread.
+     *
+     * @return maximum time in milliseconds single slice of components language update is allowed to take on the Event Dispatch Thread
+     */
+    public static long getComponentsUpdateSliceTime ()
+    {
+        return componentsUpdateSliceTime;
+    }
+
+    /**
+     * Sets maximum time in milliseconds single slice of components language update is allowed to take on the Event Dispatch Thread.
+     * When it is specified showing components are updated right away and all other components are updated in multiple slices,
+     * each in a separate Event Dispatch Thread event, so application stays responsive while large amount of components is updated.
+     * Zero or negative value means that all registered components are updated at once, which is the default behavior.
+     *
+     * @param time maximum time in milliseconds single slice of components language update is allowed to take on the EDT
+     */
+    public static void setComponentsUpdateSliceTime ( final long time )
+    {
+        UILanguageManager.componentsUpdateSliceTime = time;
+    }
+
+    /**
+     * Returns whether or not components that are not showing should only be updated once they are displayed.
+     *
+     * @return {@code true} if components that are not showing should only be updated once they are displayed, {@code false} otherwise
+     */
+    public static boolean isLazyHiddenComponentsUpdate ()
+    {
+        return lazyHiddenComponentsUpdate;
+    }
+
+    /**
+     * Sets whether or not components that are not showing should only be updated once they are displayed.
+     * When enabled only showing components are updated right away, all other components are simply marked as outdated and
+     * will be updated when they are displayed for the first time, so hidden tabs or cached dialogs do not slow down language change.
+     * Note that outdated components keep their previous translation until they are displayed or updated explicitly.
+     *
+     * @param lazy whether or not components that are not showing should only be updated once they are displayed
+     */
+    public static void setLazyHiddenComponentsUpdate ( final boolean lazy )
+    {
+        UILanguageManager.lazyHiddenComponentsUpdate = lazy;
+    }
+
     /**
      * Returns {@link Icon} for the specified {@link Language}.
      * By default there are {@link Icon}s only for languages supported by WebLaF.
@@ -651,6 +759,7 @@ public final class UILanguageManager
 
         // Registering component
         components.set ( component, new TranslationKey ( key, actualData ) );
+        addIndexedComponent ( key, component );
 
         // Updating component language
         updateComponent ( component );
@@ -667,7 +776,15 @@ public final class UILanguageManager
         mustBeInitialized ();
 
         // Unregistering component
+        final TranslationKey translationKey = components.get ( component );
         components.clear ( component );
+
+        // Cancelling pending update
+        if ( translationKey != null )
+        {
+            removeIndexedComponent ( translationKey.getKey (), component );
+            updated ( component, translationKey );
+        }
     }
 
     /**
@@ -704,45 +821,157 @@ public final class UILanguageManager
 
     /**
      * Forces full language update for all registered components.
+     * Depending on {@link #getComponentsUpdateSliceTime()} and {@link #isLazyHiddenComponentsUpdate()} settings components that are
+     * not showing might be updated later.
      */
     public static void updateComponents ()
+    {
+        updateComponents ( null );
+    }
+
+    /**
+     * Forces language update for components with the specified keys.
+     * Depending on {@link #getComponentsUpdateSliceTime()} and {@link #isLazyHiddenComponentsUpdate()} settings components that are
+     * not showing might be updated later.
+     *
+     * @param keys language keys of the components to update, {@code null} to update all registered components
+     */
+    public static void updateComponents ( @Nullable final Set<String> keys )
     {
         // Must be initialized
         mustBeInitialized ();
 
-        // Updating all registered components
-        components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
+        // Updating components registered for provided keys
+        final Collection<JComponent> registered;
+        if ( keys != null )
         {
-            @Override
-            public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+            registered = new ArrayList<JComponent> ();
+            synchronized ( componentsByKey )
             {
-                updateComponent ( component );
+                for ( final String key : keys )
+                {
+                    final Set<JComponent> indexed = componentsByKey.get ( key );
+                    if ( indexed != null )
+                    {
+                        if ( indexed.isEmpty () )
+                        {
+                            // All components for this key were garbage-collected
+                            componentsByKey.remove ( key );
+                        }
+                        else
+                        {
+                            registered.addAll ( indexed );
+                        }
+                    }
+                }
             }
-        } );
+        }
+        else
+        {
+            registered = components.components ();
+        }
+        updateComponentsImpl ( registered );
     }
 
     /**
-     * Forces language update for components with the specified keys.
+     * Forces language update for components with keys starting with the specified prefix.
+     * Depending on {@link #getComponentsUpdateSliceTime()} and {@link #isLazyHiddenComponentsUpdate()} settings components that are
+     * not showing might be updated later.
      *
-     * @param keys language keys of the components to update
+     * @param prefix language keys prefix of the components to update
      */
-    public static void updateComponents ( @NotNull final Set<String> keys )
+    public static void updateComponentsWithPrefix ( @NotNull final String prefix )
     {
         // Must be initialized
         mustBeInitialized ();
 
-        // Updating components registered for provided keys
-        components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
+        // Updating components registered for keys starting with provided prefix
+        final Collection<JComponent> registered = new ArrayList<JComponent> ();
+        synchronized ( componentsByKey )
         {
-            @Override
-            public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+            final Iterator<Map.Entry<String, Set<JComponent>>> iterator = componentsByKey.tailMap ( prefix, true ).entrySet ().iterator ();
+            while ( iterator.hasNext () )
             {
-                if ( keys.contains ( translationKey.getKey () ) )
+                final Map.Entry<String, Set<JComponent>> entry = iterator.next ();
+                if ( !entry.getKey ().startsWith ( prefix ) )
                 {
-                    updateComponent ( component );
+                    break;
+                }
+                if ( entry.getValue ().isEmpty () )
+                {
+                    // All components for this key were garbage-collected
+                    iterator.remove ();
+                }
+                else
+                {
+                    registered.addAll ( entry.getValue () );
                 }
             }
-        } );
+        }
+        updateComponentsImpl ( registered );
+    }
+
+    /**
+     * Performs language update for the specified registered components.
+     * Components that are showing are updated first, visible ones are updated before hidden ones.
+     *
+     * @param registered registered components to update
+     */
+    private static void updateComponentsImpl ( @NotNull final Collection<JComponent> registered )
+    {
+        // Collecting components
+        final List<JComponent> showing = new ArrayList<JComponent> ();
+        final List<JComponent> visible = new ArrayList<JComponent> ();
+        final List<JComponent> hidden = new ArrayList<JComponent> ();
+        final boolean lazy = lazyHiddenComponentsUpdate;
+        final boolean deferred = lazy || componentsUpdateSliceTime > 0;
+        for ( final JComponent component : registered )
+        {
+            final TranslationKey translationKey = components.get ( component );
+            if ( translationKey != null )
+            {
+                if ( component.isShowing () )
+                {
+                    translationKey.setOutdated ( true );
+                    showing.add ( component );
+                }
+                else
+                {
+                    // Component will be updated as soon as it is displayed unless we reach it earlier
+                    if ( !translationKey.isOutdated () )
+                    {
+                        translationKey.setOutdated ( true );
+                        if ( deferred )
+                        {
+                            component.addHierarchyListener ( outdatedComponentsListener );
+                        }
+                    }
+                    if ( !lazy )
+                    {
+                        if ( component.isVisible () )
+                        {
+                            visible.add ( component );
+                        }
+                        else
+                        {
+                            hidden.add ( component );
+                        }
+                    }
+                }
+            }
+        }
+        final List<JComponent> outdated = new ArrayList<JComponent> ( showing.size () + visible.size () + hidden.size () );
+        outdated.addAll ( showing );
+        outdated.addAll ( visible );
+        outdated.addAll ( hidden );
+
+        // Updating components
+        final ComponentsUpdate update = new ComponentsUpdate ( outdated, showing.size () );
+        if ( !update.update ( componentsUpdateSliceTime ) )
+        {
+            // Updating remaining components later
+            SwingUtilities.invokeLater ( update );
+        }
     }
 
     /**
@@ -769,6 +998,9 @@ public final class UILanguageManager
             // Updating component language
             final LanguageUpdater updater = getLanguageUpdater ( component );
             updater.update ( component, LM.getLanguage (), translationKey.getKey (), translationKey.getData () );
+
+            // Marking component updated
+            updated ( component, translationKey );
         }
         else
         {
@@ -795,12 +1027,24 @@ public final class UILanguageManager
             final Object[] actualData = getActualData ( component, key, data );
 
             // Updating component translation settings
+            final TranslationKey oldKey = components.get ( component );
             final TranslationKey translationKey = new TranslationKey ( key, actualData );
             components.set ( component, translationKey );
 
             // Updating component language
             final LanguageUpdater updater = getLanguageUpdater ( component );
             updater.update ( component, LM.getLanguage (), translationKey.getKey (), translationKey.getData () );
+
+            // Marking component updated
+            if ( oldKey != null )
+            {
+                if ( !oldKey.getKey ().equals ( key ) )
+                {
+                    removeIndexedComponent ( oldKey.getKey (), component );
+                    addIndexedComponent ( key, component );
+                }
+                updated ( component, oldKey );
+            }
         }
         else
         {
@@ -809,6 +1053,89 @@ public final class UILanguageManager
         }
     }
 
+    /**
+     * Adds {@link JComponent} into index of components registered for the specified language key.
+     *
+     * @param key       language key
+     * @param component registered {@link JComponent}
+     */
+    private static void addIndexedComponent ( @NotNull final String key, @NotNull final JComponent component )
+    {
+        synchronized ( componentsByKey )
+        {
+            Set<JComponent> indexed = componentsByKey.get ( key );
+            if ( indexed == null )
+            {
+                indexed = new WeakHashSet<JComponent> ( 1 );
+                componentsByKey.put ( key, indexed );
+            }
+            indexed.add ( component );
+            purgeIndexedComponents ();
+        }
+    }
+
+    /**
+     * Removes {@link JComponent} from index of components registered for the specified language key.
+     * Language key is also removed from index if there are no more components registered for it.
+     *
+     * @param key       language key
+     * @param component unregistered {@link JComponent}
+     */
+    private static void removeIndexedComponent ( @NotNull final String key, @NotNull final JComponent component )
+    {
+        synchronized ( componentsByKey )
+        {
+            final Set<JComponent> indexed = componentsByKey.get ( key );
+            if ( indexed != null )
+            {
+                indexed.remove ( component );
+                if ( indexed.isEmpty () )
+                {
+                    componentsByKey.remove ( key );
+                }
+            }
+            purgeIndexedComponents ();
+        }
+    }
+
+    /**
+     * Removes language keys with all components garbage-collected from {@link #componentsByKey} index.
+     * Full index check is only performed once amount of index modifications reaches index size, so that it is amortized across
+     * registrations and unregistrations and keys of components that were never unregistered do not pile up in the index.
+     * Must be called under {@link #componentsByKey} lock.
+     */
+    private static void purgeIndexedComponents ()
+    {
+        indexModifications++;
+        if ( indexModifications >= Math.max ( 64, componentsByKey.size () ) )
+        {
+            final Iterator<Set<JComponent>> iterator = componentsByKey.values ().iterator ();
+            while ( iterator.hasNext () )
+            {
+                if ( iterator.next ().isEmpty () )
+                {
+                    iterator.remove ();
+                }
+            }
+            indexModifications = 0;
+        }
+    }
+
+    /**
+     * Clears outdated mark from {@link TranslationKey} of the {@link JComponent} that was just updated or unregistered.
+     *
+     * @param component      {@link JComponent} that was updated or unregistered
+     * @param translationKey {@link TranslationKey} used for the {@link JComponent} before
+     */
+    private static void updated ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+    {
+        if ( translationKey.isOutdated () )
+        {
+            translationKey.setOutdated ( false );
+            component.removeHierarchyListener ( outdatedComponentsListener );
+        }
+    }
+
     /**
      * Returns actual {@link JComponent} translation data based on its translation settings.
      *
@@ -997,4 +1324,81 @@ public final class UILanguageManager
             }
         } );
     }
-}
\ No newline at end of file
+
+    /**
+     * Language update of outdated components.
+     * Showing components are always updated in the first slice, all other components are updated in slices limited by time,
+     * each slice is performed in a separate Event Dispatch Thread event.
+     */
+    private static final class ComponentsUpdate implements Runnable
+    {
+        /**
+         * Components to update in order of their priority.
+         */
+        @NotNull
+        private final List<WeakReference<JComponent>> components;
+
+        /**
+         * Amount of components that must be updated in the first slice.
+         */
+        private final int urgent;
+
+        /**
+         * Amount of components already processed.
+         */
+        private int updated;
+
+        /**
+         * Constructs new {@link ComponentsUpdate}.
+         *
+         * @param components components to update in order of their priority
+         * @param urgent     amount of components that must be updated in the first slice
+         */
+        public ComponentsUpdate ( @NotNull final List<JComponent> components, final int urgent )
+        {
+            this.components = new ArrayList<WeakReference<JComponent>> ( components.size () );
+            for ( final JComponent component : components )
+            {
+                this.components.add ( new WeakReference<JComponent> ( component ) );
+            }
+            this.urgent = urgent;
+            this.updated = 0;
+        }
+
+        /**
+         * Updates next slice of components.
+         *
+         * @param time maximum slice time in milliseconds, zero or negative value to update all remaining components
+         * @return {@code true} if all components are updated, {@code false} otherwise
+         */
+        public boolean update ( final long time )
+        {
+            final long end = System.nanoTime () + time * 1000000L;
+            while ( updated < components.size () && ( updated < urgent || time <= 0 || System.nanoTime () < end ) )
+            {
+                final JComponent component = components.get ( updated ).get ();
+                components.set ( updated, null );
+                updated++;
+                if ( component != null )
+                {
+                    // Component might have been updated, unregistered or displayed since update was started
+                    final TranslationKey translationKey = UILanguageManager.components.get ( component );
+                    if ( translationKey != null && translationKey.isOutdated () )
+                    {
+                        updateComponent ( component );
+                    }
+                }
+            }
+            return updated == components.size ();
+        }
+
+        @Override
+        public void run ()
+        {
+            if ( !update ( componentsUpdateSliceTime ) )
+            {
+                SwingUtilities.invokeLater ( this );
+            }
+        }
+    }
+}
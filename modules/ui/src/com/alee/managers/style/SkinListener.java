@@ -27,6 +27,7 @@ import java.util.EventListener;
  *
  * @author Mikle Garin
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-StyleManager">How to use StyleManager</a>
+ * @see SkinUpdateListener
  * @see StyleManager
  */
 public interface SkinListener extends EventListener
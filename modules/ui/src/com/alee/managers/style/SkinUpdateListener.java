@@ -0,0 +1,44 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.style;
+
+import com.alee.api.annotations.NotNull;
+
+/**
+ * Optional extension of {@link SkinListener} that is also informed about skin update progress.
+ * It is registered through {@link StyleManager#addSkinListener(SkinListener)} just like any other {@link SkinListener}.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-StyleManager">How to use StyleManager</a>
+ * @see SkinListener
+ * @see StyleManager
+ */
+public interface SkinUpdateListener extends SkinListener
+{
+    /**
+     * Informs about progress of applying current skin to existing components.
+     * It is called at least once after each skin change, last call always has {@code updated} equal to {@code total}.
+     * Components are updated in multiple slices only if {@link StyleManager#setSkinUpdateSliceTime(long)} is specified.
+     *
+     * @param current current skin
+     * @param updated amount of components already updated
+     * @param total   total amount of components to update
+     */
+    public void skinUpdateProgress ( @NotNull Skin current, int updated, int total );
+}
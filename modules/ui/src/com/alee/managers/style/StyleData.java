@@ -289,12 +289,24 @@ public final class StyleData implements PropertyChangeListener
         final Skin oldSkin;
         if ( skin != this.skin )
         {
-            // Removing old skin
-            oldSkin = removeSkin ();
+            // Checking whether or not resolved style actually changes
+            // There is no need to reapply exactly the same style, so we simply switch skin reference in that case
+            final boolean sameStyle = this.skin != null && this.skin.getStyle ( component ).isSameStyle ( skin.getStyle ( component ) );
+            if ( sameStyle )
+            {
+                // Keeping applied style
+                oldSkin = this.skin;
+                this.skin = skin;
+            }
+            else
+            {
+                // Removing old skin
+                oldSkin = removeSkin ();
 
-            // Applying new skin to specified component
-            this.skin = skin;
-            skin.applySkin ( component );
+                // Applying new skin to specified component
+                this.skin = skin;
+                skin.applySkin ( component );
+            }
 
             // Resetting pinned state if skin was changed
             // If it is needed skin will be pinned again after this method call
@@ -317,7 +329,10 @@ public final class StyleData implements PropertyChangeListener
             fireSkinChanged ( component, oldSkin, skin );
 
             // Informing about skin visual update
-            fireSkinUpdated ( component, getStyleId () );
+            if ( !sameStyle )
+            {
+                fireSkinUpdated ( component, getStyleId () );
+            }
         }
         else
         {
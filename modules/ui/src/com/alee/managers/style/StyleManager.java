@@ -136,9 +136,11 @@ import com.alee.utils.collection.ImmutableList;
 import com.alee.utils.ninepatch.NinePatchIcon;
 import com.alee.utils.reflection.LazyInstance;
 import com.alee.utils.swing.WeakComponentData;
+import org.slf4j.LoggerFactory;
 
 import javax.swing.*;
 import javax.swing.event.EventListenerList;
+import java.lang.ref.WeakReference;
 import java.util.*;
 
 /**
@@ -174,19 +176,23 @@ public final class StyleManager
     /**
      * {@link ComponentDescriptor}s cached by their identifiers.
      * This cache contains only {@link ComponentDescriptor}s which exist in {@link #descriptors} list.
-     * Whenever some {@link ComponentDescriptor} is unregistered or replaced by another one it is also cleared from this cache.
+     * It is never modified, instead it is replaced with an updated copy whenever {@link #descriptors} list changes.
+     * That way it can be safely read from any thread without synchronization.
      */
     @NotNull
-    private static final Map<String, ComponentDescriptor> descriptorsByIdentifier = new HashMap<String, ComponentDescriptor> ( 60 );
+    private static volatile Map<String, ComponentDescriptor> descriptorsByIdentifier = new HashMap<String, ComponentDescriptor> ( 0 );
 
     /**
      * {@link ComponentDescriptor}s cached by {@link JComponent} class.
      * This cache contains only {@link ComponentDescriptor}s which exist in {@link #descriptors} list.
-     * Whenever some {@link ComponentDescriptor} is unregistered or replaced by another one it is also cleared from this cache.
+     * Besides registered classes it also contains resolved descriptors for their subclasses, including {@code null} ones.
+     * It is never modified, instead it is replaced with an updated copy whenever new class is resolved or {@link #descriptors} list
+     * changes, in the latter case all resolved subclasses are dropped. That way it can be safely read from any thread without
+     * synchronization, which is important since it is used for each style lookup.
      */
     @NotNull
-    private static final Map<Class<? extends JComponent>, ComponentDescriptor> descriptorsByClass =
-            new HashMap<Class<? extends JComponent>, ComponentDescriptor> ( 60 );
+    private static volatile Map<Class<? extends JComponent>, ComponentDescriptor> descriptorsByClass =
+            new HashMap<Class<? extends JComponent>, ComponentDescriptor> ( 0 );
 
     /**
      * Various component style related data which includes:
@@ -246,6 +252,18 @@ public final class StyleManager
      */
     private static boolean strictStyleChecks = true;
 
+    /**
+     * Maximum time in milliseconds single slice of skin update is allowed to take on the Event Dispatch Thread.
+     * Zero or negative value means that skin is applied to all existing components at once.
+     */
+    private static long skinUpdateSliceTime = 0;
+
+    /**
+     * Skin update that is still in progress, {@code null} if there is none.
+     */
+    @Nullable
+    private static SkinUpdate skinUpdate = null;
+
     /**
      * Whether {@link StyleManager} is initialized or not.
      */
@@ -628,6 +646,30 @@ public final class StyleManager
         StyleManager.strictStyleChecks = strict;
     }
 
+    /**
+     * Returns maximum time in milliseconds single slice of skin update is allowed to take on the Event Dispatch Thread.
+     *
+     * @return maximum time in milliseconds single slice of skin update is allowed to take on the Event Dispatch Thread
+     */
+    public static long getSkinUpdateSliceTime ()
+    {
+        return skinUpdateSliceTime;
+    }
+
+    /**
+     * Sets maximum time in milliseconds single slice of skin update is allowed to take on the Event Dispatch Thread.
+     * When it is specified skin is applied to existing components in multiple slices, each in a separate Event Dispatch Thread event,
+     * so application stays responsive while large amount of components is updated. Showing components are updated first, then
+     * visible ones and hidden ones last. Progress of the update is reported to {@link SkinUpdateListener}s.
+     * Zero or negative value means that skin is applied to all existing components at once, which is the default behavior.
+     *
+     * @param time maximum time in milliseconds single slice of skin update is allowed to take on the Event Dispatch Thread
+     */
+    public static void setSkinUpdateSliceTime ( final long time )
+    {
+        StyleManager.skinUpdateSliceTime = time;
+    }
+
     /**
      * Returns all registered {@link ComponentDescriptor}s count.
      *
@@ -677,20 +719,16 @@ public final class StyleManager
         // Checking manager initialization
         mustBeInitialized ();
 
-        // Synchronized by descriptors
-        synchronized ( descriptors )
-        {
-            // Looking for descriptor
-            final ComponentDescriptor descriptor = descriptorsByIdentifier.get ( id );
-
-            // Ensure we found descriptor
-            if ( descriptor == null )
-            {
-                throw new StyleException ( "There is no descriptor registered with identifier: " + id );
-            }
+        // Looking for descriptor
+        final ComponentDescriptor descriptor = descriptorsByIdentifier.get ( id );
 
-            return descriptor;
+        // Ensure we found descriptor
+        if ( descriptor == null )
+        {
+            throw new StyleException ( "There is no descriptor registered with identifier: " + id );
         }
+
+        return descriptor;
     }
 
     /**
@@ -718,60 +756,107 @@ public final class StyleManager
         // Checking manager initialization
         mustBeInitialized ();
 
-        // Synchronized by descriptors
-        synchronized ( descriptors )
-        {
-            // Looking for descriptor
-            final ComponentDescriptor descriptor = getDescriptorImpl ( componentClass );
-
-            // Ensure we found descriptor
-            if ( descriptor == null )
-            {
-                throw new StyleException ( "There is no descriptor registered for: " + componentClass );
-            }
+        // Looking for descriptor
+        final ComponentDescriptor descriptor = getDescriptorImpl ( componentClass );
 
-            return descriptor;
+        // Ensure we found descriptor
+        if ( descriptor == null )
+        {
+            throw new StyleException ( "There is no descriptor registered for: " + componentClass );
         }
+
+        return descriptor;
     }
 
     /**
      * Returns {@link ComponentDescriptor} for the specified {@link JComponent} class.
+     * Only first lookup for each {@link JComponent} class is synchronized, all further lookups are lock-free.
      *
      * @param componentClass {@link JComponent} class to find {@link ComponentDescriptor} for
      * @return {@link ComponentDescriptor} for the specified {@link JComponent} class
      */
     @Nullable
     private static ComponentDescriptor getDescriptorImpl ( @NotNull final Class<? extends JComponent> componentClass )
+    {
+        final ComponentDescriptor descriptor;
+        final Map<Class<? extends JComponent>, ComponentDescriptor> cache = descriptorsByClass;
+        if ( cache.containsKey ( componentClass ) )
+        {
+            // Looking for cached descriptor
+            descriptor = cache.get ( componentClass );
+        }
+        else
+        {
+            // Synchronized by descriptors
+            synchronized ( descriptors )
+            {
+                // Resolving descriptor
+                descriptor = resolveDescriptor ( componentClass );
+            }
+        }
+        return descriptor;
+    }
+
+    /**
+     * Returns {@link ComponentDescriptor} resolved for the specified {@link JComponent} class.
+     * Resolved {@link ComponentDescriptor} is also cached for all classes it was resolved for.
+     * This method must only be called while holding {@link #descriptors} lock.
+     *
+     * @param componentClass {@link JComponent} class to find {@link ComponentDescriptor} for
+     * @return {@link ComponentDescriptor} resolved for the specified {@link JComponent} class
+     */
+    @Nullable
+    private static ComponentDescriptor resolveDescriptor ( @NotNull final Class<? extends JComponent> componentClass )
     {
         final ComponentDescriptor descriptor;
         if ( descriptorsByClass.containsKey ( componentClass ) )
         {
-            // Looking for registered descriptor
+            // Looking for cached descriptor
             descriptor = descriptorsByClass.get ( componentClass );
         }
         else
         {
             // Only check descriptors for JComponent superclass types
             final Class<?> superclass = componentClass.getSuperclass ();
-            if ( JComponent.class.isAssignableFrom ( superclass ) )
+            if ( superclass != null && JComponent.class.isAssignableFrom ( superclass ) )
             {
-                final Class<? extends JComponent> componentSuperClass = ( Class<? extends JComponent> ) superclass;
-
                 // Looking for component superclass descriptor
-                descriptor = getDescriptorImpl ( componentSuperClass );
-
-                // Caching descriptor
-                descriptorsByClass.put ( componentClass, descriptor );
+                descriptor = resolveDescriptor ( ( Class<? extends JComponent> ) superclass );
             }
             else
             {
                 // No descriptor
                 descriptor = null;
             }
+
+            // Caching descriptor
+            final Map<Class<? extends JComponent>, ComponentDescriptor> cache =
+                    new HashMap<Class<? extends JComponent>, ComponentDescriptor> ( descriptorsByClass );
+            cache.put ( componentClass, descriptor );
+            descriptorsByClass = cache;
         }
         return descriptor;
     }
 
+    /**
+     * Replaces {@link ComponentDescriptor} caches with the ones built from the {@link #descriptors} list.
+     * All previously resolved {@link JComponent} subclasses are dropped and will be resolved again on request.
+     * This method must only be called while holding {@link #descriptors} lock.
+     */
+    private static void updateDescriptorCaches ()
+    {
+        final Map<String, ComponentDescriptor> byIdentifier = new HashMap<String, ComponentDescriptor> ( descriptors.size () );
+        final Map<Class<? extends JComponent>, ComponentDescriptor> byClass =
+                new HashMap<Class<? extends JComponent>, ComponentDescriptor> ( descriptors.size () );
+        for ( final ComponentDescriptor descriptor : descriptors )
+        {
+            byIdentifier.put ( descriptor.getId (), descriptor );
+            byClass.put ( descriptor.getComponentClass (), descriptor );
+        }
+        descriptorsByIdentifier = byIdentifier;
+        descriptorsByClass = byClass;
+    }
+
     /**
      * Returns whether or not styling is supported for the component with the specified identifier.
      *
@@ -812,18 +897,20 @@ public final class StyleManager
             final Class componentClass = descriptor.getComponentClass ();
 
             // Removing existing descriptor with same class
-            final ComponentDescriptor toRemove = descriptorsByClass.get ( componentClass );
-            if ( toRemove != null )
+            // Resolved subclass descriptors are not checked here since they belong to superclasses
+            for ( final ComponentDescriptor registered : new ArrayList<ComponentDescriptor> ( descriptors ) )
             {
-                unregisterComponentDescriptor ( toRemove );
+                if ( registered.getComponentClass () == componentClass )
+                {
+                    unregisterComponentDescriptor ( registered );
+                }
             }
 
             // Saving new descriptor
             descriptors.add ( descriptor );
 
-            // Caching descriptor
-            descriptorsByIdentifier.put ( descriptor.getId (), descriptor );
-            descriptorsByClass.put ( componentClass, descriptor );
+            // Updating descriptor caches
+            updateDescriptorCaches ();
 
             // Updating UIDefaults
             if ( WebLookAndFeel.isInstalled () )
@@ -852,19 +939,8 @@ public final class StyleManager
             // Removing descriptor
             descriptors.remove ( descriptor );
 
-            // Removing descriptor cache by identifier
-            descriptorsByIdentifier.remove ( descriptor.getId () );
-
-            // Removing descriptor cache by class
-            final Iterator<Map.Entry<Class<? extends JComponent>, ComponentDescriptor>> byClassIterator =
-                    descriptorsByClass.entrySet ().iterator ();
-            while ( byClassIterator.hasNext () )
-            {
-                if ( byClassIterator.next ().getValue () == descriptor )
-                {
-                    byClassIterator.remove ();
-                }
-            }
+            // Updating descriptor caches
+            updateDescriptorCaches ();
 
             // todo A way to restore default descriptors upon custom ones removal?
         }
@@ -1041,10 +1117,13 @@ public final class StyleManager
             try
             {
                 // Trying to apply new skin
-                setSkinImpl ( skin );
+                final SkinUpdate update = setSkinImpl ( skin );
 
                 // Informing about skin change
                 fireSkinChanged ( previousSkin, skin );
+
+                // Informing about skin update progress
+                fireSkinUpdateProgress ( skin, update.getUpdated (), update.getTotal () );
             }
             catch ( final Exception e )
             {
@@ -1065,10 +1144,13 @@ public final class StyleManager
     /**
      * Applies specified {@link Skin} to all {@link Styleable} components.
      * That {@link Skin} will also be applied to all {@link Styleable} components created afterwards.
+     * Only first slice of components is updated right away if {@link #getSkinUpdateSliceTime()} is specified.
      *
      * @param skin {@link Skin} to apply
+     * @return {@link SkinUpdate} for existing components
      */
-    private static void setSkinImpl ( @NotNull final Skin skin )
+    @NotNull
+    private static SkinUpdate setSkinImpl ( @NotNull final Skin skin )
     {
         // Updating currently applied skin
         currentSkin = skin;
@@ -1076,24 +1158,60 @@ public final class StyleManager
         // Installing new skin
         skin.install ();
 
-        // Applying new skin to all existing skinnable components
+        // Cancelling unfinished skin update
+        // All components it didn't reach yet will be updated with the new skin anyway
+        if ( skinUpdate != null )
+        {
+            skinUpdate.cancel ();
+            skinUpdate = null;
+        }
+
+        // Collecting existing skinnable components
+        // Components that are showing and visible are updated first
+        final List<JComponent> showing = new ArrayList<JComponent> ();
+        final List<JComponent> visible = new ArrayList<JComponent> ();
+        final List<JComponent> hidden = new ArrayList<JComponent> ();
         styleData.forEach ( new BiConsumer<JComponent, StyleData> ()
         {
             @Override
             public void accept ( final JComponent component, final StyleData styleData )
             {
-                if ( !styleData.isPinnedSkin () && styleData.getSkin () != currentSkin )
+                if ( !styleData.isPinnedSkin () && styleData.getSkin () != skin )
                 {
-                    // There is no need to update child style components here as we will reach them anyway
-                    // So we simply update each single component skin separately
-                    styleData.applySkin ( skin, false );
+                    if ( component.isShowing () )
+                    {
+                        showing.add ( component );
+                    }
+                    else if ( component.isVisible () )
+                    {
+                        visible.add ( component );
+                    }
+                    else
+                    {
+                        hidden.add ( component );
+                    }
                 }
             }
         } );
+        final List<JComponent> components = new ArrayList<JComponent> ( showing.size () + visible.size () + hidden.size () );
+        components.addAll ( showing );
+        components.addAll ( visible );
+        components.addAll ( hidden );
+
+        // Applying new skin to all existing skinnable components
+        final SkinUpdate update = new SkinUpdate ( skin, components );
+        if ( !update.update ( skinUpdateSliceTime ) )
+        {
+            // Updating remaining components later
+            skinUpdate = update;
+            SwingUtilities.invokeLater ( update );
+        }
 
         // Clearing icon caches
         // todo Can be done more optimally maybe?
         IconManager.clearIconCaches ();
+
+        return update;
     }
 
     /**
@@ -1419,4 +1537,158 @@ public final class StyleManager
             listener.skinChanged ( previous, current );
         }
     }
+
+    /**
+     * Informs {@link SkinUpdateListener}s about progress of applying current skin to existing components.
+     *
+     * @param current current skin
+     * @param updated amount of components already updated
+     * @param total   total amount of components to update
+     */
+    public static void fireSkinUpdateProgress ( @NotNull final Skin current, final int updated, final int total )
+    {
+        for ( final SkinListener listener : listenerList.getListeners ( SkinListener.class ) )
+        {
+            if ( listener instanceof SkinUpdateListener )
+            {
+                ( ( SkinUpdateListener ) listener ).skinUpdateProgress ( current, updated, total );
+            }
+        }
+    }
+
+    /**
+     * Update of existing components with new {@link Skin}.
+     * It can be performed in multiple slices limited by time, each slice is performed in a separate Event Dispatch Thread event.
+     */
+    private static final class SkinUpdate implements Runnable
+    {
+        /**
+         * {@link Skin} to apply.
+         */
+        @NotNull
+        private final Skin skin;
+
+        /**
+         * Components to update in order of their priority.
+         */
+        @NotNull
+        private final List<WeakReference<JComponent>> components;
+
+        /**
+         * Amount of components already updated.
+         */
+        private int updated;
+
+        /**
+         * Whether or not this update was cancelled.
+         */
+        private boolean cancelled;
+
+        /**
+         * Constructs new {@link SkinUpdate}.
+         *
+         * @param skin       {@link Skin} to apply
+         * @param components components to update in order of their priority
+         */
+        public SkinUpdate ( @NotNull final Skin skin, @NotNull final List<JComponent> components )
+        {
+            this.skin = skin;
+            this.components = new ArrayList<WeakReference<JComponent>> ( components.size () );
+            for ( final JComponent component : components )
+            {
+                this.components.add ( new WeakReference<JComponent> ( component ) );
+            }
+            this.updated = 0;
+            this.cancelled = false;
+        }
+
+        /**
+         * Returns amount of components already updated.
+         *
+         * @return amount of components already updated
+         */
+        public int getUpdated ()
+        {
+            return updated;
+        }
+
+        /**
+         * Returns total amount of components to update.
+         *
+         * @return total amount of components to update
+         */
+        public int getTotal ()
+        {
+            return components.size ();
+        }
+
+        /**
+         * Cancels this update.
+         */
+        public void cancel ()
+        {
+            cancelled = true;
+        }
+
+        /**
+         * Updates next slice of components.
+         *
+         * @param time maximum slice time in milliseconds, zero or negative value to update all remaining components
+         * @return {@code true} if all components are updated, {@code false} otherwise
+         */
+        public boolean update ( final long time )
+        {
+            final long end = System.nanoTime () + time * 1000000L;
+            while ( updated < components.size () && ( time <= 0 || System.nanoTime () < end ) )
+            {
+                final JComponent component = components.get ( updated ).get ();
+                components.set ( updated, null );
+                updated++;
+                if ( component != null )
+                {
+                    // Component might have been uninstalled or received different skin since update was started
+                    final StyleData data = styleData.get ( component );
+                    if ( data != null && !data.isPinnedSkin () && data.getSkin () != skin )
+                    {
+                        // There is no need to update child style components here as we will reach them anyway
+                        // So we simply update each single component skin separately
+                        data.applySkin ( skin, false );
+                    }
+                }
+            }
+            return updated == components.size ();
+        }
+
+        @Override
+        public void run ()
+        {
+            synchronized ( skinLock )
+            {
+                if ( !cancelled )
+                {
+                    boolean done;
+                    try
+                    {
+                        done = update ( skinUpdateSliceTime );
+                    }
+                    catch ( final Exception e )
+                    {
+                        // Skin cannot be rolled back at this point, so we simply continue with other components
+                        final String msg = "Unable to apply skin '%s' to component";
+                        LoggerFactory.getLogger ( StyleManager.class ).error ( String.format ( msg, skin ), e );
+                        done = updated == components.size ();
+                    }
+                    if ( done )
+                    {
+                        skinUpdate = null;
+                    }
+                    else
+                    {
+                        SwingUtilities.invokeLater ( this );
+                    }
+                    fireSkinUpdateProgress ( skin, updated, components.size () );
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
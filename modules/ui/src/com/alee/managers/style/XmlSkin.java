@@ -23,6 +23,7 @@ import com.alee.api.resource.Resource;
 import com.alee.managers.icon.set.IconSet;
 import com.alee.managers.style.data.ComponentStyle;
 import com.alee.managers.style.data.SkinInfo;
+import com.alee.managers.style.data.SkinSnapshot;
 import com.alee.utils.XmlUtils;
 
 import javax.swing.*;
@@ -42,6 +43,12 @@ import java.util.List;
  */
 public class XmlSkin extends AbstractSkin
 {
+    /**
+     * Skin {@link Resource}, {@code null} if skin was constructed from {@link SkinInfo} directly.
+     */
+    @Nullable
+    protected final Resource resource;
+
     /**
      * Complete information about this skin.
      */
@@ -50,12 +57,14 @@ public class XmlSkin extends AbstractSkin
 
     /**
      * Constructs new {@link XmlSkin}.
+     * Skin will be restored from {@link SkinSnapshot} if there is an up-to-date one available.
      *
-     * @param resource extension {@link Resource}
+     * @param resource skin {@link Resource}
      */
     public XmlSkin ( @NotNull final Resource resource )
     {
-        this ( ( SkinInfo ) XmlUtils.fromXML ( resource ) );
+        this.resource = resource;
+        this.skinInfo = loadSkinInfo ( resource );
     }
 
     /**
@@ -65,9 +74,28 @@ public class XmlSkin extends AbstractSkin
      */
     public XmlSkin ( @NotNull final SkinInfo skinInfo )
     {
+        this.resource = null;
         this.skinInfo = skinInfo;
     }
 
+    /**
+     * Returns {@link SkinInfo} restored from {@link SkinSnapshot} or read from the specified skin {@link Resource}.
+     *
+     * @param resource skin {@link Resource}
+     * @return {@link SkinInfo} restored from {@link SkinSnapshot} or read from the specified skin {@link Resource}
+     */
+    @NotNull
+    protected static SkinInfo loadSkinInfo ( @NotNull final Resource resource )
+    {
+        SkinInfo skinInfo = SkinSnapshot.load ( resource );
+        if ( skinInfo == null )
+        {
+            skinInfo = XmlUtils.fromXML ( resource );
+            skinInfo.getSources ().add ( 0, resource );
+        }
+        return skinInfo;
+    }
+
     /**
      * Returns skin information.
      *
@@ -132,6 +160,12 @@ public class XmlSkin extends AbstractSkin
     public void install ()
     {
         skinInfo.install ();
+
+        // Saving skin snapshot for faster subsequent launches
+        if ( resource != null )
+        {
+            SkinSnapshot.save ( resource, skinInfo );
+        }
     }
 
     @Override
@@ -134,7 +134,9 @@ public class XmlSkinExtension implements SkinExtension
     @NotNull
     public SkinInfo getData ( @NotNull final String skinClass )
     {
-        return XmlUtils.fromXML ( resource, new XStreamContext ( SkinInfoConverter.SKIN_CLASS, skinClass ) );
+        final SkinInfo data = XmlUtils.fromXML ( resource, new XStreamContext ( SkinInfoConverter.SKIN_CLASS, skinClass ) );
+        data.getSources ().add ( 0, resource );
+        return data;
     }
 
     @NotNull
@@ -22,6 +22,7 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.Clone;
 import com.alee.api.clone.CloneBehavior;
 import com.alee.api.clone.RecursiveClone;
+import com.alee.api.clone.behavior.OmitOnClone;
 import com.alee.api.clone.behavior.PreserveOnClone;
 import com.alee.api.jdk.Objects;
 import com.alee.api.merge.Merge;
@@ -35,6 +36,8 @@ import com.alee.painter.PainterSupport;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.LafUtils;
 import com.alee.utils.ReflectUtils;
+import com.alee.utils.reflection.ClassCache;
+import com.alee.utils.reflection.ReflectionException;
 import com.alee.utils.swing.InsetsUIResource;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -46,7 +49,9 @@ import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
 import java.awt.*;
 import java.io.Serializable;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +67,28 @@ import java.util.Map;
 @XStreamConverter ( ComponentStyleConverter.class )
 public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Serializable
 {
+    /**
+     * Default {@link Painter} constructors.
+     * Entry: [ painter class -> painter constructor ]
+     */
+    @NotNull
+    private static final ClassCache<Constructor> painterConstructors = new ClassCache<Constructor> ()
+    {
+        @NotNull
+        @Override
+        protected Constructor computeValue ( @NotNull final Class type )
+        {
+            try
+            {
+                return ReflectUtils.getConstructor ( type );
+            }
+            catch ( final NoSuchMethodException e )
+            {
+                throw new ReflectionException ( e );
+            }
+        }
+    };
+
     /**
      * Style component type.
      * Refers to identifier of a component this style belongs to.
@@ -121,6 +148,15 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
     @PreserveOnClone
     private transient ComponentStyle parent;
 
+    /**
+     * Content fingerprint of this {@link ComponentStyle}, empty if it cannot be computed.
+     * It is lazily computed only for resolved {@link ComponentStyle}s which are never modified afterwards.
+     *
+     * @see #isSameStyle(ComponentStyle)
+     */
+    @OmitOnClone
+    private transient byte[] fingerprint;
+
     /**
      * Returns supported component type.
      *
@@ -379,7 +415,7 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
         // Creating painter instance
         // Be aware that all painters must have default constructor
         final String painterClass = painterStyle.getPainterClass ();
-        final Painter painter = ReflectUtils.createInstanceSafely ( painterClass );
+        final Painter painter = createPainter ( painterClass );
         if ( painter == null )
         {
             final String msg = "Unable to create painter '%s' in style '%s'";
@@ -393,6 +429,31 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
         return painter;
     }
 
+    /**
+     * Returns new {@link Painter} instance of the specified class, {@code null} if it cannot be created.
+     *
+     * @param painterClass {@link Painter} class canonical name
+     * @return new {@link Painter} instance of the specified class, {@code null} if it cannot be created
+     */
+    @Nullable
+    private static Painter createPainter ( @NotNull final String painterClass )
+    {
+        Painter painter;
+        try
+        {
+            // Retrieving cached constructor
+            final Constructor constructor = painterConstructors.get ( ReflectUtils.loadClass ( painterClass ) );
+
+            // Creating painter instance
+            painter = ( Painter ) constructor.newInstance ();
+        }
+        catch ( final Exception e )
+        {
+            painter = null;
+        }
+        return painter;
+    }
+
     /**
      * Applies properties to specified object fields.
      *
@@ -554,26 +615,18 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
                 }
             }
 
+            // Applying value using setter method or field
+            final PropertyApplier applier;
             try
             {
-                // todo Add more options on the method names here?
-                // Trying to use setter method to apply the specified value
-                final String setterMethod = ReflectUtils.getSetterMethodName ( field );
-                ReflectUtils.callMethod ( object, setterMethod, usable );
+                applier = PropertyApplier.get ( object.getClass (), field, usable );
             }
-            catch ( final NoSuchMethodException e )
+            catch ( final NoSuchFieldException e )
             {
-                try
-                {
-                    // Applying field value directly
-                    ReflectUtils.setFieldValue ( object, field, usable );
-                }
-                catch ( final Exception fe )
-                {
-                    final String msg = "Unable to set `%s` object `%s` field value to: %s";
-                    throw new StyleException ( String.format ( msg, object, field, usable ), fe );
-                }
+                final String msg = "Unable to set `%s` object `%s` field value to: %s";
+                throw new StyleException ( String.format ( msg, object, field, usable ), e );
             }
+            applier.apply ( object, usable );
         }
     }
 
@@ -825,6 +878,70 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
         }
     }
 
+    /**
+     * Returns whether or not specified {@link ComponentStyle} has exactly the same content as this one.
+     * It allows skipping {@link ComponentStyle} reapplication when {@link com.alee.managers.style.Skin} changes but resolved
+     * {@link ComponentStyle} for the component stays the same. Content is compared using fingerprints that are computed only once
+     * per {@link ComponentStyle}, so it should only be used for resolved {@link ComponentStyle}s which are not modified anymore.
+     *
+     * @param style {@link ComponentStyle} to compare with
+     * @return {@code true} if specified {@link ComponentStyle} has exactly the same content as this one, {@code false} otherwise
+     */
+    public boolean isSameStyle ( @Nullable final ComponentStyle style )
+    {
+        final boolean same;
+        if ( style == this )
+        {
+            same = true;
+        }
+        else if ( style != null )
+        {
+            final byte[] fingerprint = getFingerprint ();
+            same = fingerprint.length > 0 && Arrays.equals ( fingerprint, style.getFingerprint () );
+        }
+        else
+        {
+            same = false;
+        }
+        return same;
+    }
+
+    /**
+     * Returns content fingerprint of this {@link ComponentStyle}, empty if it cannot be computed.
+     *
+     * @return content fingerprint of this {@link ComponentStyle}, empty if it cannot be computed
+     */
+    @NotNull
+    private byte[] getFingerprint ()
+    {
+        if ( fingerprint == null )
+        {
+            // Empty properties are appended to styles upon application, so they are appended to the copy to get consistent results
+            final ComponentStyle copy = clone ();
+            appendEmptyComponentProperties ( copy );
+            final byte[] computed = SkinSnapshot.fingerprint ( copy );
+            fingerprint = computed != null ? computed : new byte[ 0 ];
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Appends empty property values to the specified {@link ComponentStyle} and all of its nested {@link ComponentStyle}s.
+     *
+     * @param style {@link ComponentStyle} to append empty property values to
+     */
+    private static void appendEmptyComponentProperties ( @NotNull final ComponentStyle style )
+    {
+        style.appendEmptyComponentProperties ( style.getComponentProperties () );
+        if ( CollectionUtils.notEmpty ( style.getNestedStyles () ) )
+        {
+            for ( final ComponentStyle nestedStyle : style.getNestedStyles () )
+            {
+                appendEmptyComponentProperties ( nestedStyle );
+            }
+        }
+    }
+
     @NotNull
     @Override
     public ComponentStyle clone ( @NotNull final RecursiveClone clone, final int depth )
@@ -0,0 +1,207 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.ReflectUtils;
+import com.alee.utils.reflection.ClassCache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled applier of a single {@link ComponentStyle} property.
+ * It is resolved only once per object class, property name and value class and then simply reused.
+ * Property is applied using setter method if one exists or by setting field value directly otherwise.
+ *
+ * @author Mikle Garin
+ * @see ComponentStyle
+ */
+final class PropertyApplier
+{
+    /**
+     * Resolved appliers.
+     * They are kept in {@link ClassCache} since appliers reference object class through their setter methods and fields.
+     * Entry: [ object class -> [ property key -> applier ] ]
+     */
+    @NotNull
+    private static final ClassCache<ConcurrentMap<Key, PropertyApplier>> appliers = new ClassCache<ConcurrentMap<Key, PropertyApplier>> ()
+    {
+        @NotNull
+        @Override
+        protected ConcurrentMap<Key, PropertyApplier> computeValue ( @NotNull final Class type )
+        {
+            return new ConcurrentHashMap<Key, PropertyApplier> ( 4 );
+        }
+    };
+
+    /**
+     * Property setter method, {@code null} if property is applied through field.
+     */
+    @Nullable
+    private final Method setter;
+
+    /**
+     * Property field, {@code null} if property is applied through setter method.
+     */
+    @Nullable
+    private final Field field;
+
+    /**
+     * Constructs new {@link PropertyApplier}.
+     *
+     * @param setter property setter method, {@code null} if property is applied through field
+     * @param field  property field, {@code null} if property is applied through setter method
+     */
+    private PropertyApplier ( @Nullable final Method setter, @Nullable final Field field )
+    {
+        this.setter = setter;
+        this.field = field;
+    }
+
+    /**
+     * Applies property value to the specified object.
+     *
+     * @param object object instance
+     * @param value  property value
+     * @throws InvocationTargetException if setter method throws an exception
+     * @throws IllegalAccessException    if setter method or field is inaccessible
+     */
+    public void apply ( @NotNull final Object object, @Nullable final Object value )
+            throws InvocationTargetException, IllegalAccessException
+    {
+        if ( setter != null )
+        {
+            setter.invoke ( object, value );
+        }
+        else
+        {
+            ReflectUtils.setFieldValue ( object, field, value );
+        }
+    }
+
+    /**
+     * Returns applier for the specified object class, property name and value.
+     *
+     * @param type     object class
+     * @param property property name
+     * @param value    property value
+     * @return applier for the specified object class, property name and value
+     * @throws NoSuchFieldException if neither setter method nor field exist for the property
+     */
+    @NotNull
+    public static PropertyApplier get ( @NotNull final Class type, @NotNull final String property, @Nullable final Object value )
+            throws NoSuchFieldException
+    {
+        // Setter method depends on value type, so it is a part of the key
+        final Key key = new Key ( property, value != null ? value.getClass () : null );
+
+        // Checking cache
+        final ConcurrentMap<Key, PropertyApplier> typeAppliers = appliers.get ( type );
+        PropertyApplier applier = typeAppliers.get ( key );
+
+        // Updating cache
+        if ( applier == null )
+        {
+            applier = resolve ( type, property, value );
+            final PropertyApplier existing = typeAppliers.putIfAbsent ( key, applier );
+            if ( existing != null )
+            {
+                applier = existing;
+            }
+        }
+
+        return applier;
+    }
+
+    /**
+     * Returns newly resolved applier for the specified object class, property name and value.
+     *
+     * @param type     object class
+     * @param property property name
+     * @param value    property value
+     * @return newly resolved applier for the specified object class, property name and value
+     * @throws NoSuchFieldException if neither setter method nor field exist for the property
+     */
+    @NotNull
+    private static PropertyApplier resolve ( @NotNull final Class type, @NotNull final String property, @Nullable final Object value )
+            throws NoSuchFieldException
+    {
+        PropertyApplier applier;
+        try
+        {
+            // todo Add more options on the method names here?
+            // Trying to use setter method to apply the value
+            final String setterMethod = ReflectUtils.getSetterMethodName ( property );
+            applier = new PropertyApplier ( ReflectUtils.getMethod ( type, setterMethod, value ), null );
+        }
+        catch ( final NoSuchMethodException e )
+        {
+            // Applying field value directly
+            applier = new PropertyApplier ( null, ReflectUtils.getField ( type, property ) );
+        }
+        return applier;
+    }
+
+    /**
+     * Property key.
+     */
+    private static final class Key
+    {
+        /**
+         * Property name.
+         */
+        @NotNull
+        private final String property;
+
+        /**
+         * Property value class, {@code null} for {@code null} value.
+         */
+        @Nullable
+        private final Class valueType;
+
+        /**
+         * Constructs new {@link Key}.
+         *
+         * @param property  property name
+         * @param valueType property value class, {@code null} for {@code null} value
+         */
+        public Key ( @NotNull final String property, @Nullable final Class valueType )
+        {
+            this.property = property;
+            this.valueType = valueType;
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            return object instanceof Key && property.equals ( ( ( Key ) object ).property ) &&
+                    valueType == ( ( Key ) object ).valueType;
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return property.hashCode () * 31 + ( valueType != null ? valueType.hashCode () : 0 );
+        }
+    }
+}
@@ -20,11 +20,13 @@ package com.alee.managers.style.data;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Objects;
+import com.alee.api.resource.Resource;
 import com.alee.managers.icon.IconManager;
 import com.alee.managers.icon.set.IconSet;
 import com.alee.managers.style.*;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.TextUtils;
+import com.alee.utils.XmlUtils;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamConverter;
 import org.slf4j.LoggerFactory;
@@ -32,10 +34,11 @@ import org.slf4j.LoggerFactory;
 import javax.swing.*;
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Basic information about the skin and its styles.
- * Styles cache is also resolved here when style requested or an extension is added.
+ * Each style is resolved here only once it is requested, only styles it extends or overrides are resolved along with it.
  *
  * @author Mikle Garin
  * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-StyleManager">How to use StyleManager</a>
@@ -109,16 +112,44 @@ public final class SkinInfo implements Serializable
 
     /**
      * Skin styles cache map.
-     * It is automatically filled-in by the {@link com.alee.managers.style.data.SkinInfoConverter} with compiled styles.
+     * It is filled-in on demand with styles compiled into their final forms, see {@link #getStyle(JComponent)}.
+     * It contains an entry for every component type skin has styles for even if none of those styles were resolved yet.
      * It is not serialized and only available and used in runtime for performance reasons.
+     * Entry: [ component type -> [ complete style ID -> style ] ]
      */
-    private transient Map<String, Map<String, ComponentStyle>> stylesCache;
+    private transient volatile Map<String, Map<String, ComponentStyle>> stylesCache;
+
+    /**
+     * Indices of top-level {@link #styles} that are already resolved.
+     */
+    private transient BitSet resolvedStyles;
+
+    /**
+     * Amount of top-level {@link #styles} resolved so far.
+     */
+    private transient volatile int resolvedStylesCount;
 
     /**
      * Extensions already processed by this data.
      */
     private transient Map<String, Boolean> processedExtensions;
 
+    /**
+     * {@link Resource}s this skin was read from, including all included files.
+     */
+    private transient List<Resource> sources;
+
+    /**
+     * {@link Resource}s of extensions applied to this skin.
+     * Entry: [ extension ID -> extension resources ]
+     */
+    private transient Map<String, List<Resource>> appliedExtensions;
+
+    /**
+     * {@link SkinSnapshot} styles are restored from on demand, {@code null} if this skin is not backed by snapshot.
+     */
+    private transient SkinSnapshot snapshot;
+
     /**
      * Returns skin ID.
      *
@@ -328,6 +359,31 @@ public final class SkinInfo implements Serializable
         this.author = author;
     }
 
+    /**
+     * Returns {@link Resource}s this skin was read from, including all included files.
+     *
+     * @return {@link Resource}s this skin was read from, including all included files
+     */
+    @NotNull
+    public List<Resource> getSources ()
+    {
+        if ( sources == null )
+        {
+            sources = new ArrayList<Resource> ( 1 );
+        }
+        return sources;
+    }
+
+    /**
+     * Adds {@link Resource}s this skin was read from.
+     *
+     * @param sources {@link Resource}s this skin was read from
+     */
+    public void addSources ( @NotNull final List<Resource> sources )
+    {
+        getSources ().addAll ( sources );
+    }
+
     /**
      * Called upon this skin installation as default global skin.
      */
@@ -385,6 +441,9 @@ public final class SkinInfo implements Serializable
     @NotNull
     public List<ComponentStyle> getStyles ()
     {
+        // Restoring all styles from snapshot
+        restoreStyles ();
+
         return styles;
     }
 
@@ -396,6 +455,7 @@ public final class SkinInfo implements Serializable
     public void setStyles ( @NotNull final List<ComponentStyle> styles )
     {
         this.styles = styles;
+        this.snapshot = null;
     }
 
     /**
@@ -415,11 +475,11 @@ public final class SkinInfo implements Serializable
         // Searching for appropriate style
         final ComponentStyle componentStyle;
         final ComponentDescriptor descriptor = StyleManager.getDescriptor ( component );
-        final Map<String, ComponentStyle> componentStyles = stylesCache.get ( descriptor.getId () );
-        if ( componentStyles != null )
+        final String type = descriptor.getId ();
+        if ( hasStyles ( type ) )
         {
             final String styleId = StyleId.getCompleteId ( component );
-            final ComponentStyle style = componentStyles.get ( styleId );
+            final ComponentStyle style = getCachedStyle ( type, styleId );
             if ( style != null )
             {
                 // We have found required style
@@ -433,7 +493,7 @@ public final class SkinInfo implements Serializable
 
                 // Trying to use default component style
                 final String defaultStyleId = StyleId.getDefault ( component ).getCompleteId ();
-                final ComponentStyle defaultStyle = componentStyles.get ( defaultStyleId );
+                final ComponentStyle defaultStyle = getCachedStyle ( type, defaultStyleId );
                 if ( defaultStyle != null )
                 {
                     componentStyle = defaultStyle;
@@ -455,28 +515,312 @@ public final class SkinInfo implements Serializable
         return componentStyle;
     }
 
+    /**
+     * Returns whether or not there are any styles for the specified component type.
+     *
+     * @param type component type
+     * @return {@code true} if there are any styles for the specified component type, {@code false} otherwise
+     */
+    private boolean hasStyles ( @NotNull final String type )
+    {
+        return stylesCache.containsKey ( type ) || snapshot != null && snapshot.hasStyles ( type );
+    }
+
+    /**
+     * Returns cached style for the specified component type and complete style ID, resolving it if needed.
+     *
+     * @param type component type
+     * @param id   complete style ID
+     * @return cached style for the specified component type and complete style ID
+     */
+    @Nullable
+    private ComponentStyle getCachedStyle ( @NotNull final String type, @NotNull final String id )
+    {
+        final SkinSnapshot snapshot = this.snapshot;
+        if ( snapshot != null )
+        {
+            try
+            {
+                snapshot.load ( type, id, stylesCache );
+            }
+            catch ( final StyleException e )
+            {
+                // Snapshot is unusable, falling back to skin sources
+                LoggerFactory.getLogger ( SkinInfo.class ).error ( "Unable to use skin snapshot", e );
+                reloadStyles ();
+            }
+        }
+        final Map<String, ComponentStyle> componentStyles = stylesCache.get ( type );
+        ComponentStyle style = componentStyles != null ? componentStyles.get ( id ) : null;
+        if ( style == null && this.snapshot == null )
+        {
+            style = resolveStyle ( type, id );
+        }
+        return style;
+    }
+
+    /**
+     * Returns resolved style for the specified component type and complete style ID, {@code null} if it doesn't exist.
+     * Only top-level styles that might contain requested style are resolved, see {@link #resolveStyle(int)}.
+     *
+     * @param type component type
+     * @param id   complete style ID
+     * @return resolved style for the specified component type and complete style ID, {@code null} if it doesn't exist
+     */
+    @Nullable
+    private synchronized ComponentStyle resolveStyle ( @NotNull final String type, @NotNull final String id )
+    {
+        // Checking whether or not style was resolved while we were waiting
+        final Map<String, ComponentStyle> componentStyles = stylesCache.get ( type );
+        ComponentStyle result = componentStyles != null ? componentStyles.get ( id ) : null;
+        if ( result == null && componentStyles != null )
+        {
+            // Checking top-level styles in reverse order since styles declared later replace previous ones with the same ID
+            for ( int i = styles.size () - 1; i >= 0 && result == null; i-- )
+            {
+                // Nested style IDs always start with the path of their top-level style
+                final ComponentStyle style = styles.get ( i );
+                final String pathId = style.getType () + ":" + style.getId () + StyleId.styleSeparator;
+                if ( Objects.equals ( style.getType (), type ) && Objects.equals ( style.getId (), id ) || id.startsWith ( pathId ) )
+                {
+                    result = findResolvedStyle ( resolveStyle ( i ), type, id );
+                }
+            }
+            if ( result != null )
+            {
+                componentStyles.put ( id, result );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns top-level style at the specified index resolving it first if needed.
+     * This will resolve style overrides and extended styles, including all top-level styles it depends on.
+     *
+     * @param index top-level style index
+     * @return resolved top-level style at the specified index
+     */
+    @NotNull
+    private synchronized ComponentStyle resolveStyle ( final int index )
+    {
+        if ( !resolvedStyles.get ( index ) )
+        {
+            // Merging style overrides
+            performOverride ( styles, styles, index, index );
+
+            // Checking style for cyclic references
+            buildStyle ( styles, index, new ArrayList<String> ( 1 ), new HashMap<String, List<String>> () );
+
+            // Marking style as resolved
+            resolvedStyles.set ( index );
+            resolvedStylesCount++;
+        }
+        return styles.get ( index );
+    }
+
+    /**
+     * Returns style with the specified component type and complete style ID from the resolved style tree.
+     *
+     * @param style resolved style
+     * @param type  component type
+     * @param id    complete style ID
+     * @return style with the specified component type and complete style ID from the resolved style tree
+     */
+    @Nullable
+    private ComponentStyle findResolvedStyle ( @NotNull final ComponentStyle style, @NotNull final String type,
+                                               @NotNull final String id )
+    {
+        ComponentStyle result = null;
+        final List<ComponentStyle> nestedStyles = style.getNestedStyles ();
+        for ( int i = nestedStyles.size () - 1; i >= 0 && result == null; i-- )
+        {
+            result = findResolvedStyle ( nestedStyles.get ( i ), type, id );
+        }
+        if ( result == null && Objects.equals ( style.getType (), type ) && Objects.equals ( style.getCompleteId (), id ) )
+        {
+            result = style;
+        }
+        return result;
+    }
+
+    /**
+     * Returns amount of top-level styles resolved so far.
+     * Every resolved top-level style includes all of its nested styles.
+     *
+     * @return amount of top-level styles resolved so far
+     */
+    public int getResolvedStylesCount ()
+    {
+        return resolvedStylesCount;
+    }
+
+    /**
+     * Restores all styles from {@link SkinSnapshot} if this skin is backed by one.
+     * This is required for any operations that involve all skin styles at once, like extensions application.
+     */
+    private void restoreStyles ()
+    {
+        if ( snapshot != null )
+        {
+            try
+            {
+                styles = snapshot.loadAll ( stylesCache );
+                resolvedStyles = new BitSet ( styles.size () );
+                resolvedStyles.set ( 0, styles.size () );
+                resolvedStylesCount = styles.size ();
+                snapshot = null;
+            }
+            catch ( final StyleException e )
+            {
+                // Snapshot is unusable, falling back to skin sources
+                LoggerFactory.getLogger ( SkinInfo.class ).error ( "Unable to use skin snapshot", e );
+                reloadStyles ();
+            }
+        }
+    }
+
+    /**
+     * Reloads all styles from the skin and applied extensions sources.
+     * It is only used when {@link SkinSnapshot} this skin is backed by turns out to be unusable.
+     */
+    private void reloadStyles ()
+    {
+        // Discarding unusable snapshot
+        final Resource resource = snapshot.getResource ();
+        SkinSnapshot.delete ( resource );
+        snapshot = null;
+
+        // Reading skin and applying same extensions
+        final SkinInfo skinInfo = XmlUtils.fromXML ( resource );
+        skinInfo.getSources ().add ( 0, resource );
+        skinInfo.ensureCacheInitialized ();
+        for ( final SkinExtension extension : StyleManager.getExtensions () )
+        {
+            if ( appliedExtensions.containsKey ( extension.getId () ) )
+            {
+                skinInfo.applyExtension ( extension );
+            }
+        }
+
+        // Using reloaded styles
+        styles = skinInfo.styles;
+        resolvedStyles = skinInfo.resolvedStyles;
+        resolvedStylesCount = skinInfo.resolvedStylesCount;
+        stylesCache = skinInfo.stylesCache;
+    }
+
+    /**
+     * Returns {@link SkinSnapshot} styles are restored from on demand, {@code null} if this skin is not backed by snapshot.
+     *
+     * @return {@link SkinSnapshot} styles are restored from on demand, {@code null} if this skin is not backed by snapshot
+     */
+    @Nullable
+    SkinSnapshot getSnapshot ()
+    {
+        return snapshot;
+    }
+
+    /**
+     * Returns copy of this skin containing only meta data and icon sets.
+     *
+     * @return copy of this skin containing only meta data and icon sets
+     */
+    @NotNull
+    SkinInfo getMetaData ()
+    {
+        final SkinInfo metaData = new SkinInfo ();
+        metaData.id = id;
+        metaData.skinClass = skinClass;
+        metaData.extendedSkins = extendedSkins != null ? new ArrayList<String> ( extendedSkins ) : null;
+        metaData.supportedSystems = supportedSystems;
+        metaData.icon = icon;
+        metaData.title = title;
+        metaData.description = description;
+        metaData.author = author;
+        metaData.iconSets = new ArrayList<IconSet> ( iconSets );
+        return metaData;
+    }
+
+    /**
+     * Returns copy of {@link Resource}s of extensions applied to this skin.
+     *
+     * @return copy of {@link Resource}s of extensions applied to this skin
+     */
+    @NotNull
+    Map<String, List<Resource>> getAppliedExtensions ()
+    {
+        return appliedExtensions != null ?
+                new LinkedHashMap<String, List<Resource>> ( appliedExtensions ) :
+                new LinkedHashMap<String, List<Resource>> ( 0 );
+    }
+
+    /**
+     * Returns complete styles cache with all skin styles resolved.
+     *
+     * @return complete styles cache with all skin styles resolved
+     */
+    @NotNull
+    synchronized Map<String, Map<String, ComponentStyle>> getStylesCache ()
+    {
+        ensureCacheInitialized ();
+        restoreStyles ();
+        final Map<String, Map<String, ComponentStyle>> cache = new LinkedHashMap<String, Map<String, ComponentStyle>> ( stylesCache.size () );
+        for ( int i = 0; i < styles.size (); i++ )
+        {
+            resolveStyle ( i );
+        }
+        gatherStyles ( styles, cache );
+        return cache;
+    }
+
+    /**
+     * Initializes this skin restored from {@link SkinSnapshot}.
+     *
+     * @param sources           {@link Resource}s skin was read from
+     * @param appliedExtensions {@link Resource}s of extensions applied to the skin
+     * @param snapshot          {@link SkinSnapshot} styles will be restored from on demand
+     */
+    void restore ( @NotNull final List<Resource> sources, @NotNull final Map<String, List<Resource>> appliedExtensions,
+                   @NotNull final SkinSnapshot snapshot )
+    {
+        this.sources = sources;
+        this.appliedExtensions = appliedExtensions;
+        this.processedExtensions = new HashMap<String, Boolean> ( appliedExtensions.size () );
+        for ( final String extension : appliedExtensions.keySet () )
+        {
+            this.processedExtensions.put ( extension, true );
+        }
+        this.snapshot = snapshot;
+        this.stylesCache = new ConcurrentHashMap<String, Map<String, ComponentStyle>> ( StyleManager.getDescriptorsCount () );
+    }
+
     /**
      * Performs skin cache initialization on demand.
-     * This cache will contain all styles compiled into their final forms for actual usage in components.
-     * It optimizes runtime routines a lot by just taking a bit more time at skin initialization.
+     * Styles are not resolved here, each of them is resolved only once it is requested, see {@link #getCachedStyle(String, String)}.
      */
     private void ensureCacheInitialized ()
     {
         if ( stylesCache == null )
         {
-            // Creating cache map
-            stylesCache = new LinkedHashMap<String, Map<String, ComponentStyle>> ( StyleManager.getDescriptorsCount () );
+            synchronized ( this )
+            {
+                if ( stylesCache == null )
+                {
+                    // Creating cache map
+                    final Map<String, Map<String, ComponentStyle>> cache =
+                            new ConcurrentHashMap<String, Map<String, ComponentStyle>> ( StyleManager.getDescriptorsCount () );
 
-            // Merging style overrides
-            performOverride ( styles, 0 );
+                    // Merging top-level styles with the same ID
+                    resolvedStyles = new BitSet ( styles.size () );
+                    mergeStyles ( styles, 0 );
 
-            // Building styles which extend some other styles
-            // We have to merge these manually once to create complete styles
-            buildStyles ( styles, 0 );
+                    // Collecting types of available styles
+                    gatherTypes ( styles, cache );
 
-            // Generating skin info cache
-            // Also merging all styles with the same ID
-            gatherStyles ( styles, stylesCache );
+                    stylesCache = cache;
+                }
+            }
         }
     }
 
@@ -517,6 +861,7 @@ public final class SkinInfo implements Serializable
 
                     // Saving extension application result
                     processedExtensions.put ( extension.getId (), true );
+                    saveAppliedExtension ( extension.getId (), extensionData.getSources () );
                     applied = true;
                 }
                 else if ( CollectionUtils.notEmpty ( extension.getIconSets () ) )
@@ -526,6 +871,7 @@ public final class SkinInfo implements Serializable
 
                     // Saving extension application result
                     processedExtensions.put ( extension.getId (), true );
+                    saveAppliedExtension ( extension.getId (), Collections.<Resource>emptyList () );
                     applied = true;
                 }
                 else
@@ -557,8 +903,11 @@ public final class SkinInfo implements Serializable
      *
      * @param extension applied extension data
      */
-    private void applyExtension ( @NotNull final SkinInfo extension )
+    private synchronized void applyExtension ( @NotNull final SkinInfo extension )
     {
+        // Restoring all styles from snapshot
+        restoreStyles ();
+
         // Applying icon sets
         applyIconSets ( extension.getIconSets () );
 
@@ -566,19 +915,35 @@ public final class SkinInfo implements Serializable
         final int startIndex = styles.size ();
 
         // Adding all extension styles into the pool
-        // Those will be used to generate new caches
+        // Those will be resolved on demand just like skin styles
         styles.addAll ( extension.styles );
 
-        // Merging style overrides
-        performOverride ( styles, startIndex );
+        // Merging top-level styles with the same ID
+        mergeStyles ( styles, startIndex );
+
+        // Collecting types of available styles
+        gatherTypes ( styles.subList ( startIndex, styles.size () ), stylesCache );
 
-        // Building styles which extend some other styles
-        // We have to merge these manually once to create complete styles
-        buildStyles ( styles, startIndex );
+        // Clearing resolved styles cache since extension styles might replace some of them
+        for ( final Map<String, ComponentStyle> componentStyles : stylesCache.values () )
+        {
+            componentStyles.clear ();
+        }
+    }
 
-        // Generating skin info cache
-        // Also merging all styles with the same ID
-        gatherStyles ( styles.subList ( startIndex, styles.size () ), stylesCache );
+    /**
+     * Saves {@link Resource}s of the applied extension.
+     *
+     * @param id      extension ID
+     * @param sources extension {@link Resource}s
+     */
+    private void saveAppliedExtension ( @NotNull final String id, @NotNull final List<Resource> sources )
+    {
+        if ( appliedExtensions == null )
+        {
+            appliedExtensions = new LinkedHashMap<String, List<Resource>> ( 1 );
+        }
+        appliedExtensions.put ( id, sources );
     }
 
     /**
@@ -612,12 +977,12 @@ public final class SkinInfo implements Serializable
     }
 
     /**
-     * Performs style override.
+     * Merges top-level styles with the same type and ID.
      *
-     * @param styles     styles to override
+     * @param styles     top-level styles
      * @param startIndex start index
      */
-    private void performOverride ( @NotNull final List<ComponentStyle> styles, final int startIndex )
+    private void mergeStyles ( @NotNull final List<ComponentStyle> styles, final int startIndex )
     {
         for ( int i = startIndex; i < styles.size (); i++ )
         {
@@ -634,11 +999,6 @@ public final class SkinInfo implements Serializable
                 }
             }
         }
-
-        for ( int i = startIndex; i < styles.size (); i++ )
-        {
-            performOverride ( styles, styles, i, i );
-        }
     }
 
     /**
@@ -787,28 +1147,21 @@ public final class SkinInfo implements Serializable
     }
 
     /**
-     * Builds specified styles.
-     * This will resolve all style dependencies and overrides.
+     * Adds empty styles cache map for every component type used by the specified styles or their nested styles.
      *
-     * @param styles     styles to build
-     * @param startIndex start index
+     * @param styles      styles available on this level
+     * @param stylesCache styles cache map
      */
-    private void buildStyles ( @NotNull final List<ComponentStyle> styles, final int startIndex )
+    private void gatherTypes ( @NotNull final List<ComponentStyle> styles,
+                               @NotNull final Map<String, Map<String, ComponentStyle>> stylesCache )
     {
-        // Creating built style identifiers map
-        final Map<String, List<String>> builtStyles = new HashMap<String, List<String>> ();
-        for ( final ComponentDescriptor descriptor : StyleManager.getDescriptors () )
-        {
-            builtStyles.put ( descriptor.getId (), new ArrayList<String> ( 1 ) );
-        }
-
-        // Special list that will keep only styles which are being built
-        final List<String> building = new ArrayList<String> ();
-
-        // Building provided styles into a new list
-        for ( int i = startIndex; i < styles.size (); i++ )
+        for ( final ComponentStyle style : styles )
         {
-            buildStyle ( styles, i, building, builtStyles );
+            if ( !stylesCache.containsKey ( style.getType () ) )
+            {
+                stylesCache.put ( style.getType (), new ConcurrentHashMap<String, ComponentStyle> ( 4 ) );
+            }
+            gatherTypes ( style.getNestedStyles (), stylesCache );
         }
     }
 
@@ -841,7 +1194,13 @@ public final class SkinInfo implements Serializable
         }
 
         // Checking if this style is not yet built
-        if ( !builtStyles.get ( type ).contains ( completeId ) )
+        List<String> typeStyles = builtStyles.get ( type );
+        if ( typeStyles == null )
+        {
+            typeStyles = new ArrayList<String> ( 1 );
+            builtStyles.put ( type, typeStyles );
+        }
+        if ( !typeStyles.contains ( completeId ) )
         {
             // Adding this style into list of styles we are building right now
             building.add ( uniqueId );
@@ -856,7 +1215,7 @@ public final class SkinInfo implements Serializable
             }
 
             // Adding this styles into built list
-            builtStyles.get ( type ).add ( completeId );
+            typeStyles.add ( completeId );
 
             // Removing this style from building list upon completion
             building.remove ( uniqueId );
@@ -914,15 +1273,26 @@ public final class SkinInfo implements Serializable
     private ComponentStyle findStyle ( @NotNull final String type, @Nullable final String id, @NotNull final List<ComponentStyle> styles,
                                        final int maxIndex )
     {
-        ComponentStyle result = null;
+        int index = -1;
         for ( int i = 0; i < styles.size () && i < maxIndex; i++ )
         {
             final ComponentStyle style = styles.get ( i );
             if ( Objects.equals ( style.getType (), type ) && Objects.equals ( style.getId (), id ) )
             {
-                result = style;
+                index = i;
             }
         }
+
+        // Top-level styles are resolved on demand
+        final ComponentStyle result;
+        if ( index != -1 )
+        {
+            result = styles == this.styles ? resolveStyle ( index ) : styles.get ( index );
+        }
+        else
+        {
+            result = null;
+        }
         return result;
     }
 
@@ -228,6 +228,9 @@ public final class SkinInfoConverter extends ReflectionConverter
                     // Reading included skin
                     final SkinInfo include = readInclude ( skinInfo, nearClass, path );
 
+                    // Saving included skin sources
+                    skinInfo.addSources ( include.getSources () );
+
                     // Merging icon sets to avoid duplicates
                     iconSets = Merge.basicRaw ().nonNullMerge ( iconSets, include.getIconSets () );
 
@@ -297,7 +300,9 @@ public final class SkinInfoConverter extends ReflectionConverter
         }
 
         // Reading skin part from included file
-        return loadSkinInfo ( parent, resource );
+        final SkinInfo include = loadSkinInfo ( parent, resource );
+        include.getSources ().add ( 0, resource );
+        return include;
     }
 
     /**
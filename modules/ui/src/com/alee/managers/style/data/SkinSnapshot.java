@@ -0,0 +1,916 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.resource.Resource;
+import com.alee.api.version.Version;
+import com.alee.managers.style.SkinExtension;
+import com.alee.managers.style.StyleException;
+import com.alee.managers.style.StyleManager;
+import com.alee.utils.FileUtils;
+import com.alee.utils.concurrent.DaemonThreadFactory;
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.Converter;
+import com.thoughtworks.xstream.converters.ConverterLookup;
+import com.thoughtworks.xstream.converters.reflection.PureJavaReflectionProvider;
+import com.thoughtworks.xstream.core.ReferenceByXPathMarshaller;
+import com.thoughtworks.xstream.core.ReferenceByXPathMarshallingStrategy;
+import com.thoughtworks.xstream.core.TreeMarshaller;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+import com.thoughtworks.xstream.io.binary.BinaryStreamDriver;
+import com.thoughtworks.xstream.mapper.Mapper;
+import com.thoughtworks.xstream.security.*;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.Point2D;
+import java.io.*;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compiled binary snapshot of fully resolved {@link SkinInfo}.
+ * It allows skipping skin XML parsing and styles merging on subsequent application launches.
+ *
+ * Snapshot is written once skin is installed and contains skin meta data, icon sets and every resolved style from the styles cache,
+ * including styles provided by the {@link SkinExtension}s applied at that point. Each top-level style is stored as a separate
+ * compressed block, so only styles actually requested by components are restored from the snapshot.
+ *
+ * Snapshot is versioned by the library version and MD5 of every skin and extension XML file it was built from, including all
+ * included files. Whenever any of those change or any of the applied extensions is no longer registered snapshot is simply ignored
+ * and skin is read from XML again, which will produce new snapshot afterwards.
+ *
+ * Snapshots are only used when snapshots directory is specified, see {@link #setDirectory(File)}.
+ *
+ * @author Mikle Garin
+ * @see SkinInfo
+ * @see com.alee.managers.style.XmlSkin
+ */
+public final class SkinSnapshot
+{
+    /**
+     * Snapshot file marker.
+     */
+    private static final int MAGIC = 0x574C5353;
+
+    /**
+     * Snapshot format version.
+     * It must be increased whenever snapshot file structure changes.
+     */
+    private static final int FORMAT = 1;
+
+    /**
+     * Snapshot files extension.
+     */
+    private static final String EXTENSION = ".snapshot";
+
+    /**
+     * Permissions for types that are allowed to be written into and read from snapshots.
+     * Snapshot files come from a configurable directory, so only types used by skins are allowed.
+     */
+    @NotNull
+    private static final TypePermission[] PERMISSIONS = {
+            NullPermission.NULL,
+            PrimitiveTypePermission.PRIMITIVES,
+            ArrayTypePermission.ARRAYS,
+            new WildcardTypePermission ( new String[]{ "com.alee.**" } ),
+            new ExplicitTypePermission ( new Class[]{
+                    String.class,
+                    ArrayList.class,
+                    LinkedList.class,
+                    HashMap.class,
+                    LinkedHashMap.class,
+                    TreeMap.class,
+                    HashSet.class,
+                    LinkedHashSet.class,
+                    TreeSet.class,
+                    ConcurrentHashMap.class,
+                    Color.class,
+                    Insets.class,
+                    Dimension.class,
+                    Point.class,
+                    Point2D.Float.class,
+                    Point2D.Double.class,
+                    Rectangle.class,
+                    BasicStroke.class,
+                    Font.class,
+                    ImageIcon.class
+            } )
+    };
+
+    /**
+     * Directory snapshots are stored in, {@code null} if snapshots are disabled.
+     */
+    @Nullable
+    private static File directory = null;
+
+    /**
+     * {@link XStream} instance used for snapshot data.
+     * Unlike the one provided by {@link com.alee.utils.XmlUtils} it uses plain reflection and binary format for all data.
+     */
+    @Nullable
+    private static XStream xStream;
+
+    /**
+     * {@link Resource} of the skin this snapshot was built for.
+     */
+    @NotNull
+    private final Resource resource;
+
+    /**
+     * Compressed top-level styles data.
+     */
+    @NotNull
+    private final byte[][] blocks;
+
+    /**
+     * Restored top-level styles, {@code null} for styles that are not yet restored.
+     */
+    @NotNull
+    private final ComponentStyle[] roots;
+
+    /**
+     * Index of top-level styles containing each style available in styles cache.
+     * Entry: [ component type -> [ complete style ID -> top-level style index ] ]
+     */
+    @NotNull
+    private final Map<String, Map<String, Integer>> index;
+
+    /**
+     * Constructs new {@link SkinSnapshot}.
+     *
+     * @param resource {@link Resource} of the skin this snapshot was built for
+     * @param blocks   compressed top-level styles data
+     * @param index    index of top-level styles containing each style available in styles cache
+     */
+    private SkinSnapshot ( @NotNull final Resource resource, @NotNull final byte[][] blocks,
+                           @NotNull final Map<String, Map<String, Integer>> index )
+    {
+        this.resource = resource;
+        this.blocks = blocks;
+        this.roots = new ComponentStyle[ blocks.length ];
+        this.index = index;
+    }
+
+    /**
+     * Returns {@link Resource} of the skin this snapshot was built for.
+     *
+     * @return {@link Resource} of the skin this snapshot was built for
+     */
+    @NotNull
+    public Resource getResource ()
+    {
+        return resource;
+    }
+
+    /**
+     * Returns whether or not snapshot contains any styles for the specified component type.
+     *
+     * @param type component type
+     * @return {@code true} if snapshot contains any styles for the specified component type, {@code false} otherwise
+     */
+    public synchronized boolean hasStyles ( @NotNull final String type )
+    {
+        return index.containsKey ( type );
+    }
+
+    /**
+     * Restores top-level style containing specified style into the styles cache unless it was already restored.
+     *
+     * @param type        component type
+     * @param id          complete style ID
+     * @param stylesCache styles cache
+     */
+    public synchronized void load ( @NotNull final String type, @NotNull final String id,
+                                    @NotNull final Map<String, Map<String, ComponentStyle>> stylesCache )
+    {
+        final Map<String, Integer> typeIndex = index.get ( type );
+        final Integer root = typeIndex != null ? typeIndex.get ( id ) : null;
+        if ( root != null && roots[ root ] == null )
+        {
+            restore ( root, stylesCache );
+        }
+    }
+
+    /**
+     * Restores all top-level styles into the styles cache and returns them.
+     *
+     * @param stylesCache styles cache
+     * @return all top-level styles
+     */
+    @NotNull
+    public synchronized List<ComponentStyle> loadAll ( @NotNull final Map<String, Map<String, ComponentStyle>> stylesCache )
+    {
+        final List<ComponentStyle> styles = new ArrayList<ComponentStyle> ( roots.length );
+        for ( int i = 0; i < roots.length; i++ )
+        {
+            if ( roots[ i ] == null )
+            {
+                restore ( i, stylesCache );
+            }
+            styles.add ( roots[ i ] );
+        }
+        return styles;
+    }
+
+    /**
+     * Restores top-level style at the specified index into the styles cache.
+     *
+     * @param root        top-level style index
+     * @param stylesCache styles cache
+     */
+    private void restore ( final int root, @NotNull final Map<String, Map<String, ComponentStyle>> stylesCache )
+    {
+        final ComponentStyle style;
+        try
+        {
+            style = ( ComponentStyle ) read ( blocks[ root ] );
+        }
+        catch ( final Exception e )
+        {
+            throw new StyleException ( "Unable to restore style from skin snapshot: " + resource, e );
+        }
+        restore ( root, style, null, stylesCache );
+        roots[ root ] = style;
+        blocks[ root ] = null;
+    }
+
+    /**
+     * Restores runtime parent references and places styles indexed for the specified top-level style into the styles cache.
+     *
+     * @param root        top-level style index
+     * @param style       restored style
+     * @param parent      parent style
+     * @param stylesCache styles cache
+     */
+    private void restore ( final int root, @NotNull final ComponentStyle style, @Nullable final ComponentStyle parent,
+                           @NotNull final Map<String, Map<String, ComponentStyle>> stylesCache )
+    {
+        style.setParent ( parent );
+        final String type = style.getType ();
+        final String id = style.getCompleteId ();
+        final Map<String, Integer> typeIndex = index.get ( type );
+        final Integer styleRoot = typeIndex != null ? typeIndex.get ( id ) : null;
+        if ( styleRoot != null && styleRoot == root )
+        {
+            Map<String, ComponentStyle> componentStyles = stylesCache.get ( type );
+            if ( componentStyles == null )
+            {
+                componentStyles = new ConcurrentHashMap<String, ComponentStyle> ( 4 );
+                stylesCache.put ( type, componentStyles );
+            }
+            componentStyles.put ( id, style );
+        }
+        for ( final ComponentStyle nestedStyle : style.getNestedStyles () )
+        {
+            restore ( root, nestedStyle, style, stylesCache );
+        }
+    }
+
+    /**
+     * Returns directory snapshots are stored in, {@code null} if snapshots are disabled.
+     *
+     * @return directory snapshots are stored in, {@code null} if snapshots are disabled
+     */
+    @Nullable
+    public static synchronized File getDirectory ()
+    {
+        return directory;
+    }
+
+    /**
+     * Sets directory snapshots are stored in.
+     * Snapshots are disabled if {@code null} is specified, which is the default.
+     *
+     * @param directory directory snapshots are stored in, {@code null} to disable snapshots
+     */
+    public static synchronized void setDirectory ( @Nullable final File directory )
+    {
+        SkinSnapshot.directory = directory;
+    }
+
+    /**
+     * Returns {@link SkinInfo} restored from snapshot for the specified skin {@link Resource}.
+     * Returned {@link SkinInfo} only contains meta data and icon sets, styles are restored on demand.
+     *
+     * @param resource skin {@link Resource}
+     * @return {@link SkinInfo} restored from snapshot, {@code null} if there is no valid snapshot
+     */
+    @Nullable
+    public static SkinInfo load ( @NotNull final Resource resource )
+    {
+        SkinInfo skinInfo = null;
+        final File file = getFile ( resource );
+        if ( file != null && file.isFile () )
+        {
+            try
+            {
+                final DataInputStream in = new DataInputStream ( new BufferedInputStream ( new FileInputStream ( file ) ) );
+                try
+                {
+                    skinInfo = read ( resource, in );
+                }
+                finally
+                {
+                    in.close ();
+                }
+            }
+            catch ( final Exception e )
+            {
+                final String msg = "Unable to read skin snapshot: %s";
+                LoggerFactory.getLogger ( SkinSnapshot.class ).warn ( String.format ( msg, file ), e );
+            }
+        }
+        return skinInfo;
+    }
+
+    /**
+     * Writes snapshot of the specified installed {@link SkinInfo} in background.
+     * Nothing is written if snapshots are disabled or if {@link SkinInfo} itself is still backed by an up-to-date snapshot.
+     *
+     * @param resource skin {@link Resource}
+     * @param skinInfo installed {@link SkinInfo}
+     */
+    public static void save ( @NotNull final Resource resource, @NotNull final SkinInfo skinInfo )
+    {
+        final File file = getFile ( resource );
+        if ( file != null && skinInfo.getSnapshot () == null )
+        {
+            try
+            {
+                // Encoding styles on the current thread since they might be modified once applied to components
+                final byte[] metaData = write ( skinInfo.getMetaData () );
+                final Map<String, Map<String, ComponentStyle>> stylesCache = skinInfo.getStylesCache ();
+                final List<ComponentStyle> roots = skinInfo.getStyles ();
+                final Map<ComponentStyle, Integer> rootIndex = new IdentityHashMap<ComponentStyle, Integer> ();
+                final List<byte[]> styles = new ArrayList<byte[]> ( roots.size () );
+                for ( int i = 0; i < roots.size (); i++ )
+                {
+                    collectRoots ( roots.get ( i ), i, rootIndex );
+                    styles.add ( write ( roots.get ( i ) ) );
+                }
+                final Map<String, Map<String, Integer>> index = createIndex ( stylesCache, rootIndex );
+                final List<Resource> sources = new ArrayList<Resource> ( skinInfo.getSources () );
+                final Map<String, List<Resource>> extensions = skinInfo.getAppliedExtensions ();
+
+                // Writing snapshot in background to avoid slowing down skin installation
+                final Thread writer = new DaemonThreadFactory ( "SkinSnapshot" ).newThread ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        final File temp = new File ( file.getPath () + ".tmp" );
+                        try
+                        {
+                            final DataOutputStream out = new DataOutputStream (
+                                    new BufferedOutputStream ( new FileOutputStream ( temp ) ) );
+                            try
+                            {
+                                write ( out, sources, extensions, metaData, styles, index );
+                            }
+                            finally
+                            {
+                                out.close ();
+                            }
+                            if ( !( file.delete () || !file.exists () ) || !temp.renameTo ( file ) )
+                            {
+                                throw new IOException ( "Unable to replace snapshot file: " + file );
+                            }
+                        }
+                        catch ( final Exception e )
+                        {
+                            final String msg = "Unable to write skin snapshot: %s";
+                            LoggerFactory.getLogger ( SkinSnapshot.class ).warn ( String.format ( msg, file ), e );
+                            temp.delete ();
+                        }
+                    }
+                } );
+                writer.start ();
+            }
+            catch ( final ForbiddenClassException e )
+            {
+                // Snapshot would be rejected upon reading, so it is skipped to avoid failing to read it on each launch
+                final String msg = "Skin snapshot skipped, skin uses type that cannot be restored from snapshot: %s";
+                LoggerFactory.getLogger ( SkinSnapshot.class ).info ( String.format ( msg, file ), e );
+            }
+            catch ( final Exception e )
+            {
+                final String msg = "Unable to create skin snapshot: %s";
+                LoggerFactory.getLogger ( SkinSnapshot.class ).warn ( String.format ( msg, file ), e );
+            }
+        }
+    }
+
+    /**
+     * Deletes snapshot for the specified skin {@link Resource}.
+     *
+     * @param resource skin {@link Resource}
+     */
+    public static void delete ( @NotNull final Resource resource )
+    {
+        final File file = getFile ( resource );
+        if ( file != null )
+        {
+            file.delete ();
+        }
+    }
+
+    /**
+     * Returns snapshot file for the specified skin {@link Resource}, {@code null} if snapshots are disabled.
+     *
+     * @param resource skin {@link Resource}
+     * @return snapshot file for the specified skin {@link Resource}, {@code null} if snapshots are disabled
+     */
+    @Nullable
+    private static File getFile ( @NotNull final Resource resource )
+    {
+        final File file;
+        final File directory = getDirectory ();
+        if ( directory != null && SkinInfoConverter.resourceMap.isEmpty () )
+        {
+            // Serialized resource is used as its unique identifier since resources do not provide any other
+            final String id = FileUtils.computeMD5 ( new ByteArrayInputStream ( serialize ( resource ) ) );
+            file = new File ( directory, "skin-" + id + EXTENSION );
+        }
+        else
+        {
+            file = null;
+        }
+        return file;
+    }
+
+    /**
+     * Returns styles index built from the specified styles cache.
+     * Entry: [ type -> [ complete style identifier -> top-level style index ] ]
+     *
+     * @param stylesCache styles cache
+     * @param roots       top-level style indices of all styles
+     * @return styles index built from the specified styles cache
+     * @throws IOException if any of the cached styles is not available in top-level styles
+     */
+    @NotNull
+    private static Map<String, Map<String, Integer>> createIndex ( @NotNull final Map<String, Map<String, ComponentStyle>> stylesCache,
+                                                                   @NotNull final Map<ComponentStyle, Integer> roots ) throws IOException
+    {
+        final Map<String, Map<String, Integer>> index = new LinkedHashMap<String, Map<String, Integer>> ( stylesCache.size () );
+        for ( final Map.Entry<String, Map<String, ComponentStyle>> type : stylesCache.entrySet () )
+        {
+            final Map<String, Integer> typeIndex = new LinkedHashMap<String, Integer> ( type.getValue ().size () );
+            for ( final Map.Entry<String, ComponentStyle> style : type.getValue ().entrySet () )
+            {
+                final Integer root = roots.get ( style.getValue () );
+                if ( root == null )
+                {
+                    throw new IOException ( "Cached style is not available in skin styles: " + style.getValue () );
+                }
+                typeIndex.put ( style.getKey (), root );
+            }
+            index.put ( type.getKey (), typeIndex );
+        }
+        return index;
+    }
+
+    /**
+     * Writes snapshot data.
+     *
+     * @param out        output stream
+     * @param sources    skin sources
+     * @param extensions applied extension sources
+     * @param metaData   encoded skin meta data
+     * @param styles     encoded top-level styles
+     * @param index      styles index
+     * @throws IOException if unable to write snapshot data
+     */
+    private static void write ( @NotNull final DataOutputStream out, @NotNull final List<Resource> sources,
+                                @NotNull final Map<String, List<Resource>> extensions, @NotNull final byte[] metaData,
+                                @NotNull final List<byte[]> styles, @NotNull final Map<String, Map<String, Integer>> index )
+            throws IOException
+    {
+        // Header
+        out.writeInt ( MAGIC );
+        out.writeInt ( FORMAT );
+        out.writeUTF ( getLibraryVersion () );
+
+        // Sources
+        writeSources ( out, sources );
+        out.writeInt ( extensions.size () );
+        for ( final Map.Entry<String, List<Resource>> extension : extensions.entrySet () )
+        {
+            out.writeUTF ( extension.getKey () );
+            writeSources ( out, extension.getValue () );
+        }
+
+        // Meta data
+        writeBlock ( out, metaData );
+
+        // Top-level styles
+        out.writeInt ( styles.size () );
+        for ( final byte[] style : styles )
+        {
+            writeBlock ( out, style );
+        }
+
+        // Styles index
+        out.writeInt ( index.size () );
+        for ( final Map.Entry<String, Map<String, Integer>> type : index.entrySet () )
+        {
+            out.writeUTF ( type.getKey () );
+            out.writeInt ( type.getValue ().size () );
+            for ( final Map.Entry<String, Integer> style : type.getValue ().entrySet () )
+            {
+                out.writeUTF ( style.getKey () );
+                out.writeInt ( style.getValue () );
+            }
+        }
+    }
+
+    /**
+     * Reads snapshot data.
+     *
+     * @param resource skin {@link Resource}
+     * @param in       input stream
+     * @return {@link SkinInfo} restored from snapshot, {@code null} if snapshot is outdated
+     * @throws Exception if unable to read snapshot data
+     */
+    @Nullable
+    private static SkinInfo read ( @NotNull final Resource resource, @NotNull final DataInputStream in ) throws Exception
+    {
+        // Header
+        if ( in.readInt () != MAGIC || in.readInt () != FORMAT || !in.readUTF ().equals ( getLibraryVersion () ) )
+        {
+            return null;
+        }
+
+        // Sources
+        final List<Resource> sources = readSources ( in );
+        if ( sources == null )
+        {
+            return null;
+        }
+        final Set<String> registered = new HashSet<String> ();
+        for ( final SkinExtension extension : StyleManager.getExtensions () )
+        {
+            registered.add ( extension.getId () );
+        }
+        final int extensionsCount = in.readInt ();
+        final Map<String, List<Resource>> extensions = new LinkedHashMap<String, List<Resource>> ( extensionsCount );
+        for ( int i = 0; i < extensionsCount; i++ )
+        {
+            final String id = in.readUTF ();
+            final List<Resource> extensionSources = readSources ( in );
+            if ( extensionSources == null || !registered.contains ( id ) )
+            {
+                return null;
+            }
+            extensions.put ( id, extensionSources );
+        }
+
+        // Meta data
+        final SkinInfo skinInfo = ( SkinInfo ) read ( readBlock ( in ) );
+
+        // Top-level styles
+        final byte[][] blocks = new byte[ in.readInt () ][];
+        for ( int i = 0; i < blocks.length; i++ )
+        {
+            blocks[ i ] = readBlock ( in );
+        }
+
+        // Styles index
+        final int typesCount = in.readInt ();
+        final Map<String, Map<String, Integer>> index = new HashMap<String, Map<String, Integer>> ( typesCount );
+        for ( int i = 0; i < typesCount; i++ )
+        {
+            final String type = in.readUTF ();
+            final int stylesCount = in.readInt ();
+            final Map<String, Integer> typeIndex = new HashMap<String, Integer> ( stylesCount );
+            for ( int j = 0; j < stylesCount; j++ )
+            {
+                final String id = in.readUTF ();
+                typeIndex.put ( id, in.readInt () );
+            }
+            index.put ( type, typeIndex );
+        }
+
+        skinInfo.restore ( sources, extensions, new SkinSnapshot ( resource, blocks, index ) );
+        return skinInfo;
+    }
+
+    /**
+     * Writes {@link Resource}s along with their current content MD5.
+     *
+     * @param out       output stream
+     * @param resources {@link Resource}s
+     * @throws IOException if unable to write {@link Resource}s
+     */
+    private static void writeSources ( @NotNull final DataOutputStream out, @NotNull final List<Resource> resources ) throws IOException
+    {
+        out.writeInt ( resources.size () );
+        for ( final Resource resource : resources )
+        {
+            writeBlock ( out, serialize ( resource ) );
+            out.writeUTF ( FileUtils.computeMD5 ( resource ) );
+        }
+    }
+
+    /**
+     * Returns {@link Resource}s if their content MD5 is still the same, {@code null} otherwise.
+     *
+     * @param in input stream
+     * @return {@link Resource}s if their content MD5 is still the same, {@code null} otherwise
+     * @throws Exception if unable to read {@link Resource}s
+     */
+    @Nullable
+    private static List<Resource> readSources ( @NotNull final DataInputStream in ) throws Exception
+    {
+        final int count = in.readInt ();
+        final List<Resource> resources = new ArrayList<Resource> ( count );
+        boolean valid = true;
+        for ( int i = 0; i < count; i++ )
+        {
+            final ObjectInputStream ois = new ResourceInputStream ( new ByteArrayInputStream ( readBlock ( in ) ) );
+            final Resource resource = ( Resource ) ois.readObject ();
+            final String md5 = in.readUTF ();
+            valid = valid && md5.equals ( FileUtils.computeMD5 ( resource ) );
+            resources.add ( resource );
+        }
+        return valid ? resources : null;
+    }
+
+    /**
+     * Collects top-level style index for the specified style and all of its nested styles.
+     *
+     * @param style style
+     * @param root  top-level style index
+     * @param roots top-level style indices
+     */
+    private static void collectRoots ( @NotNull final ComponentStyle style, final int root,
+                                       @NotNull final Map<ComponentStyle, Integer> roots )
+    {
+        roots.put ( style, root );
+        for ( final ComponentStyle nestedStyle : style.getNestedStyles () )
+        {
+            collectRoots ( nestedStyle, root, roots );
+        }
+    }
+
+    /**
+     * Writes single data block.
+     *
+     * @param out  output stream
+     * @param data block data
+     * @throws IOException if unable to write data block
+     */
+    private static void writeBlock ( @NotNull final DataOutputStream out, @NotNull final byte[] data ) throws IOException
+    {
+        out.writeInt ( data.length );
+        out.write ( data );
+    }
+
+    /**
+     * Reads single data block.
+     *
+     * @param in input stream
+     * @return block data
+     * @throws IOException if unable to read data block
+     */
+    @NotNull
+    private static byte[] readBlock ( @NotNull final DataInputStream in ) throws IOException
+    {
+        final byte[] data = new byte[ in.readInt () ];
+        in.readFully ( data );
+        return data;
+    }
+
+    /**
+     * Returns content fingerprint of the specified object or {@code null} if it cannot be computed.
+     * Fingerprint is a digest of the object binary representation, so objects with equal content have equal fingerprints.
+     *
+     * @param object object to compute fingerprint for
+     * @return content fingerprint of the specified object or {@code null} if it cannot be computed
+     */
+    @Nullable
+    static byte[] fingerprint ( @NotNull final Object object )
+    {
+        byte[] fingerprint;
+        try
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream ();
+            getXStream ().marshal ( object, new BinaryStreamDriver ().createWriter ( bytes ) );
+            fingerprint = MessageDigest.getInstance ( "SHA-1" ).digest ( bytes.toByteArray () );
+        }
+        catch ( final Exception e )
+        {
+            // Object contains types that cannot be written, so its content cannot be compared
+            fingerprint = null;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns compressed binary representation of the specified object.
+     *
+     * @param object object to write
+     * @return compressed binary representation of the specified object
+     * @throws IOException if unable to write object
+     */
+    @NotNull
+    private static byte[] write ( @NotNull final Object object ) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream ();
+        final DeflaterOutputStream out = new DeflaterOutputStream ( bytes );
+        getXStream ().marshal ( object, new BinaryStreamDriver ().createWriter ( out ) );
+        out.close ();
+        return bytes.toByteArray ();
+    }
+
+    /**
+     * Returns object read from its compressed binary representation.
+     *
+     * @param data compressed binary representation of the object
+     * @return object read from its compressed binary representation
+     * @throws IOException if unable to read object
+     */
+    @NotNull
+    private static Object read ( @NotNull final byte[] data ) throws IOException
+    {
+        final InputStream in = new InflaterInputStream ( new ByteArrayInputStream ( data ) );
+        try
+        {
+            return getXStream ().unmarshal ( new BinaryStreamDriver ().createReader ( in ) );
+        }
+        finally
+        {
+            in.close ();
+        }
+    }
+
+    /**
+     * Returns Java-serialized {@link Resource}.
+     *
+     * @param resource {@link Resource} to serialize
+     * @return Java-serialized {@link Resource}
+     */
+    @NotNull
+    private static byte[] serialize ( @NotNull final Resource resource )
+    {
+        try
+        {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream ();
+            final ObjectOutputStream out = new ObjectOutputStream ( bytes );
+            out.writeObject ( resource );
+            out.close ();
+            return bytes.toByteArray ();
+        }
+        catch ( final IOException e )
+        {
+            throw new StyleException ( "Unable to serialize skin resource: " + resource, e );
+        }
+    }
+
+    /**
+     * Returns library version snapshots are compatible with.
+     *
+     * @return library version snapshots are compatible with
+     */
+    @NotNull
+    private static String getLibraryVersion ()
+    {
+        return new Version ( SkinSnapshot.class ).toString ();
+    }
+
+    /**
+     * Returns {@link XStream} instance used for snapshot data.
+     *
+     * @return {@link XStream} instance used for snapshot data
+     */
+    @NotNull
+    private static synchronized XStream getXStream ()
+    {
+        if ( xStream == null )
+        {
+            // Pure-java reflection provider properly initializes runtime fields which are not stored in snapshot
+            xStream = new XStream ( new PureJavaReflectionProvider (), new BinaryStreamDriver () );
+            xStream.setClassLoader ( SkinSnapshot.class.getClassLoader () );
+
+            // Written types are checked against the same permissions that are used for reading to avoid writing unreadable snapshots
+            xStream.setMarshallingStrategy ( new ReferenceByXPathMarshallingStrategy ( ReferenceByXPathMarshallingStrategy.RELATIVE )
+            {
+                @Override
+                protected TreeMarshaller createMarshallingContext ( final HierarchicalStreamWriter writer,
+                                                                    final ConverterLookup converterLookup, final Mapper mapper )
+                {
+                    return new PermissionMarshaller ( writer, converterLookup, mapper );
+                }
+            } );
+
+            // Only types used by skins are allowed to be restored
+            xStream.addPermission ( NoTypePermission.NONE );
+            for ( final TypePermission permission : PERMISSIONS )
+            {
+                xStream.addPermission ( permission );
+            }
+        }
+        return xStream;
+    }
+
+    /**
+     * Returns whether or not the specified type is allowed to be written into and read from snapshot.
+     *
+     * @param type type to check
+     * @return {@code true} if the specified type is allowed to be written into and read from snapshot, {@code false} otherwise
+     */
+    private static boolean isAllowed ( @Nullable final Class type )
+    {
+        boolean allowed = false;
+        for ( final TypePermission permission : PERMISSIONS )
+        {
+            if ( permission.allows ( type ) )
+            {
+                allowed = true;
+                break;
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * {@link ReferenceByXPathMarshaller} that rejects writing objects of types which are not allowed to be read from snapshot.
+     * This check is slightly stricter than the one performed upon reading, so any written snapshot can always be read.
+     */
+    private static class PermissionMarshaller extends ReferenceByXPathMarshaller
+    {
+        /**
+         * Constructs new {@link PermissionMarshaller}.
+         *
+         * @param writer          {@link HierarchicalStreamWriter}
+         * @param converterLookup {@link ConverterLookup}
+         * @param mapper          {@link Mapper}
+         */
+        public PermissionMarshaller ( @NotNull final HierarchicalStreamWriter writer, @NotNull final ConverterLookup converterLookup,
+                                      @NotNull final Mapper mapper )
+        {
+            super ( writer, converterLookup, mapper, ReferenceByXPathMarshallingStrategy.RELATIVE );
+        }
+
+        @Override
+        public void convert ( @NotNull final Object item, @Nullable final Converter converter )
+        {
+            if ( !isAllowed ( item.getClass () ) )
+            {
+                throw new ForbiddenClassException ( item.getClass () );
+            }
+            super.convert ( item, converter );
+        }
+    }
+
+    /**
+     * {@link ObjectInputStream} that only resolves {@link Resource} implementations and their {@link String} fields.
+     * It prevents snapshot files from instantiating arbitrary {@link Serializable} types on deserialization.
+     */
+    private static class ResourceInputStream extends ObjectInputStream
+    {
+        /**
+         * Constructs new {@link ResourceInputStream}.
+         *
+         * @param in input stream
+         * @throws IOException if unable to read stream header
+         */
+        public ResourceInputStream ( @NotNull final InputStream in ) throws IOException
+        {
+            super ( in );
+        }
+
+        @Override
+        protected Class<?> resolveClass ( @NotNull final ObjectStreamClass desc ) throws IOException, ClassNotFoundException
+        {
+            final Class<?> type = Class.forName ( desc.getName (), false, SkinSnapshot.class.getClassLoader () );
+            if ( type != String.class && !Resource.class.isAssignableFrom ( type ) )
+            {
+                throw new InvalidClassException ( desc.getName (), "Type is not allowed in skin snapshot" );
+            }
+            return type;
+        }
+    }
+}
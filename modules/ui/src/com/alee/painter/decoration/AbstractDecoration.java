@@ -98,12 +98,6 @@ public abstract class AbstractDecoration<C extends JComponent, I extends Abstrac
      */
     protected transient Boolean section;
 
-    /**
-     * Previously set cursor.
-     * Saved to avoid default component cursor removal.
-     */
-    protected transient Cursor previousCursor;
-
     @Nullable
     @Override
     public String getId ()
@@ -117,7 +111,9 @@ public abstract class AbstractDecoration<C extends JComponent, I extends Abstrac
         final Cursor customCursor = getCursor ();
         if ( customCursor != null )
         {
-            previousCursor = c.getCursor ();
+            // Previous cursor is saved into component to avoid default component cursor removal
+            // It is not saved within decoration since decoration might be shared between multiple components
+            c.putClientProperty ( this, c.getCursor () );
             c.setCursor ( customCursor );
         }
     }
@@ -128,11 +124,23 @@ public abstract class AbstractDecoration<C extends JComponent, I extends Abstrac
         final Cursor customCursor = getCursor ();
         if ( customCursor != null )
         {
-            c.setCursor ( previousCursor );
-            previousCursor = null;
+            c.setCursor ( ( Cursor ) c.getClientProperty ( this ) );
+            c.putClientProperty ( this, null );
         }
     }
 
+    /**
+     * Returns whether or not this decoration can be shared between multiple components.
+     * Decoration can be shared only if it and all of its elements implement {@link Shareable}.
+     *
+     * @return {@code true} if this decoration can be shared between multiple components, {@code false} otherwise
+     * @see SharedDecorations
+     */
+    public boolean isShareable ()
+    {
+        return this instanceof Shareable;
+    }
+
     @Override
     public List<String> getStates ()
     {
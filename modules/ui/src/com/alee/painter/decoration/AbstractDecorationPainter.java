@@ -43,7 +43,6 @@ import com.alee.painter.SectionPainter;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.SwingUtils;
 import com.alee.utils.SystemUtils;
-import com.alee.utils.TextUtils;
 
 import javax.swing.*;
 import javax.swing.event.AncestorEvent;
@@ -97,9 +96,10 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
      * Runtime variables.
      */
     protected transient List<String> states;
-    protected transient Map<String, D> stateDecorationCache;
+    protected transient DecorationStatesKey statesKey;
+    protected transient Map<DecorationStatesKey, D> stateDecorationCache;
     protected transient Map<String, D> decorationCache;
-    protected transient String current;
+    protected transient DecorationStatesKey current;
     protected transient boolean focused;
     protected transient boolean inFocusedParent;
     protected transient boolean hover;
@@ -115,6 +115,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
          * Although we still do it before updating border in {@link super#afterInstall()}.
          */
         this.states = collectDecorationStates ();
+        this.statesKey = DecorationStatesKey.get ( states );
 
         /**
          * Performing basic actions after installation ends.
@@ -146,6 +147,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         this.stateDecorationCache = null;
         this.decorationCache = null;
         this.states = null;
+        this.statesKey = null;
 
         /**
          * Performing basic actions after uninstallation ends.
@@ -879,6 +881,23 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
      */
     @NotNull
     protected final List<String> collectDecorationStates ()
+    {
+        // Retrieving unsorted decoration states
+        final List<String> states = gatherDecorationStates ();
+
+        // Sorting states to always keep the same order
+        Collections.sort ( states );
+
+        return states;
+    }
+
+    /**
+     * Returns unsorted current component decoration states.
+     *
+     * @return unsorted current component decoration states
+     */
+    @NotNull
+    private List<String> gatherDecorationStates ()
     {
         // Retrieving current decoration states
         final List<String> states = getDecorationStates ();
@@ -892,9 +911,6 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         // Adding custom component decoration states
         states.addAll ( DecorationUtils.getExtraStates ( component ) );
 
-        // Sorting states to always keep the same order
-        Collections.sort ( states );
-
         return states;
     }
 
@@ -1010,9 +1026,9 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         if ( decorations != null && decorations.size () > 0 )
         {
             // Decoration key
-            // States are properly sorted, so their order is always the same
-            final String previous = this.current;
-            current = TextUtils.listToString ( states, "," );
+            // It is only updated along with the states, so it is never rebuilt here
+            final DecorationStatesKey previous = this.current;
+            current = statesKey;
 
             // Creating decoration caches
             if ( stateDecorationCache == null )
@@ -1020,7 +1036,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
                 // State decorations cache
                 // Entry: [ component state -> built decoration reference ]
                 // It is used for fastest possible access to component state decorations
-                stateDecorationCache = new HashMap<String, D> ( decorations.size () );
+                stateDecorationCache = new HashMap<DecorationStatesKey, D> ( decorations.size () );
 
                 // Decoration combinations cache
                 // Entry: [ decorations combination key -> built decoration reference ]
@@ -1046,8 +1062,18 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
                 }
                 else
                 {
+                    // Skin-level decorations these ones were cloned from
+                    // Components sharing them can also share built decorations as long as those are shareable
+                    final Decorations<C, D> origin = this.decorations.getOrigin ();
+                    final D shared = origin != null ? SharedDecorations.<D>get ( origin, decorationsKey, isSectionPainter () ) : null;
+
                     // Building single decoration from a set
-                    if ( CollectionUtils.isEmpty ( decorations ) )
+                    if ( shared != null )
+                    {
+                        // Shared decoration built for another component
+                        decoration = shared;
+                    }
+                    else if ( CollectionUtils.isEmpty ( decorations ) )
                     {
                         // No decoration for the states available
                         decoration = null;
@@ -1077,11 +1103,18 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
                     }
 
                     // Updating built decoration settings
-                    if ( decoration != null )
+                    if ( decoration != null && decoration != shared )
                     {
                         // Updating section mark
                         // This is done for each cached decoration once as it doesn't change
                         decoration.setSection ( isSectionPainter () );
+
+                        // Sharing decoration with other components if possible
+                        if ( origin != null && decoration instanceof AbstractDecoration &&
+                                ( ( AbstractDecoration ) decoration ).isShareable () )
+                        {
+                            SharedDecorations.put ( origin, decorationsKey, isSectionPainter (), decoration );
+                        }
                     }
 
                     // Caching built decoration
@@ -1171,11 +1204,15 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
     @Override
     public final void updateDecorationState ()
     {
-        final List<String> states = collectDecorationStates ();
-        if ( !CollectionUtils.equals ( this.states, states, true ) )
+        // States key doesn't depend on states order, so states are only sorted when they have actually changed
+        final List<String> states = gatherDecorationStates ();
+        final DecorationStatesKey statesKey = DecorationStatesKey.get ( states );
+        if ( Objects.notEquals ( this.statesKey, statesKey ) )
         {
             // Saving new decoration states
+            Collections.sort ( states );
             this.states = states;
+            this.statesKey = statesKey;
 
             // Updating section painters decoration states
             // This is required to provide state changes into section painters used within this painter
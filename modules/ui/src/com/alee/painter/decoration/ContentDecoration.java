@@ -17,6 +17,7 @@
 
 package com.alee.painter.decoration;
 
+import com.alee.api.annotations.Nullable;
 import com.alee.managers.style.Bounds;
 import com.alee.managers.style.BoundsType;
 import com.alee.painter.decoration.content.IContent;
@@ -78,6 +79,35 @@ public abstract class ContentDecoration<C extends JComponent, I extends ContentD
         }
     }
 
+    @Override
+    public boolean isShareable ()
+    {
+        return super.isShareable () && isShareable ( contents );
+    }
+
+    /**
+     * Returns whether or not all specified decoration elements implement {@link Shareable}.
+     *
+     * @param elements decoration elements
+     * @return {@code true} if all specified decoration elements implement {@link Shareable}, {@code false} otherwise
+     */
+    protected boolean isShareable ( @Nullable final List<?> elements )
+    {
+        boolean shareable = true;
+        if ( elements != null )
+        {
+            for ( final Object element : elements )
+            {
+                if ( !( element instanceof Shareable ) )
+                {
+                    shareable = false;
+                    break;
+                }
+            }
+        }
+        return shareable;
+    }
+
     @Override
     public boolean hasContent ()
     {
@@ -0,0 +1,440 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.style.Bounds;
+import com.alee.painter.decoration.shape.IPartialShape;
+import com.alee.painter.decoration.shape.IShape;
+import com.alee.utils.ImageUtils;
+import com.alee.utils.UtilityException;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Global manager of {@link WebDecoration} raster layers.
+ * Raster layer is an image of decoration shadows, border and backgrounds rendered once per component, decoration instance, size,
+ * scale, orientation and resolved shape settings and then simply painted on further repaints. Component contents are never rasterized.
+ * Resolved shape settings include sides and lines provided by parent {@link com.alee.laf.grouping.GroupingLayout}, so rasters of
+ * grouped components are rendered again whenever their neighbours change.
+ *
+ * Rasters are kept within painted components and are released whenever decoration is deactivated, which happens on any state or
+ * skin change. All rasters share single memory budget, see {@link #setMaximumSize(long)}, least recently used rasters are dropped
+ * once it is exceeded and are simply rendered again when needed.
+ *
+ * @author Mikle Garin
+ * @see WebDecoration#isRaster()
+ */
+public final class DecorationRasters
+{
+    /**
+     * Default memory budget in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 32 * 1024 * 1024;
+
+    /**
+     * Client property key for component rasters.
+     * Entry: [ decoration -> raster ]
+     */
+    @NotNull
+    private static final String RASTERS_KEY = "decoration.rasters";
+
+    /**
+     * Rendered rasters in least recently used order.
+     * Entry: [ raster -> raster ]
+     */
+    @NotNull
+    private static final LinkedHashMap<Raster, Raster> rasters = new LinkedHashMap<Raster, Raster> ( 64, 0.75f, true );
+
+    /**
+     * Memory budget in bytes.
+     */
+    private static long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Total size of rendered rasters in bytes.
+     */
+    private static long size = 0;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private DecorationRasters ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Paints decoration elements using raster layer.
+     * Returns {@code false} if raster layer cannot be used with the specified graphics context or bounds, in that case decoration
+     * elements should simply be painted directly.
+     *
+     * @param g2d        graphics context
+     * @param c          painted component
+     * @param decoration painted decoration
+     * @param b          painting bounds
+     * @param <C>        component type
+     * @return {@code true} if decoration elements were painted using raster layer, {@code false} otherwise
+     */
+    public static <C extends JComponent> boolean paint ( @NotNull final Graphics2D g2d, @NotNull final C c,
+                                                        @NotNull final WebDecoration<C, ?> decoration, @NotNull final Bounds b )
+    {
+        final boolean painted;
+        final AffineTransform transform = g2d.getTransform ();
+        final int supported = AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE;
+        final double scaleX = transform.getScaleX ();
+        final double scaleY = transform.getScaleY ();
+        if ( ( transform.getType () & ~supported ) == 0 && scaleX > 0 && scaleY > 0 )
+        {
+            final Rectangle bounds = b.get ();
+            final int width = ( int ) Math.ceil ( bounds.width * scaleX );
+            final int height = ( int ) Math.ceil ( bounds.height * scaleY );
+            final long rasterSize = ( long ) width * height * 4;
+            if ( rasterSize <= getMaximumSize () )
+            {
+                // Resolving shape settings that might be affected by component surroundings
+                final IShape shape = decoration.getShape ();
+                final Object[] settings = shape.getShapeSettings ( bounds, c, decoration );
+                final int partial = shape instanceof IPartialShape ? getPartialSettings ( ( IPartialShape ) shape, c, decoration ) : 0;
+
+                // Retrieving valid raster or rendering a new one
+                final boolean ltr = c.getComponentOrientation ().isLeftToRight ();
+                final Raster raster = getRaster ( c, decoration );
+                BufferedImage image = raster.get ( bounds.width, bounds.height, scaleX, scaleY, ltr, settings, partial );
+                if ( image == null )
+                {
+                    image = ImageUtils.createCompatibleImage ( width, height, Transparency.TRANSLUCENT );
+                    final Graphics2D ig = image.createGraphics ();
+                    ig.setRenderingHints ( g2d.getRenderingHints () );
+                    ig.scale ( scaleX, scaleY );
+                    ig.translate ( -bounds.x, -bounds.y );
+                    decoration.paintDecoration ( ig, c, b );
+                    ig.dispose ();
+                    raster.set ( image, rasterSize, bounds.width, bounds.height, scaleX, scaleY, ltr, settings, partial );
+                }
+
+                // Painting raster at device resolution
+                if ( scaleX == 1 && scaleY == 1 )
+                {
+                    g2d.drawImage ( image, bounds.x, bounds.y, null );
+                }
+                else
+                {
+                    final AffineTransform at = AffineTransform.getTranslateInstance ( bounds.x, bounds.y );
+                    at.scale ( 1 / scaleX, 1 / scaleY );
+                    g2d.drawImage ( image, at, null );
+                }
+                painted = true;
+            }
+            else
+            {
+                painted = false;
+            }
+        }
+        else
+        {
+            painted = false;
+        }
+        return painted;
+    }
+
+    /**
+     * Returns painted sides and lines of the specified {@link IPartialShape} packed into bit mask.
+     *
+     * @param shape      {@link IPartialShape}
+     * @param c          painted component
+     * @param decoration painted decoration
+     * @return painted sides and lines of the specified {@link IPartialShape} packed into bit mask
+     */
+    private static int getPartialSettings ( @NotNull final IPartialShape shape, @NotNull final JComponent c,
+                                            @NotNull final IDecoration decoration )
+    {
+        return ( shape.isPaintTop ( c, decoration ) ? 1 : 0 ) |
+                ( shape.isPaintLeft ( c, decoration ) ? 1 << 1 : 0 ) |
+                ( shape.isPaintBottom ( c, decoration ) ? 1 << 2 : 0 ) |
+                ( shape.isPaintRight ( c, decoration ) ? 1 << 3 : 0 ) |
+                ( shape.isPaintTopLine ( c, decoration ) ? 1 << 4 : 0 ) |
+                ( shape.isPaintLeftLine ( c, decoration ) ? 1 << 5 : 0 ) |
+                ( shape.isPaintBottomLine ( c, decoration ) ? 1 << 6 : 0 ) |
+                ( shape.isPaintRightLine ( c, decoration ) ? 1 << 7 : 0 );
+    }
+
+    /**
+     * Releases raster of the specified decoration for the specified component.
+     *
+     * @param c          painted component
+     * @param decoration painted decoration
+     */
+    public static void release ( @NotNull final JComponent c, @NotNull final IDecoration decoration )
+    {
+        final Map<IDecoration, Raster> componentRasters = ( Map<IDecoration, Raster> ) c.getClientProperty ( RASTERS_KEY );
+        if ( componentRasters != null )
+        {
+            final Raster raster = componentRasters.remove ( decoration );
+            if ( raster != null )
+            {
+                raster.clear ();
+            }
+        }
+    }
+
+    /**
+     * Returns memory budget in bytes.
+     *
+     * @return memory budget in bytes
+     */
+    public static long getMaximumSize ()
+    {
+        synchronized ( rasters )
+        {
+            return maximumSize;
+        }
+    }
+
+    /**
+     * Sets memory budget in bytes.
+     * Least recently used rasters are dropped immediately if rendered rasters exceed new memory budget.
+     *
+     * @param maximumSize memory budget in bytes
+     */
+    public static void setMaximumSize ( final long maximumSize )
+    {
+        synchronized ( rasters )
+        {
+            DecorationRasters.maximumSize = Math.max ( 0, maximumSize );
+            evict ();
+        }
+    }
+
+    /**
+     * Returns total size of rendered rasters in bytes.
+     *
+     * @return total size of rendered rasters in bytes
+     */
+    public static long getSize ()
+    {
+        synchronized ( rasters )
+        {
+            return size;
+        }
+    }
+
+    /**
+     * Drops all rendered rasters.
+     * They will be rendered again on next repaint.
+     */
+    public static void clear ()
+    {
+        synchronized ( rasters )
+        {
+            for ( final Raster raster : rasters.keySet () )
+            {
+                raster.image = null;
+            }
+            rasters.clear ();
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns raster of the specified decoration for the specified component, creates it if needed.
+     *
+     * @param c          painted component
+     * @param decoration painted decoration
+     * @return raster of the specified decoration for the specified component
+     */
+    @NotNull
+    private static Raster getRaster ( @NotNull final JComponent c, @NotNull final IDecoration decoration )
+    {
+        Map<IDecoration, Raster> componentRasters = ( Map<IDecoration, Raster> ) c.getClientProperty ( RASTERS_KEY );
+        if ( componentRasters == null )
+        {
+            // Decorations are compared by identity since equal decorations might still be different instances for different states
+            componentRasters = new IdentityHashMap<IDecoration, Raster> ( 2 );
+            c.putClientProperty ( RASTERS_KEY, componentRasters );
+        }
+        Raster raster = componentRasters.get ( decoration );
+        if ( raster == null )
+        {
+            raster = new Raster ();
+            componentRasters.put ( decoration, raster );
+        }
+        return raster;
+    }
+
+    /**
+     * Drops least recently used rasters until rendered rasters fit memory budget.
+     */
+    private static void evict ()
+    {
+        final Iterator<Raster> iterator = rasters.keySet ().iterator ();
+        while ( size > maximumSize && iterator.hasNext () )
+        {
+            final Raster raster = iterator.next ();
+            size -= raster.size;
+            raster.image = null;
+            iterator.remove ();
+        }
+    }
+
+    /**
+     * Raster layer of single decoration painted for single component.
+     */
+    private static final class Raster
+    {
+        /**
+         * Rendered image or {@code null} if it was not rendered yet or was dropped.
+         */
+        @Nullable
+        private BufferedImage image;
+
+        /**
+         * Rendered image size in bytes.
+         */
+        private long size;
+
+        /**
+         * Painting bounds width.
+         */
+        private int width;
+
+        /**
+         * Painting bounds height.
+         */
+        private int height;
+
+        /**
+         * Horizontal scale.
+         */
+        private double scaleX;
+
+        /**
+         * Vertical scale.
+         */
+        private double scaleY;
+
+        /**
+         * Whether or not component orientation is left-to-right.
+         */
+        private boolean ltr;
+
+        /**
+         * Resolved shape settings.
+         */
+        @Nullable
+        private Object[] settings;
+
+        /**
+         * Painted sides and lines of {@link IPartialShape} packed into bit mask, {@code 0} for other shapes.
+         */
+        private int partial;
+
+        /**
+         * Returns rendered image if it is still valid for the specified settings, {@code null} otherwise.
+         *
+         * @param width    painting bounds width
+         * @param height   painting bounds height
+         * @param scaleX   horizontal scale
+         * @param scaleY   vertical scale
+         * @param ltr      whether or not component orientation is left-to-right
+         * @param settings resolved shape settings
+         * @param partial  painted sides and lines of {@link IPartialShape} packed into bit mask, {@code 0} for other shapes
+         * @return rendered image if it is still valid for the specified settings, {@code null} otherwise
+         */
+        @Nullable
+        public BufferedImage get ( final int width, final int height, final double scaleX, final double scaleY, final boolean ltr,
+                                   @Nullable final Object[] settings, final int partial )
+        {
+            synchronized ( rasters )
+            {
+                final BufferedImage valid;
+                if ( image != null && this.width == width && this.height == height && this.scaleX == scaleX &&
+                        this.scaleY == scaleY && this.ltr == ltr && this.partial == partial && Arrays.equals ( this.settings, settings ) )
+                {
+                    // Marking raster as recently used
+                    rasters.get ( this );
+                    valid = image;
+                }
+                else
+                {
+                    valid = null;
+                }
+                return valid;
+            }
+        }
+
+        /**
+         * Updates rendered image and settings it was rendered for.
+         *
+         * @param image    rendered image
+         * @param size     rendered image size in bytes
+         * @param width    painting bounds width
+         * @param height   painting bounds height
+         * @param scaleX   horizontal scale
+         * @param scaleY   vertical scale
+         * @param ltr      whether or not component orientation is left-to-right
+         * @param settings resolved shape settings
+         * @param partial  painted sides and lines of {@link IPartialShape} packed into bit mask, {@code 0} for other shapes
+         */
+        public void set ( @NotNull final BufferedImage image, final long size, final int width, final int height,
+                          final double scaleX, final double scaleY, final boolean ltr, @Nullable final Object[] settings,
+                          final int partial )
+        {
+            synchronized ( rasters )
+            {
+                clear ();
+                this.image = image;
+                this.size = size;
+                this.width = width;
+                this.height = height;
+                this.scaleX = scaleX;
+                this.scaleY = scaleY;
+                this.ltr = ltr;
+                this.settings = settings;
+                this.partial = partial;
+                rasters.put ( this, this );
+                DecorationRasters.size += size;
+                evict ();
+            }
+        }
+
+        /**
+         * Drops rendered image.
+         */
+        public void clear ()
+        {
+            synchronized ( rasters )
+            {
+                if ( rasters.remove ( this ) != null )
+                {
+                    DecorationRasters.size -= size;
+                }
+                image = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable key representing a set of decoration states.
+ * Each decoration state name is interned within global registry and gets its own bit, so the key is a simple bitmask.
+ * Since states order and duplicates do not affect the key it can be created straight from unsorted states {@link List}.
+ * Key hash code is precomputed, so using it within {@link Map}s doesn't cause any allocations.
+ *
+ * @author Mikle Garin
+ * @see AbstractDecorationPainter#getDecoration()
+ */
+public final class DecorationStatesKey
+{
+    /**
+     * Interned decoration state indices.
+     * Entry: [ decoration state name -> decoration state bit index ]
+     */
+    @NotNull
+    private static final Map<String, Integer> indices = new ConcurrentHashMap<String, Integer> ( 64 );
+
+    /**
+     * Interned decoration state names ordered by their indices.
+     */
+    @NotNull
+    private static final List<String> names = new ArrayList<String> ( 64 );
+
+    /**
+     * Decoration states bitmask.
+     */
+    @NotNull
+    private final long[] bits;
+
+    /**
+     * Precomputed hash code.
+     */
+    private final int hash;
+
+    /**
+     * Constructs new {@link DecorationStatesKey}.
+     *
+     * @param bits decoration states bitmask
+     */
+    private DecorationStatesKey ( @NotNull final long[] bits )
+    {
+        this.bits = bits;
+        this.hash = Arrays.hashCode ( bits );
+    }
+
+    /**
+     * Returns whether or not this key contains specified decoration state.
+     *
+     * @param state decoration state
+     * @return {@code true} if this key contains specified decoration state, {@code false} otherwise
+     */
+    public boolean contains ( @NotNull final String state )
+    {
+        final Integer index = indices.get ( state );
+        return index != null && index >> 6 < bits.length && ( bits[ index >> 6 ] & 1L << index ) != 0;
+    }
+
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        return object == this || object instanceof DecorationStatesKey && hash == ( ( DecorationStatesKey ) object ).hash &&
+                Arrays.equals ( bits, ( ( DecorationStatesKey ) object ).bits );
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return hash;
+    }
+
+    @NotNull
+    @Override
+    public String toString ()
+    {
+        final StringBuilder builder = new StringBuilder ();
+        synchronized ( names )
+        {
+            for ( int i = 0; i < bits.length * 64; i++ )
+            {
+                if ( ( bits[ i >> 6 ] & 1L << i ) != 0 )
+                {
+                    if ( builder.length () > 0 )
+                    {
+                        builder.append ( "," );
+                    }
+                    builder.append ( names.get ( i ) );
+                }
+            }
+        }
+        return builder.toString ();
+    }
+
+    /**
+     * Returns {@link DecorationStatesKey} for the specified decoration states.
+     *
+     * @param states decoration states, can be unsorted and contain duplicates
+     * @return {@link DecorationStatesKey} for the specified decoration states
+     */
+    @NotNull
+    public static DecorationStatesKey get ( @NotNull final List<String> states )
+    {
+        long[] bits = new long[ 1 ];
+        for ( int i = 0; i < states.size (); i++ )
+        {
+            final int index = index ( states.get ( i ) );
+            final int word = index >> 6;
+            if ( word >= bits.length )
+            {
+                bits = Arrays.copyOf ( bits, word + 1 );
+            }
+            bits[ word ] |= 1L << index;
+        }
+        return new DecorationStatesKey ( bits );
+    }
+
+    /**
+     * Returns interned bit index for the specified decoration state.
+     *
+     * @param state decoration state
+     * @return interned bit index for the specified decoration state
+     */
+    private static int index ( @NotNull final String state )
+    {
+        Integer index = indices.get ( state );
+        if ( index == null )
+        {
+            synchronized ( names )
+            {
+                index = indices.get ( state );
+                if ( index == null )
+                {
+                    index = names.size ();
+                    names.add ( state );
+                    indices.put ( state, index );
+                }
+            }
+        }
+        return index;
+    }
+}
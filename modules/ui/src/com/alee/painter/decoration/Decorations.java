@@ -18,7 +18,14 @@
 package com.alee.painter.decoration;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.clone.CloneBehavior;
+import com.alee.api.clone.RecursiveClone;
+import com.alee.api.clone.behavior.OmitOnClone;
+import com.alee.api.merge.MergeBehavior;
 import com.alee.api.merge.Overwriting;
+import com.alee.api.merge.RecursiveMerge;
+import com.alee.api.merge.behavior.OmitOnMerge;
 import com.alee.utils.collection.EmptyIterator;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -31,6 +38,8 @@ import java.util.List;
 
 /**
  * Class representing a group of decorations.
+ * Each clone keeps a reference to the {@link Decorations} it was cloned from, that reference is used as an identity of skin-level
+ * decorations to share built decorations between components using the same style, see {@link SharedDecorations}.
  *
  * @param <C> component type
  * @param <D> decoration type
@@ -39,7 +48,7 @@ import java.util.List;
  */
 @XStreamAlias ( "decorations" )
 public final class Decorations<C extends JComponent, D extends IDecoration<C, D>>
-        implements Iterable<D>, Overwriting, Cloneable, Serializable
+        implements Iterable<D>, Overwriting, CloneBehavior<Decorations<C, D>>, MergeBehavior<Decorations<C, D>>, Serializable
 {
     /**
      * Whether or not these decorations should overwrite previous ones when merged.
@@ -53,6 +62,15 @@ public final class Decorations<C extends JComponent, D extends IDecoration<C, D>
     @XStreamImplicit
     private List<D> decorations;
 
+    /**
+     * {@link Decorations} these ones were cloned from.
+     * It is {@code null} for skin-level {@link Decorations} and for {@link Decorations} modified through merge.
+     */
+    @Nullable
+    @OmitOnClone
+    @OmitOnMerge
+    private transient Decorations<C, D> origin;
+
     /**
      * Returns available decorations amount.
      *
@@ -75,4 +93,34 @@ public final class Decorations<C extends JComponent, D extends IDecoration<C, D>
     {
         return overwrite != null && overwrite;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns {@link Decorations} these ones were cloned from.
+     *
+     * @return {@link Decorations} these ones were cloned from
+     */
+    @Nullable
+    public Decorations<C, D> getOrigin ()
+    {
+        return origin;
+    }
+
+    @NotNull
+    @Override
+    public Decorations<C, D> clone ( @NotNull final RecursiveClone clone, final int depth )
+    {
+        final Decorations<C, D> copy = clone.cloneFields ( this, depth );
+        copy.origin = origin != null ? origin : this;
+        return copy;
+    }
+
+    @NotNull
+    @Override
+    public Decorations<C, D> merge ( @NotNull final RecursiveMerge merge, @NotNull final Class type,
+                                     @NotNull final Decorations<C, D> object, final int depth )
+    {
+        final Decorations<C, D> result = merge.mergeFields ( type, this, object, depth );
+        result.origin = null;
+        return result;
+    }
+}
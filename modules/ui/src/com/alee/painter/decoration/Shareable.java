@@ -0,0 +1,36 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+/**
+ * Marker interface for decorations and decoration elements that keep no component-specific runtime state.
+ * Single built instance of such decoration can be safely used by multiple components at once, see {@link SharedDecorations}.
+ *
+ * Be careful when extending classes implementing this interface - any component-specific runtime state added in the extending class
+ * must be stored within the component itself, for example in its client properties, instead of the decoration or element fields.
+ *
+ * @author Mikle Garin
+ * @see SharedDecorations
+ * @see AbstractDecoration#isShareable()
+ */
+public interface Shareable
+{
+    /**
+     * This is a marker interface, it doesn't have any methods.
+     */
+}
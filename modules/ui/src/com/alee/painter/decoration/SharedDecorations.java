@@ -0,0 +1,162 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.UtilityException;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Skin-wide cache of built decorations that can be shared between multiple components.
+ * Decorations are cached per skin-level {@link Decorations} identity, see {@link Decorations#getOrigin()}, and decorations
+ * combination key, so components using the same style and being in the same states will use the same built decoration.
+ *
+ * Only decorations that are {@link AbstractDecoration#isShareable()} are cached here, others are still built for each component.
+ * Cache doesn't hold any strong references to skin-level {@link Decorations} or built decorations, so whenever skin is changed
+ * or components are disposed unused decorations are simply collected.
+ *
+ * @author Mikle Garin
+ * @see Shareable
+ * @see AbstractDecorationPainter#getDecoration()
+ */
+public final class SharedDecorations
+{
+    /**
+     * Shared decorations cache.
+     * Entry: [ skin-level decorations -> [ decorations combination key -> built decoration reference ] ]
+     */
+    @NotNull
+    private static final Map<Decorations, Map<String, WeakReference<IDecoration>>> cache =
+            new WeakHashMap<Decorations, Map<String, WeakReference<IDecoration>>> ();
+
+    /**
+     * Amount of shared decorations requests that were served from cache.
+     */
+    @NotNull
+    private static final AtomicLong hits = new AtomicLong ( 0 );
+
+    /**
+     * Amount of shared decorations requests that were not served from cache.
+     */
+    @NotNull
+    private static final AtomicLong misses = new AtomicLong ( 0 );
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private SharedDecorations ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns shared decoration for the specified skin-level {@link Decorations} and decorations combination key.
+     *
+     * @param origin  skin-level {@link Decorations}
+     * @param key     decorations combination key
+     * @param section whether or not decoration is used by section painter
+     * @param <D>     decoration type
+     * @return shared decoration for the specified skin-level {@link Decorations} and decorations combination key
+     */
+    @Nullable
+    public static <D extends IDecoration> D get ( @NotNull final Decorations origin, @NotNull final String key, final boolean section )
+    {
+        final IDecoration decoration;
+        synchronized ( cache )
+        {
+            final Map<String, WeakReference<IDecoration>> decorations = cache.get ( origin );
+            final WeakReference<IDecoration> reference = decorations != null ? decorations.get ( sectionKey ( key, section ) ) : null;
+            decoration = reference != null ? reference.get () : null;
+        }
+        ( decoration != null ? hits : misses ).incrementAndGet ();
+        return ( D ) decoration;
+    }
+
+    /**
+     * Caches shared decoration for the specified skin-level {@link Decorations} and decorations combination key.
+     *
+     * @param origin     skin-level {@link Decorations}
+     * @param key        decorations combination key
+     * @param section    whether or not decoration is used by section painter
+     * @param decoration shared decoration
+     */
+    public static void put ( @NotNull final Decorations origin, @NotNull final String key, final boolean section,
+                             @NotNull final IDecoration decoration )
+    {
+        synchronized ( cache )
+        {
+            Map<String, WeakReference<IDecoration>> decorations = cache.get ( origin );
+            if ( decorations == null )
+            {
+                decorations = new HashMap<String, WeakReference<IDecoration>> ( 4 );
+                cache.put ( origin, decorations );
+            }
+            decorations.put ( sectionKey ( key, section ), new WeakReference<IDecoration> ( decoration ) );
+        }
+    }
+
+    /**
+     * Clears shared decorations cache.
+     */
+    public static void clear ()
+    {
+        synchronized ( cache )
+        {
+            cache.clear ();
+        }
+    }
+
+    /**
+     * Returns amount of shared decorations requests that were served from cache.
+     *
+     * @return amount of shared decorations requests that were served from cache
+     */
+    public static long getHits ()
+    {
+        return hits.get ();
+    }
+
+    /**
+     * Returns amount of shared decorations requests that were not served from cache.
+     *
+     * @return amount of shared decorations requests that were not served from cache
+     */
+    public static long getMisses ()
+    {
+        return misses.get ();
+    }
+
+    /**
+     * Returns decorations combination key for the specified section mark.
+     *
+     * @param key     decorations combination key
+     * @param section whether or not decoration is used by section painter
+     * @return decorations combination key for the specified section mark
+     */
+    @NotNull
+    private static String sectionKey ( @NotNull final String key, final boolean section )
+    {
+        return section ? "section:" + key : key;
+    }
+}
@@ -32,6 +32,7 @@ import com.alee.utils.CollectionUtils;
 import com.alee.utils.GraphicsUtils;
 import com.alee.utils.SwingUtils;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
+import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 import com.thoughtworks.xstream.annotations.XStreamImplicit;
 
 import javax.swing.*;
@@ -49,7 +50,7 @@ import java.util.List;
  * @author Mikle Garin
  */
 @XStreamAlias ( "decoration" )
-public class WebDecoration<C extends JComponent, I extends WebDecoration<C, I>> extends ContentDecoration<C, I>
+public class WebDecoration<C extends JComponent, I extends WebDecoration<C, I>> extends ContentDecoration<C, I> implements Shareable
 {
     /**
      * Decoration shape.
@@ -94,6 +95,23 @@ public class WebDecoration<C extends JComponent, I extends WebDecoration<C, I>>
     @XStreamImplicit
     protected List<IBackground> backgrounds = new ArrayList<IBackground> ( 1 );
 
+    /**
+     * Whether or not shadows, border and backgrounds of this decoration should be rendered into raster layer once and reused.
+     * It is only used when all decoration elements are {@link Shareable}, since those never change within a single state.
+     * Enable it only for decorations which look solely depends on component state and size.
+     *
+     * @see DecorationRasters
+     */
+    @XStreamAsAttribute
+    protected Boolean raster;
+
+    @Override
+    public boolean isShareable ()
+    {
+        return super.isShareable () && isShareable ( shapes ) && isShareable ( shadows ) && isShareable ( borders ) &&
+                isShareable ( backgrounds );
+    }
+
     @Override
     public void activate ( final C c )
     {
@@ -132,6 +150,9 @@ public class WebDecoration<C extends JComponent, I extends WebDecoration<C, I>>
         // Deactivating content
         super.deactivate ( c );
 
+        // Releasing raster layer
+        DecorationRasters.release ( c, this );
+
         // Deactivating decoration elements
         if ( hasShape () )
         {
@@ -164,6 +185,17 @@ public class WebDecoration<C extends JComponent, I extends WebDecoration<C, I>>
         return super.isVisible () && hasShape ();
     }
 
+    /**
+     * Returns whether or not shadows, border and backgrounds of this decoration should be painted using raster layer.
+     *
+     * @return {@code true} if shadows, border and backgrounds of this decoration should be painted using raster layer,
+     * {@code false} otherwise
+     */
+    public boolean isRaster ()
+    {
+        return raster != null && raster && isShareable ();
+    }
+
     /**
      * Returns whether or not decoration has shape.
      *
@@ -406,7 +438,10 @@ public class WebDecoration<C extends JComponent, I extends WebDecoration<C, I>>
                     final Shape ocl = GraphicsUtils.setupClip ( g2d, cl.createIntersection ( bounds ) );
 
                     // Painting decoration
-                    paintDecoration ( g2d, c, b );
+                    if ( !isRaster () || !DecorationRasters.paint ( g2d, c, this, b ) )
+                    {
+                        paintDecoration ( g2d, c, b );
+                    }
 
                     // Restoring settings
                     GraphicsUtils.restoreClip ( g2d, ocl );
@@ -20,6 +20,7 @@ package com.alee.painter.decoration.background;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.Shareable;
 import com.alee.utils.GraphicsUtils;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -38,7 +39,7 @@ import java.awt.*;
  */
 @XStreamAlias ( "ColorBackground" )
 public class ColorBackground<C extends JComponent, D extends IDecoration<C, D>, I extends ColorBackground<C, D, I>>
-        extends AbstractBackground<C, D, I>
+        extends AbstractBackground<C, D, I> implements Shareable
 {
     /**
      * Background color.
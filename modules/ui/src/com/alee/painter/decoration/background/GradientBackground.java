@@ -22,6 +22,7 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.merge.behavior.OverwriteOnMerge;
 import com.alee.painter.decoration.DecorationUtils;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.Shareable;
 import com.alee.utils.GraphicsUtils;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -43,7 +44,7 @@ import java.util.List;
  */
 @XStreamAlias ( "GradientBackground" )
 public class GradientBackground<C extends JComponent, D extends IDecoration<C, D>, I extends GradientBackground<C, D, I>>
-        extends AbstractBackground<C, D, I>
+        extends AbstractBackground<C, D, I> implements Shareable
 {
     /**
      * Gradient type.
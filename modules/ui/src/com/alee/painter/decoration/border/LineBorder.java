@@ -20,6 +20,7 @@ package com.alee.painter.decoration.border;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.Shareable;
 import com.alee.utils.GraphicsUtils;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
@@ -37,6 +38,7 @@ import java.awt.*;
  */
 @XStreamAlias ( "LineBorder" )
 public class LineBorder<C extends JComponent, D extends IDecoration<C, D>, I extends LineBorder<C, D, I>> extends AbstractBorder<C, D, I>
+        implements Shareable
 {
     /**
      * Border stroke.
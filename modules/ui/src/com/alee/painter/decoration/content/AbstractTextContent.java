@@ -34,6 +34,7 @@ import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 import javax.swing.*;
 import javax.swing.text.View;
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.util.Map;
 
 /**
@@ -728,7 +729,7 @@ public abstract class AbstractTextContent<C extends JComponent, D extends IDecor
      * Draw a string with a blur or shadow effect. The light angle is assumed to be 0 degrees, (i.e., window is illuminated from top).
      * The effect is intended to be subtle to be usable in as many text components as possible. The effect is generated with multiple calls
      * to draw string. This method paints the text on coordinates {@code tx}, {@code ty}. If text should be painted elsewhere, a transform
-     * should be applied to the graphics before passing it.
+     * should be applied to the graphics before passing it. Generated shadow is cached within {@link TextShadowCache} whenever possible.
      *
      * @param c     painted component
      * @param d     painted decoration state
@@ -740,70 +741,94 @@ public abstract class AbstractTextContent<C extends JComponent, D extends IDecor
     protected void paintTextShadow ( @NotNull final C c, @NotNull final D d, @NotNull final Graphics2D g2d, @NotNull final String text,
                                      final int textX, final int textY )
     {
-        if ( isShadow ( c, d ) )
+        if ( isShadow ( c, d ) && text.length () > 0 )
         {
-            // This is required to properly render sub-pixel text antialias
-            final RenderingHints rh = g2d.getRenderingHints ();
-
             // Shadow settings
             final float opacity = getShadowOpacity ( c, d );
             final int size = getShadowSize ( c, d );
-            final Color color = getShadowColor ( c, d );
-            final double tx = -size;
-            final double ty = 1 - size;
+            final Color color = ColorUtils.opaque ( getShadowColor ( c, d ) );
             /* todo final boolean isShadow = true; - replace with shadow type? #557 */
 
-            // Configuring graphics
-            final Composite oldComposite = g2d.getComposite ();
-            final Color oldColor = g2d.getColor ();
-            g2d.translate ( textX + tx, textY + ty );
-
             // Use a alpha blend smaller than 1 to prevent the effect from becoming too dark when multiple paints occur on top of each other
             float preAlpha = 0.4f;
-            if ( oldComposite instanceof AlphaComposite )
+            final Composite composite = g2d.getComposite ();
+            if ( composite instanceof AlphaComposite )
             {
-                final AlphaComposite alphaComposite = ( AlphaComposite ) oldComposite;
+                final AlphaComposite alphaComposite = ( AlphaComposite ) composite;
                 if ( alphaComposite.getRule () == AlphaComposite.SRC_OVER )
                 {
                     // Make sure alpha blend is adjusted by composite passed from above
                     preAlpha = alphaComposite.getAlpha () * preAlpha;
                 }
             }
-            g2d.setPaint ( ColorUtils.opaque ( color ) );
 
-            // If the effect is a shadow it looks better to stop painting a bit earlier - shadow will look softer
-            final int maxSize = /*isShadow ?*/ size - 1 /*: size*/;
-            for ( int i = -size; i <= maxSize; i++ )
+            if ( ( g2d.getTransform ().getType () & ~AffineTransform.TYPE_TRANSLATION ) == 0 )
+            {
+                // Painting cached shadow image
+                // Shadow layers are always painted with source-over composite, so painting them over a transparent image first and
+                // then painting that image with the same composite gives the same result
+                // Composite alpha is already taken into account within the image, so it is painted with plain composite
+                final TextShadowCache.TextShadow shadow = TextShadowCache.get ( text, g2d.getFont (), size, color, opacity, preAlpha,
+                        g2d.getRenderingHint ( RenderingHints.KEY_TEXT_ANTIALIASING ),
+                        g2d.getRenderingHint ( RenderingHints.KEY_FRACTIONALMETRICS ) );
+                g2d.setComposite ( AlphaComposite.SrcOver );
+                shadow.paint ( g2d, textX, textY );
+                g2d.setComposite ( composite );
+            }
+            else
             {
-                for ( int j = -size; j <= maxSize; j++ )
+                // Painting shadow directly if graphics are scaled or rotated since cached image would look differently
+                // This is required to properly render sub-pixel text antialias
+                final RenderingHints rh = g2d.getRenderingHints ();
+                final Paint paint = g2d.getPaint ();
+                g2d.setPaint ( color );
+                paintTextShadow ( g2d, text, textX, textY, size, opacity, preAlpha );
+                g2d.setComposite ( composite );
+                g2d.setPaint ( paint );
+                g2d.setRenderingHints ( rh );
+            }
+        }
+    }
+
+    /**
+     * Paints text shadow with multiple {@link Graphics2D#drawString(String, int, int)} calls using current graphics paint.
+     * Graphics composite is changed by this method and is not restored.
+     *
+     * @param g2d      graphics context
+     * @param text     text to paint
+     * @param textX    text X coordinate
+     * @param textY    text Y coordinate
+     * @param size     shadow size
+     * @param opacity  shadow opacity
+     * @param preAlpha alpha of each shadow layer
+     */
+    static void paintTextShadow ( @NotNull final Graphics2D g2d, @NotNull final String text, final int textX, final int textY,
+                                  final int size, final float opacity, final float preAlpha )
+    {
+        // If the effect is a shadow it looks better to stop painting a bit earlier - shadow will look softer
+        final int maxSize = /*isShadow ?*/ size - 1 /*: size*/;
+        for ( int i = -size; i <= maxSize; i++ )
+        {
+            for ( int j = -size; j <= maxSize; j++ )
+            {
+                final double distance = i * i + j * j;
+                float alpha;
+                if ( distance > 0.0d )
+                {
+                    alpha = ( float ) ( 1.0f / ( distance * size * opacity ) );
+                }
+                else
                 {
-                    final double distance = i * i + j * j;
-                    float alpha;
-                    if ( distance > 0.0d )
-                    {
-                        alpha = ( float ) ( 1.0f / ( distance * size * opacity ) );
-                    }
-                    else
-                    {
-                        alpha = opacity;
-                    }
-                    alpha *= preAlpha;
-                    if ( alpha > 1.0f )
-                    {
-                        alpha = 1.0f;
-                    }
-                    g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.SRC_OVER, alpha ) );
-                    g2d.drawString ( text, i + size, j + size );
+                    alpha = opacity;
                 }
+                alpha *= preAlpha;
+                if ( alpha > 1.0f )
+                {
+                    alpha = 1.0f;
+                }
+                g2d.setComposite ( AlphaComposite.getInstance ( AlphaComposite.SRC_OVER, alpha ) );
+                g2d.drawString ( text, textX + i, textY + 1 + j );
             }
-
-            // Restore graphics
-            g2d.translate ( -textX - tx, -textY - ty );
-            g2d.setComposite ( oldComposite );
-            g2d.setPaint ( oldColor );
-
-            // This is required to properly render sub-pixel text antialias
-            g2d.setRenderingHints ( rh );
         }
     }
 
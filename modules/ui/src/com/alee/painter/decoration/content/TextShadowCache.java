@@ -0,0 +1,408 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration.content;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.ImageUtils;
+import com.alee.utils.UtilityException;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Global cache of rendered text shadows used by {@link AbstractTextContent}.
+ * Each text shadow is rendered once into translucent image and then simply painted whenever it is needed.
+ * Cached shadows are identified by all settings affecting them: text, font, shadow size, color, opacity and text rasterization hints.
+ * Least recently used shadows are evicted once total size of cached shadow images exceeds memory budget, see
+ * {@link #setMaximumSize(long)}.
+ *
+ * All methods are thread-safe.
+ *
+ * @author Mikle Garin
+ * @see AbstractTextContent#paintTextShadow(javax.swing.JComponent, com.alee.painter.decoration.IDecoration, Graphics2D, String, int, int)
+ */
+public final class TextShadowCache
+{
+    /**
+     * Default memory budget in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * Cached text shadows in least recently used order.
+     * Entry: [ text shadow key -> text shadow ]
+     */
+    @NotNull
+    private static final LinkedHashMap<Key, TextShadow> cache = new LinkedHashMap<Key, TextShadow> ( 64, 0.75f, true );
+
+    /**
+     * Memory budget in bytes.
+     */
+    private static long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Total size of cached text shadow images in bytes.
+     */
+    private static long size = 0;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private TextShadowCache ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns memory budget in bytes.
+     *
+     * @return memory budget in bytes
+     */
+    public static long getMaximumSize ()
+    {
+        synchronized ( cache )
+        {
+            return maximumSize;
+        }
+    }
+
+    /**
+     * Sets memory budget in bytes.
+     * Least recently used text shadows are evicted immediately if cache exceeds new memory budget.
+     *
+     * @param maximumSize memory budget in bytes
+     */
+    public static void setMaximumSize ( final long maximumSize )
+    {
+        synchronized ( cache )
+        {
+            TextShadowCache.maximumSize = Math.max ( 0, maximumSize );
+            evict ();
+        }
+    }
+
+    /**
+     * Returns total size of cached text shadow images in bytes.
+     *
+     * @return total size of cached text shadow images in bytes
+     */
+    public static long getSize ()
+    {
+        synchronized ( cache )
+        {
+            return size;
+        }
+    }
+
+    /**
+     * Returns amount of cached text shadows.
+     *
+     * @return amount of cached text shadows
+     */
+    public static int getCount ()
+    {
+        synchronized ( cache )
+        {
+            return cache.size ();
+        }
+    }
+
+    /**
+     * Clears cache.
+     */
+    public static void clear ()
+    {
+        synchronized ( cache )
+        {
+            cache.clear ();
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns cached text shadow, rendering it if needed.
+     *
+     * @param text       shadow text
+     * @param font       text font
+     * @param size       shadow size
+     * @param color      shadow color
+     * @param opacity    shadow opacity
+     * @param preAlpha   alpha of each shadow layer
+     * @param antialias  text antialias rendering hint value
+     * @param fractional fractional metrics rendering hint value
+     * @return cached text shadow
+     */
+    @NotNull
+    public static TextShadow get ( @NotNull final String text, @NotNull final Font font, final int size, @NotNull final Color color,
+                                   final float opacity, final float preAlpha, @Nullable final Object antialias,
+                                   @Nullable final Object fractional )
+    {
+        final Key key = new Key ( text, font, size, color.getRGB (), opacity, preAlpha, antialias, fractional );
+        TextShadow shadow;
+        synchronized ( cache )
+        {
+            shadow = cache.get ( key );
+        }
+        if ( shadow == null )
+        {
+            shadow = render ( key );
+            synchronized ( cache )
+            {
+                final TextShadow previous = cache.put ( key, shadow );
+                if ( previous != null )
+                {
+                    TextShadowCache.size -= previous.size;
+                }
+                TextShadowCache.size += shadow.size;
+                evict ();
+            }
+        }
+        return shadow;
+    }
+
+    /**
+     * Evicts least recently used text shadows until cache fits memory budget.
+     * Most recently used text shadow is never evicted to avoid evicting text shadow that was just cached.
+     * Must be called within cache lock.
+     */
+    private static void evict ()
+    {
+        final Iterator<TextShadow> iterator = cache.values ().iterator ();
+        while ( size > maximumSize && cache.size () > 1 && iterator.hasNext () )
+        {
+            size -= iterator.next ().size;
+            iterator.remove ();
+        }
+    }
+
+    /**
+     * Returns newly rendered text shadow.
+     *
+     * @param key text shadow key
+     * @return newly rendered text shadow
+     */
+    @NotNull
+    private static TextShadow render ( @NotNull final Key key )
+    {
+        // LCD text rendering is not available for translucent images, so we fallback to grayscale one
+        final Object antialias = key.antialias == null || key.antialias == RenderingHints.VALUE_TEXT_ANTIALIAS_OFF ||
+                key.antialias == RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT ? key.antialias : RenderingHints.VALUE_TEXT_ANTIALIAS_ON;
+        final Object fractional = key.fractional != null ? key.fractional : RenderingHints.VALUE_FRACTIONALMETRICS_DEFAULT;
+        final FontRenderContext frc = new FontRenderContext ( null, antialias != null ? antialias :
+                RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT, fractional );
+
+        // Shadow image bounds relative to text baseline origin
+        final Rectangle text = new TextLayout ( key.text, key.font, frc ).getPixelBounds ( frc, 0, 0 );
+        final int x = text.x - key.size - 1;
+        final int y = text.y - key.size;
+        final int width = text.width + key.size * 2 + 2;
+        final int height = text.height + key.size * 2 + 2;
+
+        // Rendering text shadow
+        final BufferedImage image = ImageUtils.createCompatibleImage ( width, height, Transparency.TRANSLUCENT );
+        final Graphics2D g2d = image.createGraphics ();
+        if ( antialias != null )
+        {
+            g2d.setRenderingHint ( RenderingHints.KEY_TEXT_ANTIALIASING, antialias );
+        }
+        g2d.setRenderingHint ( RenderingHints.KEY_FRACTIONALMETRICS, fractional );
+        g2d.setFont ( key.font );
+        g2d.setPaint ( new Color ( key.color ) );
+        AbstractTextContent.paintTextShadow ( g2d, key.text, -x, -y, key.size, key.opacity, key.preAlpha );
+        g2d.dispose ();
+
+        return new TextShadow ( image, x, y );
+    }
+
+    /**
+     * Rendered text shadow.
+     */
+    public static final class TextShadow
+    {
+        /**
+         * Text shadow image.
+         */
+        @NotNull
+        private final BufferedImage image;
+
+        /**
+         * Image X coordinate relative to text baseline origin.
+         */
+        private final int x;
+
+        /**
+         * Image Y coordinate relative to text baseline origin.
+         */
+        private final int y;
+
+        /**
+         * Approximate image size in bytes.
+         */
+        private final long size;
+
+        /**
+         * Constructs new {@link TextShadow}.
+         *
+         * @param image text shadow image
+         * @param x     image X coordinate relative to text baseline origin
+         * @param y     image Y coordinate relative to text baseline origin
+         */
+        private TextShadow ( @NotNull final BufferedImage image, final int x, final int y )
+        {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+            this.size = ( long ) image.getWidth () * image.getHeight () * 4;
+        }
+
+        /**
+         * Paints text shadow.
+         *
+         * @param g2d   graphics context
+         * @param textX text X coordinate
+         * @param textY text Y coordinate
+         */
+        public void paint ( @NotNull final Graphics2D g2d, final int textX, final int textY )
+        {
+            g2d.drawImage ( image, textX + x, textY + y, null );
+        }
+    }
+
+    /**
+     * Text shadow key.
+     */
+    private static final class Key
+    {
+        /**
+         * Shadow text.
+         */
+        @NotNull
+        private final String text;
+
+        /**
+         * Text font.
+         */
+        @NotNull
+        private final Font font;
+
+        /**
+         * Shadow size.
+         */
+        private final int size;
+
+        /**
+         * Shadow color RGB value.
+         */
+        private final int color;
+
+        /**
+         * Shadow opacity.
+         */
+        private final float opacity;
+
+        /**
+         * Alpha of each shadow layer.
+         */
+        private final float preAlpha;
+
+        /**
+         * Text antialias rendering hint value.
+         */
+        @Nullable
+        private final Object antialias;
+
+        /**
+         * Fractional metrics rendering hint value.
+         */
+        @Nullable
+        private final Object fractional;
+
+        /**
+         * Precomputed hash code.
+         */
+        private final int hash;
+
+        /**
+         * Constructs new {@link Key}.
+         *
+         * @param text       shadow text
+         * @param font       text font
+         * @param size       shadow size
+         * @param color      shadow color RGB value
+         * @param opacity    shadow opacity
+         * @param preAlpha   alpha of each shadow layer
+         * @param antialias  text antialias rendering hint value
+         * @param fractional fractional metrics rendering hint value
+         */
+        public Key ( @NotNull final String text, @NotNull final Font font, final int size, final int color, final float opacity,
+                     final float preAlpha, @Nullable final Object antialias, @Nullable final Object fractional )
+        {
+            this.text = text;
+            this.font = font;
+            this.size = size;
+            this.color = color;
+            this.opacity = opacity;
+            this.preAlpha = preAlpha;
+            this.antialias = antialias;
+            this.fractional = fractional;
+            int h = text.hashCode ();
+            h = h * 31 + font.hashCode ();
+            h = h * 31 + size;
+            h = h * 31 + color;
+            h = h * 31 + Float.floatToIntBits ( opacity );
+            h = h * 31 + Float.floatToIntBits ( preAlpha );
+            h = h * 31 + ( antialias != null ? antialias.hashCode () : 0 );
+            h = h * 31 + ( fractional != null ? fractional.hashCode () : 0 );
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals ( @Nullable final Object object )
+        {
+            final boolean equals;
+            if ( object == this )
+            {
+                equals = true;
+            }
+            else if ( object instanceof Key )
+            {
+                final Key other = ( Key ) object;
+                equals = hash == other.hash && size == other.size && color == other.color &&
+                        Float.compare ( opacity, other.opacity ) == 0 && Float.compare ( preAlpha, other.preAlpha ) == 0 &&
+                        antialias == other.antialias && fractional == other.fractional && text.equals ( other.text ) &&
+                        font.equals ( other.font );
+            }
+            else
+            {
+                equals = false;
+            }
+            return equals;
+        }
+
+        @Override
+        public int hashCode ()
+        {
+            return hash;
+        }
+    }
+}
@@ -20,10 +20,10 @@ package com.alee.painter.decoration.shadow;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.behavior.OmitOnClone;
-import com.alee.api.jdk.Objects;
 import com.alee.api.merge.behavior.OmitOnMerge;
 import com.alee.painter.decoration.DecorationException;
 import com.alee.painter.decoration.IDecoration;
+import com.alee.painter.decoration.Shareable;
 import com.alee.utils.ImageUtils;
 import com.alee.utils.ninepatch.NinePatchIcon;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
@@ -32,9 +32,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.GeneralPath;
 import java.awt.image.BufferedImage;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Shadow that grows larger to the south part of the component.
@@ -46,29 +43,29 @@ import java.util.Map;
  */
 @XStreamAlias ( "ExpandingShadow" )
 public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>, I extends ExpandingShadow<C, D, I>>
-        extends AbstractShadow<C, D, I>
+        extends AbstractShadow<C, D, I> implements Shareable
 {
     /**
-     * Shadow images cache.
+     * {@link NinePatchIcon} currently used as shadow.
      */
-    protected static transient final Map<String, WeakReference<NinePatchIcon>> shadowCache =
-            new HashMap<String, WeakReference<NinePatchIcon>> ( 4 );
+    @Nullable
+    @OmitOnClone
+    @OmitOnMerge
+    protected transient NinePatchIcon shadowIcon;
 
     /**
-     * Last shadow {@link NinePatchIcon} cache key.
+     * Width of {@link NinePatchIcon} currently used as shadow.
      */
-    @Nullable
     @OmitOnClone
     @OmitOnMerge
-    protected transient String shadowKey;
+    protected transient int shadowWidth;
 
     /**
-     * {@link NinePatchIcon} currently used as shadow.
+     * Opacity of {@link NinePatchIcon} currently used as shadow.
      */
-    @Nullable
     @OmitOnClone
     @OmitOnMerge
-    protected transient NinePatchIcon shadowIcon;
+    protected transient float shadowOpacity;
 
     @Override
     public void paint ( @NotNull final Graphics2D g2d, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d,
@@ -103,21 +100,19 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
     @NotNull
     protected NinePatchIcon getShadow ( final int width, final float opacity )
     {
-        final String key = getShadowKey ( width, opacity );
-        if ( shadowIcon == null || Objects.notEquals ( key, shadowKey ) )
+        if ( shadowIcon == null || shadowWidth != width || Float.compare ( shadowOpacity, opacity ) != 0 )
         {
-            // Updating key
-            shadowKey = key;
-
-            // Retrieving icon for new key
-            final WeakReference<NinePatchIcon> reference = shadowCache.get ( key );
-            shadowIcon = reference != null ? reference.get () : null;
+            // Retrieving icon for new settings
+            shadowIcon = ShadowCache.get ( ShadowKey.Kind.expanding, ShadowType.outer, 0, 0, width, opacity, Color.BLACK, null );
+            shadowWidth = width;
+            shadowOpacity = opacity;
 
             // Creating new shadow icon if needed
             if ( shadowIcon == null )
             {
                 shadowIcon = createShadowIcon ( new Rectangle ( width * 6, width * 6 ), width, opacity );
-                shadowCache.put ( key, new WeakReference<NinePatchIcon> ( shadowIcon ) );
+                ShadowCache.put ( new ShadowKey ( ShadowKey.Kind.expanding, ShadowType.outer, 0, 0, width, opacity, Color.BLACK, null ),
+                        shadowIcon );
             }
         }
         return shadowIcon;
@@ -159,17 +154,4 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
         ninePatchIcon.setMargin ( width );
         return ninePatchIcon;
     }
-
-    /**
-     * Returns shadow image cache key.
-     *
-     * @param width   shadow width
-     * @param opacity shadow opacity
-     * @return shadow image cache key
-     */
-    @NotNull
-    protected String getShadowKey ( final int width, final float opacity )
-    {
-        return width + "," + opacity;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,354 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration.shadow;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.UtilityException;
+import com.alee.utils.ninepatch.NinePatchIcon;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Global cache for generated shadow images and {@link NinePatchIcon}s.
+ * Cached shadows are identified by {@link ShadowKey}s and are evicted in least recently used order once total size of all cached
+ * shadows exceeds memory budget, see {@link #setMaximumSize(long)}. Cached shadows are also kept in memory by this cache, so
+ * shadow users don't need to keep any references to them.
+ *
+ * All methods are thread-safe.
+ *
+ * @author Mikle Garin
+ * @see ShadowKey
+ * @see WebShadow
+ * @see ExpandingShadow
+ */
+public final class ShadowCache
+{
+    /**
+     * Default memory budget in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 32 * 1024 * 1024;
+
+    /**
+     * Cached shadows in least recently used order.
+     * Entry: [ shadow key -> cached shadow ]
+     */
+    @NotNull
+    private static final LinkedHashMap<ShadowKey, Entry> cache = new LinkedHashMap<ShadowKey, Entry> ( 64, 0.75f, true );
+
+    /**
+     * Lookup {@link ShadowKey} reused for all lookups, so that cache hits do not allocate any keys.
+     * Guarded by {@link #cache} lock and never stored in cache.
+     */
+    @NotNull
+    private static final ShadowKey lookupKey = new ShadowKey ();
+
+    /**
+     * Memory budget in bytes.
+     */
+    private static long maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * Total size of cached shadows in bytes.
+     */
+    private static long size = 0;
+
+    /**
+     * Amount of lookups that found cached shadow.
+     */
+    private static long hits = 0;
+
+    /**
+     * Amount of lookups that didn't find cached shadow.
+     */
+    private static long misses = 0;
+
+    /**
+     * Amount of evicted shadows.
+     */
+    private static long evictions = 0;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private ShadowCache ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns cached shadow or {@code null} if there is no such shadow in cache.
+     *
+     * @param key {@link ShadowKey}
+     * @param <T> cached shadow type
+     * @return cached shadow or {@code null} if there is no such shadow in cache
+     */
+    @Nullable
+    public static <T> T get ( @NotNull final ShadowKey key )
+    {
+        synchronized ( cache )
+        {
+            final Entry entry = cache.get ( key );
+            if ( entry != null )
+            {
+                hits++;
+                return ( T ) entry.shadow;
+            }
+            else
+            {
+                misses++;
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns cached shadow or {@code null} if there is no such shadow in cache.
+     * Unlike {@link #get(ShadowKey)} it doesn't require {@link ShadowKey} instance, so lookup doesn't allocate anything.
+     * {@link ShadowKey} should only be created to {@link #put(ShadowKey, Object)} shadow if it wasn't found.
+     *
+     * @param kind        cached shadow kind
+     * @param type        shadow type
+     * @param width       shadow image width or {@code 0} if it doesn't affect shadow
+     * @param height      shadow image height or {@code 0} if it doesn't affect shadow
+     * @param shadowWidth shadow width
+     * @param opacity     shadow opacity
+     * @param color       shadow color
+     * @param settings    shape settings
+     * @param <T>         cached shadow type
+     * @return cached shadow or {@code null} if there is no such shadow in cache
+     */
+    @Nullable
+    public static <T> T get ( @NotNull final ShadowKey.Kind kind, @NotNull final ShadowType type, final int width, final int height,
+                              final int shadowWidth, final float opacity, @NotNull final Color color, @Nullable final Object[] settings )
+    {
+        synchronized ( cache )
+        {
+            lookupKey.set ( kind, type, width, height, shadowWidth, opacity, color.getRGB (), settings );
+            try
+            {
+                return get ( lookupKey );
+            }
+            finally
+            {
+                // Shape settings shouldn't be kept in memory by lookup key
+                lookupKey.set ( kind, type, 0, 0, 0, 0f, 0, null );
+            }
+        }
+    }
+
+    /**
+     * Caches shadow.
+     *
+     * @param key    {@link ShadowKey}
+     * @param shadow shadow {@link BufferedImage} or {@link NinePatchIcon}
+     */
+    public static void put ( @NotNull final ShadowKey key, @NotNull final Object shadow )
+    {
+        final Entry entry = new Entry ( shadow, sizeOf ( shadow ) );
+        synchronized ( cache )
+        {
+            final Entry previous = cache.put ( key, entry );
+            if ( previous != null )
+            {
+                size -= previous.size;
+            }
+            size += entry.size;
+            evict ();
+        }
+    }
+
+    /**
+     * Returns memory budget in bytes.
+     *
+     * @return memory budget in bytes
+     */
+    public static long getMaximumSize ()
+    {
+        synchronized ( cache )
+        {
+            return maximumSize;
+        }
+    }
+
+    /**
+     * Sets memory budget in bytes.
+     * Least recently used shadows are evicted immediately if cache exceeds new memory budget.
+     *
+     * @param maximumSize memory budget in bytes
+     */
+    public static void setMaximumSize ( final long maximumSize )
+    {
+        synchronized ( cache )
+        {
+            ShadowCache.maximumSize = Math.max ( 0, maximumSize );
+            evict ();
+        }
+    }
+
+    /**
+     * Returns total size of cached shadows in bytes.
+     *
+     * @return total size of cached shadows in bytes
+     */
+    public static long getSize ()
+    {
+        synchronized ( cache )
+        {
+            return size;
+        }
+    }
+
+    /**
+     * Returns amount of cached shadows.
+     *
+     * @return amount of cached shadows
+     */
+    public static int getCount ()
+    {
+        synchronized ( cache )
+        {
+            return cache.size ();
+        }
+    }
+
+    /**
+     * Returns amount of lookups that found cached shadow.
+     *
+     * @return amount of lookups that found cached shadow
+     */
+    public static long getHits ()
+    {
+        synchronized ( cache )
+        {
+            return hits;
+        }
+    }
+
+    /**
+     * Returns amount of lookups that didn't find cached shadow.
+     *
+     * @return amount of lookups that didn't find cached shadow
+     */
+    public static long getMisses ()
+    {
+        synchronized ( cache )
+        {
+            return misses;
+        }
+    }
+
+    /**
+     * Returns amount of evicted shadows.
+     *
+     * @return amount of evicted shadows
+     */
+    public static long getEvictions ()
+    {
+        synchronized ( cache )
+        {
+            return evictions;
+        }
+    }
+
+    /**
+     * Clears cache.
+     */
+    public static void clear ()
+    {
+        synchronized ( cache )
+        {
+            cache.clear ();
+            size = 0;
+        }
+    }
+
+    /**
+     * Evicts least recently used shadows until cache fits memory budget.
+     * Most recently used shadow is never evicted to avoid evicting shadow that was just cached.
+     */
+    private static void evict ()
+    {
+        final Iterator<Map.Entry<ShadowKey, Entry>> iterator = cache.entrySet ().iterator ();
+        while ( size > maximumSize && cache.size () > 1 && iterator.hasNext () )
+        {
+            size -= iterator.next ().getValue ().size;
+            iterator.remove ();
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns approximate size of the specified shadow in bytes.
+     *
+     * @param shadow shadow {@link BufferedImage} or {@link NinePatchIcon}
+     * @return approximate size of the specified shadow in bytes
+     */
+    private static long sizeOf ( @NotNull final Object shadow )
+    {
+        final long size;
+        if ( shadow instanceof BufferedImage )
+        {
+            final DataBuffer buffer = ( ( BufferedImage ) shadow ).getRaster ().getDataBuffer ();
+            size = ( long ) buffer.getSize () * buffer.getNumBanks () * DataBuffer.getDataTypeSize ( buffer.getDataType () ) / 8;
+        }
+        else if ( shadow instanceof NinePatchIcon )
+        {
+            size = sizeOf ( ( ( NinePatchIcon ) shadow ).getRawImage () );
+        }
+        else
+        {
+            throw new IllegalArgumentException ( "Unsupported shadow type: " + shadow );
+        }
+        return size;
+    }
+
+    /**
+     * Cached shadow.
+     */
+    private static final class Entry
+    {
+        /**
+         * Shadow {@link BufferedImage} or {@link NinePatchIcon}.
+         */
+        @NotNull
+        private final Object shadow;
+
+        /**
+         * Approximate shadow size in bytes.
+         */
+        private final long size;
+
+        /**
+         * Constructs new {@link Entry}.
+         *
+         * @param shadow shadow {@link BufferedImage} or {@link NinePatchIcon}
+         * @param size   approximate shadow size in bytes
+         */
+        public Entry ( @NotNull final Object shadow, final long size )
+        {
+            this.shadow = shadow;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.decoration.shadow;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * {@link ShadowCache} key.
+ * It consists of primitive shadow settings and shape settings with precomputed hash code.
+ * Shape settings are compared element by element, so each of them must implement {@link Object#equals(Object)} and
+ * {@link Object#hashCode()} properly.
+ *
+ * Keys created through public constructor are immutable and are only created to cache shadows that weren't found.
+ * {@link ShadowCache} reuses its single private lookup key for all lookups instead, so cache hits do not allocate any keys.
+ *
+ * @author Mikle Garin
+ * @see ShadowCache
+ */
+public final class ShadowKey
+{
+    /**
+     * Cached shadow kind.
+     */
+    public static enum Kind
+    {
+        /**
+         * {@link com.alee.utils.ninepatch.NinePatchIcon} shadow.
+         */
+        icon,
+
+        /**
+         * {@link java.awt.image.BufferedImage} shadow.
+         */
+        image,
+
+        /**
+         * {@link ExpandingShadow} shadow.
+         */
+        expanding
+    }
+
+    /**
+     * Cached shadow kind.
+     */
+    @NotNull
+    private Kind kind;
+
+    /**
+     * Shadow type.
+     */
+    @NotNull
+    private ShadowType type;
+
+    /**
+     * Shadow image width or {@code 0} if it doesn't affect shadow.
+     */
+    private int width;
+
+    /**
+     * Shadow image height or {@code 0} if it doesn't affect shadow.
+     */
+    private int height;
+
+    /**
+     * Shadow width.
+     */
+    private int shadowWidth;
+
+    /**
+     * Shadow opacity.
+     */
+    private float opacity;
+
+    /**
+     * Shadow color RGB value.
+     */
+    private int color;
+
+    /**
+     * Shape settings.
+     */
+    @Nullable
+    private Object[] settings;
+
+    /**
+     * Precomputed hash code.
+     */
+    private int hash;
+
+    /**
+     * Constructs new {@link ShadowKey}.
+     *
+     * @param kind        cached shadow kind
+     * @param type        shadow type
+     * @param width       shadow image width or {@code 0} if it doesn't affect shadow
+     * @param height      shadow image height or {@code 0} if it doesn't affect shadow
+     * @param shadowWidth shadow width
+     * @param opacity     shadow opacity
+     * @param color       shadow color
+     * @param settings    shape settings, must not be modified afterwards
+     */
+    public ShadowKey ( @NotNull final Kind kind, @NotNull final ShadowType type, final int width, final int height,
+                       final int shadowWidth, final float opacity, @NotNull final Color color, @Nullable final Object[] settings )
+    {
+        set ( kind, type, width, height, shadowWidth, opacity, color.getRGB (), settings );
+    }
+
+    /**
+     * Constructs new lookup {@link ShadowKey}.
+     * It must be filled in using {@link #set(Kind, ShadowType, int, int, int, float, int, Object[])} before each lookup.
+     */
+    ShadowKey ()
+    {
+        this.kind = Kind.icon;
+        this.type = ShadowType.outer;
+    }
+
+    /**
+     * Updates all settings of this {@link ShadowKey}.
+     * Must only be used for lookup {@link ShadowKey} owned by {@link ShadowCache} and never for keys stored in cache.
+     *
+     * @param kind        cached shadow kind
+     * @param type        shadow type
+     * @param width       shadow image width or {@code 0} if it doesn't affect shadow
+     * @param height      shadow image height or {@code 0} if it doesn't affect shadow
+     * @param shadowWidth shadow width
+     * @param opacity     shadow opacity
+     * @param color       shadow color RGB value
+     * @param settings    shape settings
+     */
+    void set ( @NotNull final Kind kind, @NotNull final ShadowType type, final int width, final int height, final int shadowWidth,
+               final float opacity, final int color, @Nullable final Object[] settings )
+    {
+        this.kind = kind;
+        this.type = type;
+        this.width = width;
+        this.height = height;
+        this.shadowWidth = shadowWidth;
+        this.opacity = opacity;
+        this.color = color;
+        this.settings = settings;
+        int h = kind.ordinal ();
+        h = h * 31 + type.ordinal ();
+        h = h * 31 + width;
+        h = h * 31 + height;
+        h = h * 31 + shadowWidth;
+        h = h * 31 + Float.floatToIntBits ( opacity );
+        h = h * 31 + color;
+        h = h * 31 + Arrays.hashCode ( settings );
+        this.hash = h;
+    }
+
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        final boolean equals;
+        if ( object == this )
+        {
+            equals = true;
+        }
+        else if ( object instanceof ShadowKey )
+        {
+            final ShadowKey other = ( ShadowKey ) object;
+            equals = hash == other.hash && kind == other.kind && type == other.type && width == other.width &&
+                    height == other.height && shadowWidth == other.shadowWidth &&
+                    Float.floatToIntBits ( opacity ) == Float.floatToIntBits ( other.opacity ) &&
+                    color == other.color && Arrays.equals ( settings, other.settings );
+        }
+        else
+        {
+            equals = false;
+        }
+        return equals;
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return hash;
+    }
+
+    @NotNull
+    @Override
+    public String toString ()
+    {
+        return kind + ";" + type + ";" + width + ";" + height + ";" + shadowWidth + ";" + opacity + ";" +
+                Integer.toHexString ( color ) + ";" + Arrays.toString ( settings );
+    }
+}
@@ -19,16 +19,14 @@ package com.alee.painter.decoration.shadow;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
-import com.alee.api.clone.behavior.OmitOnClone;
-import com.alee.api.merge.behavior.OmitOnMerge;
 import com.alee.graphics.filters.ShadowFilter;
+import com.alee.painter.decoration.Shareable;
 import com.alee.painter.decoration.WebDecoration;
 import com.alee.painter.decoration.shape.IShape;
 import com.alee.painter.decoration.shape.StretchInfo;
 import com.alee.utils.ColorUtils;
 import com.alee.utils.GraphicsUtils;
 import com.alee.utils.ImageUtils;
-import com.alee.utils.TextUtils;
 import com.alee.utils.general.Pair;
 import com.alee.utils.ninepatch.NinePatchIcon;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
@@ -37,9 +35,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.Area;
 import java.awt.image.BufferedImage;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Basic shadow that can be painted on any shape.
@@ -57,40 +52,8 @@ import java.util.Map;
  */
 @XStreamAlias ( "WebShadow" )
 public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I extends WebShadow<C, D, I>> extends AbstractShadow<C, D, I>
+        implements Shareable
 {
-    /**
-     * Shadow icons cache.
-     */
-    protected static transient final Map<String, WeakReference<NinePatchIcon>> shadowIconsCache =
-            new HashMap<String, WeakReference<NinePatchIcon>> ( 100 );
-
-    /**
-     * Shadow images cache.
-     */
-    protected static transient final Map<String, WeakReference<BufferedImage>> shadowImagesCache =
-            new HashMap<String, WeakReference<BufferedImage>> ( 20 );
-
-    /**
-     * Cache key data separator.
-     */
-    protected static final String separator = ",";
-
-    /**
-     * Reference keeping shadow icon in memory.
-     */
-    @Nullable
-    @OmitOnClone
-    @OmitOnMerge
-    protected transient NinePatchIcon shadowIcon;
-
-    /**
-     * Reference keeping shadow image in memory.
-     */
-    @Nullable
-    @OmitOnClone
-    @OmitOnMerge
-    protected transient BufferedImage shadowImage;
-
     @Override
     public void paint ( @NotNull final Graphics2D g2d, @NotNull final Rectangle bounds, @NotNull final C c, @NotNull final D d,
                         @NotNull final Shape shape )
@@ -114,16 +77,14 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                 if ( type == ShadowType.outer )
                 {
                     // Outer 9-patch shadow icon
-                    shadowIcon = getShadowIcon ( stretch, b, width, opacity, getColor (), shape, settings );
+                    final NinePatchIcon shadowIcon = getShadowIcon ( stretch, b, width, opacity, getColor (), shape, settings );
                     shadowIcon.paintIcon ( g2d, b.x, b.y, b.width, b.height );
-                    shadowImage = null;
                 }
                 else
                 {
                     // Inner 9-patch shadow icon
-                    shadowIcon = getInnerShadowIcon ( stretch, b, width, opacity, getColor (), shape, settings );
+                    final NinePatchIcon shadowIcon = getInnerShadowIcon ( stretch, b, width, opacity, getColor (), shape, settings );
                     shadowIcon.paintIcon ( g2d, b.x, b.y, b.width, b.height );
-                    shadowImage = null;
                 }
             }
             else
@@ -133,16 +94,14 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                 if ( type == ShadowType.outer )
                 {
                     // Outer shadow image
-                    shadowImage = getShadowImage ( b, width, opacity, getColor (), shape, settings );
+                    final BufferedImage shadowImage = getShadowImage ( b, width, opacity, getColor (), shape, settings );
                     g2d.drawImage ( shadowImage, b.x, b.y, b.width, b.height, null );
-                    shadowIcon = null;
                 }
                 else
                 {
                     // Inner shadow image
-                    shadowImage = getInnerShadowImage ( b, width, opacity, getColor (), shape, settings );
+                    final BufferedImage shadowImage = getInnerShadowImage ( b, width, opacity, getColor (), shape, settings );
                     g2d.drawImage ( shadowImage, b.x, b.y, b.width, b.height, null );
-                    shadowIcon = null;
                 }
             }
 
@@ -165,11 +124,6 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
             //                }
             //            }
         }
-        else
-        {
-            shadowIcon = null;
-            shadowImage = null;
-        }
     }
 
     /**
@@ -216,12 +170,11 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         // Width and height is added as key in case there are no horizontal and/or vertical stretchable areas
         final int hor = stretchInfo.getHorizontalStretch () == null ? bounds.width : 0;
         final int ver = stretchInfo.getVerticalStretch () == null ? bounds.height : 0;
-        final String key = TextUtils.getSettingsKey ( ShadowType.outer, hor, ver, width, opacity, color, settings );
-        NinePatchIcon shadow = shadowIconsCache.containsKey ( key ) ? shadowIconsCache.get ( key ).get () : null;
+        NinePatchIcon shadow = ShadowCache.get ( ShadowKey.Kind.icon, ShadowType.outer, hor, ver, width, opacity, color, settings );
         if ( shadow == null )
         {
             shadow = createShadowIcon ( stretchInfo, bounds, width, opacity, color, shape );
-            shadowIconsCache.put ( key, new WeakReference<NinePatchIcon> ( shadow ) );
+            ShadowCache.put ( new ShadowKey ( ShadowKey.Kind.icon, ShadowType.outer, hor, ver, width, opacity, color, settings ), shadow );
         }
         return shadow;
     }
@@ -292,12 +245,13 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                                                  @NotNull final Color color, @NotNull final Shape shape,
                                                  @Nullable final Object... settings )
     {
-        final String key = TextUtils.getSettingsKey ( ShadowType.outer, bounds.width, bounds.height, width, opacity, color, settings );
-        BufferedImage shadow = shadowImagesCache.containsKey ( key ) ? shadowImagesCache.get ( key ).get () : null;
+        final int w = bounds.width;
+        final int h = bounds.height;
+        BufferedImage shadow = ShadowCache.get ( ShadowKey.Kind.image, ShadowType.outer, w, h, width, opacity, color, settings );
         if ( shadow == null )
         {
             shadow = createShadowImage ( bounds, width, opacity, color, shape );
-            shadowImagesCache.put ( key, new WeakReference<BufferedImage> ( shadow ) );
+            ShadowCache.put ( new ShadowKey ( ShadowKey.Kind.image, ShadowType.outer, w, h, width, opacity, color, settings ), shadow );
         }
         return shadow;
     }
@@ -327,6 +281,7 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
 
         // Creating shadow image
         final ShadowFilter sf = new ShadowFilter ( width, 0, 0, opacity );
+        sf.setApproximate ( true );
         sf.setShadowColor ( Color.BLACK.getRGB () );
         final BufferedImage shadow = sf.filter ( bi, null );
 
@@ -365,12 +320,11 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         // Width and height is added as key in case there are no horizontal and/or vertical stretchable areas
         final int hor = stretchInfo.getHorizontalStretch () == null ? bounds.width : 0;
         final int ver = stretchInfo.getVerticalStretch () == null ? bounds.height : 0;
-        final String key = TextUtils.getSettingsKey ( ShadowType.inner, hor, ver, width, opacity, color, settings );
-        NinePatchIcon shadow = shadowIconsCache.containsKey ( key ) ? shadowIconsCache.get ( key ).get () : null;
+        NinePatchIcon shadow = ShadowCache.get ( ShadowKey.Kind.icon, ShadowType.inner, hor, ver, width, opacity, color, settings );
         if ( shadow == null )
         {
             shadow = createInnerShadowIcon ( stretchInfo, bounds, width, opacity, color, shape );
-            shadowIconsCache.put ( key, new WeakReference<NinePatchIcon> ( shadow ) );
+            ShadowCache.put ( new ShadowKey ( ShadowKey.Kind.icon, ShadowType.inner, hor, ver, width, opacity, color, settings ), shadow );
         }
         return shadow;
     }
@@ -442,12 +396,13 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                                                       @NotNull final Color color, @NotNull final Shape shape,
                                                       @Nullable final Object... settings )
     {
-        final String key = TextUtils.getSettingsKey ( ShadowType.inner, bounds.width, bounds.height, width, opacity, color, settings );
-        BufferedImage shadow = shadowImagesCache.containsKey ( key ) ? shadowImagesCache.get ( key ).get () : null;
+        final int w = bounds.width;
+        final int h = bounds.height;
+        BufferedImage shadow = ShadowCache.get ( ShadowKey.Kind.image, ShadowType.inner, w, h, width, opacity, color, settings );
         if ( shadow == null )
         {
             shadow = createInnerShadowImage ( bounds, width, opacity, color, shape );
-            shadowImagesCache.put ( key, new WeakReference<BufferedImage> ( shadow ) );
+            ShadowCache.put ( new ShadowKey ( ShadowKey.Kind.image, ShadowType.inner, w, h, width, opacity, color, settings ), shadow );
         }
         return shadow;
     }
@@ -482,6 +437,7 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
 
         // Creating inner shadow image
         final ShadowFilter sf = new ShadowFilter ( width, 0, 0, opacity );
+        sf.setApproximate ( true );
         sf.setShadowColor ( Color.BLACK.getRGB () );
         final BufferedImage shadow = sf.filter ( bi, null );
 
@@ -21,6 +21,7 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.data.CompassDirection;
 import com.alee.api.jdk.Supplier;
+import com.alee.painter.decoration.Shareable;
 import com.alee.painter.decoration.WebDecoration;
 import com.alee.utils.ShapeUtils;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
@@ -40,6 +41,7 @@ import java.awt.geom.GeneralPath;
  */
 @XStreamAlias ( "ArrowShape" )
 public class ArrowShape<C extends JComponent, D extends WebDecoration<C, D>, I extends ArrowShape<C, D, I>> extends AbstractShape<C, D, I>
+        implements Shareable
 {
     /**
      * Arrow corner direction.
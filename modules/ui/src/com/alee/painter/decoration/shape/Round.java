@@ -18,6 +18,7 @@
 package com.alee.painter.decoration.shape;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.CloneBehavior;
 import com.alee.api.clone.RecursiveClone;
 import com.alee.api.merge.Overwriting;
@@ -96,6 +97,20 @@ public final class Round implements Overwriting, CloneBehavior<Round>, Serializa
         return new Round ( topLeft, topRight, bottomRight, bottomLeft );
     }
 
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        return object == this || object instanceof Round && topLeft == ( ( Round ) object ).topLeft &&
+                topRight == ( ( Round ) object ).topRight && bottomRight == ( ( Round ) object ).bottomRight &&
+                bottomLeft == ( ( Round ) object ).bottomLeft;
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return ( ( topLeft * 31 + topRight ) * 31 + bottomRight ) * 31 + bottomLeft;
+    }
+
     @NotNull
     @Override
     public String toString ()
@@ -18,6 +18,7 @@
 package com.alee.painter.decoration.shape;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.CloneBehavior;
 import com.alee.api.clone.RecursiveClone;
 import com.alee.api.merge.Overwriting;
@@ -160,6 +161,19 @@ public final class Sides implements Overwriting, CloneBehavior<Sides>, Serializa
         return new Sides ( top, left, bottom, right );
     }
 
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        return object == this || object instanceof Sides && top == ( ( Sides ) object ).top && left == ( ( Sides ) object ).left &&
+                bottom == ( ( Sides ) object ).bottom && right == ( ( Sides ) object ).right;
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return ( top ? 1 : 0 ) | ( left ? 2 : 0 ) | ( bottom ? 4 : 0 ) | ( right ? 8 : 0 );
+    }
+
     @NotNull
     @Override
     public String toString ()
@@ -4,6 +4,7 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Supplier;
 import com.alee.laf.grouping.GroupingLayout;
+import com.alee.painter.decoration.Shareable;
 import com.alee.painter.decoration.WebDecoration;
 import com.alee.painter.decoration.border.BorderWidth;
 import com.alee.painter.decoration.shadow.ShadowType;
@@ -29,7 +30,7 @@ import java.awt.*;
  */
 @XStreamAlias ( "WebShape" )
 public class WebShape<C extends JComponent, D extends WebDecoration<C, D>, I extends WebShape<C, D, I>> extends AbstractShape<C, D, I>
-        implements IPartialShape<C, D, I>
+        implements IPartialShape<C, D, I>, Shareable
 {
     /**
      * Decoration corners rounding.
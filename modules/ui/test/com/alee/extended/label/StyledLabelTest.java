@@ -23,6 +23,8 @@ import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import java.util.List;
+
 /**
  * Set of JUnit tests for {@link WebStyledLabel} and related classes.
  *
@@ -115,6 +117,65 @@ public final class StyledLabelTest
         );
     }
 
+    /**
+     * Tests {@link StyleRange} positions and line breaks within {@link StyleRanges} parsing result.
+     */
+    @Test
+    public void styleRangePositions ()
+    {
+        final StyleRanges test1 = new StyleRanges ( "A {bc:b}{br}d {ef:i} g" );
+        checkParsingResult (
+                test1.getStyledText (),
+                test1.getPlainText (),
+                "A bc\nd ef g"
+        );
+        final List<StyleRange> ranges = test1.getStyleRanges ();
+        if ( ranges.size () != 2 || ranges.get ( 0 ).getStartIndex () != 2 || ranges.get ( 0 ).getLength () != 2 ||
+                ranges.get ( 1 ).getStartIndex () != 7 || ranges.get ( 1 ).getLength () != 2 )
+        {
+            throw new RuntimeException ( "Unexpected style ranges for text: " + test1.getStyledText () );
+        }
+    }
+
+    /**
+     * Tests that identical styled texts share single {@link StyleRanges} parsing result.
+     */
+    @Test
+    public void sharedParsingResult ()
+    {
+        final StyleRanges test1 = new StyleRanges ( "Shared {text:b}" );
+        final StyleRanges test2 = new StyleRanges ( "Shared {text:b}" );
+        if ( test1.getStyleRanges () != test2.getStyleRanges () )
+        {
+            throw new RuntimeException ( "Parsing result is not shared for text: " + test1.getStyledText () );
+        }
+    }
+
+    /**
+     * Tests {@link TextRanges} building from shared {@link StyleRanges} parsing result.
+     */
+    @Test
+    public void textRangesFromSharedParsingResult ()
+    {
+        final StyleRanges test1 = new StyleRanges ( "Hello {bold:b} and {it:i}" );
+        final List<StyleRange> styleRanges = test1.getStyleRanges ();
+        final List<TextRange> textRanges = new TextRanges ( test1.getPlainText (), styleRanges ).getTextRanges ();
+        final StringBuilder text = new StringBuilder ();
+        for ( final TextRange textRange : textRanges )
+        {
+            text.append ( textRange.getText () );
+        }
+        checkParsingResult ( test1.getStyledText (), text.toString (), "Hello bold and it" );
+        if ( textRanges.size () != 4 || textRanges.get ( 1 ).getStyleRange () == null || textRanges.get ( 3 ).getStyleRange () == null )
+        {
+            throw new RuntimeException ( "Unexpected text ranges for text: " + test1.getStyledText () );
+        }
+        if ( new StyleRanges ( "Hello {bold:b} and {it:i}" ).getStyleRanges () != styleRanges )
+        {
+            throw new RuntimeException ( "Parsing result is not shared for text: " + test1.getStyledText () );
+        }
+    }
+
     /**
      * Asserts style parsing result.
      *
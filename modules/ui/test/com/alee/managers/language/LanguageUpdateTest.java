@@ -0,0 +1,309 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.language;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.utils.CoreSwingUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of JUnit tests for language update of registered components.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class LanguageUpdateTest
+{
+    /**
+     * Amount of components to update.
+     */
+    private static final int COMPONENTS = 1000;
+
+    /**
+     * Amount of showing components to update.
+     */
+    private static final int SHOWING = 10;
+
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.setForceSingleEventsThread ( true );
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Time-sliced language update test.
+     * Showing components must be updated in the first slice, all other components must be updated in the following slices.
+     */
+    @Test
+    public void slicedUpdate ()
+    {
+        final List<TestLabel> components = new ArrayList<TestLabel> ( COMPONENTS );
+        final int[] listeners = new int[ 1 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                for ( int i = 0; i < COMPONENTS; i++ )
+                {
+                    final TestLabel component = new TestLabel ( i < SHOWING, 50 );
+                    UILanguageManager.registerComponent ( component, "weblaf.test.sliced." + i );
+                    components.add ( component );
+                }
+                listeners[ 0 ] = components.get ( 0 ).getHierarchyListeners ().length;
+                for ( final TestLabel component : components )
+                {
+                    component.updates = 0;
+                }
+
+                UILanguageManager.setComponentsUpdateSliceTime ( 1 );
+                UILanguageManager.updateComponents ();
+                for ( int i = 0; i < SHOWING; i++ )
+                {
+                    assert components.get ( i ).updates == 1 : "Showing component wasn't updated in the first slice";
+                }
+                assert getUpdated ( components ) < COMPONENTS : "Components weren't updated in slices";
+                assert components.get ( COMPONENTS - 1 ).getHierarchyListeners ().length == listeners[ 0 ] + 1 :
+                        "Outdated component should wait to be displayed";
+            }
+        } );
+        try
+        {
+            // Each check is queued after remaining update slices
+            final long end = System.currentTimeMillis () + 60000;
+            while ( !isUpdated ( components ) && System.currentTimeMillis () < end )
+            {
+                CoreSwingUtils.invokeAndWait ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        /**
+                         * Waiting for the next slice.
+                         */
+                    }
+                } );
+            }
+            CoreSwingUtils.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    for ( final TestLabel component : components )
+                    {
+                        assert component.updates == 1 : "Component should be updated exactly once: " + component.updates;
+                        assert component.getHierarchyListeners ().length == listeners[ 0 ] : "Hierarchy listener wasn't removed";
+                    }
+                }
+            } );
+        }
+        finally
+        {
+            CoreSwingUtils.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    UILanguageManager.setComponentsUpdateSliceTime ( 0 );
+                    for ( final TestLabel component : components )
+                    {
+                        UILanguageManager.unregisterComponent ( component );
+                    }
+                }
+            } );
+        }
+    }
+
+    /**
+     * Lazy language update test.
+     * Hidden components must stay outdated until they are displayed.
+     */
+    @Test
+    public void lazyUpdate ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final TestLabel showing = new TestLabel ( true, 0 );
+                final TestLabel hidden = new TestLabel ( false, 0 );
+                final TestLabel unregistered = new TestLabel ( false, 0 );
+                UILanguageManager.registerComponent ( showing, "weblaf.test.lazy.showing" );
+                UILanguageManager.registerComponent ( hidden, "weblaf.test.lazy.hidden" );
+                UILanguageManager.registerComponent ( unregistered, "weblaf.test.lazy.unregistered" );
+                final int listeners = hidden.getHierarchyListeners ().length;
+                showing.updates = 0;
+                hidden.updates = 0;
+                unregistered.updates = 0;
+                try
+                {
+                    UILanguageManager.setLazyHiddenComponentsUpdate ( true );
+                    UILanguageManager.updateComponents ();
+                    assert showing.updates == 1 : "Showing component wasn't updated";
+                    assert hidden.updates == 0 : "Hidden component shouldn't be updated";
+                    assert hidden.getHierarchyListeners ().length == listeners + 1 : "Hidden component should wait to be displayed";
+
+                    // Hierarchy changes other than displaying component do not update it
+                    hidden.dispatchEvent ( new HierarchyEvent ( hidden, HierarchyEvent.HIERARCHY_CHANGED, hidden, null,
+                            HierarchyEvent.PARENT_CHANGED ) );
+                    assert hidden.updates == 0 : "Hidden component shouldn't be updated";
+
+                    // Displaying hidden component updates it
+                    hidden.showing = true;
+                    hidden.dispatchEvent ( new HierarchyEvent ( hidden, HierarchyEvent.HIERARCHY_CHANGED, hidden, null,
+                            HierarchyEvent.SHOWING_CHANGED ) );
+                    assert hidden.updates == 1 : "Displayed component wasn't updated";
+                    assert hidden.getHierarchyListeners ().length == listeners : "Hierarchy listener wasn't removed after update";
+
+                    // Unregistering outdated component removes its listener
+                    assert unregistered.getHierarchyListeners ().length == listeners + 1 : "Hidden component should wait to be displayed";
+                    UILanguageManager.unregisterComponent ( unregistered );
+                    assert unregistered.getHierarchyListeners ().length == listeners : "Hierarchy listener wasn't removed on unregister";
+                    assert unregistered.updates == 0 : "Unregistered component shouldn't be updated";
+                }
+                finally
+                {
+                    UILanguageManager.setLazyHiddenComponentsUpdate ( false );
+                    UILanguageManager.unregisterComponent ( showing );
+                    UILanguageManager.unregisterComponent ( hidden );
+                    UILanguageManager.unregisterComponent ( unregistered );
+                }
+            }
+        } );
+    }
+
+    /**
+     * Returns amount of updated components.
+     *
+     * @param components tested components
+     * @return amount of updated components
+     */
+    private static int getUpdated ( @NotNull final List<TestLabel> components )
+    {
+        int updated = 0;
+        for ( final TestLabel component : components )
+        {
+            if ( component.updates > 0 )
+            {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Returns whether or not all components were updated.
+     *
+     * @param components tested components
+     * @return {@code true} if all components were updated, {@code false} otherwise
+     */
+    private static boolean isUpdated ( @NotNull final List<TestLabel> components )
+    {
+        final boolean[] updated = new boolean[ 1 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                updated[ 0 ] = getUpdated ( components ) == components.size ();
+            }
+        } );
+        return updated[ 0 ];
+    }
+
+    /**
+     * {@link JLabel} which showing state is controlled by test and which counts its language updates.
+     */
+    private static final class TestLabel extends JLabel
+    {
+        /**
+         * Whether or not this label is considered to be showing.
+         */
+        private boolean showing;
+
+        /**
+         * Time in microseconds each language update takes.
+         */
+        private final long updateTime;
+
+        /**
+         * Amount of language updates.
+         */
+        private int updates;
+
+        /**
+         * Constructs new {@link TestLabel}.
+         *
+         * @param showing    whether or not this label is considered to be showing
+         * @param updateTime time in microseconds each language update takes
+         */
+        public TestLabel ( final boolean showing, final long updateTime )
+        {
+            super ();
+            this.showing = showing;
+            this.updateTime = updateTime;
+            UILanguageManager.registerLanguageUpdater ( this, new LanguageUpdater<TestLabel> ()
+            {
+                @Override
+                public Class getComponentClass ()
+                {
+                    return TestLabel.class;
+                }
+
+                @Override
+                public void update ( final TestLabel component, final Language language, final String key, final Object... data )
+                {
+                    // Simulating component update that takes some time
+                    final long end = System.nanoTime () + component.updateTime * 1000L;
+                    while ( System.nanoTime () < end )
+                    {
+                        Thread.yield ();
+                    }
+                    component.updates++;
+                }
+            } );
+        }
+
+        @Override
+        public boolean isShowing ()
+        {
+            return showing;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.language;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.utils.CollectionUtils;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.ReflectUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * Set of JUnit tests for {@link UILanguageManager} index of registered components.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class UILanguageManagerTest
+{
+    /**
+     * Language keys prefix used for tested components.
+     */
+    private static final String PREFIX = "weblaf.test.index.";
+
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.setForceSingleEventsThread ( true );
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Tests that index stays in sync with registered and unregistered components.
+     */
+    @Test
+    public void registration ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final List<JComponent> updated = new ArrayList<JComponent> ();
+                final JComponent first = createComponent ( updated, PREFIX + "registration.a" );
+                final JComponent second = createComponent ( updated, PREFIX + "registration.a" );
+                final JComponent third = createComponent ( updated, PREFIX + "registration.b" );
+                try
+                {
+                    assertIndexed ( PREFIX + "registration.a", first, second );
+                    assertIndexed ( PREFIX + "registration.b", third );
+                    assertUpdated ( updated, CollectionUtils.asHashSet ( PREFIX + "registration.a" ), first, second );
+
+                    UILanguageManager.unregisterComponent ( first );
+                    assertIndexed ( PREFIX + "registration.a", second );
+                    assertUpdated ( updated, CollectionUtils.asHashSet ( PREFIX + "registration.a" ), second );
+
+                    UILanguageManager.unregisterComponent ( second );
+                    assertIndexed ( PREFIX + "registration.a" );
+                    assertUpdated ( updated, CollectionUtils.asHashSet ( PREFIX + "registration.a" ) );
+                    assertUpdated ( updated, CollectionUtils.asHashSet ( PREFIX + "registration.b" ), third );
+                }
+                finally
+                {
+                    UILanguageManager.unregisterComponent ( first );
+                    UILanguageManager.unregisterComponent ( second );
+                    UILanguageManager.unregisterComponent ( third );
+                }
+                assertIndexed ( PREFIX + "registration.b" );
+            }
+        } );
+    }
+
+    /**
+     * Tests that component is moved between index entries when its language key changes.
+     */
+    @Test
+    public void keyChange ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final List<JComponent> updated = new ArrayList<JComponent> ();
+                final JComponent component = createComponent ( updated, PREFIX + "change.old" );
+                try
+                {
+                    UILanguageManager.updateComponent ( component, PREFIX + "change.new" );
+                    assertIndexed ( PREFIX + "change.old" );
+                    assertIndexed ( PREFIX + "change.new", component );
+                    assertUpdated ( updated, CollectionUtils.asHashSet ( PREFIX + "change.old" ) );
+                    assertUpdated ( updated, CollectionUtils.asHashSet ( PREFIX + "change.new" ), component );
+                }
+                finally
+                {
+                    UILanguageManager.unregisterComponent ( component );
+                }
+                assertIndexed ( PREFIX + "change.new" );
+            }
+        } );
+    }
+
+    /**
+     * Tests that prefix update only reaches components with matching language keys.
+     */
+    @Test
+    public void prefixUpdate ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final List<JComponent> updated = new ArrayList<JComponent> ();
+                final JComponent first = createComponent ( updated, PREFIX + "prefix.a" );
+                final JComponent second = createComponent ( updated, PREFIX + "prefix.b.c" );
+                final JComponent third = createComponent ( updated, PREFIX + "prefixed" );
+                final JComponent fourth = createComponent ( updated, PREFIX + "other" );
+                try
+                {
+                    updated.clear ();
+                    UILanguageManager.updateComponentsWithPrefix ( PREFIX + "prefix." );
+                    assert updated.size () == 2 && updated.contains ( first ) && updated.contains ( second ) :
+                            "Unexpected components updated: " + updated;
+                }
+                finally
+                {
+                    UILanguageManager.unregisterComponent ( first );
+                    UILanguageManager.unregisterComponent ( second );
+                    UILanguageManager.unregisterComponent ( third );
+                    UILanguageManager.unregisterComponent ( fourth );
+                }
+            }
+        } );
+    }
+
+    /**
+     * Tests that language keys of garbage-collected components are purged from index.
+     *
+     * @throws InterruptedException if interrupted while waiting for garbage collection
+     */
+    @Test
+    public void collectedComponentsPurge () throws InterruptedException
+    {
+        final int count = 200;
+        final List<WeakReference<JComponent>> references = new ArrayList<WeakReference<JComponent>> ( count );
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                for ( int i = 0; i < count; i++ )
+                {
+                    final JLabel label = new JLabel ();
+                    UILanguageManager.registerComponent ( label, PREFIX + "gc." + i );
+                    references.add ( new WeakReference<JComponent> ( label ) );
+                }
+                assert getIndexedKeys ( PREFIX + "gc." ).size () == count : "Components weren't indexed";
+            }
+        } );
+
+        // Waiting for registered components to be garbage-collected
+        final long end = System.currentTimeMillis () + 30000;
+        while ( !isCollected ( references ) && System.currentTimeMillis () < end )
+        {
+            System.gc ();
+            Thread.sleep ( 50 );
+        }
+        assert isCollected ( references ) : "Components weren't garbage-collected";
+
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                // Registrations and unregistrations of other components eventually purge emptied keys
+                final JLabel label = new JLabel ();
+                final int modifications = Math.max ( 64, getIndexedKeys ( "" ).size () );
+                for ( int i = 0; i < modifications; i++ )
+                {
+                    UILanguageManager.registerComponent ( label, PREFIX + "purge" );
+                }
+                UILanguageManager.unregisterComponent ( label );
+                final Set<String> keys = getIndexedKeys ( PREFIX + "gc." );
+                assert keys.isEmpty () : "Keys of garbage-collected components weren't purged: " + keys.size ();
+            }
+        } );
+    }
+
+    /**
+     * Returns new {@link JComponent} registered for the specified language key.
+     * Its language updates are recorded into the specified {@link List}.
+     *
+     * @param updated {@link List} to record updated components into
+     * @param key     language key
+     * @return new {@link JComponent} registered for the specified language key
+     */
+    @NotNull
+    private static JComponent createComponent ( @NotNull final List<JComponent> updated, @NotNull final String key )
+    {
+        final JLabel label = new JLabel ();
+        UILanguageManager.registerLanguageUpdater ( label, new LanguageUpdater<JLabel> ()
+        {
+            @Override
+            public Class getComponentClass ()
+            {
+                return JLabel.class;
+            }
+
+            @Override
+            public void update ( final JLabel component, final Language language, final String key, final Object... data )
+            {
+                updated.add ( component );
+            }
+        } );
+        UILanguageManager.registerComponent ( label, key );
+        return label;
+    }
+
+    /**
+     * Asserts that only the specified components are updated for the specified language keys.
+     *
+     * @param updated    {@link List} updated components are recorded into
+     * @param keys       language keys to update components for
+     * @param components components that should be updated
+     */
+    private static void assertUpdated ( @NotNull final List<JComponent> updated, @NotNull final Set<String> keys,
+                                        @NotNull final JComponent... components )
+    {
+        updated.clear ();
+        UILanguageManager.updateComponents ( keys );
+        assert new HashSet<JComponent> ( updated ).equals ( CollectionUtils.asHashSet ( components ) ) &&
+                updated.size () == components.length : "Unexpected components updated for keys " + keys + ": " + updated;
+    }
+
+    /**
+     * Asserts that only the specified components are indexed under the specified language key.
+     *
+     * @param key        language key
+     * @param components components that should be indexed, none if language key should not be indexed
+     */
+    private static void assertIndexed ( @NotNull final String key, @NotNull final JComponent... components )
+    {
+        final Set<JComponent> indexed = getIndex ().get ( key );
+        if ( components.length > 0 )
+        {
+            assert indexed != null && new HashSet<JComponent> ( indexed ).equals ( CollectionUtils.asHashSet ( components ) ) :
+                    "Unexpected components indexed for key " + key + ": " + indexed;
+        }
+        else
+        {
+            assert indexed == null : "Key shouldn't be indexed: " + key;
+        }
+    }
+
+    /**
+     * Returns indexed language keys starting with the specified prefix.
+     *
+     * @param prefix language keys prefix
+     * @return indexed language keys starting with the specified prefix
+     */
+    @NotNull
+    private static Set<String> getIndexedKeys ( @NotNull final String prefix )
+    {
+        final Set<String> keys = new HashSet<String> ();
+        for ( final String key : getIndex ().keySet () )
+        {
+            if ( key.startsWith ( prefix ) )
+            {
+                keys.add ( key );
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns {@link UILanguageManager} index of registered components.
+     *
+     * @return {@link UILanguageManager} index of registered components
+     */
+    @NotNull
+    private static Map<String, Set<JComponent>> getIndex ()
+    {
+        final Map<String, Set<JComponent>> index = ReflectUtils.getStaticFieldValueSafely ( UILanguageManager.class, "componentsByKey" );
+        assert index != null : "Unable to access components index";
+        synchronized ( index )
+        {
+            return new TreeMap<String, Set<JComponent>> ( index );
+        }
+    }
+
+    /**
+     * Returns whether or not all referenced components were garbage-collected.
+     *
+     * @param references {@link WeakReference}s to components
+     * @return {@code true} if all referenced components were garbage-collected, {@code false} otherwise
+     */
+    private static boolean isCollected ( @NotNull final List<WeakReference<JComponent>> references )
+    {
+        boolean collected = true;
+        for ( final WeakReference<JComponent> reference : references )
+        {
+            if ( reference.get () != null )
+            {
+                collected = false;
+                break;
+            }
+        }
+        return collected;
+    }
+}
@@ -87,6 +87,54 @@ public final class ComponentDescriptorTest
         } );
     }
 
+    /**
+     * Tests {@link ComponentDescriptor} resolution for {@link JComponent} subclasses upon descriptors changes.
+     */
+    @Test
+    public void subclassDescriptor ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                // Testing default JLabel subclass descriptor
+                checkDescriptor ( MyLabel.class, LabelDescriptor.class );
+
+                // Registering new descriptor
+                StyleManager.registerComponentDescriptor ( new MyLabelDescriptor () );
+
+                // Testing custom JLabel subclass descriptor
+                checkDescriptor ( MyLabel.class, MyLabelDescriptor.class );
+
+                // Registering new descriptor
+                StyleManager.registerComponentDescriptor ( new LabelDescriptor () );
+
+                // Testing restored default JLabel subclass descriptor
+                checkDescriptor ( MyLabel.class, LabelDescriptor.class );
+            }
+        } );
+    }
+
+    /**
+     * Asserts {@link ComponentDescriptor} class type.
+     *
+     * @param componentClass  {@link JComponent} class
+     * @param descriptorClass expected {@link ComponentDescriptor} class
+     */
+    private void checkDescriptor ( final Class<? extends JComponent> componentClass,
+                                   final Class<? extends ComponentDescriptor> descriptorClass )
+    {
+        final ComponentDescriptor descriptor = StyleManager.getDescriptor ( componentClass );
+        if ( descriptor.getClass () != descriptorClass )
+        {
+            throw new StyleException ( String.format (
+                    "Descriptor class '%s' is expected instead of '%s' for component class: %s",
+                    descriptorClass, descriptor.getClass (), componentClass
+            ) );
+        }
+    }
+
     /**
      * Asserts UI class type.
      *
@@ -136,6 +184,14 @@ public final class ComponentDescriptorTest
         }
     }
 
+    /**
+     * Custom {@link JLabel} subclass.
+     * It doesn't add anything new, just exists for descriptor resolution check.
+     */
+    public static class MyLabel extends JLabel
+    {
+    }
+
     /**
      * Custom UI for {@link JLabel}.
      * It doesn't add anything new, just exists for class type check.
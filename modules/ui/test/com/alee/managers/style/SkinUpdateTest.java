@@ -0,0 +1,240 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.managers.style;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.painter.Painter;
+import com.alee.painter.PainterSupport;
+import com.alee.skin.dark.WebDarkSkin;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.ReflectUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of JUnit tests for {@link Skin} update of existing components.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class SkinUpdateTest
+{
+    /**
+     * Amount of components to update.
+     */
+    private static final int COMPONENTS = 1000;
+
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.setForceSingleEventsThread ( true );
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Time-sliced {@link Skin} update test.
+     * Every component must receive new {@link Skin} and painter in multiple slices while progress is reported to
+     * {@link SkinUpdateListener}s only.
+     */
+    @Test
+    public void slicedUpdate ()
+    {
+        final List<JComponent> components = new ArrayList<JComponent> ( COMPONENTS );
+        final List<Painter> painters = new ArrayList<Painter> ( COMPONENTS );
+        final List<int[]> progress = new ArrayList<int[]> ();
+        final SkinListener listener = new SkinListener ()
+        {
+            @Override
+            public void skinChanged ( @Nullable final Skin previous, @NotNull final Skin current )
+            {
+                /**
+                 * Only ensures that plain {@link SkinListener}s are still supported.
+                 */
+            }
+        };
+        final SkinUpdateListener updateListener = new SkinUpdateListener ()
+        {
+            @Override
+            public void skinChanged ( @Nullable final Skin previous, @NotNull final Skin current )
+            {
+                /**
+                 * Only progress is checked.
+                 */
+            }
+
+            @Override
+            public void skinUpdateProgress ( @NotNull final Skin current, final int updated, final int total )
+            {
+                synchronized ( progress )
+                {
+                    progress.add ( new int[]{ updated, total } );
+                }
+            }
+        };
+        final Skin[] skins = new Skin[ 2 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                for ( int i = 0; i < COMPONENTS; i++ )
+                {
+                    final JComponent component = i % 2 == 0 ? new JButton ( "Button" ) : new JLabel ( "Label" );
+                    components.add ( component );
+                    painters.add ( PainterSupport.getPainter ( component ) );
+                }
+                StyleManager.addSkinListener ( listener );
+                StyleManager.addSkinListener ( updateListener );
+                StyleManager.setSkinUpdateSliceTime ( 1 );
+                skins[ 1 ] = new WebDarkSkin ();
+                skins[ 0 ] = StyleManager.setSkin ( skins[ 1 ] );
+
+                assert progress.size () == 1 : "Progress wasn't reported after first slice";
+                assert progress.get ( 0 )[ 0 ] < progress.get ( 0 )[ 1 ] : "Components weren't updated in slices";
+                assert progress.get ( 0 )[ 1 ] >= COMPONENTS : "Not all components are updated";
+            }
+        } );
+        try
+        {
+            // Each check is queued after remaining update slices
+            final long end = System.currentTimeMillis () + 60000;
+            while ( !isFinished ( progress ) && System.currentTimeMillis () < end )
+            {
+                CoreSwingUtils.invokeAndWait ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        /**
+                         * Waiting for the next slice.
+                         */
+                    }
+                } );
+            }
+            CoreSwingUtils.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    assert isFinished ( progress ) : "Skin update wasn't finished";
+                    for ( int i = 1; i < progress.size (); i++ )
+                    {
+                        assert progress.get ( i )[ 0 ] > progress.get ( i - 1 )[ 0 ] : "Progress isn't increasing";
+                    }
+                    for ( int i = 0; i < COMPONENTS; i++ )
+                    {
+                        final JComponent component = components.get ( i );
+                        assert StyleManager.getSkin ( component ) == skins[ 1 ] : "Component skin wasn't updated";
+                        assert PainterSupport.getPainter ( component ) != painters.get ( i ) : "Component style wasn't updated";
+                    }
+                }
+            } );
+        }
+        finally
+        {
+            CoreSwingUtils.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    StyleManager.removeSkinListener ( updateListener );
+                    StyleManager.removeSkinListener ( listener );
+                    StyleManager.setSkinUpdateSliceTime ( 0 );
+                    if ( skins[ 0 ] != null )
+                    {
+                        StyleManager.setSkin ( skins[ 0 ] );
+                    }
+                }
+            } );
+        }
+    }
+
+    /**
+     * {@link Skin} update test for components which resolved style is the same in both {@link Skin}s.
+     * Components must receive new {@link Skin} but keep their painters since style is not reapplied.
+     */
+    @Test
+    public void sameStyleUpdate ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final List<JComponent> components = new ArrayList<JComponent> ( COMPONENTS );
+                final List<Painter> painters = new ArrayList<Painter> ( COMPONENTS );
+                for ( int i = 0; i < COMPONENTS; i++ )
+                {
+                    final JComponent component = i % 2 == 0 ? new JButton ( "Button" ) : new JLabel ( "Label" );
+                    components.add ( component );
+                    painters.add ( PainterSupport.getPainter ( component ) );
+                }
+                final Skin skin = ReflectUtils.createInstanceSafely ( StyleManager.getSkin ().getClass () );
+                assert skin != null : "Unable to create skin: " + StyleManager.getSkin ().getClass ();
+                final Skin previous = StyleManager.setSkin ( skin );
+                try
+                {
+                    for ( int i = 0; i < COMPONENTS; i++ )
+                    {
+                        final JComponent component = components.get ( i );
+                        assert StyleManager.getSkin ( component ) == skin : "Component skin wasn't updated";
+                        assert PainterSupport.getPainter ( component ) == painters.get ( i ) : "Same component style was reapplied";
+                    }
+                }
+                finally
+                {
+                    StyleManager.setSkin ( previous );
+                }
+            }
+        } );
+    }
+
+    /**
+     * Returns whether or not reported progress is finished.
+     *
+     * @param progress reported progress
+     * @return {@code true} if reported progress is finished, {@code false} otherwise
+     */
+    private static boolean isFinished ( @NotNull final List<int[]> progress )
+    {
+        synchronized ( progress )
+        {
+            final int[] last = progress.isEmpty () ? null : progress.get ( progress.size () - 1 );
+            return last != null && last[ 0 ] == last[ 1 ];
+        }
+    }
+}
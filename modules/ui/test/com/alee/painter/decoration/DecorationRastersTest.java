@@ -0,0 +1,154 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package com.alee.painter.decoration;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.grouping.GroupPaneLayout;
+import com.alee.managers.style.Bounds;
+import com.alee.painter.decoration.background.ColorBackground;
+import com.alee.painter.decoration.border.LineBorder;
+import com.alee.painter.decoration.shape.WebShape;
+import com.alee.utils.CoreSwingUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Set of JUnit tests for {@link DecorationRasters}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class DecorationRastersTest
+{
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.setForceSingleEventsThread ( true );
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Raster of grouped component test.
+     * Raster should be rendered again once sides and lines provided by parent layout change.
+     */
+    @Test
+    public void groupedComponent ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final GroupPaneLayout layout = new GroupPaneLayout ();
+                final JPanel group = new JPanel ( layout );
+                final JComponent first = new JPanel ();
+                first.setSize ( 60, 30 );
+                group.add ( first );
+                final RasterDecoration decoration = new RasterDecoration ();
+                decoration.activate ( first );
+
+                final long size = DecorationRasters.getSize ();
+                assertRaster ( first, decoration );
+                assert DecorationRasters.getSize () > size : "Raster wasn't rendered";
+
+                // Adding decoratable neighbour, which hides right side of the first component
+                final String sides = layout.getSides ( first );
+                group.add ( new JButton ( "Neighbour" ) );
+                assert !sides.equals ( layout.getSides ( first ) ) : "Neighbour didn't affect component sides";
+                assertRaster ( first, decoration );
+
+                // Hiding outer sides of the group
+                layout.setPaintSides ( false, false, false, false );
+                assertRaster ( first, decoration );
+
+                decoration.deactivate ( first );
+                assert DecorationRasters.getSize () == size : "Raster wasn't released";
+            }
+        } );
+    }
+
+    /**
+     * Asserts that decoration painted using raster layer matches decoration painted directly.
+     *
+     * @param c          painted component
+     * @param decoration painted decoration
+     */
+    private void assertRaster ( final JComponent c, final RasterDecoration decoration )
+    {
+        final Bounds bounds = new Bounds ( c );
+
+        final BufferedImage raster = new BufferedImage ( c.getWidth (), c.getHeight (), BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D rg = raster.createGraphics ();
+        assert DecorationRasters.paint ( rg, c, decoration, bounds ) : "Raster layer wasn't used";
+        rg.dispose ();
+
+        final BufferedImage direct = new BufferedImage ( c.getWidth (), c.getHeight (), BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D dg = direct.createGraphics ();
+        decoration.paintDecoration ( dg, c, bounds );
+        dg.dispose ();
+
+        final int[] rasterPixels = raster.getRGB ( 0, 0, c.getWidth (), c.getHeight (), null, 0, c.getWidth () );
+        final int[] directPixels = direct.getRGB ( 0, 0, c.getWidth (), c.getHeight (), null, 0, c.getWidth () );
+        assert Arrays.equals ( rasterPixels, directPixels ) : "Raster doesn't match decoration";
+    }
+
+    /**
+     * Simple rasterized {@link WebDecoration} with border and background.
+     */
+    private static final class RasterDecoration extends WebDecoration<JComponent, RasterDecoration>
+    {
+        /**
+         * Constructs new {@link RasterDecoration}.
+         */
+        public RasterDecoration ()
+        {
+            raster = true;
+            shapes.add ( new WebShape () );
+            borders.add ( new LineBorder ()
+            {
+                {
+                    color = Color.BLACK;
+                }
+            } );
+            backgrounds.add ( new ColorBackground ()
+            {
+                {
+                    color = Color.WHITE;
+                }
+            } );
+        }
+    }
+}